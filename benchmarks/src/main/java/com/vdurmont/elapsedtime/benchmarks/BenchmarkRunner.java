@@ -0,0 +1,26 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so that every result reports both
+ * the throughput (ops/s) and the allocation rate (gc.alloc.rate.norm, in bytes/op).
+ * Accepts the usual JMH command line options (e.g.: a regexp to select the benchmarks).
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
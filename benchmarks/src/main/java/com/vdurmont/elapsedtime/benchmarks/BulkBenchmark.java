@@ -0,0 +1,82 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the bulk methods against a loop over the single value method.
+ * Run with different parallelism levels to see the scaling across cores, e.g.:
+ * java -jar target/benchmarks.jar BulkBenchmark -p parallelism=1,2,4,8
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    /**
+     * The number of threads used by the parallel mode.
+     */
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private long now;
+    private long[] timestamps;
+    private String[] out;
+    private ForkJoinPool pool;
+    private ElapsedTimeFormatter sequential;
+    private ElapsedTimeFormatter parallel;
+
+    @Setup
+    public void setup() {
+        long[] durations = Durations.FEED.generate();
+        this.now = System.currentTimeMillis();
+        this.timestamps = new long[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.timestamps[i] = this.now - durations[i & (Durations.SIZE - 1)];
+        }
+        this.out = new String[this.size];
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.sequential = ElapsedTimeFormatter.builder().parallelThreshold(Integer.MAX_VALUE).build();
+        this.parallel = ElapsedTimeFormatter.builder().parallelThreshold(1).forkJoinPool(this.pool).build();
+    }
+
+    @Benchmark
+    public String[] loop() {
+        for (int i = 0; i < this.size; i++) {
+            this.out[i] = this.sequential.format(this.now - this.timestamps[i]);
+        }
+        return this.out;
+    }
+
+    @Benchmark
+    public String[] formatAllSequential() {
+        this.sequential.formatAll(this.timestamps, this.now, this.out);
+        return this.out;
+    }
+
+    @Benchmark
+    public String[] formatAllParallel() {
+        this.parallel.formatAll(this.timestamps, this.now, this.out);
+        return this.out;
+    }
+}
@@ -0,0 +1,56 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTime;
+import com.vdurmont.elapsedtime.ElapsedTimeCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of getFromDurationMillis with and without the {@link ElapsedTimeCache}.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheBenchmark {
+    @Param({"0", "1024"})
+    public int cacheSize;
+
+    @Param({"ALL_BRANCHES", "FEED", "LONG"})
+    public Durations distribution;
+
+    private long[] durations;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.durations = this.distribution.generate();
+        ElapsedTime.cache = this.cacheSize == 0 ? null : new ElapsedTimeCache(this.cacheSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ElapsedTime.cache = null;
+    }
+
+    @Benchmark
+    public String getFromDurationMillis() {
+        return ElapsedTime.getFromDurationMillis(this.durations[this.index++ & (Durations.SIZE - 1)]);
+    }
+}
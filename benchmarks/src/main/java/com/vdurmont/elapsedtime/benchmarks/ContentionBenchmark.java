@@ -0,0 +1,78 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTime;
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi threaded benchmarks: every available core formats durations at the same time.
+ * Compare with {@link FormattingBenchmark} to see how the library scales.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+    /**
+     * A single formatter shared by all the threads.
+     */
+    private final ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+    /**
+     * Each thread has its own cursor and buffer, only the library state is shared.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        @Param({"ALL_BRANCHES", "FEED"})
+        public Durations distribution;
+
+        private long[] durations;
+        private int index;
+        private StringBuilder sb;
+
+        @Setup
+        public void setup() {
+            this.durations = this.distribution.generate();
+            this.sb = new StringBuilder(64);
+        }
+
+        long nextDuration() {
+            return this.durations[this.index++ & (Durations.SIZE - 1)];
+        }
+    }
+
+    @Benchmark
+    public String getFromDurationMillis(ThreadState state) {
+        return ElapsedTime.getFromDurationMillis(state.nextDuration());
+    }
+
+    @Benchmark
+    public String sharedFormatter(ThreadState state) {
+        return this.formatter.format(state.nextDuration());
+    }
+
+    @Benchmark
+    public StringBuilder formatTo(ThreadState state) {
+        state.sb.setLength(0);
+        ElapsedTime.formatTo(state.nextDuration(), state.sb);
+        return state.sb;
+    }
+}
@@ -0,0 +1,104 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.CoarseClock;
+import com.vdurmont.elapsedtime.ElapsedTime;
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single threaded benchmarks of the date entry points, which read the current time on every call.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateBenchmark {
+    @Param({"ENGLISH", "FRENCH", "SPANISH"})
+    public ElapsedTime.Locale locale;
+
+    @Param({"ALL_BRANCHES", "FEED"})
+    public Durations distribution;
+
+    private Date[] dates;
+    private long[] timestamps;
+    private int index;
+    private CoarseClock coarseClock;
+    private ElapsedTimeFormatter coarseFormatter;
+    private ElapsedTimeFormatter calendarFormatter;
+
+    @Setup
+    public void setup() {
+        long[] durations = this.distribution.generate();
+        // Leave a one hour margin so that the dates never end up in the future
+        long now = System.currentTimeMillis() - Durations.HOUR;
+        this.dates = new Date[durations.length];
+        this.timestamps = new long[durations.length];
+        for (int i = 0; i < durations.length; i++) {
+            this.dates[i] = new Date(now - durations[i]);
+            this.timestamps[i] = now - durations[i];
+        }
+        this.coarseClock = new CoarseClock(10);
+        this.coarseFormatter = ElapsedTimeFormatter.builder().clock(this.coarseClock).build();
+        this.calendarFormatter = this.coarseFormatter.toBuilder().calendar(ZoneId.of("Europe/Paris")).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.coarseClock.close();
+    }
+
+    @Benchmark
+    public String getFromDate() {
+        return ElapsedTime.getFromDate(this.dates[this.index++ & (Durations.SIZE - 1)], this.locale);
+    }
+
+    @Benchmark
+    public String getFromDateEpochMillis() {
+        return ElapsedTime.getFromDate(this.timestamps[this.index++ & (Durations.SIZE - 1)], this.locale);
+    }
+
+    @Benchmark
+    public String coarseClock() {
+        return this.coarseFormatter.formatDate(this.timestamps[this.index++ & (Durations.SIZE - 1)], this.locale);
+    }
+
+    /**
+     * The coarse clock with the calendar months and years.
+     */
+    @Benchmark
+    public String calendar() {
+        return this.calendarFormatter.formatDate(this.timestamps[this.index++ & (Durations.SIZE - 1)], this.locale);
+    }
+
+    /**
+     * What the calendar replaces: counting the months with java.time on every call.
+     */
+    @Benchmark
+    public long javaTimeMonths() {
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ZonedDateTime date = Instant.ofEpochMilli(this.timestamps[this.index++ & (Durations.SIZE - 1)]).atZone(zone);
+        return ChronoUnit.MONTHS.between(date, Instant.ofEpochMilli(this.coarseClock.millis()).atZone(zone));
+    }
+}
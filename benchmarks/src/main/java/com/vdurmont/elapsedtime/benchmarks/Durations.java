@@ -0,0 +1,109 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import java.util.Random;
+
+/**
+ * The duration distributions used by the benchmarks.
+ * Each distribution generates a fixed, seeded, array of durations so that all the runs are comparable.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public enum Durations {
+    /**
+     * Durations that hit every time division and every threshold crossing, in equal proportions.
+     */
+    ALL_BRANCHES {
+        @Override protected long next(Random random) {
+            long[] anchors = {
+                    // Moments ago
+                    0, 3, 749,
+                    // Millis threshold crossed (1 second)
+                    750, 999,
+                    // Seconds, with and without the millis rounding
+                    SECOND, SECOND + 900, 10 * SECOND, 44 * SECOND + 800,
+                    // Seconds threshold crossed (1 minute)
+                    46 * SECOND,
+                    // Minutes, with and without the seconds rounding
+                    MINUTE + 2 * SECOND, MINUTE + 46 * SECOND, 10 * MINUTE,
+                    // Minutes threshold crossed (1 hour)
+                    46 * MINUTE,
+                    // Hours, with and without the minutes rounding
+                    HOUR + 2 * SECOND, HOUR + 46 * MINUTE, 10 * HOUR,
+                    // Hours threshold crossed (1 day)
+                    23 * HOUR,
+                    // Days, with and without the hours rounding
+                    DAY + 2 * SECOND, DAY + 23 * HOUR, 10 * DAY,
+                    // Days threshold crossed (1 month)
+                    27 * DAY,
+                    // Months, with and without the days rounding
+                    MONTH + 2 * SECOND, MONTH + 27 * DAY, 10 * MONTH,
+                    // Months threshold crossed (1 year)
+                    11 * MONTH,
+                    // Years, with and without the months rounding
+                    YEAR + 2 * SECOND, YEAR + 11 * MONTH, 900 * YEAR
+            };
+            return anchors[random.nextInt(anchors.length)];
+        }
+    },
+    /**
+     * Log-uniform durations between 1 millisecond and 10 years.
+     */
+    LOG_UNIFORM {
+        @Override protected long next(Random random) {
+            return (long) Math.pow(10, random.nextDouble() * Math.log10(10 * YEAR));
+        }
+    },
+    /**
+     * What an activity feed usually looks like: mostly recent items, a long tail of old ones.
+     */
+    FEED {
+        @Override protected long next(Random random) {
+            double exponential = -Math.log(1 - random.nextDouble());
+            return (long) (exponential * 6 * HOUR);
+        }
+    },
+    /**
+     * Uniform durations below 1 hour: only seconds and minutes.
+     */
+    SHORT {
+        @Override protected long next(Random random) {
+            return (long) (random.nextDouble() * HOUR);
+        }
+    },
+    /**
+     * Uniform durations between 1 month and 10 years: only months and years.
+     */
+    LONG {
+        @Override protected long next(Random random) {
+            return MONTH + (long) (random.nextDouble() * 10 * YEAR);
+        }
+    };
+
+    static final long SECOND = 1000;
+    static final long MINUTE = SECOND * 60;
+    static final long HOUR = MINUTE * 60;
+    static final long DAY = HOUR * 24;
+    static final long MONTH = DAY * 30;
+    static final long YEAR = MONTH * 12;
+
+    /**
+     * The size of the generated arrays. Must be a power of 2 so that the benchmarks can loop with a mask.
+     */
+    public static final int SIZE = 1024;
+
+    protected abstract long next(Random random);
+
+    /**
+     * Generates the durations of this distribution.
+     *
+     * @return an array of {@link #SIZE} durations in milliseconds
+     */
+    public long[] generate() {
+        Random random = new Random(42);
+        long[] durations = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            durations[i] = next(random);
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,79 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTimeEnricher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the enrichment of a CSV file. The score is the time to enrich the whole file, compare the sizes to
+ * check that the throughput does not depend on the size of the file.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnricherBenchmark {
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    @Param({"EPOCH_MILLIS", "ISO_8601"})
+    public ElapsedTimeEnricher.TimestampFormat timestampFormat;
+
+    private Path input;
+    private Path output;
+    private ElapsedTimeEnricher enricher;
+
+    @Setup
+    public void setup() throws IOException {
+        long now = System.currentTimeMillis();
+        long[] durations = Durations.FEED.generate();
+        this.input = Files.createTempFile("elapsedtime", ".csv");
+        this.output = Files.createTempFile("elapsedtime", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(this.input, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < this.rows; i++) {
+                long timestamp = now - durations[i & (Durations.SIZE - 1)];
+                String column = this.timestampFormat == ElapsedTimeEnricher.TimestampFormat.EPOCH_MILLIS
+                        ? String.valueOf(timestamp)
+                        : java.time.Instant.ofEpochMilli(timestamp).toString();
+                writer.write(i + ",user" + (i % 1000) + "," + column + ",some payload\n");
+            }
+        }
+        this.enricher = ElapsedTimeEnricher.builder()
+                .column(2)
+                .timestampFormat(this.timestampFormat)
+                .now(now)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.input);
+        Files.deleteIfExists(this.output);
+    }
+
+    @Benchmark
+    public long enrich() throws IOException {
+        return this.enricher.enrich(this.input, this.output);
+    }
+}
@@ -0,0 +1,122 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single threaded benchmarks of the duration entry points.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormattingBenchmark {
+    @Param({"ENGLISH", "FRENCH", "SPANISH"})
+    public ElapsedTime.Locale locale;
+
+    @Param({"ALL_BRANCHES", "LOG_UNIFORM", "FEED", "SHORT", "LONG"})
+    public Durations distribution;
+
+    private long[] durations;
+    private int index;
+    private StringBuilder sb;
+    private Writer writer;
+    private ByteBuffer byteBuffer;
+
+    @Setup
+    public void setup() {
+        this.durations = this.distribution.generate();
+        this.sb = new StringBuilder(64);
+        this.writer = new NullWriter();
+        this.byteBuffer = ByteBuffer.allocateDirect(128);
+    }
+
+    private long nextDuration() {
+        return this.durations[this.index++ & (Durations.SIZE - 1)];
+    }
+
+    @Benchmark
+    public String getFromDurationMillis() {
+        return ElapsedTime.getFromDurationMillis(nextDuration(), this.locale);
+    }
+
+    @Benchmark
+    public String getFromDurationSeconds() {
+        return ElapsedTime.getFromDurationSeconds(nextDuration() / 1000, this.locale);
+    }
+
+    @Benchmark
+    public StringBuilder formatToStringBuilder() {
+        this.sb.setLength(0);
+        ElapsedTime.formatTo(nextDuration(), this.locale, this.sb);
+        return this.sb;
+    }
+
+    @Benchmark
+    public Writer formatToAppendable() throws IOException {
+        ElapsedTime.formatTo(nextDuration(), this.locale, this.writer);
+        return this.writer;
+    }
+
+    @Benchmark
+    public ByteBuffer formatToByteBuffer() {
+        ((Buffer) this.byteBuffer).clear();
+        ElapsedTime.formatTo(nextDuration(), this.locale, this.byteBuffer);
+        return this.byteBuffer;
+    }
+
+    @Benchmark
+    public String getPreciseFromDurationMillis() {
+        return ElapsedTime.getPreciseFromDurationMillis(nextDuration(), this.locale);
+    }
+
+    @Benchmark
+    public StringBuilder formatPreciseToStringBuilder() {
+        this.sb.setLength(0);
+        ElapsedTime.getDefaultFormatter().formatPreciseTo(nextDuration(), this.locale, this.sb);
+        return this.sb;
+    }
+
+    /**
+     * A writer that drops everything, so that only the formatting is measured.
+     */
+    private static class NullWriter extends Writer {
+        @Override public void write(int c) {}
+
+        @Override public void write(char[] cbuf, int off, int len) {}
+
+        @Override public void write(String str, int off, int len) {}
+
+        @Override public Writer append(CharSequence csq) {
+            return this;
+        }
+
+        @Override public Writer append(char c) {
+            return this;
+        }
+
+        @Override public void flush() {}
+
+        @Override public void close() {}
+    }
+}
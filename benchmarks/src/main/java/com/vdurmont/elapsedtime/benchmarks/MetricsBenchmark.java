@@ -0,0 +1,83 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import com.vdurmont.elapsedtime.ElapsedTimeMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the {@link ElapsedTimeMetrics}: "disabled" must be as fast as a formatter without metrics, and
+ * "enabled" shows the cost of the counters and of the latency measure, with one thread and with all the cores.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    @State(Scope.Benchmark)
+    public static class SharedFormatter {
+        @Param({"disabled", "enabled"})
+        public String metrics;
+
+        private ElapsedTimeFormatter formatter;
+
+        @Setup
+        public void setup() {
+            ElapsedTimeFormatter.Builder builder = ElapsedTimeFormatter.builder();
+            if ("enabled".equals(this.metrics)) {
+                builder.metrics(new ElapsedTimeMetrics());
+            }
+            this.formatter = builder.build();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadDurations {
+        private long[] durations;
+        private int index;
+        private StringBuilder out;
+
+        @Setup
+        public void setup() {
+            this.durations = Durations.FEED.generate();
+            this.out = new StringBuilder(64);
+        }
+
+        private long next() {
+            return this.durations[this.index++ & (Durations.SIZE - 1)];
+        }
+    }
+
+    @Benchmark
+    public String format(SharedFormatter shared, ThreadDurations durations) {
+        return shared.formatter.format(durations.next());
+    }
+
+    @Benchmark
+    public StringBuilder formatTo(SharedFormatter shared, ThreadDurations durations) {
+        durations.out.setLength(0);
+        shared.formatter.formatTo(durations.next(), durations.out);
+        return durations.out;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String formatContended(SharedFormatter shared, ThreadDurations durations) {
+        return shared.formatter.format(durations.next());
+    }
+}
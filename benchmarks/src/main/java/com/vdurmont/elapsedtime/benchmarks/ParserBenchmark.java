@@ -0,0 +1,65 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTime.Locale;
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import com.vdurmont.elapsedtime.ElapsedTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The throughput of {@link ElapsedTimeParser} over the strings of a distribution, in the 3 languages of
+ * {@link Locale}. The parse methods must not allocate (gc.alloc.rate.norm ~0 B/op).
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    @Param({"ALL_BRANCHES", "FEED"})
+    public Durations distribution;
+
+    private ElapsedTimeParser parser;
+    private String[] strings;
+    private byte[][] bytes;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+        this.parser = ElapsedTimeParser.of(formatter, Locale.values());
+        long[] durations = this.distribution.generate();
+        this.strings = new String[durations.length];
+        this.bytes = new byte[durations.length][];
+        for (int i = 0; i < durations.length; i++) {
+            this.strings[i] = formatter.format(durations[i], Locale.values()[i % Locale.values().length]);
+            this.bytes[i] = this.strings[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public long parseChars() {
+        return this.parser.parse(this.strings[this.index++ & (Durations.SIZE - 1)]);
+    }
+
+    @Benchmark
+    public long parseBytes() {
+        byte[] bytes = this.bytes[this.index++ & (Durations.SIZE - 1)];
+        return this.parser.parse(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,41 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTime;
+import com.vdurmont.elapsedtime.ElapsedTimeLocale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cold start of the library: the time of the first string formatted in a new JVM, class loading and language
+ * loading included. Every fork measures a single call, so the score is the mean over the forks.
+ *
+ * Note that the harness has already loaded a part of the JDK classes (e.g.: ServiceLoader) when the method is called:
+ * a real application pays a bit more.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+    private static final long HOUR = 3600 * 1000;
+
+    @Benchmark
+    public String firstString() {
+        return ElapsedTime.getFromDurationMillis(HOUR);
+    }
+
+    @Benchmark
+    public String firstStringInGerman() {
+        return ElapsedTime.getDefaultFormatter().format(HOUR, ElapsedTimeLocale.forLanguageTag("de"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.vdurmont.elapsedtime.benchmarks;
+
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import com.vdurmont.elapsedtime.Stopwatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The overhead of timing a piece of code with a {@link Stopwatch}, compared to reading {@link System#nanoTime()}
+ * directly. The lap and stop calls must not allocate (gc.alloc.rate.norm ~0 B/op).
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StopwatchBenchmark {
+    private Stopwatch stopwatch;
+    private ElapsedTimeFormatter formatter;
+    private StringBuilder sb;
+
+    @Setup
+    public void setup() {
+        this.formatter = ElapsedTimeFormatter.builder().build();
+        this.stopwatch = Stopwatch.start(this.formatter);
+        this.sb = new StringBuilder(64);
+    }
+
+    @Benchmark
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public long lap() {
+        return this.stopwatch.lap();
+    }
+
+    @Benchmark
+    public long resumeAndStop() {
+        this.stopwatch.resume();
+        return this.stopwatch.stop();
+    }
+
+    @Benchmark
+    public StringBuilder lapAndFormatTo() {
+        this.sb.setLength(0);
+        this.formatter.formatSpanTo(this.stopwatch.lap(), this.sb);
+        return this.sb;
+    }
+}
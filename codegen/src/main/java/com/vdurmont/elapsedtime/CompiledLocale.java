@@ -0,0 +1,90 @@
+package com.vdurmont.elapsedtime;
+
+import java.util.Map;
+
+/**
+ * The templates and the plural table of a language, compiled by the library itself (see
+ * {@link ElapsedTimeLocale#compile(String, int, Map)}) so that the generated source holds exactly what the library
+ * would compute at run time.
+ *
+ * This class is in the package of the library to reach its package-private compilation, but it is only part of the
+ * codegen module.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class CompiledLocale {
+    private final ElapsedTimeLocale locale;
+    private final String[] pluralRules;
+
+    private CompiledLocale(ElapsedTimeLocale locale, String[] pluralRules) {
+        this.locale = locale;
+        this.pluralRules = pluralRules;
+    }
+
+    /**
+     * Compiles the strings of a language.
+     *
+     * @param languageTag the language tag, in lower case (e.g.: "de")
+     * @param strings     the strings of the language, by name (e.g.: "MINUTES_AGO_FEW")
+     *
+     * @return the compiled language
+     * @throws java.lang.IllegalArgumentException if some strings are missing or a plural rule cannot be parsed
+     */
+    public static CompiledLocale compile(String languageTag, Map<String, String> strings) {
+        ElapsedTime.PluralCategory[] categories = ElapsedTime.PluralCategory.values();
+        String[] pluralRules = new String[categories.length];
+        for (ElapsedTime.PluralCategory category : categories) {
+            pluralRules[category.ordinal()] = strings.get("PLURAL_" + category.name());
+        }
+        return new CompiledLocale(ElapsedTimeLocale.compile(languageTag, 0, strings), pluralRules);
+    }
+
+    /**
+     * @return the number of templates (one per key and plural category)
+     */
+    public static int getTemplateCount() {
+        return ElapsedTimeLocale.TEMPLATES;
+    }
+
+    public String getString(int template) {
+        return this.locale.getString(template);
+    }
+
+    public boolean hasNumber(int template) {
+        return this.locale.hasNumber(template);
+    }
+
+    public String getPrefix(int template) {
+        return this.locale.getPrefix(template);
+    }
+
+    public String getSuffix(int template) {
+        return this.locale.getSuffix(template);
+    }
+
+    public byte[] getEncodedPrefix(int template) {
+        return this.locale.getEncodedPrefix(template);
+    }
+
+    public byte[] getEncodedSuffix(int template) {
+        return this.locale.getEncodedSuffix(template);
+    }
+
+    /**
+     * @return the plural rule of each category (indexed by {@link ElapsedTime.PluralCategory#ordinal()}), or null
+     */
+    public String[] getPluralRules() {
+        return this.pluralRules.clone();
+    }
+
+    /**
+     * @return the ordinal of the plural category of every value of the table of the plural rules
+     */
+    public byte[] getPluralTable() {
+        byte[] table = new byte[PluralRules.TABLE_SIZE];
+        for (int value = 0; value < table.length; value++) {
+            table[value] = (byte) this.locale.getPluralCategory(value).ordinal();
+        }
+        return table;
+    }
+}
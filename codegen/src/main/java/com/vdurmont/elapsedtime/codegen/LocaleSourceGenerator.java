@@ -0,0 +1,362 @@
+package com.vdurmont.elapsedtime.codegen;
+
+import com.vdurmont.elapsedtime.CompiledLocale;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Compiles the properties files of the languages shipped with the library into the source of the package-private
+ * class com.vdurmont.elapsedtime.BundledLocales: the templates split around {num}, their UTF-8 bytes and the table of
+ * the plural rules, as computed by the library itself (see {@link CompiledLocale}). Loading a shipped language then
+ * reads no resource, looks up no LocaleProvider and compiles nothing. It also generates the native-image
+ * configuration that initializes these tables when the image is built.
+ *
+ * The properties files stay the source of the strings: the files are generated again on demand
+ * ({@code mvn -P generate process-classes} in the codegen directory, after {@code mvn install} of the library) and
+ * committed with them. The output only depends on the content of the files, so generating it twice gives the same
+ * source.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class LocaleSourceGenerator {
+    private static final String SUFFIX = ".properties";
+    private static final String PACKAGE = "com.vdurmont.elapsedtime";
+    private static final String CLASS = "BundledLocales";
+    private static final int LINE_LENGTH = 120;
+
+    /**
+     * Private constructor. No instance needed.
+     */
+    private LocaleSourceGenerator() {}
+
+    /**
+     * @param args the directory of the properties files, the path of the generated source and the path of the
+     *             generated native-image.properties
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: LocaleSourceGenerator <locales directory> <source file> <native-image.properties file>");
+        }
+        File directory = new File(args[0]);
+        write(new File(args[1]), generate(directory));
+        write(new File(args[2]), generateNativeImage(directory));
+    }
+
+    private static void write(File output, String content) throws IOException {
+        if (output.exists() && content.equals(new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8))) {
+            System.out.println(output + " is up to date");
+            return;
+        }
+        Files.write(output.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        System.out.println("Generated " + output);
+    }
+
+    /**
+     * Generates the source of BundledLocales.
+     *
+     * @param directory the directory of the properties files ([language tag].properties)
+     *
+     * @return the source
+     * @throws java.io.IOException                if a file cannot be read
+     * @throws java.lang.IllegalArgumentException if the directory has no properties file, or if a language misses some
+     *                                            strings or has an invalid plural rule
+     */
+    public static String generate(File directory) throws IOException {
+        Map<String, Map<String, String>> languages = read(directory);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(PACKAGE).append(";\n");
+        sb.append("\n");
+        sb.append("import java.util.Arrays;\n");
+        sb.append("\n");
+        sb.append("/**\n");
+        sb.append(" * GENERATED by elapsedtime-codegen (LocaleSourceGenerator) from the properties files of\n");
+        sb.append(" * src/main/resources/com/vdurmont/elapsedtime/locales: do not edit, run\n");
+        sb.append(" * {@code mvn -P generate process-classes} in the codegen directory after changing a file.\n");
+        sb.append(" *\n");
+        sb.append(" * The languages shipped with the library, compiled into the code: their templates are already split around\n");
+        sb.append(" * {num} and encoded in UTF-8, and their plural rules are already evaluated for the values of the table, so\n");
+        sb.append(" * loading one of them reads no resource, looks up no {@link LocaleProvider} and compiles nothing. The tables\n");
+        sb.append(" * of a language are in a nested class, initialized the first time the language is used, or when a native\n");
+        sb.append(" * image is built.\n");
+        sb.append(" *\n");
+        sb.append(" * @author Vincent DURMONT [vdurmont@gmail.com]\n");
+        sb.append(" */\n");
+        sb.append("final class ").append(CLASS).append(" {\n");
+        sb.append("    /**\n");
+        sb.append("     * The tags of the languages, sorted.\n");
+        sb.append("     */\n");
+        sb.append("    static final String[] LANGUAGE_TAGS = {");
+        String separator = "";
+        for (String tag : languages.keySet()) {
+            sb.append(separator).append(literal(tag));
+            separator = ", ";
+        }
+        sb.append("};\n");
+        sb.append("\n");
+        sb.append("    /**\n");
+        sb.append("     * Private constructor. No instance needed.\n");
+        sb.append("     */\n");
+        sb.append("    private ").append(CLASS).append("() {}\n");
+        sb.append("\n");
+        sb.append("    /**\n");
+        sb.append("     * @param languageTag the language tag, in lower case (e.g.: \"de\")\n");
+        sb.append("     *\n");
+        sb.append("     * @return true if the language is shipped with the library\n");
+        sb.append("     */\n");
+        sb.append("    static boolean contains(String languageTag) {\n");
+        sb.append("        return Arrays.binarySearch(LANGUAGE_TAGS, languageTag) >= 0;\n");
+        sb.append("    }\n");
+        sb.append("\n");
+        sb.append("    /**\n");
+        sb.append("     * @param languageTag the tag of a language shipped with the library (see {@link #contains(String)})\n");
+        sb.append("     * @param index       the index of the language (see {@link ElapsedTimeLocale#getIndex()})\n");
+        sb.append("     *\n");
+        sb.append("     * @return the strings of the language\n");
+        sb.append("     * @throws java.lang.IllegalArgumentException if the language is not shipped with the library\n");
+        sb.append("     */\n");
+        sb.append("    static ElapsedTimeLocale load(String languageTag, int index) {\n");
+        sb.append("        switch (languageTag) {\n");
+        for (String tag : languages.keySet()) {
+            String holder = holderName(tag);
+            sb.append("            case ").append(literal(tag)).append(":\n");
+            sb.append("                return new ElapsedTimeLocale(").append(literal(tag)).append(", index,\n");
+            sb.append("                        PluralRules.precompiled(").append(literal(tag)).append(", ")
+                    .append(holder).append(".PLURAL_RULES, ").append(holder).append(".PLURAL_TABLE),\n");
+            sb.append("                        ").append(holder).append(".STRINGS, ").append(holder).append(".NUMBERS, ")
+                    .append(holder).append(".PREFIXES, ").append(holder).append(".SUFFIXES,\n");
+            sb.append("                        ").append(holder).append(".ENCODED_PREFIXES, ")
+                    .append(holder).append(".ENCODED_SUFFIXES);\n");
+        }
+        sb.append("            default:\n");
+        sb.append("                throw new IllegalArgumentException(\"The language \" + languageTag + \" is not shipped with the library.\");\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+        for (Map.Entry<String, Map<String, String>> language : languages.entrySet()) {
+            appendHolder(sb, language.getKey(), CompiledLocale.compile(language.getKey(), language.getValue()));
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Generates the native-image.properties of the library: the tables of the languages only hold strings and arrays,
+     * so they are initialized when the image is built and stored in its heap.
+     *
+     * @param directory the directory of the properties files ([language tag].properties)
+     *
+     * @return the content of the file
+     * @throws java.io.IOException                if a file cannot be read
+     * @throws java.lang.IllegalArgumentException if the directory has no properties file
+     */
+    public static String generateNativeImage(File directory) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# GENERATED by elapsedtime-codegen (LocaleSourceGenerator): do not edit.\n");
+        sb.append("# The tables of the languages shipped with the library only hold strings and arrays: they are built into the\n");
+        sb.append("# image heap. The properties files of resource-config.json are only read for the languages added by other jars.\n");
+        sb.append("Args = --initialize-at-build-time=").append(PACKAGE).append('.').append(CLASS);
+        for (String tag : read(directory).keySet()) {
+            sb.append(",\\\n    ").append(PACKAGE).append('.').append(CLASS).append('$').append(holderName(tag));
+        }
+        return sb.append("\n").toString();
+    }
+
+    /**
+     * Appends the nested class that holds the tables of a language.
+     */
+    private static void appendHolder(StringBuilder sb, String tag, CompiledLocale locale) {
+        int templates = CompiledLocale.getTemplateCount();
+        List<String> strings = new ArrayList<String>(templates);
+        List<String> numbers = new ArrayList<String>(templates);
+        List<String> prefixes = new ArrayList<String>(templates);
+        List<String> suffixes = new ArrayList<String>(templates);
+        // The templates share most of their bytes (e.g.: the suffix of the categories without rule), so each distinct
+        // array is a constant
+        Map<String, String> arrays = new LinkedHashMap<String, String>();
+        List<String> encodedPrefixes = new ArrayList<String>(templates);
+        List<String> encodedSuffixes = new ArrayList<String>(templates);
+        for (int i = 0; i < templates; i++) {
+            strings.add(literal(locale.getString(i)));
+            numbers.add(String.valueOf(locale.hasNumber(i)));
+            prefixes.add(literal(locale.getPrefix(i)));
+            suffixes.add(literal(locale.getSuffix(i)));
+            encodedPrefixes.add(constant(arrays, locale.getEncodedPrefix(i)));
+            encodedSuffixes.add(constant(arrays, locale.getEncodedSuffix(i)));
+        }
+        List<String> rules = new ArrayList<String>();
+        for (String rule : locale.getPluralRules()) {
+            rules.add(rule == null ? "null" : literal(rule));
+        }
+
+        sb.append("\n");
+        sb.append("    /**\n");
+        sb.append("     * The tables of ").append(tag).append(SUFFIX).append(".\n");
+        sb.append("     */\n");
+        sb.append("    private static final class ").append(holderName(tag)).append(" {\n");
+        appendArray(sb, "String[] PLURAL_RULES", rules);
+        appendArray(sb, "byte[] PLURAL_TABLE", bytes(locale.getPluralTable()));
+        appendArray(sb, "String[] STRINGS", strings);
+        appendArray(sb, "boolean[] NUMBERS", numbers);
+        appendArray(sb, "String[] PREFIXES", prefixes);
+        appendArray(sb, "String[] SUFFIXES", suffixes);
+        for (Map.Entry<String, String> array : arrays.entrySet()) {
+            appendArray(sb, "byte[] " + array.getValue(), bytes(array.getKey()));
+        }
+        appendArray(sb, "byte[][] ENCODED_PREFIXES", encodedPrefixes);
+        appendArray(sb, "byte[][] ENCODED_SUFFIXES", encodedSuffixes);
+        sb.append("    }\n");
+    }
+
+    /**
+     * Returns the name of the constant of an array of bytes, declaring it if it is new.
+     */
+    private static String constant(Map<String, String> arrays, byte[] bytes) {
+        String key = Arrays.toString(bytes);
+        String name = arrays.get(key);
+        if (name == null) {
+            name = "BYTES_" + arrays.size();
+            arrays.put(key, name);
+        }
+        return name;
+    }
+
+    private static List<String> bytes(byte[] bytes) {
+        List<String> items = new ArrayList<String>(bytes.length);
+        for (byte b : bytes) {
+            items.add(String.valueOf(b));
+        }
+        return items;
+    }
+
+    /**
+     * Parses the items of the key of {@link #constant(Map, byte[])} again.
+     */
+    private static List<String> bytes(String key) {
+        String content = key.substring(1, key.length() - 1);
+        return content.isEmpty() ? new ArrayList<String>() : Arrays.asList(content.split(", "));
+    }
+
+    /**
+     * Appends the declaration of a constant array, its items wrapped at {@link #LINE_LENGTH} characters.
+     */
+    private static void appendArray(StringBuilder sb, String declaration, List<String> items) {
+        String start = "        static final " + declaration + " = {";
+        if (start.length() + String.join(", ", items).length() + 2 <= LINE_LENGTH) {
+            sb.append(start).append(String.join(", ", items)).append("};\n");
+            return;
+        }
+        sb.append(start).append("\n");
+        String indent = "                ";
+        StringBuilder line = new StringBuilder(indent);
+        for (int i = 0; i < items.size(); i++) {
+            String item = items.get(i) + (i < items.size() - 1 ? "," : "");
+            if (line.length() > indent.length() && line.length() + 1 + item.length() > LINE_LENGTH) {
+                sb.append(line).append("\n");
+                line.setLength(indent.length());
+            }
+            if (line.length() > indent.length()) {
+                line.append(' ');
+            }
+            line.append(item);
+        }
+        sb.append(line).append("\n");
+        sb.append("        };\n");
+    }
+
+    /**
+     * Reads the properties files, sorted by language tag then by key.
+     */
+    private static Map<String, Map<String, String>> read(File directory) throws IOException {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            throw new IOException("Cannot list " + directory);
+        }
+        Map<String, Map<String, String>> languages = new TreeMap<String, Map<String, String>>();
+        for (File file : files) {
+            String name = file.getName();
+            if (!file.isFile() || !name.endsWith(SUFFIX)) {
+                continue;
+            }
+            Properties properties = new Properties();
+            Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+            try {
+                properties.load(reader);
+            } finally {
+                reader.close();
+            }
+            Map<String, String> strings = new TreeMap<String, String>();
+            for (String key : properties.stringPropertyNames()) {
+                strings.put(key, properties.getProperty(key));
+            }
+            languages.put(name.substring(0, name.length() - SUFFIX.length()), strings);
+        }
+        if (languages.isEmpty()) {
+            throw new IllegalArgumentException("The directory " + directory + " has no properties file.");
+        }
+        return languages;
+    }
+
+    /**
+     * Returns the name of the class of a language: its tag capitalized, with "_" instead of "-" (e.g.: "Pt_br").
+     */
+    static String holderName(String tag) {
+        StringBuilder sb = new StringBuilder(tag.length());
+        for (int i = 0; i < tag.length(); i++) {
+            char c = tag.charAt(i);
+            if (i == 0) {
+                c = Character.toUpperCase(c);
+            }
+            sb.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a Java string literal in ASCII: the other characters are written as unicode escapes.
+     */
+    static String literal(String str) {
+        StringBuilder sb = new StringBuilder(str.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7E) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
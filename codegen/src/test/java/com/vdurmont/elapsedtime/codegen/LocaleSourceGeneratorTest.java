@@ -0,0 +1,122 @@
+package com.vdurmont.elapsedtime.codegen;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class LocaleSourceGeneratorTest {
+    private static final File LOCALES = new File("../src/main/resources/com/vdurmont/elapsedtime/locales");
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test public void literal_escapes_the_quotes_the_backslashes_and_the_non_ascii_characters() {
+        assertEquals("\"1 hour ago\"", LocaleSourceGenerator.literal("1 hour ago"));
+        assertEquals("\"a \\\"b\\\" \\\\ c\\n\"", LocaleSourceGenerator.literal("a \"b\" \\ c\n"));
+        assertEquals("\"Il y a 1 ann\\u00e9e\"", LocaleSourceGenerator.literal("Il y a 1 année"));
+        assertEquals("\"\\u0645\\u0646\"", LocaleSourceGenerator.literal("من"));
+    }
+
+    @Test public void holderName_capitalizes_the_tag() {
+        assertEquals("En", LocaleSourceGenerator.holderName("en"));
+        assertEquals("Pt_br", LocaleSourceGenerator.holderName("pt-br"));
+    }
+
+    @Test public void generate_compiles_the_templates_of_each_language() throws IOException {
+        copy("fr");
+        copy("en", "pt-br");
+        copy("en");
+        write("README.txt", "Not a language");
+
+        String source = LocaleSourceGenerator.generate(this.folder.getRoot());
+
+        assertTrue(source.contains("static final String[] LANGUAGE_TAGS = {\"en\", \"fr\", \"pt-br\"};"));
+        assertTrue(source.contains("            case \"pt-br\":\n"
+                + "                return new ElapsedTimeLocale(\"pt-br\", index,\n"
+                + "                        PluralRules.precompiled(\"pt-br\", Pt_br.PLURAL_RULES, Pt_br.PLURAL_TABLE),\n"));
+        assertTrue(source.contains("    private static final class Pt_br {\n"));
+        assertTrue(source.contains("\"{num} minutes ago\""));
+        // The templates are split around {num} and encoded in UTF-8
+        assertTrue(source.contains("\" minutes ago\""));
+        assertTrue(source.contains("\"Il y a \""));
+        assertTrue(source.contains(" = {73, 108, 32, 121, 32, 97, 32};"));
+        // English has no plural rules: everything is OTHER
+        assertTrue(source.contains("    private static final class En {\n"
+                + "        static final String[] PLURAL_RULES = {null, null, null, null, null, null};\n"
+                + "        static final byte[] PLURAL_TABLE = {\n"
+                + "                5, 5, 5, 5,"));
+    }
+
+    @Test public void generate_twice_gives_the_same_source() throws IOException {
+        copy("en");
+
+        assertEquals(LocaleSourceGenerator.generate(this.folder.getRoot()),
+                LocaleSourceGenerator.generate(this.folder.getRoot()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void generate_with_no_properties_file_fails() throws IOException {
+        LocaleSourceGenerator.generate(this.folder.getRoot());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void generate_with_missing_strings_fails() throws IOException {
+        write("en.properties", "MOMENTS_AGO=Moments ago\n");
+        LocaleSourceGenerator.generate(this.folder.getRoot());
+    }
+
+    @Test public void generateNativeImage_initializes_the_tables_of_each_language() throws IOException {
+        copy("en");
+        copy("en", "pt-br");
+
+        assertTrue(LocaleSourceGenerator.generateNativeImage(this.folder.getRoot()).endsWith(
+                "Args = --initialize-at-build-time=com.vdurmont.elapsedtime.BundledLocales,\\\n"
+                        + "    com.vdurmont.elapsedtime.BundledLocales$En,\\\n"
+                        + "    com.vdurmont.elapsedtime.BundledLocales$Pt_br\n"));
+    }
+
+    @Test public void main_writes_the_source_and_the_native_image_configuration() throws IOException {
+        copy("en");
+        File output = this.folder.newFolder("output");
+        File source = new File(output, "BundledLocales.java");
+        File nativeImage = new File(output, "native-image.properties");
+
+        LocaleSourceGenerator.main(new String[]{this.folder.getRoot().getPath(), source.getPath(), nativeImage.getPath()});
+
+        assertEquals(LocaleSourceGenerator.generate(this.folder.getRoot()), read(source));
+        assertEquals(LocaleSourceGenerator.generateNativeImage(this.folder.getRoot()), read(nativeImage));
+    }
+
+    /**
+     * Copies a properties file of the library into the directory of the test.
+     */
+    private void copy(String tag) throws IOException {
+        copy(tag, tag);
+    }
+
+    private void copy(String tag, String as) throws IOException {
+        Files.copy(new File(LOCALES, tag + ".properties").toPath(),
+                new File(this.folder.getRoot(), as + ".properties").toPath());
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(new File(this.folder.getRoot(), name).toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,118 @@
+package com.vdurmont.elapsedtime.log4j2;
+
+import com.vdurmont.elapsedtime.ElapsedTime;
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import com.vdurmont.elapsedtime.ElapsedTimeLocale;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.pattern.ConverterKeys;
+import org.apache.logging.log4j.core.pattern.LogEventPatternConverter;
+import org.apache.logging.log4j.core.pattern.PatternConverter;
+import org.apache.logging.log4j.util.PerformanceSensitive;
+
+/**
+ * Prints the time elapsed between a timestamp of the context data (the ThreadContext) and the log event (e.g.: "2
+ * hours ago"), with the default formatter (see {@link ElapsedTime#getDefaultFormatter()}).
+ *
+ * The first option is the key of the timestamp, the second one the language tag (the default locale of the formatter
+ * if omitted):
+ * <pre>
+ * &lt;PatternLayout pattern="%d %m (started %elapsed{requestStart}{fr})%n"/&gt;
+ * ThreadContext.put("requestStart", Long.toString(System.currentTimeMillis()));
+ * </pre>
+ *
+ * The timestamp is a number of milliseconds since the epoch, as a Number or as a string of digits. Nothing is printed
+ * if the key is missing or if it is not a timestamp, and a timestamp after the event is printed as "moments ago".
+ *
+ * The string is appended directly to the buffer of the layout: nothing is allocated, so the converter can be used in
+ * the garbage-free mode of Log4j2.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@Plugin(name = "ElapsedTimePatternConverter", category = PatternConverter.CATEGORY)
+@ConverterKeys({"elapsed"})
+@PerformanceSensitive("allocation")
+public final class ElapsedTimePatternConverter extends LogEventPatternConverter {
+    private final String key;
+    private final ElapsedTimeLocale locale;
+
+    /**
+     * @param locale the language of the strings, or null to use the default locale of the formatter
+     */
+    private ElapsedTimePatternConverter(String key, ElapsedTimeLocale locale) {
+        super("ElapsedTime", "elapsed");
+        this.key = key;
+        this.locale = locale;
+    }
+
+    /**
+     * Creates the converter of a pattern. Called by Log4j2.
+     *
+     * @param options the key of the timestamp and the optional language tag
+     *
+     * @return the converter, or null if the options are invalid
+     */
+    public static ElapsedTimePatternConverter newInstance(String[] options) {
+        if (options == null || options.length == 0 || options[0] == null || options[0].trim().isEmpty()) {
+            LOGGER.error("The elapsed pattern needs the key of a timestamp, e.g.: %elapsed{requestStart}");
+            return null;
+        }
+        ElapsedTimeLocale locale = null;
+        if (options.length > 1 && options[1] != null && !options[1].trim().isEmpty()) {
+            try {
+                locale = ElapsedTimeLocale.forLanguageTag(options[1].trim());
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Invalid language in the elapsed pattern: {}", e.getMessage());
+                return null;
+            }
+        }
+        return new ElapsedTimePatternConverter(options[0].trim(), locale);
+    }
+
+    /**
+     * @return the key of the timestamp in the context data
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    @Override public void format(LogEvent event, StringBuilder toAppendTo) {
+        long timestamp = toTimestamp(event.getContextData().getValue(this.key));
+        if (timestamp < 0) {
+            return;
+        }
+        long durationMillis = Math.max(0, event.getTimeMillis() - timestamp);
+        ElapsedTimeFormatter formatter = ElapsedTime.getDefaultFormatter();
+        if (this.locale == null) {
+            formatter.formatTo(durationMillis, toAppendTo);
+        } else {
+            formatter.formatTo(durationMillis, this.locale, toAppendTo);
+        }
+    }
+
+    /**
+     * Reads a timestamp without allocating, or returns -1 if the value is not a timestamp.
+     */
+    private static long toTimestamp(Object value) {
+        if (value instanceof Number) {
+            long timestamp = ((Number) value).longValue();
+            return timestamp < 0 ? -1 : timestamp;
+        }
+        if (!(value instanceof CharSequence)) {
+            return -1;
+        }
+        CharSequence str = (CharSequence) value;
+        if (str.length() == 0 || str.length() > 18) {
+            return -1;
+        }
+        long timestamp = 0;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            timestamp = timestamp * 10 + (c - '0');
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,129 @@
+package com.vdurmont.elapsedtime.log4j2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.test.appender.ListAppender;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimePatternConverterTest {
+    private static final long HOUR = 3600 * 1000;
+
+    private final Logger logger = LogManager.getLogger(ElapsedTimePatternConverterTest.class);
+    private ListAppender appender;
+
+    @Before public void setup() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        this.appender = context.getConfiguration().getAppender("List");
+        this.appender.clear();
+    }
+
+    @After public void tearDown() {
+        ThreadContext.clearMap();
+    }
+
+    @Test public void layout_prints_the_time_elapsed_since_the_timestamp() {
+        ThreadContext.put("start", Long.toString(System.currentTimeMillis() - 3 * HOUR));
+
+        this.logger.info("done");
+
+        assertEquals("done|3 hours ago|Il y a 3 heures", this.appender.getMessages().get(0));
+    }
+
+    @Test public void layout_prints_nothing_without_timestamp() {
+        this.logger.info("done");
+        ThreadContext.put("start", "yesterday");
+        this.logger.info("done");
+
+        assertEquals("done||", this.appender.getMessages().get(0));
+        assertEquals("done||", this.appender.getMessages().get(1));
+    }
+
+    @Test public void layout_prints_a_timestamp_after_the_event_as_moments_ago() {
+        ThreadContext.put("start", Long.toString(System.currentTimeMillis() + HOUR));
+
+        this.logger.info("done");
+
+        assertEquals("done|Moments ago|Il y a quelques instants", this.appender.getMessages().get(0));
+    }
+
+    @Test public void format_reads_a_number() {
+        SortedArrayStringMap contextData = new SortedArrayStringMap();
+        contextData.putValue("start", 1000L);
+
+        StringBuilder sb = new StringBuilder();
+        converter("start").format(event(contextData, 1000L + 2 * HOUR), sb);
+
+        assertEquals("2 hours ago", sb.toString());
+    }
+
+    @Test public void format_does_not_allocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        SortedArrayStringMap contextData = new SortedArrayStringMap();
+        contextData.putValue("start", "1000");
+        LogEvent event = event(contextData, 1000L + 5 * HOUR);
+        ElapsedTimePatternConverter converter = converter("start", "fr");
+        StringBuilder sb = new StringBuilder(64);
+        for (int i = 0; i < 100000; i++) {
+            sb.setLength(0);
+            converter.format(event, sb);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100000; i++) {
+            sb.setLength(0);
+            converter.format(event, sb);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertEquals("Il y a 5 heures", sb.toString());
+        // Reading the counter allocates a little
+        assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+    @Test public void newInstance_without_key_returns_null() {
+        assertNull(ElapsedTimePatternConverter.newInstance(new String[0]));
+        assertNull(ElapsedTimePatternConverter.newInstance(new String[]{" "}));
+    }
+
+    @Test public void newInstance_with_an_unknown_language_returns_null() {
+        assertNull(ElapsedTimePatternConverter.newInstance(new String[]{"start", "xx"}));
+    }
+
+    private static ElapsedTimePatternConverter converter(String... options) {
+        return ElapsedTimePatternConverter.newInstance(options);
+    }
+
+    private static LogEvent event(SortedArrayStringMap contextData, long timeMillis) {
+        return Log4jLogEvent.newBuilder()
+                .setMessage(new SimpleMessage("done"))
+                .setContextData(contextData)
+                .setTimeMillis(timeMillis)
+                .build();
+    }
+}
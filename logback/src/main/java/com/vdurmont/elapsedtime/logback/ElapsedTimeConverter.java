@@ -0,0 +1,104 @@
+package com.vdurmont.elapsedtime.logback;
+
+import ch.qos.logback.classic.pattern.ClassicConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.vdurmont.elapsedtime.ElapsedTime;
+import com.vdurmont.elapsedtime.ElapsedTimeCache;
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import com.vdurmont.elapsedtime.ElapsedTimeLocale;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the time elapsed between a timestamp of the MDC and the log event (e.g.: "2 hours ago").
+ *
+ * The first option is the key of the timestamp, the second one the language tag (the default locale if omitted):
+ * <pre>
+ * &lt;conversionRule conversionWord="elapsed" converterClass="com.vdurmont.elapsedtime.logback.ElapsedTimeConverter"/&gt;
+ * &lt;pattern&gt;%d %m (started %elapsed{requestStart, fr})%n&lt;/pattern&gt;
+ * MDC.put("requestStart", Long.toString(System.currentTimeMillis()));
+ * </pre>
+ *
+ * The timestamp is a number of milliseconds since the epoch. Nothing is printed if the key is missing or if it is not
+ * a timestamp, and a timestamp after the event is printed as "moments ago".
+ *
+ * The converters of Logback return a String, so the strings come from an {@link ElapsedTimeCache}: the one of the
+ * default formatter (see {@link ElapsedTime#cache}), or one owned by the converter. Once the labels are cached,
+ * nothing is allocated. The converter takes the configuration of the default formatter when it starts.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public class ElapsedTimeConverter extends ClassicConverter {
+    /**
+     * The size of the cache of the converter, if the default formatter has none.
+     */
+    public static final int CACHE_SIZE = 1024;
+
+    private String key;
+    private ElapsedTimeLocale locale;
+    private ElapsedTimeFormatter formatter;
+
+    @Override public void start() {
+        List<String> options = getOptionList();
+        String key = options == null || options.isEmpty() ? null : options.get(0);
+        if (key == null || key.trim().isEmpty()) {
+            addError("The elapsed conversion word needs the key of a timestamp, e.g.: %elapsed{requestStart}");
+            return;
+        }
+        if (options.size() > 1 && !options.get(1).trim().isEmpty()) {
+            try {
+                this.locale = ElapsedTimeLocale.forLanguageTag(options.get(1).trim());
+            } catch (IllegalArgumentException e) {
+                addError("Invalid language in the elapsed conversion word: " + e.getMessage());
+                return;
+            }
+        }
+        ElapsedTimeFormatter formatter = ElapsedTime.getDefaultFormatter();
+        if (formatter.getCache() == null) {
+            formatter = formatter.toBuilder().cache(new ElapsedTimeCache(CACHE_SIZE)).build();
+        }
+        this.key = key.trim();
+        this.formatter = formatter;
+        super.start();
+    }
+
+    /**
+     * @return the key of the timestamp in the MDC, or null if the converter is not started
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    @Override public String convert(ILoggingEvent event) {
+        if (!isStarted()) {
+            return "";
+        }
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        long timestamp = mdc == null ? -1 : toTimestamp(mdc.get(this.key));
+        if (timestamp < 0) {
+            return "";
+        }
+        long durationMillis = Math.max(0, event.getTimeStamp() - timestamp);
+        ElapsedTimeLocale locale = this.locale;
+        return locale == null ? this.formatter.format(durationMillis) : this.formatter.format(durationMillis, locale);
+    }
+
+    /**
+     * Reads a timestamp without allocating, or returns -1 if the value is not a timestamp.
+     */
+    private static long toTimestamp(String str) {
+        if (str == null || str.isEmpty() || str.length() > 18) {
+            return -1;
+        }
+        long timestamp = 0;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            timestamp = timestamp * 10 + (c - '0');
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,136 @@
+package com.vdurmont.elapsedtime.logback;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeConverterTest {
+    private static final long HOUR = 3600 * 1000;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ElapsedTimeConverterTest.class);
+    private ListAppender<ILoggingEvent> appender;
+    private PatternLayout layout;
+
+    @Before public void setup() {
+        LoggerContext context = this.logger.getLoggerContext();
+        this.appender = (ListAppender<ILoggingEvent>) context.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("LIST");
+        this.appender.list.clear();
+        // The conversion word is registered by logback-test.xml
+        this.layout = new PatternLayout();
+        this.layout.setContext(context);
+        this.layout.setPattern("%m|%elapsed{start}|%elapsed{start, fr}");
+        this.layout.start();
+    }
+
+    @After public void tearDown() {
+        MDC.clear();
+    }
+
+    @Test public void layout_prints_the_time_elapsed_since_the_timestamp() {
+        MDC.put("start", Long.toString(System.currentTimeMillis() - 3 * HOUR));
+
+        this.logger.info("done");
+
+        assertEquals("done|3 hours ago|Il y a 3 heures", this.layout.doLayout(this.appender.list.get(0)));
+    }
+
+    @Test public void layout_prints_nothing_without_timestamp() {
+        this.logger.info("done");
+        assertEquals("done||", this.layout.doLayout(this.appender.list.get(0)));
+
+        MDC.put("start", "yesterday");
+        this.logger.info("done");
+        assertEquals("done||", this.layout.doLayout(this.appender.list.get(1)));
+    }
+
+    @Test public void layout_prints_a_timestamp_after_the_event_as_moments_ago() {
+        MDC.put("start", Long.toString(System.currentTimeMillis() + HOUR));
+
+        this.logger.info("done");
+
+        assertEquals("done|Moments ago|Il y a quelques instants", this.layout.doLayout(this.appender.list.get(0)));
+    }
+
+    @Test public void convert_returns_the_cached_strings() {
+        ElapsedTimeConverter converter = converter("start", "es");
+        LoggingEvent event = event("1000", 1000L + 5 * HOUR);
+
+        assertEquals("Hace 5 horas", converter.convert(event));
+        assertTrue(converter.convert(event) == converter.convert(event));
+    }
+
+    @Test public void convert_does_not_allocate_once_the_labels_are_cached() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        ElapsedTimeConverter converter = converter("start");
+        LoggingEvent event = event("1000", 1000L + 5 * HOUR);
+        String str = null;
+        for (int i = 0; i < 100000; i++) {
+            str = converter.convert(event);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100000; i++) {
+            str = converter.convert(event);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertEquals("5 hours ago", str);
+        // Reading the counter allocates a little
+        assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+    @Test public void start_without_key_fails() {
+        ElapsedTimeConverter converter = converter();
+
+        assertFalse(converter.isStarted());
+        assertEquals("", converter.convert(event("1000", 2000)));
+    }
+
+    @Test public void start_with_an_unknown_language_fails() {
+        assertFalse(converter("start", "xx").isStarted());
+    }
+
+    private ElapsedTimeConverter converter(String... options) {
+        ElapsedTimeConverter converter = new ElapsedTimeConverter();
+        converter.setContext(this.logger.getLoggerContext());
+        converter.setOptionList(Arrays.asList(options));
+        converter.start();
+        return converter;
+    }
+
+    private LoggingEvent event(String start, long timeMillis) {
+        LoggingEvent event = new LoggingEvent();
+        event.setMessage("done");
+        event.setMDCPropertyMap(Collections.singletonMap("start", start));
+        event.setTimeStamp(timeMillis);
+        return event;
+    }
+}
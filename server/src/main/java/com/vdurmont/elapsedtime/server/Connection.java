@@ -0,0 +1,245 @@
+package com.vdurmont.elapsedtime.server;
+
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import com.vdurmont.elapsedtime.ElapsedTimeLocale;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A client connection, only used by the thread of its selector.
+ *
+ * All the complete frames read are answered at once, so a pipelining client gets its responses in a few writes. The
+ * labels are written to the output buffer by {@link ElapsedTimeFormatter#formatTo(long, ElapsedTimeLocale,
+ * ByteBuffer)}: apart from the growth of the buffers, nothing is allocated per request.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+final class Connection {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The connection stops reading while more bytes than this wait to be written (the client does not read).
+     */
+    private static final int MAX_PENDING_BYTES = 4 * 1024 * 1024;
+
+    private final SocketChannel channel;
+    private final ElapsedTimeFormatter formatter;
+    private SelectionKey key;
+
+    /**
+     * The bytes read and not processed yet, in write mode.
+     */
+    private ByteBuffer in = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    /**
+     * The bytes to write, in write mode.
+     */
+    private ByteBuffer out = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+
+    /**
+     * The language of the previous request, to look it up once per connection.
+     */
+    private final byte[] tag = new byte[255];
+    private byte[] lastTag = new byte[0];
+    private ElapsedTimeLocale lastLocale;
+
+    Connection(SocketChannel channel, ElapsedTimeFormatter formatter) {
+        this.channel = channel;
+        this.formatter = formatter;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    /**
+     * Reads the available bytes, answers the complete frames and writes the responses.
+     *
+     * @return false if the connection must be closed (end of stream or invalid frame)
+     */
+    boolean read() throws IOException {
+        if (this.channel.read(this.in) < 0) {
+            return false;
+        }
+        return process() && write();
+    }
+
+    /**
+     * Writes the pending responses.
+     *
+     * @return false if the connection must be closed
+     */
+    boolean write() throws IOException {
+        ByteBuffer out = this.out;
+        // The Buffer methods go through Buffer: their ByteBuffer overrides only exist since Java 9
+        ((Buffer) out).flip();
+        this.channel.write(out);
+        out.compact();
+
+        int ops = SelectionKey.OP_READ;
+        if (out.position() > 0) {
+            ops |= SelectionKey.OP_WRITE;
+            if (out.position() > MAX_PENDING_BYTES) {
+                ops &= ~SelectionKey.OP_READ;
+            }
+        }
+        if (this.key.interestOps() != ops) {
+            this.key.interestOps(ops);
+        }
+        return true;
+    }
+
+    void close() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            // Nothing to do
+        }
+    }
+
+    private boolean process() {
+        ByteBuffer in = this.in;
+        ((Buffer) in).flip();
+        int required = 0;
+        while (in.remaining() >= Protocol.LENGTH_BYTES) {
+            int length = in.getInt(in.position());
+            if (length < Protocol.REQUEST_HEADER_BYTES || length > Protocol.MAX_FRAME_LENGTH) {
+                return false;
+            }
+            if (in.remaining() < Protocol.LENGTH_BYTES + length) {
+                required = Protocol.LENGTH_BYTES + length;
+                break;
+            }
+            int end = in.position() + Protocol.LENGTH_BYTES + length;
+            ((Buffer) in).position(in.position() + Protocol.LENGTH_BYTES);
+            answer(in, end);
+            ((Buffer) in).position(end);
+        }
+        in.compact();
+
+        if (required > in.capacity()) {
+            // The frame does not fit: keep the bytes read so far in a bigger buffer
+            ByteBuffer bigger = ByteBuffer.allocate(required);
+            ((Buffer) in).flip();
+            bigger.put(in);
+            this.in = bigger;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the response of the request located between the position of the buffer and the end.
+     */
+    private void answer(ByteBuffer in, int end) {
+        int id = in.getInt();
+        int tagLength = in.get() & 0xFF;
+        int timestampBytes = end - in.position() - tagLength - 12;
+        if (timestampBytes < 0) {
+            error(id, "The request is truncated.");
+            return;
+        }
+        in.get(this.tag, 0, tagLength);
+        ElapsedTimeLocale locale = localeOf(tagLength);
+        if (locale == null) {
+            error(id, "Unknown language: " + new String(this.tag, 0, tagLength, StandardCharsets.US_ASCII));
+            return;
+        }
+        long now = in.getLong();
+        int count = in.getInt();
+        if (count < 0 || (long) count * 8 != timestampBytes) {
+            error(id, "The count does not match the length of the request.");
+            return;
+        }
+
+        int start = reserve(Protocol.LENGTH_BYTES + 4 + 1 + 4);
+        ByteBuffer out = this.out;
+        out.putInt(0); // The length, written at the end
+        out.putInt(id);
+        out.put(Protocol.STATUS_OK);
+        out.putInt(count);
+        for (int i = 0; i < count; i++) {
+            // A timestamp in the future is printed as "moments ago"
+            long durationMillis = Math.max(0, now - in.getLong());
+            while (true) {
+                int position = reserve(2);
+                out = this.out;
+                ((Buffer) out).position(position + 2);
+                try {
+                    this.formatter.formatTo(durationMillis, locale, out);
+                } catch (BufferOverflowException e) {
+                    // Nothing was written
+                    ((Buffer) out).position(position);
+                    grow(out.capacity());
+                    continue;
+                }
+                out.putShort(position, (short) (out.position() - position - 2));
+                break;
+            }
+        }
+        this.out.putInt(start, this.out.position() - start - Protocol.LENGTH_BYTES);
+    }
+
+    private void error(int id, String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        reserve(Protocol.LENGTH_BYTES + 4 + 1 + 2 + bytes.length);
+        ByteBuffer out = this.out;
+        out.putInt(4 + 1 + 2 + bytes.length);
+        out.putInt(id);
+        out.put(Protocol.STATUS_ERROR);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    /**
+     * Returns the language of the tag read in {@link #tag}, or null if it is unknown.
+     */
+    private ElapsedTimeLocale localeOf(int tagLength) {
+        byte[] lastTag = this.lastTag;
+        if (this.lastLocale != null && lastTag.length == tagLength) {
+            boolean same = true;
+            for (int i = 0; i < tagLength && same; i++) {
+                same = lastTag[i] == this.tag[i];
+            }
+            if (same) {
+                return this.lastLocale;
+            }
+        }
+        try {
+            ElapsedTimeLocale locale =
+                    ElapsedTimeLocale.forLanguageTag(new String(this.tag, 0, tagLength, StandardCharsets.US_ASCII));
+            this.lastTag = Arrays.copyOf(this.tag, tagLength);
+            this.lastLocale = locale;
+            return locale;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Makes sure that the output buffer has the provided number of bytes remaining.
+     *
+     * @return the position of the output buffer
+     */
+    private int reserve(int bytes) {
+        if (this.out.remaining() < bytes) {
+            grow(bytes);
+        }
+        return this.out.position();
+    }
+
+    private void grow(int bytes) {
+        ByteBuffer out = this.out;
+        int capacity = Math.max(out.capacity() * 2, out.position() + bytes);
+        ByteBuffer bigger = ByteBuffer.allocateDirect(capacity);
+        ((Buffer) out).flip();
+        bigger.put(out);
+        this.out = bigger;
+    }
+}
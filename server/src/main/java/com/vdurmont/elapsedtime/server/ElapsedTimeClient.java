@@ -0,0 +1,240 @@
+package com.vdurmont.elapsedtime.server;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A blocking client of the {@link ElapsedTimeServer}, for the tests, the load test and the JVM services. It is also
+ * the reference implementation of the {@link Protocol} for the clients in other languages.
+ *
+ * The requests can be pipelined: {@link #send(int, String, long, long[])} several of them, then {@link #flush()} and
+ * {@link #receive()} the responses in the same order.
+ *
+ * A client is not thread-safe.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeClient implements Closeable {
+    private final SocketChannel channel;
+    private ByteBuffer out = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer in = ByteBuffer.allocate(64 * 1024);
+    private int nextId;
+
+    private ElapsedTimeClient(SocketChannel channel) {
+        this.channel = channel;
+        // Through Buffer: the ByteBuffer overrides of the Buffer methods only exist since Java 9
+        ((Buffer) this.in).limit(0);
+    }
+
+    /**
+     * Connects to a server.
+     *
+     * @param address the address of the server
+     *
+     * @return the connected client
+     * @throws java.io.IOException if the connection fails
+     */
+    public static ElapsedTimeClient connect(InetSocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        channel.socket().setTcpNoDelay(true);
+        return new ElapsedTimeClient(channel);
+    }
+
+    /**
+     * Formats a batch of timestamps and waits for the strings.
+     *
+     * @param languageTag the language of the strings (e.g.: "en")
+     * @param now         the present instant in milliseconds since the epoch
+     * @param timestamps  the timestamps in milliseconds since the epoch
+     *
+     * @return the strings, in the order of the timestamps
+     * @throws java.io.IOException if the server answers with an error or if the connection fails
+     */
+    public String[] format(String languageTag, long now, long[] timestamps) throws IOException {
+        int id = this.nextId++;
+        send(id, languageTag, now, timestamps);
+        flush();
+        Response response = receive();
+        if (response.getId() != id) {
+            throw new IOException("Unexpected response " + response.getId() + " to the request " + id + ".");
+        }
+        if (response.isError()) {
+            throw new IOException(response.getError());
+        }
+        String[] labels = new String[response.getCount()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = response.getLabel(i);
+        }
+        return labels;
+    }
+
+    /**
+     * Buffers a request. It is only sent on {@link #flush()} or when the buffer is full.
+     *
+     * @param id          the id of the request, echoed in the response
+     * @param languageTag the language of the strings (e.g.: "en")
+     * @param now         the present instant in milliseconds since the epoch
+     * @param timestamps  the timestamps in milliseconds since the epoch
+     *
+     * @throws java.io.IOException                if the connection fails
+     * @throws java.lang.IllegalArgumentException if the tag is longer than 255 characters or if there are more than
+     *                                            {@link Protocol#MAX_COUNT} timestamps
+     */
+    public void send(int id, String languageTag, long now, long[] timestamps) throws IOException {
+        byte[] tag = languageTag.getBytes(StandardCharsets.US_ASCII);
+        if (tag.length > 255) {
+            throw new IllegalArgumentException("The provided language tag is too long.");
+        }
+        if (timestamps.length > Protocol.MAX_COUNT) {
+            throw new IllegalArgumentException("The provided timestamps are more than " + Protocol.MAX_COUNT + ".");
+        }
+        int length = Protocol.REQUEST_HEADER_BYTES + tag.length + 8 * timestamps.length;
+        if (this.out.remaining() < Protocol.LENGTH_BYTES + length) {
+            flush();
+            if (this.out.capacity() < Protocol.LENGTH_BYTES + length) {
+                this.out = ByteBuffer.allocate(Protocol.LENGTH_BYTES + length);
+            }
+        }
+        ByteBuffer out = this.out;
+        out.putInt(length);
+        out.putInt(id);
+        out.put((byte) tag.length);
+        out.put(tag);
+        out.putLong(now);
+        out.putInt(timestamps.length);
+        for (long timestamp : timestamps) {
+            out.putLong(timestamp);
+        }
+    }
+
+    /**
+     * Sends the buffered requests.
+     *
+     * @throws java.io.IOException if the connection fails
+     */
+    public void flush() throws IOException {
+        ((Buffer) this.out).flip();
+        while (this.out.hasRemaining()) {
+            this.channel.write(this.out);
+        }
+        ((Buffer) this.out).clear();
+    }
+
+    /**
+     * Waits for the next response.
+     *
+     * @return the response
+     * @throws java.io.IOException if the connection fails or if the server closed it
+     */
+    public Response receive() throws IOException {
+        fill(Protocol.LENGTH_BYTES);
+        int length = this.in.getInt();
+        fill(length);
+        byte[] frame = new byte[length];
+        this.in.get(frame);
+        return new Response(frame);
+    }
+
+    /**
+     * Reads until the input buffer has the provided number of bytes remaining.
+     */
+    private void fill(int bytes) throws IOException {
+        if (this.in.remaining() >= bytes) {
+            return;
+        }
+        this.in.compact();
+        if (this.in.capacity() < bytes) {
+            ByteBuffer bigger = ByteBuffer.allocate(bytes);
+            ((Buffer) this.in).flip();
+            bigger.put(this.in);
+            this.in = bigger;
+        }
+        while (this.in.position() < bytes) {
+            if (this.channel.read(this.in) < 0) {
+                throw new EOFException("The server closed the connection.");
+            }
+        }
+        ((Buffer) this.in).flip();
+    }
+
+    @Override public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * A response frame. The strings are only decoded when they are read.
+     */
+    public static final class Response {
+        private final ByteBuffer frame;
+        private final int id;
+        private final boolean error;
+        private final int[] offsets;
+
+        private Response(byte[] frame) {
+            this.frame = ByteBuffer.wrap(frame);
+            this.id = this.frame.getInt();
+            this.error = this.frame.get() == Protocol.STATUS_ERROR;
+            if (this.error) {
+                this.offsets = new int[]{this.frame.position()};
+                return;
+            }
+            this.offsets = new int[this.frame.getInt()];
+            int offset = this.frame.position();
+            for (int i = 0; i < this.offsets.length; i++) {
+                this.offsets[i] = offset;
+                offset += 2 + (this.frame.getShort(offset) & 0xFFFF);
+            }
+        }
+
+        /**
+         * @return the id of the request
+         */
+        public int getId() {
+            return this.id;
+        }
+
+        /**
+         * @return true if the server could not answer the request (see {@link #getError()})
+         */
+        public boolean isError() {
+            return this.error;
+        }
+
+        /**
+         * @return the message of the error, or null if the response is not an error
+         */
+        public String getError() {
+            return this.error ? decode(this.offsets[0]) : null;
+        }
+
+        /**
+         * @return the number of strings, 0 for an error
+         */
+        public int getCount() {
+            return this.error ? 0 : this.offsets.length;
+        }
+
+        /**
+         * @param index the index of the timestamp in the request
+         *
+         * @return the string of the timestamp
+         */
+        public String getLabel(int index) {
+            if (this.error) {
+                throw new IllegalStateException("The response is an error: " + getError());
+            }
+            return decode(this.offsets[index]);
+        }
+
+        private String decode(int offset) {
+            int length = this.frame.getShort(offset) & 0xFFFF;
+            return new String(this.frame.array(), offset + 2, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.vdurmont.elapsedtime.server;
+
+import com.vdurmont.elapsedtime.ElapsedTime;
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+
+/**
+ * A sidecar that formats batches of timestamps for the services that do not run on the JVM, so that they print
+ * exactly the same strings (see {@link Protocol}).
+ *
+ * The server runs a few selector threads: the first one accepts the connections and hands them to the threads in
+ * turn. A request is answered by the thread of its connection, without blocking and without allocating.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeServer server = ElapsedTimeServer.start(new InetSocketAddress(7878), formatter, 2);
+ * ...
+ * server.close();
+ * </pre>
+ * or from the command line: {@code java -jar elapsedtime-server.jar [port [threads]]}.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeServer implements Closeable {
+    public static final int DEFAULT_PORT = 7878;
+
+    private final ServerSocketChannel serverChannel;
+    private final EventLoop[] loops;
+    private final Thread[] threads;
+    private int next;
+
+    private ElapsedTimeServer(ServerSocketChannel serverChannel, ElapsedTimeFormatter formatter, int threads)
+            throws IOException {
+        this.serverChannel = serverChannel;
+        this.loops = new EventLoop[threads];
+        this.threads = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            this.loops[i] = new EventLoop(this, formatter);
+            this.threads[i] = new Thread(this.loops[i], "elapsedtime-server-" + i);
+        }
+    }
+
+    /**
+     * Starts a server.
+     *
+     * @param address   the address to listen to (port 0 for any free port, see {@link #getAddress()})
+     * @param formatter the formatter of the strings
+     * @param threads   the number of selector threads
+     *
+     * @return the running server
+     * @throws java.io.IOException                if the address cannot be bound
+     * @throws java.lang.IllegalArgumentException if the address or the formatter is null
+     * @throws java.lang.IllegalArgumentException if the number of threads is lower than 1
+     */
+    public static ElapsedTimeServer start(InetSocketAddress address, ElapsedTimeFormatter formatter, int threads)
+            throws IOException {
+        if (address == null) {
+            throw new IllegalArgumentException("The provided address is null.");
+        }
+        if (formatter == null) {
+            throw new IllegalArgumentException("The provided formatter is null.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("The provided number of threads is < 1.");
+        }
+        ServerSocketChannel serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.configureBlocking(false);
+            serverChannel.bind(address);
+            ElapsedTimeServer server = new ElapsedTimeServer(serverChannel, formatter, threads);
+            server.loops[0].listen(serverChannel);
+            for (Thread thread : server.threads) {
+                thread.start();
+            }
+            return server;
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the address the server listens to
+     */
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) this.serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new IllegalStateException("The server is closed.", e);
+        }
+    }
+
+    /**
+     * Returns the loop of the next connection. Only called by the accepting thread.
+     */
+    EventLoop nextLoop() {
+        EventLoop loop = this.loops[this.next];
+        this.next = (this.next + 1) % this.loops.length;
+        return loop;
+    }
+
+    /**
+     * Stops the server and closes the connections.
+     */
+    @Override public void close() throws IOException {
+        for (EventLoop loop : this.loops) {
+            loop.stop();
+        }
+        try {
+            for (Thread thread : this.threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.serverChannel.close();
+        }
+    }
+
+    /**
+     * Runs a server with the default formatter (see {@link ElapsedTime#getDefaultFormatter()}) until the JVM stops.
+     *
+     * @param args the port ({@link #DEFAULT_PORT} by default) and the number of threads (1 by default)
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        final ElapsedTimeServer server =
+                start(new InetSocketAddress(port), ElapsedTime.getDefaultFormatter(), threads);
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            @Override public void run() {
+                try {
+                    server.close();
+                } catch (IOException e) {
+                    // The JVM stops anyway
+                }
+            }
+        });
+        System.out.println("Listening on " + server.getAddress() + " with " + threads + " thread(s)");
+    }
+}
@@ -0,0 +1,145 @@
+package com.vdurmont.elapsedtime.server;
+
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A selector and the thread that runs it. The connections are registered by the loop that accepts them and then only
+ * used by their loop.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+final class EventLoop implements Runnable {
+    private final ElapsedTimeServer server;
+    private final ElapsedTimeFormatter formatter;
+    private final Selector selector;
+    private final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<SocketChannel>();
+    private volatile boolean running = true;
+
+    EventLoop(ElapsedTimeServer server, ElapsedTimeFormatter formatter) throws IOException {
+        this.server = server;
+        this.formatter = formatter;
+        this.selector = Selector.open();
+    }
+
+    /**
+     * Listens to the connections of the server socket. Must be called before the loop runs.
+     */
+    void listen(ServerSocketChannel serverChannel) throws IOException {
+        serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Hands a new connection to this loop. Can be called from any thread.
+     */
+    void add(SocketChannel channel) {
+        this.accepted.add(channel);
+        this.selector.wakeup();
+    }
+
+    /**
+     * Stops the loop and closes its connections. Can be called from any thread.
+     */
+    void stop() {
+        this.running = false;
+        this.selector.wakeup();
+    }
+
+    @Override public void run() {
+        try {
+            while (this.running) {
+                this.selector.select();
+                registerAccepted();
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("The selector failed.", e);
+        } catch (ClosedSelectorException e) {
+            // Stopped
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept((ServerSocketChannel) key.channel());
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        boolean open;
+        try {
+            open = (!key.isWritable() || connection.write()) && (!key.isReadable() || connection.read());
+        } catch (IOException e) {
+            // The client is gone
+            open = false;
+        }
+        if (!open) {
+            key.cancel();
+            connection.close();
+        }
+    }
+
+    private void accept(ServerSocketChannel serverChannel) {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+            this.server.nextLoop().add(channel);
+        }
+    }
+
+    private void registerAccepted() {
+        SocketChannel channel;
+        while ((channel = this.accepted.poll()) != null) {
+            Connection connection = new Connection(channel, this.formatter);
+            try {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                connection.setKey(channel.register(this.selector, SelectionKey.OP_READ, connection));
+            } catch (IOException e) {
+                connection.close();
+            }
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : this.selector.keys()) {
+            if (key.attachment() instanceof Connection) {
+                ((Connection) key.attachment()).close();
+            }
+        }
+        SocketChannel channel;
+        while ((channel = this.accepted.poll()) != null) {
+            new Connection(channel, this.formatter).close();
+        }
+        try {
+            this.selector.close();
+        } catch (IOException e) {
+            // Nothing to do
+        }
+    }
+}
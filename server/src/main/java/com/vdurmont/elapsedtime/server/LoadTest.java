@@ -0,0 +1,179 @@
+package com.vdurmont.elapsedtime.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends batches of timestamps to a server as fast as possible, from several connections that keep a few requests in
+ * flight, and prints the throughput and the latency.
+ *
+ * Run it against a local server:
+ * <pre>
+ * java -jar elapsedtime-server.jar 7878 2 &amp;
+ * java -cp elapsedtime-server.jar com.vdurmont.elapsedtime.server.LoadTest localhost 7878 4 256 16 10
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class LoadTest {
+    private static final String[] LANGUAGES = {"en", "fr", "es"};
+
+    /**
+     * Private constructor. No instance needed.
+     */
+    private LoadTest() {}
+
+    /**
+     * @param args the host, the port, the number of connections, the number of timestamps per request, the number of
+     *             requests in flight per connection and the duration in seconds
+     */
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : ElapsedTimeServer.DEFAULT_PORT;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int batch = args.length > 3 ? Integer.parseInt(args[3]) : 256;
+        int pipeline = args.length > 4 ? Integer.parseInt(args[4]) : 16;
+        int seconds = args.length > 5 ? Integer.parseInt(args[5]) : 10;
+
+        Result result = run(new InetSocketAddress(host, port), connections, batch, pipeline, seconds * 1000L);
+        System.out.println(result);
+    }
+
+    /**
+     * Runs a load test.
+     *
+     * @param address        the address of the server
+     * @param connections    the number of connections, each one in its own thread
+     * @param batch          the number of timestamps per request
+     * @param pipeline       the number of requests in flight per connection
+     * @param durationMillis the duration of the test
+     *
+     * @return the result
+     * @throws java.lang.Exception if a connection fails
+     */
+    public static Result run(final InetSocketAddress address, int connections, final int batch, final int pipeline,
+                             final long durationMillis) throws Exception {
+        final AtomicLong requests = new AtomicLong();
+        final AtomicLong latencyNanos = new AtomicLong();
+        final Exception[] failure = new Exception[1];
+        Thread[] threads = new Thread[connections];
+        final long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            final int seed = i;
+            threads[i] = new Thread("elapsedtime-load-" + i) {
+                @Override public void run() {
+                    try {
+                        runConnection(address, seed, batch, pipeline, start + durationMillis * 1000000L, requests,
+                                latencyNanos);
+                    } catch (Exception e) {
+                        synchronized (failure) {
+                            failure[0] = e;
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        synchronized (failure) {
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+        return new Result(requests.get(), requests.get() * batch, System.nanoTime() - start, latencyNanos.get());
+    }
+
+    private static void runConnection(InetSocketAddress address, int seed, int batch, int pipeline, long deadline,
+                                      AtomicLong requests, AtomicLong latencyNanos) throws IOException {
+        Random random = new Random(seed);
+        long now = System.currentTimeMillis();
+        long[] timestamps = new long[batch];
+        for (int i = 0; i < batch; i++) {
+            // Mostly recent timestamps and a long tail, like an activity feed
+            timestamps[i] = now - (long) (-Math.log(1 - random.nextDouble()) * 6 * 3600 * 1000);
+        }
+        long[] sent = new long[pipeline];
+
+        ElapsedTimeClient client = ElapsedTimeClient.connect(address);
+        try {
+            int id = 0;
+            for (; id < pipeline; id++) {
+                sent[id % pipeline] = System.nanoTime();
+                client.send(id, LANGUAGES[id % LANGUAGES.length], now, timestamps);
+            }
+            client.flush();
+            for (int received = 0; received < id; received++) {
+                ElapsedTimeClient.Response response = client.receive();
+                if (response.isError() || response.getCount() != batch) {
+                    throw new IOException("Unexpected response: " + response.getError());
+                }
+                long time = System.nanoTime();
+                latencyNanos.addAndGet(time - sent[response.getId() % pipeline]);
+                requests.incrementAndGet();
+                if (time < deadline) {
+                    sent[id % pipeline] = time;
+                    client.send(id, LANGUAGES[id % LANGUAGES.length], now, timestamps);
+                    client.flush();
+                    id++;
+                }
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * The result of a load test.
+     */
+    public static final class Result {
+        private final long requests;
+        private final long labels;
+        private final long elapsedNanos;
+        private final long latencyNanos;
+
+        private Result(long requests, long labels, long elapsedNanos, long latencyNanos) {
+            this.requests = requests;
+            this.labels = labels;
+            this.elapsedNanos = elapsedNanos;
+            this.latencyNanos = latencyNanos;
+        }
+
+        /**
+         * @return the number of requests answered
+         */
+        public long getRequests() {
+            return this.requests;
+        }
+
+        /**
+         * @return the number of strings received
+         */
+        public long getLabels() {
+            return this.labels;
+        }
+
+        /**
+         * @return the number of strings received per second
+         */
+        public double getLabelsPerSecond() {
+            return this.labels * 1e9 / this.elapsedNanos;
+        }
+
+        /**
+         * @return the mean time between sending a request and receiving its response, in microseconds
+         */
+        public double getMeanLatencyMicros() {
+            return this.requests == 0 ? 0 : this.latencyNanos / 1e3 / this.requests;
+        }
+
+        @Override public String toString() {
+            return String.format("%d requests, %d labels, %.0f labels/s, %.1f us per label, %.1f us per request",
+                    this.requests, this.labels, getLabelsPerSecond(), 1e6 / getLabelsPerSecond(),
+                    getMeanLatencyMicros());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.vdurmont.elapsedtime.server;
+
+/**
+ * The binary protocol of the {@link ElapsedTimeServer}. All the numbers are big-endian.
+ *
+ * A request frame:
+ * <pre>
+ * int   length      the number of bytes after this field
+ * int   id          echoed in the response
+ * byte  tagLength   the length of the language tag
+ * byte* tag         the language tag in ASCII (e.g.: "en" or "pt-br")
+ * long  now         the present instant in milliseconds since the epoch
+ * int   count       the number of timestamps
+ * long* timestamps  in milliseconds since the epoch
+ * </pre>
+ *
+ * A response frame:
+ * <pre>
+ * int   length      the number of bytes after this field
+ * int   id          the id of the request
+ * byte  status      {@link #STATUS_OK} or {@link #STATUS_ERROR}
+ * OK:    int count, then count times: short length, the UTF-8 bytes of the label
+ * ERROR: short length, the UTF-8 bytes of the message
+ * </pre>
+ *
+ * A client can send several requests without waiting for the responses: they are answered in order.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class Protocol {
+    /**
+     * The maximum length of a frame, length field excluded.
+     */
+    public static final int MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * The maximum number of timestamps in a request.
+     */
+    public static final int MAX_COUNT = (MAX_FRAME_LENGTH - 4 - 1 - 255 - 8 - 4) / 8;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+
+    /**
+     * The number of bytes of the length field.
+     */
+    static final int LENGTH_BYTES = 4;
+
+    /**
+     * The number of bytes of a request before the tag and after it, without the timestamps.
+     */
+    static final int REQUEST_HEADER_BYTES = 4 + 1 + 8 + 4;
+
+    /**
+     * Private constructor. No instance needed.
+     */
+    private Protocol() {}
+}
@@ -0,0 +1,214 @@
+package com.vdurmont.elapsedtime.server;
+
+import com.vdurmont.elapsedtime.ElapsedTime.Locale;
+import com.vdurmont.elapsedtime.ElapsedTimeFormatter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeServerTest {
+    private static final long HOUR = 3600 * 1000;
+    private static final long NOW = 1000000000000L;
+
+    private final ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+    private ElapsedTimeServer server;
+
+    @Before public void setup() throws IOException {
+        this.server = ElapsedTimeServer.start(new InetSocketAddress("localhost", 0), this.formatter, 2);
+    }
+
+    @After public void tearDown() throws IOException {
+        this.server.close();
+    }
+
+    @Test public void format_returns_the_strings_of_the_formatter() throws IOException {
+        long[] timestamps = randomTimestamps(1000, 42);
+
+        ElapsedTimeClient client = ElapsedTimeClient.connect(this.server.getAddress());
+        try {
+            for (Locale locale : Locale.values()) {
+                String[] labels = client.format(locale.getLanguageTag(), NOW, timestamps);
+
+                assertEquals(timestamps.length, labels.length);
+                for (int i = 0; i < timestamps.length; i++) {
+                    assertEquals(this.formatter.format(NOW - timestamps[i], locale), labels[i]);
+                }
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test public void format_prints_the_future_as_moments_ago() throws IOException {
+        ElapsedTimeClient client = ElapsedTimeClient.connect(this.server.getAddress());
+        try {
+            String[] labels = client.format("fr", NOW, new long[]{NOW + HOUR, NOW - 2 * HOUR});
+
+            assertArrayEquals(new String[]{"Il y a quelques instants", "Il y a 2 heures"}, labels);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test public void format_with_a_language_of_the_properties_files() throws IOException {
+        ElapsedTimeClient client = ElapsedTimeClient.connect(this.server.getAddress());
+        try {
+            assertArrayEquals(new String[]{"Vor 2 Stunden"}, client.format("de", NOW, new long[]{NOW - 2 * HOUR}));
+            assertArrayEquals(new String[0], client.format("de", NOW, new long[0]));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test public void pipelined_requests_are_answered_in_order() throws IOException {
+        ElapsedTimeClient client = ElapsedTimeClient.connect(this.server.getAddress());
+        try {
+            for (int id = 0; id < 100; id++) {
+                client.send(id, id % 2 == 0 ? "en" : "es", NOW, new long[]{NOW - id * HOUR});
+            }
+            client.flush();
+
+            for (int id = 0; id < 100; id++) {
+                ElapsedTimeClient.Response response = client.receive();
+                assertEquals(id, response.getId());
+                assertEquals(1, response.getCount());
+                Locale locale = id % 2 == 0 ? Locale.ENGLISH : Locale.SPANISH;
+                assertEquals(this.formatter.format(id * HOUR, locale), response.getLabel(0));
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test public void a_big_request_is_answered() throws IOException {
+        long[] timestamps = randomTimestamps(200000, 7);
+
+        ElapsedTimeClient client = ElapsedTimeClient.connect(this.server.getAddress());
+        try {
+            String[] labels = client.format("es", NOW, timestamps);
+
+            assertEquals(this.formatter.format(NOW - timestamps[199999], Locale.SPANISH), labels[199999]);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test public void an_unknown_language_is_an_error_and_the_connection_stays_open() throws IOException {
+        ElapsedTimeClient client = ElapsedTimeClient.connect(this.server.getAddress());
+        try {
+            client.send(1, "xx", NOW, new long[]{NOW});
+            client.flush();
+            ElapsedTimeClient.Response response = client.receive();
+
+            assertEquals(1, response.getId());
+            assertTrue(response.isError());
+            assertEquals("Unknown language: xx", response.getError());
+            assertArrayEquals(new String[]{"Moments ago"}, client.format("en", NOW, new long[]{NOW}));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test public void an_invalid_frame_closes_the_connection() throws IOException {
+        Socket socket = new Socket();
+        socket.connect(this.server.getAddress());
+        try {
+            OutputStream out = socket.getOutputStream();
+            out.write(ByteBuffer.allocate(4).putInt(-5).array());
+            out.flush();
+
+            assertEquals(-1, socket.getInputStream().read());
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test public void a_frame_split_in_several_writes_is_answered() throws IOException, InterruptedException {
+        ByteBuffer frame = ByteBuffer.allocate(4 + 4 + 1 + 2 + 8 + 4 + 8);
+        frame.putInt(frame.capacity() - 4).putInt(9).put((byte) 2).put((byte) 'e').put((byte) 'n')
+                .putLong(NOW).putInt(1).putLong(NOW - 3 * HOUR);
+        Socket socket = new Socket();
+        socket.connect(this.server.getAddress());
+        try {
+            OutputStream out = socket.getOutputStream();
+            for (byte b : frame.array()) {
+                out.write(b);
+                out.flush();
+            }
+
+            byte[] response = new byte[4 + 4 + 1 + 4 + 2 + "3 hours ago".length()];
+            int read = 0;
+            while (read < response.length) {
+                int n = socket.getInputStream().read(response, read, response.length - read);
+                assertFalse(n < 0);
+                read += n;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(response);
+            assertEquals(response.length - 4, buffer.getInt());
+            assertEquals(9, buffer.getInt());
+            assertEquals(Protocol.STATUS_OK, buffer.get());
+            assertEquals(1, buffer.getInt());
+            assertEquals("3 hours ago".length(), buffer.getShort());
+            assertEquals("3 hours ago", new String(response, buffer.position(), buffer.remaining(), "UTF-8"));
+        } finally {
+            socket.close();
+        }
+    }
+
+    @Test public void close_closes_the_connections() throws IOException {
+        ElapsedTimeClient client = ElapsedTimeClient.connect(this.server.getAddress());
+        try {
+            client.format("en", NOW, new long[]{NOW});
+            this.server.close();
+            this.server = ElapsedTimeServer.start(new InetSocketAddress("localhost", 0), this.formatter, 1);
+
+            client.receive();
+            fail("The connection should be closed");
+        } catch (EOFException e) {
+            // Expected
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test public void load_test_runs_against_the_server() throws Exception {
+        LoadTest.Result result = LoadTest.run(this.server.getAddress(), 2, 64, 4, 200);
+
+        assertTrue(result.getRequests() > 0);
+        assertEquals(result.getRequests() * 64, result.getLabels());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void start_without_thread_fails() throws IOException {
+        ElapsedTimeServer.start(new InetSocketAddress(0), this.formatter, 0);
+    }
+
+    private static long[] randomTimestamps(int count, long seed) {
+        Random random = new Random(seed);
+        long[] timestamps = new long[count];
+        for (int i = 0; i < count; i++) {
+            timestamps[i] = NOW - (long) Math.pow(10, random.nextDouble() * 11);
+        }
+        return timestamps;
+    }
+}
@@ -0,0 +1,3410 @@
+package com.vdurmont.elapsedtime;
+
+import java.util.Arrays;
+
+/**
+ * GENERATED by elapsedtime-codegen (LocaleSourceGenerator) from the properties files of
+ * src/main/resources/com/vdurmont/elapsedtime/locales: do not edit, run
+ * {@code mvn -P generate process-classes} in the codegen directory after changing a file.
+ *
+ * The languages shipped with the library, compiled into the code: their templates are already split around
+ * {num} and encoded in UTF-8, and their plural rules are already evaluated for the values of the table, so
+ * loading one of them reads no resource, looks up no {@link LocaleProvider} and compiles nothing. The tables
+ * of a language are in a nested class, initialized the first time the language is used, or when a native
+ * image is built.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+final class BundledLocales {
+    /**
+     * The tags of the languages, sorted.
+     */
+    static final String[] LANGUAGE_TAGS = {"ar", "de", "en", "es", "fr", "it", "nl", "pl", "pt", "ru"};
+
+    /**
+     * Private constructor. No instance needed.
+     */
+    private BundledLocales() {}
+
+    /**
+     * @param languageTag the language tag, in lower case (e.g.: "de")
+     *
+     * @return true if the language is shipped with the library
+     */
+    static boolean contains(String languageTag) {
+        return Arrays.binarySearch(LANGUAGE_TAGS, languageTag) >= 0;
+    }
+
+    /**
+     * @param languageTag the tag of a language shipped with the library (see {@link #contains(String)})
+     * @param index       the index of the language (see {@link ElapsedTimeLocale#getIndex()})
+     *
+     * @return the strings of the language
+     * @throws java.lang.IllegalArgumentException if the language is not shipped with the library
+     */
+    static ElapsedTimeLocale load(String languageTag, int index) {
+        switch (languageTag) {
+            case "ar":
+                return new ElapsedTimeLocale("ar", index,
+                        PluralRules.precompiled("ar", Ar.PLURAL_RULES, Ar.PLURAL_TABLE),
+                        Ar.STRINGS, Ar.NUMBERS, Ar.PREFIXES, Ar.SUFFIXES,
+                        Ar.ENCODED_PREFIXES, Ar.ENCODED_SUFFIXES);
+            case "de":
+                return new ElapsedTimeLocale("de", index,
+                        PluralRules.precompiled("de", De.PLURAL_RULES, De.PLURAL_TABLE),
+                        De.STRINGS, De.NUMBERS, De.PREFIXES, De.SUFFIXES,
+                        De.ENCODED_PREFIXES, De.ENCODED_SUFFIXES);
+            case "en":
+                return new ElapsedTimeLocale("en", index,
+                        PluralRules.precompiled("en", En.PLURAL_RULES, En.PLURAL_TABLE),
+                        En.STRINGS, En.NUMBERS, En.PREFIXES, En.SUFFIXES,
+                        En.ENCODED_PREFIXES, En.ENCODED_SUFFIXES);
+            case "es":
+                return new ElapsedTimeLocale("es", index,
+                        PluralRules.precompiled("es", Es.PLURAL_RULES, Es.PLURAL_TABLE),
+                        Es.STRINGS, Es.NUMBERS, Es.PREFIXES, Es.SUFFIXES,
+                        Es.ENCODED_PREFIXES, Es.ENCODED_SUFFIXES);
+            case "fr":
+                return new ElapsedTimeLocale("fr", index,
+                        PluralRules.precompiled("fr", Fr.PLURAL_RULES, Fr.PLURAL_TABLE),
+                        Fr.STRINGS, Fr.NUMBERS, Fr.PREFIXES, Fr.SUFFIXES,
+                        Fr.ENCODED_PREFIXES, Fr.ENCODED_SUFFIXES);
+            case "it":
+                return new ElapsedTimeLocale("it", index,
+                        PluralRules.precompiled("it", It.PLURAL_RULES, It.PLURAL_TABLE),
+                        It.STRINGS, It.NUMBERS, It.PREFIXES, It.SUFFIXES,
+                        It.ENCODED_PREFIXES, It.ENCODED_SUFFIXES);
+            case "nl":
+                return new ElapsedTimeLocale("nl", index,
+                        PluralRules.precompiled("nl", Nl.PLURAL_RULES, Nl.PLURAL_TABLE),
+                        Nl.STRINGS, Nl.NUMBERS, Nl.PREFIXES, Nl.SUFFIXES,
+                        Nl.ENCODED_PREFIXES, Nl.ENCODED_SUFFIXES);
+            case "pl":
+                return new ElapsedTimeLocale("pl", index,
+                        PluralRules.precompiled("pl", Pl.PLURAL_RULES, Pl.PLURAL_TABLE),
+                        Pl.STRINGS, Pl.NUMBERS, Pl.PREFIXES, Pl.SUFFIXES,
+                        Pl.ENCODED_PREFIXES, Pl.ENCODED_SUFFIXES);
+            case "pt":
+                return new ElapsedTimeLocale("pt", index,
+                        PluralRules.precompiled("pt", Pt.PLURAL_RULES, Pt.PLURAL_TABLE),
+                        Pt.STRINGS, Pt.NUMBERS, Pt.PREFIXES, Pt.SUFFIXES,
+                        Pt.ENCODED_PREFIXES, Pt.ENCODED_SUFFIXES);
+            case "ru":
+                return new ElapsedTimeLocale("ru", index,
+                        PluralRules.precompiled("ru", Ru.PLURAL_RULES, Ru.PLURAL_TABLE),
+                        Ru.STRINGS, Ru.NUMBERS, Ru.PREFIXES, Ru.SUFFIXES,
+                        Ru.ENCODED_PREFIXES, Ru.ENCODED_SUFFIXES);
+            default:
+                throw new IllegalArgumentException("The language " + languageTag + " is not shipped with the library.");
+        }
+    }
+
+    /**
+     * The tables of ar.properties.
+     */
+    private static final class Ar {
+        static final String[] PLURAL_RULES = {"n = 0", null, "n = 2", "n % 100 = 3..10", "n % 100 = 11..99", null};
+        static final byte[] PLURAL_TABLE = {
+                0, 5, 2, 3, 3, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 3, 3,
+                3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 3, 3, 3, 3, 3, 3, 3,
+                3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 3, 3, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 3, 3, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 3, 3, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 5, 5, 5, 3, 3, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                5, 5, 5, 3, 3, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 3, 3,
+                3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 3, 3, 3, 3, 3, 3, 3,
+                3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4
+        };
+        static final String[] STRINGS = {
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u0646\u0627\u0646\u0648 \u062b\u0648\u0627\u0646\u064d",
+                "\u0645\u0646\u0630 {num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0648\u0627\u0646\u064d",
+                "\u0645\u0646\u0630 {num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u0645\u0644\u064a \u062b\u0648\u0627\u0646\u064d",
+                "\u0645\u0646\u0630 {num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u062b\u0648\u0627\u0646\u064d",
+                "\u0645\u0646\u0630 {num} \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 {num} \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 {num} \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 {num} \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u062f\u0642\u0627\u0626\u0642",
+                "\u0645\u0646\u0630 {num} \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 {num} \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629", "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629", "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629", "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 {num} \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 {num} \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u0633\u0627\u0639\u0627\u062a",
+                "\u0645\u0646\u0630 {num} \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 {num} \u0633\u0627\u0639\u0629", "\u0645\u0646\u0630 \u064a\u0648\u0645",
+                "\u0645\u0646\u0630 \u064a\u0648\u0645", "\u0645\u0646\u0630 \u064a\u0648\u0645",
+                "\u0645\u0646\u0630 \u064a\u0648\u0645", "\u0645\u0646\u0630 \u064a\u0648\u0645",
+                "\u0645\u0646\u0630 \u064a\u0648\u0645", "\u0645\u0646\u0630 {num} \u064a\u0648\u0645",
+                "\u0645\u0646\u0630 {num} \u064a\u0648\u0645", "\u0645\u0646\u0630 \u064a\u0648\u0645\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u0623\u064a\u0627\u0645",
+                "\u0645\u0646\u0630 {num} \u064a\u0648\u0645\u064b\u0627",
+                "\u0645\u0646\u0630 {num} \u064a\u0648\u0645", "\u0645\u0646\u0630 \u0634\u0647\u0631",
+                "\u0645\u0646\u0630 \u0634\u0647\u0631", "\u0645\u0646\u0630 \u0634\u0647\u0631",
+                "\u0645\u0646\u0630 \u0634\u0647\u0631", "\u0645\u0646\u0630 \u0634\u0647\u0631",
+                "\u0645\u0646\u0630 \u0634\u0647\u0631", "\u0645\u0646\u0630 {num} \u0634\u0647\u0631",
+                "\u0645\u0646\u0630 {num} \u0634\u0647\u0631", "\u0645\u0646\u0630 \u0634\u0647\u0631\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u0623\u0634\u0647\u0631",
+                "\u0645\u0646\u0630 {num} \u0634\u0647\u0631\u064b\u0627",
+                "\u0645\u0646\u0630 {num} \u0634\u0647\u0631", "\u0645\u0646\u0630 \u0633\u0646\u0629",
+                "\u0645\u0646\u0630 \u0633\u0646\u0629", "\u0645\u0646\u0630 \u0633\u0646\u0629",
+                "\u0645\u0646\u0630 \u0633\u0646\u0629", "\u0645\u0646\u0630 \u0633\u0646\u0629",
+                "\u0645\u0646\u0630 \u0633\u0646\u0629", "\u0645\u0646\u0630 {num} \u0633\u0646\u0629",
+                "\u0645\u0646\u0630 {num} \u0633\u0646\u0629", "\u0645\u0646\u0630 \u0633\u0646\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 {num} \u0633\u0646\u0648\u0627\u062a",
+                "\u0645\u0646\u0630 {num} \u0633\u0646\u0629", "\u0645\u0646\u0630 {num} \u0633\u0646\u0629",
+                "\u0645\u0646\u0630 {list}", "\u0645\u0646\u0630 {list}", "\u0645\u0646\u0630 {list}",
+                "\u0645\u0646\u0630 {list}", "\u0645\u0646\u0630 {list}", "\u0645\u0646\u0630 {list}", "\u060c ",
+                "\u060c ", "\u060c ", "\u060c ", "\u060c ", "\u060c ", " \u0648", " \u0648", " \u0648", " \u0648",
+                " \u0648", " \u0648",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "{num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u062a\u0627\u0646",
+                "{num} \u0646\u0627\u0646\u0648 \u062b\u0648\u0627\u0646\u064d",
+                "{num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "{num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u062a\u0627\u0646",
+                "{num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0648\u0627\u0646\u064d",
+                "{num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "{num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u062a\u0627\u0646",
+                "{num} \u0645\u0644\u064a \u062b\u0648\u0627\u0646\u064d",
+                "{num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629", "{num} \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u062b\u0627\u0646\u064a\u0629", "\u062b\u0627\u0646\u064a\u062a\u0627\u0646",
+                "{num} \u062b\u0648\u0627\u0646\u064d", "{num} \u062b\u0627\u0646\u064a\u0629",
+                "{num} \u062b\u0627\u0646\u064a\u0629", "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629", "{num} \u062f\u0642\u064a\u0642\u0629",
+                "{num} \u062f\u0642\u064a\u0642\u0629", "\u062f\u0642\u064a\u0642\u062a\u0627\u0646",
+                "{num} \u062f\u0642\u0627\u0626\u0642", "{num} \u062f\u0642\u064a\u0642\u0629",
+                "{num} \u062f\u0642\u064a\u0642\u0629", "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629", "{num} \u0633\u0627\u0639\u0629",
+                "{num} \u0633\u0627\u0639\u0629", "\u0633\u0627\u0639\u062a\u0627\u0646",
+                "{num} \u0633\u0627\u0639\u0627\u062a", "{num} \u0633\u0627\u0639\u0629",
+                "{num} \u0633\u0627\u0639\u0629", "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f",
+                "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f", "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f",
+                "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f", "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f",
+                "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f", "{num} \u064a\u0648\u0645", "{num} \u064a\u0648\u0645",
+                "\u064a\u0648\u0645\u0627\u0646", "{num} \u0623\u064a\u0627\u0645",
+                "{num} \u064a\u0648\u0645\u064b\u0627", "{num} \u064a\u0648\u0645",
+                "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f", "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f",
+                "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f", "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f",
+                "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f", "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f",
+                "{num} \u0634\u0647\u0631", "{num} \u0634\u0647\u0631", "\u0634\u0647\u0631\u0627\u0646",
+                "{num} \u0623\u0634\u0647\u0631", "{num} \u0634\u0647\u0631\u064b\u0627", "{num} \u0634\u0647\u0631",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629", "{num} \u0633\u0646\u0629",
+                "{num} \u0633\u0646\u0629", "\u0633\u0646\u062a\u0627\u0646", "{num} \u0633\u0646\u0648\u0627\u062a",
+                "{num} \u0633\u0646\u0629", "{num} \u0633\u0646\u0629"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, false,
+                true, true, true, false, false, false, false, false, false, true, true, false, true, true, true, false,
+                false, false, false, false, false, true, true, false, true, true, true, false, false, false, false,
+                false, false, true, true, false, true, true, true, false, false, false, false, false, false, true, true,
+                false, true, true, true, false, false, false, false, false, false, true, true, false, true, true, true,
+                false, false, false, false, false, false, true, true, false, true, true, true, false, false, false,
+                false, false, false, true, true, false, true, true, true, false, false, false, false, false, false,
+                true, true, false, true, true, true, true, true, true, true, true, true, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, false, true,
+                true, false, true, true, true, false, false, false, false, false, false, true, true, false, true, true,
+                true, false, false, false, false, false, false, true, true, false, true, true, true, false, false,
+                false, false, false, false, true, true, false, true, true, true, false, false, false, false, false,
+                false, true, true, false, true, true, true, false, false, false, false, false, false, true, true, false,
+                true, true, true, false, false, false, false, false, false, true, true, false, true, true, true, false,
+                false, false, false, false, false, true, true, false, true, true, true, false, false, false, false,
+                false, false, true, true, false, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0644\u062d\u0638\u0627\u062a",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u062a\u064a\u0646",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u0629", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u062b\u0627\u0646\u064a\u062a\u064a\u0646", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u0629", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u062f\u0642\u064a\u0642\u062a\u064a\u0646", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629", "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629", "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u0629", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u0633\u0627\u0639\u062a\u064a\u0646", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 \u064a\u0648\u0645", "\u0645\u0646\u0630 \u064a\u0648\u0645",
+                "\u0645\u0646\u0630 \u064a\u0648\u0645", "\u0645\u0646\u0630 \u064a\u0648\u0645",
+                "\u0645\u0646\u0630 \u064a\u0648\u0645", "\u0645\u0646\u0630 \u064a\u0648\u0645", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 \u064a\u0648\u0645\u064a\u0646", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 \u0634\u0647\u0631",
+                "\u0645\u0646\u0630 \u0634\u0647\u0631", "\u0645\u0646\u0630 \u0634\u0647\u0631",
+                "\u0645\u0646\u0630 \u0634\u0647\u0631", "\u0645\u0646\u0630 \u0634\u0647\u0631",
+                "\u0645\u0646\u0630 \u0634\u0647\u0631", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 \u0634\u0647\u0631\u064a\u0646", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 \u0633\u0646\u0629", "\u0645\u0646\u0630 \u0633\u0646\u0629",
+                "\u0645\u0646\u0630 \u0633\u0646\u0629", "\u0645\u0646\u0630 \u0633\u0646\u0629",
+                "\u0645\u0646\u0630 \u0633\u0646\u0629", "\u0645\u0646\u0630 \u0633\u0646\u0629", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 \u0633\u0646\u062a\u064a\u0646", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ",
+                "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u0645\u0646\u0630 ", "\u060c ",
+                "\u060c ", "\u060c ", "\u060c ", "\u060c ", "\u060c ", " \u0648", " \u0648", " \u0648", " \u0648",
+                " \u0648", " \u0648",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629", "", "",
+                "\u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u062a\u0627\u0646", "", "", "",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629", "", "",
+                "\u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u062a\u0627\u0646", "", "", "",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629", "", "",
+                "\u0645\u0644\u064a \u062b\u0627\u0646\u064a\u062a\u0627\u0646", "", "", "",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062b\u0627\u0646\u064a\u0629 \u0648\u0627\u062d\u062f\u0629", "", "",
+                "\u062b\u0627\u0646\u064a\u062a\u0627\u0646", "", "", "",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u062f\u0642\u064a\u0642\u0629 \u0648\u0627\u062d\u062f\u0629", "", "",
+                "\u062f\u0642\u064a\u0642\u062a\u0627\u0646", "", "", "",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0627\u0639\u0629 \u0648\u0627\u062d\u062f\u0629", "", "",
+                "\u0633\u0627\u0639\u062a\u0627\u0646", "", "", "", "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f",
+                "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f", "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f",
+                "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f", "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f",
+                "\u064a\u0648\u0645 \u0648\u0627\u062d\u062f", "", "", "\u064a\u0648\u0645\u0627\u0646", "", "", "",
+                "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f", "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f",
+                "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f", "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f",
+                "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f", "\u0634\u0647\u0631 \u0648\u0627\u062d\u062f", "", "",
+                "\u0634\u0647\u0631\u0627\u0646", "", "", "", "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629",
+                "\u0633\u0646\u0629 \u0648\u0627\u062d\u062f\u0629", "", "", "\u0633\u0646\u062a\u0627\u0646", "", "",
+                ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629", "",
+                " \u0646\u0627\u0646\u0648 \u062b\u0648\u0627\u0646\u064d",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629", "", "", "", "", "", "",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629", "",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0648\u0627\u0646\u064d",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629", "", "", "", "", "", "",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629", "",
+                " \u0645\u0644\u064a \u062b\u0648\u0627\u0646\u064d",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629", "", "", "", "", "", "",
+                " \u062b\u0627\u0646\u064a\u0629", " \u062b\u0627\u0646\u064a\u0629", "",
+                " \u062b\u0648\u0627\u0646\u064d", " \u062b\u0627\u0646\u064a\u0629", " \u062b\u0627\u0646\u064a\u0629",
+                "", "", "", "", "", "", " \u062f\u0642\u064a\u0642\u0629", " \u062f\u0642\u064a\u0642\u0629", "",
+                " \u062f\u0642\u0627\u0626\u0642", " \u062f\u0642\u064a\u0642\u0629", " \u062f\u0642\u064a\u0642\u0629",
+                "", "", "", "", "", "", " \u0633\u0627\u0639\u0629", " \u0633\u0627\u0639\u0629", "",
+                " \u0633\u0627\u0639\u0627\u062a", " \u0633\u0627\u0639\u0629", " \u0633\u0627\u0639\u0629", "", "", "",
+                "", "", "", " \u064a\u0648\u0645", " \u064a\u0648\u0645", "", " \u0623\u064a\u0627\u0645",
+                " \u064a\u0648\u0645\u064b\u0627", " \u064a\u0648\u0645", "", "", "", "", "", "", " \u0634\u0647\u0631",
+                " \u0634\u0647\u0631", "", " \u0623\u0634\u0647\u0631", " \u0634\u0647\u0631\u064b\u0627",
+                " \u0634\u0647\u0631", "", "", "", "", "", "", " \u0633\u0646\u0629", " \u0633\u0646\u0629", "",
+                " \u0633\u0646\u0648\u0627\u062a", " \u0633\u0646\u0629", " \u0633\u0646\u0629", "", "", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629", "",
+                " \u0646\u0627\u0646\u0648 \u062b\u0648\u0627\u0646\u064d",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0646\u0627\u0646\u0648 \u062b\u0627\u0646\u064a\u0629", "", "", "", "", "", "",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629", "",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0648\u0627\u0646\u064d",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u064a\u0643\u0631\u0648 \u062b\u0627\u0646\u064a\u0629", "", "", "", "", "", "",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629", "",
+                " \u0645\u0644\u064a \u062b\u0648\u0627\u0646\u064d",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629",
+                " \u0645\u0644\u064a \u062b\u0627\u0646\u064a\u0629", "", "", "", "", "", "",
+                " \u062b\u0627\u0646\u064a\u0629", " \u062b\u0627\u0646\u064a\u0629", "",
+                " \u062b\u0648\u0627\u0646\u064d", " \u062b\u0627\u0646\u064a\u0629", " \u062b\u0627\u0646\u064a\u0629",
+                "", "", "", "", "", "", " \u062f\u0642\u064a\u0642\u0629", " \u062f\u0642\u064a\u0642\u0629", "",
+                " \u062f\u0642\u0627\u0626\u0642", " \u062f\u0642\u064a\u0642\u0629", " \u062f\u0642\u064a\u0642\u0629",
+                "", "", "", "", "", "", " \u0633\u0627\u0639\u0629", " \u0633\u0627\u0639\u0629", "",
+                " \u0633\u0627\u0639\u0627\u062a", " \u0633\u0627\u0639\u0629", " \u0633\u0627\u0639\u0629", "", "", "",
+                "", "", "", " \u064a\u0648\u0645", " \u064a\u0648\u0645", "", " \u0623\u064a\u0627\u0645",
+                " \u064a\u0648\u0645\u064b\u0627", " \u064a\u0648\u0645", "", "", "", "", "", "", " \u0634\u0647\u0631",
+                " \u0634\u0647\u0631", "", " \u0623\u0634\u0647\u0631", " \u0634\u0647\u0631\u064b\u0627",
+                " \u0634\u0647\u0631", "", "", "", "", "", "", " \u0633\u0646\u0629", " \u0633\u0646\u0629", "",
+                " \u0633\u0646\u0648\u0627\u062a", " \u0633\u0646\u0629", " \u0633\u0646\u0629"
+        };
+        static final byte[] BYTES_0 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -124, -40, -83, -40, -72, -40, -89, -40, -86
+        };
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -122, -40, -89, -39, -122, -39, -120, 32, -40, -85, -40, -89,
+                -39, -122, -39, -118, -40, -87
+        };
+        static final byte[] BYTES_3 = {-39, -123, -39, -122, -40, -80, 32};
+        static final byte[] BYTES_4 = {
+                32, -39, -122, -40, -89, -39, -122, -39, -120, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -87
+        };
+        static final byte[] BYTES_5 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -122, -40, -89, -39, -122, -39, -120, 32, -40, -85, -40, -89,
+                -39, -122, -39, -118, -40, -86, -39, -118, -39, -122
+        };
+        static final byte[] BYTES_6 = {
+                32, -39, -122, -40, -89, -39, -122, -39, -120, 32, -40, -85, -39, -120, -40, -89, -39, -122, -39, -115
+        };
+        static final byte[] BYTES_7 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -123, -39, -118, -39, -125, -40, -79, -39, -120, 32, -40, -85,
+                -40, -89, -39, -122, -39, -118, -40, -87
+        };
+        static final byte[] BYTES_8 = {
+                32, -39, -123, -39, -118, -39, -125, -40, -79, -39, -120, 32, -40, -85, -40, -89, -39, -122, -39, -118,
+                -40, -87
+        };
+        static final byte[] BYTES_9 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -123, -39, -118, -39, -125, -40, -79, -39, -120, 32, -40, -85,
+                -40, -89, -39, -122, -39, -118, -40, -86, -39, -118, -39, -122
+        };
+        static final byte[] BYTES_10 = {
+                32, -39, -123, -39, -118, -39, -125, -40, -79, -39, -120, 32, -40, -85, -39, -120, -40, -89, -39, -122,
+                -39, -115
+        };
+        static final byte[] BYTES_11 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -123, -39, -124, -39, -118, 32, -40, -85, -40, -89, -39, -122,
+                -39, -118, -40, -87
+        };
+        static final byte[] BYTES_12 = {
+                32, -39, -123, -39, -124, -39, -118, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -87
+        };
+        static final byte[] BYTES_13 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -123, -39, -124, -39, -118, 32, -40, -85, -40, -89, -39, -122,
+                -39, -118, -40, -86, -39, -118, -39, -122
+        };
+        static final byte[] BYTES_14 = {
+                32, -39, -123, -39, -124, -39, -118, 32, -40, -85, -39, -120, -40, -89, -39, -122, -39, -115
+        };
+        static final byte[] BYTES_15 = {
+                -39, -123, -39, -122, -40, -80, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -87
+        };
+        static final byte[] BYTES_16 = {32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -87};
+        static final byte[] BYTES_17 = {
+                -39, -123, -39, -122, -40, -80, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -86, -39, -118, -39,
+                -122
+        };
+        static final byte[] BYTES_18 = {32, -40, -85, -39, -120, -40, -89, -39, -122, -39, -115};
+        static final byte[] BYTES_19 = {
+                -39, -123, -39, -122, -40, -80, 32, -40, -81, -39, -126, -39, -118, -39, -126, -40, -87
+        };
+        static final byte[] BYTES_20 = {32, -40, -81, -39, -126, -39, -118, -39, -126, -40, -87};
+        static final byte[] BYTES_21 = {
+                -39, -123, -39, -122, -40, -80, 32, -40, -81, -39, -126, -39, -118, -39, -126, -40, -86, -39, -118, -39,
+                -122
+        };
+        static final byte[] BYTES_22 = {32, -40, -81, -39, -126, -40, -89, -40, -90, -39, -126};
+        static final byte[] BYTES_23 = {-39, -123, -39, -122, -40, -80, 32, -40, -77, -40, -89, -40, -71, -40, -87};
+        static final byte[] BYTES_24 = {32, -40, -77, -40, -89, -40, -71, -40, -87};
+        static final byte[] BYTES_25 = {
+                -39, -123, -39, -122, -40, -80, 32, -40, -77, -40, -89, -40, -71, -40, -86, -39, -118, -39, -122
+        };
+        static final byte[] BYTES_26 = {32, -40, -77, -40, -89, -40, -71, -40, -89, -40, -86};
+        static final byte[] BYTES_27 = {-39, -123, -39, -122, -40, -80, 32, -39, -118, -39, -120, -39, -123};
+        static final byte[] BYTES_28 = {32, -39, -118, -39, -120, -39, -123};
+        static final byte[] BYTES_29 = {
+                -39, -123, -39, -122, -40, -80, 32, -39, -118, -39, -120, -39, -123, -39, -118, -39, -122
+        };
+        static final byte[] BYTES_30 = {32, -40, -93, -39, -118, -40, -89, -39, -123};
+        static final byte[] BYTES_31 = {32, -39, -118, -39, -120, -39, -123, -39, -117, -40, -89};
+        static final byte[] BYTES_32 = {-39, -123, -39, -122, -40, -80, 32, -40, -76, -39, -121, -40, -79};
+        static final byte[] BYTES_33 = {32, -40, -76, -39, -121, -40, -79};
+        static final byte[] BYTES_34 = {
+                -39, -123, -39, -122, -40, -80, 32, -40, -76, -39, -121, -40, -79, -39, -118, -39, -122
+        };
+        static final byte[] BYTES_35 = {32, -40, -93, -40, -76, -39, -121, -40, -79};
+        static final byte[] BYTES_36 = {32, -40, -76, -39, -121, -40, -79, -39, -117, -40, -89};
+        static final byte[] BYTES_37 = {-39, -123, -39, -122, -40, -80, 32, -40, -77, -39, -122, -40, -87};
+        static final byte[] BYTES_38 = {32, -40, -77, -39, -122, -40, -87};
+        static final byte[] BYTES_39 = {
+                -39, -123, -39, -122, -40, -80, 32, -40, -77, -39, -122, -40, -86, -39, -118, -39, -122
+        };
+        static final byte[] BYTES_40 = {32, -40, -77, -39, -122, -39, -120, -40, -89, -40, -86};
+        static final byte[] BYTES_41 = {-40, -116, 32};
+        static final byte[] BYTES_42 = {32, -39, -120};
+        static final byte[] BYTES_43 = {
+                -39, -122, -40, -89, -39, -122, -39, -120, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -87, 32,
+                -39, -120, -40, -89, -40, -83, -40, -81, -40, -87
+        };
+        static final byte[] BYTES_44 = {
+                -39, -122, -40, -89, -39, -122, -39, -120, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -86, -40,
+                -89, -39, -122
+        };
+        static final byte[] BYTES_45 = {
+                -39, -123, -39, -118, -39, -125, -40, -79, -39, -120, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40,
+                -87, 32, -39, -120, -40, -89, -40, -83, -40, -81, -40, -87
+        };
+        static final byte[] BYTES_46 = {
+                -39, -123, -39, -118, -39, -125, -40, -79, -39, -120, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40,
+                -86, -40, -89, -39, -122
+        };
+        static final byte[] BYTES_47 = {
+                -39, -123, -39, -124, -39, -118, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -87, 32, -39, -120,
+                -40, -89, -40, -83, -40, -81, -40, -87
+        };
+        static final byte[] BYTES_48 = {
+                -39, -123, -39, -124, -39, -118, 32, -40, -85, -40, -89, -39, -122, -39, -118, -40, -86, -40, -89, -39,
+                -122
+        };
+        static final byte[] BYTES_49 = {
+                -40, -85, -40, -89, -39, -122, -39, -118, -40, -87, 32, -39, -120, -40, -89, -40, -83, -40, -81, -40,
+                -87
+        };
+        static final byte[] BYTES_50 = {-40, -85, -40, -89, -39, -122, -39, -118, -40, -86, -40, -89, -39, -122};
+        static final byte[] BYTES_51 = {
+                -40, -81, -39, -126, -39, -118, -39, -126, -40, -87, 32, -39, -120, -40, -89, -40, -83, -40, -81, -40,
+                -87
+        };
+        static final byte[] BYTES_52 = {-40, -81, -39, -126, -39, -118, -39, -126, -40, -86, -40, -89, -39, -122};
+        static final byte[] BYTES_53 = {
+                -40, -77, -40, -89, -40, -71, -40, -87, 32, -39, -120, -40, -89, -40, -83, -40, -81, -40, -87
+        };
+        static final byte[] BYTES_54 = {-40, -77, -40, -89, -40, -71, -40, -86, -40, -89, -39, -122};
+        static final byte[] BYTES_55 = {-39, -118, -39, -120, -39, -123, 32, -39, -120, -40, -89, -40, -83, -40, -81};
+        static final byte[] BYTES_56 = {-39, -118, -39, -120, -39, -123, -40, -89, -39, -122};
+        static final byte[] BYTES_57 = {-40, -76, -39, -121, -40, -79, 32, -39, -120, -40, -89, -40, -83, -40, -81};
+        static final byte[] BYTES_58 = {-40, -76, -39, -121, -40, -79, -40, -89, -39, -122};
+        static final byte[] BYTES_59 = {
+                -40, -77, -39, -122, -40, -87, 32, -39, -120, -40, -89, -40, -83, -40, -81, -40, -87
+        };
+        static final byte[] BYTES_60 = {-40, -77, -39, -122, -40, -86, -40, -89, -39, -122};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_3, BYTES_3, BYTES_5, BYTES_3, BYTES_3, BYTES_3, BYTES_7, BYTES_7, BYTES_7, BYTES_7,
+                BYTES_7, BYTES_7, BYTES_3, BYTES_3, BYTES_9, BYTES_3, BYTES_3, BYTES_3, BYTES_11, BYTES_11, BYTES_11,
+                BYTES_11, BYTES_11, BYTES_11, BYTES_3, BYTES_3, BYTES_13, BYTES_3, BYTES_3, BYTES_3, BYTES_15, BYTES_15,
+                BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_3, BYTES_3, BYTES_17, BYTES_3, BYTES_3, BYTES_3, BYTES_19,
+                BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_3, BYTES_3, BYTES_21, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_3, BYTES_3, BYTES_25, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_3, BYTES_3,
+                BYTES_29, BYTES_3, BYTES_3, BYTES_3, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32,
+                BYTES_3, BYTES_3, BYTES_34, BYTES_3, BYTES_3, BYTES_3, BYTES_37, BYTES_37, BYTES_37, BYTES_37, BYTES_37,
+                BYTES_37, BYTES_3, BYTES_3, BYTES_39, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_41, BYTES_41, BYTES_41, BYTES_41, BYTES_41, BYTES_41, BYTES_42, BYTES_42,
+                BYTES_42, BYTES_42, BYTES_42, BYTES_42, BYTES_43, BYTES_43, BYTES_43, BYTES_43, BYTES_43, BYTES_43,
+                BYTES_1, BYTES_1, BYTES_44, BYTES_1, BYTES_1, BYTES_1, BYTES_45, BYTES_45, BYTES_45, BYTES_45, BYTES_45,
+                BYTES_45, BYTES_1, BYTES_1, BYTES_46, BYTES_1, BYTES_1, BYTES_1, BYTES_47, BYTES_47, BYTES_47, BYTES_47,
+                BYTES_47, BYTES_47, BYTES_1, BYTES_1, BYTES_48, BYTES_1, BYTES_1, BYTES_1, BYTES_49, BYTES_49, BYTES_49,
+                BYTES_49, BYTES_49, BYTES_49, BYTES_1, BYTES_1, BYTES_50, BYTES_1, BYTES_1, BYTES_1, BYTES_51, BYTES_51,
+                BYTES_51, BYTES_51, BYTES_51, BYTES_51, BYTES_1, BYTES_1, BYTES_52, BYTES_1, BYTES_1, BYTES_1, BYTES_53,
+                BYTES_53, BYTES_53, BYTES_53, BYTES_53, BYTES_53, BYTES_1, BYTES_1, BYTES_54, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_55, BYTES_55, BYTES_55, BYTES_55, BYTES_55, BYTES_55, BYTES_1, BYTES_1, BYTES_56, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_57, BYTES_57, BYTES_57, BYTES_57, BYTES_57, BYTES_57, BYTES_1, BYTES_1,
+                BYTES_58, BYTES_1, BYTES_1, BYTES_1, BYTES_59, BYTES_59, BYTES_59, BYTES_59, BYTES_59, BYTES_59,
+                BYTES_1, BYTES_1, BYTES_60, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_4, BYTES_4, BYTES_1, BYTES_6, BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_1, BYTES_10, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_12, BYTES_12, BYTES_1, BYTES_14, BYTES_12, BYTES_12, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_1, BYTES_18, BYTES_16, BYTES_16, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20, BYTES_1, BYTES_22, BYTES_20, BYTES_20,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_1, BYTES_26, BYTES_24,
+                BYTES_24, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28, BYTES_1, BYTES_30,
+                BYTES_31, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_33, BYTES_33, BYTES_1,
+                BYTES_35, BYTES_36, BYTES_33, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_38, BYTES_38,
+                BYTES_1, BYTES_40, BYTES_38, BYTES_38, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_1, BYTES_6, BYTES_4,
+                BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_1, BYTES_10,
+                BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12, BYTES_12, BYTES_1,
+                BYTES_14, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_16, BYTES_16,
+                BYTES_1, BYTES_18, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_20,
+                BYTES_20, BYTES_1, BYTES_22, BYTES_20, BYTES_20, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_24, BYTES_24, BYTES_1, BYTES_26, BYTES_24, BYTES_24, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_28, BYTES_28, BYTES_1, BYTES_30, BYTES_31, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_33, BYTES_33, BYTES_1, BYTES_35, BYTES_36, BYTES_33, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_38, BYTES_38, BYTES_1, BYTES_40, BYTES_38, BYTES_38
+        };
+    }
+
+    /**
+     * The tables of de.properties.
+     */
+    private static final class De {
+        static final String[] PLURAL_RULES = {null, null, null, null, null, null};
+        static final byte[] PLURAL_TABLE = {
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+        };
+        static final String[] STRINGS = {
+                "Gerade eben", "Gerade eben", "Gerade eben", "Gerade eben", "Gerade eben", "Gerade eben",
+                "Vor 1 Nanosekunde", "Vor 1 Nanosekunde", "Vor 1 Nanosekunde", "Vor 1 Nanosekunde", "Vor 1 Nanosekunde",
+                "Vor 1 Nanosekunde", "Vor {num} Nanosekunden", "Vor {num} Nanosekunden", "Vor {num} Nanosekunden",
+                "Vor {num} Nanosekunden", "Vor {num} Nanosekunden", "Vor {num} Nanosekunden", "Vor 1 Mikrosekunde",
+                "Vor 1 Mikrosekunde", "Vor 1 Mikrosekunde", "Vor 1 Mikrosekunde", "Vor 1 Mikrosekunde",
+                "Vor 1 Mikrosekunde", "Vor {num} Mikrosekunden", "Vor {num} Mikrosekunden", "Vor {num} Mikrosekunden",
+                "Vor {num} Mikrosekunden", "Vor {num} Mikrosekunden", "Vor {num} Mikrosekunden", "Vor 1 Millisekunde",
+                "Vor 1 Millisekunde", "Vor 1 Millisekunde", "Vor 1 Millisekunde", "Vor 1 Millisekunde",
+                "Vor 1 Millisekunde", "Vor {num} Millisekunden", "Vor {num} Millisekunden", "Vor {num} Millisekunden",
+                "Vor {num} Millisekunden", "Vor {num} Millisekunden", "Vor {num} Millisekunden", "Vor 1 Sekunde",
+                "Vor 1 Sekunde", "Vor 1 Sekunde", "Vor 1 Sekunde", "Vor 1 Sekunde", "Vor 1 Sekunde",
+                "Vor {num} Sekunden", "Vor {num} Sekunden", "Vor {num} Sekunden", "Vor {num} Sekunden",
+                "Vor {num} Sekunden", "Vor {num} Sekunden", "Vor 1 Minute", "Vor 1 Minute", "Vor 1 Minute",
+                "Vor 1 Minute", "Vor 1 Minute", "Vor 1 Minute", "Vor {num} Minuten", "Vor {num} Minuten",
+                "Vor {num} Minuten", "Vor {num} Minuten", "Vor {num} Minuten", "Vor {num} Minuten", "Vor 1 Stunde",
+                "Vor 1 Stunde", "Vor 1 Stunde", "Vor 1 Stunde", "Vor 1 Stunde", "Vor 1 Stunde", "Vor {num} Stunden",
+                "Vor {num} Stunden", "Vor {num} Stunden", "Vor {num} Stunden", "Vor {num} Stunden", "Vor {num} Stunden",
+                "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor {num} Tagen",
+                "Vor {num} Tagen", "Vor {num} Tagen", "Vor {num} Tagen", "Vor {num} Tagen", "Vor {num} Tagen",
+                "Vor 1 Monat", "Vor 1 Monat", "Vor 1 Monat", "Vor 1 Monat", "Vor 1 Monat", "Vor 1 Monat",
+                "Vor {num} Monaten", "Vor {num} Monaten", "Vor {num} Monaten", "Vor {num} Monaten", "Vor {num} Monaten",
+                "Vor {num} Monaten", "Vor 1 Jahr", "Vor 1 Jahr", "Vor 1 Jahr", "Vor 1 Jahr", "Vor 1 Jahr", "Vor 1 Jahr",
+                "Vor {num} Jahren", "Vor {num} Jahren", "Vor {num} Jahren", "Vor {num} Jahren", "Vor {num} Jahren",
+                "Vor {num} Jahren", "Vor {list}", "Vor {list}", "Vor {list}", "Vor {list}", "Vor {list}", "Vor {list}",
+                ", ", ", ", ", ", ", ", ", ", ", ", " und ", " und ", " und ", " und ", " und ", " und ",
+                "1 Nanosekunde", "1 Nanosekunde", "1 Nanosekunde", "1 Nanosekunde", "1 Nanosekunde", "1 Nanosekunde",
+                "{num} Nanosekunden", "{num} Nanosekunden", "{num} Nanosekunden", "{num} Nanosekunden",
+                "{num} Nanosekunden", "{num} Nanosekunden", "1 Mikrosekunde", "1 Mikrosekunde", "1 Mikrosekunde",
+                "1 Mikrosekunde", "1 Mikrosekunde", "1 Mikrosekunde", "{num} Mikrosekunden", "{num} Mikrosekunden",
+                "{num} Mikrosekunden", "{num} Mikrosekunden", "{num} Mikrosekunden", "{num} Mikrosekunden",
+                "1 Millisekunde", "1 Millisekunde", "1 Millisekunde", "1 Millisekunde", "1 Millisekunde",
+                "1 Millisekunde", "{num} Millisekunden", "{num} Millisekunden", "{num} Millisekunden",
+                "{num} Millisekunden", "{num} Millisekunden", "{num} Millisekunden", "1 Sekunde", "1 Sekunde",
+                "1 Sekunde", "1 Sekunde", "1 Sekunde", "1 Sekunde", "{num} Sekunden", "{num} Sekunden",
+                "{num} Sekunden", "{num} Sekunden", "{num} Sekunden", "{num} Sekunden", "1 Minute", "1 Minute",
+                "1 Minute", "1 Minute", "1 Minute", "1 Minute", "{num} Minuten", "{num} Minuten", "{num} Minuten",
+                "{num} Minuten", "{num} Minuten", "{num} Minuten", "1 Stunde", "1 Stunde", "1 Stunde", "1 Stunde",
+                "1 Stunde", "1 Stunde", "{num} Stunden", "{num} Stunden", "{num} Stunden", "{num} Stunden",
+                "{num} Stunden", "{num} Stunden", "1 Tag", "1 Tag", "1 Tag", "1 Tag", "1 Tag", "1 Tag", "{num} Tagen",
+                "{num} Tagen", "{num} Tagen", "{num} Tagen", "{num} Tagen", "{num} Tagen", "1 Monat", "1 Monat",
+                "1 Monat", "1 Monat", "1 Monat", "1 Monat", "{num} Monaten", "{num} Monaten", "{num} Monaten",
+                "{num} Monaten", "{num} Monaten", "{num} Monaten", "1 Jahr", "1 Jahr", "1 Jahr", "1 Jahr", "1 Jahr",
+                "1 Jahr", "{num} Jahren", "{num} Jahren", "{num} Jahren", "{num} Jahren", "{num} Jahren", "{num} Jahren"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "Gerade eben", "Gerade eben", "Gerade eben", "Gerade eben", "Gerade eben", "Gerade eben",
+                "Vor 1 Nanosekunde", "Vor 1 Nanosekunde", "Vor 1 Nanosekunde", "Vor 1 Nanosekunde", "Vor 1 Nanosekunde",
+                "Vor 1 Nanosekunde", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor 1 Mikrosekunde",
+                "Vor 1 Mikrosekunde", "Vor 1 Mikrosekunde", "Vor 1 Mikrosekunde", "Vor 1 Mikrosekunde",
+                "Vor 1 Mikrosekunde", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor 1 Millisekunde",
+                "Vor 1 Millisekunde", "Vor 1 Millisekunde", "Vor 1 Millisekunde", "Vor 1 Millisekunde",
+                "Vor 1 Millisekunde", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor 1 Sekunde", "Vor 1 Sekunde",
+                "Vor 1 Sekunde", "Vor 1 Sekunde", "Vor 1 Sekunde", "Vor 1 Sekunde", "Vor ", "Vor ", "Vor ", "Vor ",
+                "Vor ", "Vor ", "Vor 1 Minute", "Vor 1 Minute", "Vor 1 Minute", "Vor 1 Minute", "Vor 1 Minute",
+                "Vor 1 Minute", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor 1 Stunde", "Vor 1 Stunde",
+                "Vor 1 Stunde", "Vor 1 Stunde", "Vor 1 Stunde", "Vor 1 Stunde", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ",
+                "Vor ", "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor 1 Tag", "Vor ", "Vor ",
+                "Vor ", "Vor ", "Vor ", "Vor ", "Vor 1 Monat", "Vor 1 Monat", "Vor 1 Monat", "Vor 1 Monat",
+                "Vor 1 Monat", "Vor 1 Monat", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor 1 Jahr",
+                "Vor 1 Jahr", "Vor 1 Jahr", "Vor 1 Jahr", "Vor 1 Jahr", "Vor 1 Jahr", "Vor ", "Vor ", "Vor ", "Vor ",
+                "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", "Vor ", ", ", ", ", ", ", ", ", ", ", ", ",
+                " und ", " und ", " und ", " und ", " und ", " und ", "1 Nanosekunde", "1 Nanosekunde", "1 Nanosekunde",
+                "1 Nanosekunde", "1 Nanosekunde", "1 Nanosekunde", "", "", "", "", "", "", "1 Mikrosekunde",
+                "1 Mikrosekunde", "1 Mikrosekunde", "1 Mikrosekunde", "1 Mikrosekunde", "1 Mikrosekunde", "", "", "",
+                "", "", "", "1 Millisekunde", "1 Millisekunde", "1 Millisekunde", "1 Millisekunde", "1 Millisekunde",
+                "1 Millisekunde", "", "", "", "", "", "", "1 Sekunde", "1 Sekunde", "1 Sekunde", "1 Sekunde",
+                "1 Sekunde", "1 Sekunde", "", "", "", "", "", "", "1 Minute", "1 Minute", "1 Minute", "1 Minute",
+                "1 Minute", "1 Minute", "", "", "", "", "", "", "1 Stunde", "1 Stunde", "1 Stunde", "1 Stunde",
+                "1 Stunde", "1 Stunde", "", "", "", "", "", "", "1 Tag", "1 Tag", "1 Tag", "1 Tag", "1 Tag", "1 Tag",
+                "", "", "", "", "", "", "1 Monat", "1 Monat", "1 Monat", "1 Monat", "1 Monat", "1 Monat", "", "", "",
+                "", "", "", "1 Jahr", "1 Jahr", "1 Jahr", "1 Jahr", "1 Jahr", "1 Jahr", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " Nanosekunden", " Nanosekunden", " Nanosekunden",
+                " Nanosekunden", " Nanosekunden", " Nanosekunden", "", "", "", "", "", "", " Mikrosekunden",
+                " Mikrosekunden", " Mikrosekunden", " Mikrosekunden", " Mikrosekunden", " Mikrosekunden", "", "", "",
+                "", "", "", " Millisekunden", " Millisekunden", " Millisekunden", " Millisekunden", " Millisekunden",
+                " Millisekunden", "", "", "", "", "", "", " Sekunden", " Sekunden", " Sekunden", " Sekunden",
+                " Sekunden", " Sekunden", "", "", "", "", "", "", " Minuten", " Minuten", " Minuten", " Minuten",
+                " Minuten", " Minuten", "", "", "", "", "", "", " Stunden", " Stunden", " Stunden", " Stunden",
+                " Stunden", " Stunden", "", "", "", "", "", "", " Tagen", " Tagen", " Tagen", " Tagen", " Tagen",
+                " Tagen", "", "", "", "", "", "", " Monaten", " Monaten", " Monaten", " Monaten", " Monaten",
+                " Monaten", "", "", "", "", "", "", " Jahren", " Jahren", " Jahren", " Jahren", " Jahren", " Jahren",
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+                " Nanosekunden", " Nanosekunden", " Nanosekunden", " Nanosekunden", " Nanosekunden", " Nanosekunden",
+                "", "", "", "", "", "", " Mikrosekunden", " Mikrosekunden", " Mikrosekunden", " Mikrosekunden",
+                " Mikrosekunden", " Mikrosekunden", "", "", "", "", "", "", " Millisekunden", " Millisekunden",
+                " Millisekunden", " Millisekunden", " Millisekunden", " Millisekunden", "", "", "", "", "", "",
+                " Sekunden", " Sekunden", " Sekunden", " Sekunden", " Sekunden", " Sekunden", "", "", "", "", "", "",
+                " Minuten", " Minuten", " Minuten", " Minuten", " Minuten", " Minuten", "", "", "", "", "", "",
+                " Stunden", " Stunden", " Stunden", " Stunden", " Stunden", " Stunden", "", "", "", "", "", "",
+                " Tagen", " Tagen", " Tagen", " Tagen", " Tagen", " Tagen", "", "", "", "", "", "", " Monaten",
+                " Monaten", " Monaten", " Monaten", " Monaten", " Monaten", "", "", "", "", "", "", " Jahren",
+                " Jahren", " Jahren", " Jahren", " Jahren", " Jahren"
+        };
+        static final byte[] BYTES_0 = {71, 101, 114, 97, 100, 101, 32, 101, 98, 101, 110};
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {86, 111, 114, 32, 49, 32, 78, 97, 110, 111, 115, 101, 107, 117, 110, 100, 101};
+        static final byte[] BYTES_3 = {86, 111, 114, 32};
+        static final byte[] BYTES_4 = {32, 78, 97, 110, 111, 115, 101, 107, 117, 110, 100, 101, 110};
+        static final byte[] BYTES_5 = {
+                86, 111, 114, 32, 49, 32, 77, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, 101
+        };
+        static final byte[] BYTES_6 = {32, 77, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, 101, 110};
+        static final byte[] BYTES_7 = {
+                86, 111, 114, 32, 49, 32, 77, 105, 108, 108, 105, 115, 101, 107, 117, 110, 100, 101
+        };
+        static final byte[] BYTES_8 = {32, 77, 105, 108, 108, 105, 115, 101, 107, 117, 110, 100, 101, 110};
+        static final byte[] BYTES_9 = {86, 111, 114, 32, 49, 32, 83, 101, 107, 117, 110, 100, 101};
+        static final byte[] BYTES_10 = {32, 83, 101, 107, 117, 110, 100, 101, 110};
+        static final byte[] BYTES_11 = {86, 111, 114, 32, 49, 32, 77, 105, 110, 117, 116, 101};
+        static final byte[] BYTES_12 = {32, 77, 105, 110, 117, 116, 101, 110};
+        static final byte[] BYTES_13 = {86, 111, 114, 32, 49, 32, 83, 116, 117, 110, 100, 101};
+        static final byte[] BYTES_14 = {32, 83, 116, 117, 110, 100, 101, 110};
+        static final byte[] BYTES_15 = {86, 111, 114, 32, 49, 32, 84, 97, 103};
+        static final byte[] BYTES_16 = {32, 84, 97, 103, 101, 110};
+        static final byte[] BYTES_17 = {86, 111, 114, 32, 49, 32, 77, 111, 110, 97, 116};
+        static final byte[] BYTES_18 = {32, 77, 111, 110, 97, 116, 101, 110};
+        static final byte[] BYTES_19 = {86, 111, 114, 32, 49, 32, 74, 97, 104, 114};
+        static final byte[] BYTES_20 = {32, 74, 97, 104, 114, 101, 110};
+        static final byte[] BYTES_21 = {44, 32};
+        static final byte[] BYTES_22 = {32, 117, 110, 100, 32};
+        static final byte[] BYTES_23 = {49, 32, 78, 97, 110, 111, 115, 101, 107, 117, 110, 100, 101};
+        static final byte[] BYTES_24 = {49, 32, 77, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, 101};
+        static final byte[] BYTES_25 = {49, 32, 77, 105, 108, 108, 105, 115, 101, 107, 117, 110, 100, 101};
+        static final byte[] BYTES_26 = {49, 32, 83, 101, 107, 117, 110, 100, 101};
+        static final byte[] BYTES_27 = {49, 32, 77, 105, 110, 117, 116, 101};
+        static final byte[] BYTES_28 = {49, 32, 83, 116, 117, 110, 100, 101};
+        static final byte[] BYTES_29 = {49, 32, 84, 97, 103};
+        static final byte[] BYTES_30 = {49, 32, 77, 111, 110, 97, 116};
+        static final byte[] BYTES_31 = {49, 32, 74, 97, 104, 114};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_5, BYTES_5, BYTES_5, BYTES_5,
+                BYTES_5, BYTES_5, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_7, BYTES_7, BYTES_7,
+                BYTES_7, BYTES_7, BYTES_7, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_9, BYTES_9,
+                BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_11,
+                BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_21,
+                BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22,
+                BYTES_22, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27,
+                BYTES_27, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_29, BYTES_29, BYTES_29,
+                BYTES_29, BYTES_29, BYTES_29, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_30, BYTES_30,
+                BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31,
+                BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14,
+                BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16,
+                BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18,
+                BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20,
+                BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4,
+                BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12,
+                BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20
+        };
+    }
+
+    /**
+     * The tables of en.properties.
+     */
+    private static final class En {
+        static final String[] PLURAL_RULES = {null, null, null, null, null, null};
+        static final byte[] PLURAL_TABLE = {
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+        };
+        static final String[] STRINGS = {
+                "Moments ago", "Moments ago", "Moments ago", "Moments ago", "Moments ago", "Moments ago",
+                "1 nanosecond ago", "1 nanosecond ago", "1 nanosecond ago", "1 nanosecond ago", "1 nanosecond ago",
+                "1 nanosecond ago", "{num} nanoseconds ago", "{num} nanoseconds ago", "{num} nanoseconds ago",
+                "{num} nanoseconds ago", "{num} nanoseconds ago", "{num} nanoseconds ago", "1 microsecond ago",
+                "1 microsecond ago", "1 microsecond ago", "1 microsecond ago", "1 microsecond ago", "1 microsecond ago",
+                "{num} microseconds ago", "{num} microseconds ago", "{num} microseconds ago", "{num} microseconds ago",
+                "{num} microseconds ago", "{num} microseconds ago", "1 millisecond ago", "1 millisecond ago",
+                "1 millisecond ago", "1 millisecond ago", "1 millisecond ago", "1 millisecond ago",
+                "{num} milliseconds ago", "{num} milliseconds ago", "{num} milliseconds ago", "{num} milliseconds ago",
+                "{num} milliseconds ago", "{num} milliseconds ago", "1 second ago", "1 second ago", "1 second ago",
+                "1 second ago", "1 second ago", "1 second ago", "{num} seconds ago", "{num} seconds ago",
+                "{num} seconds ago", "{num} seconds ago", "{num} seconds ago", "{num} seconds ago", "1 minute ago",
+                "1 minute ago", "1 minute ago", "1 minute ago", "1 minute ago", "1 minute ago", "{num} minutes ago",
+                "{num} minutes ago", "{num} minutes ago", "{num} minutes ago", "{num} minutes ago", "{num} minutes ago",
+                "1 hour ago", "1 hour ago", "1 hour ago", "1 hour ago", "1 hour ago", "1 hour ago", "{num} hours ago",
+                "{num} hours ago", "{num} hours ago", "{num} hours ago", "{num} hours ago", "{num} hours ago",
+                "1 day ago", "1 day ago", "1 day ago", "1 day ago", "1 day ago", "1 day ago", "{num} days ago",
+                "{num} days ago", "{num} days ago", "{num} days ago", "{num} days ago", "{num} days ago", "1 month ago",
+                "1 month ago", "1 month ago", "1 month ago", "1 month ago", "1 month ago", "{num} months ago",
+                "{num} months ago", "{num} months ago", "{num} months ago", "{num} months ago", "{num} months ago",
+                "1 year ago", "1 year ago", "1 year ago", "1 year ago", "1 year ago", "1 year ago", "{num} years ago",
+                "{num} years ago", "{num} years ago", "{num} years ago", "{num} years ago", "{num} years ago",
+                "{list} ago", "{list} ago", "{list} ago", "{list} ago", "{list} ago", "{list} ago", ", ", ", ", ", ",
+                ", ", ", ", ", ", " and ", " and ", " and ", " and ", " and ", " and ", "1 nanosecond", "1 nanosecond",
+                "1 nanosecond", "1 nanosecond", "1 nanosecond", "1 nanosecond", "{num} nanoseconds",
+                "{num} nanoseconds", "{num} nanoseconds", "{num} nanoseconds", "{num} nanoseconds", "{num} nanoseconds",
+                "1 microsecond", "1 microsecond", "1 microsecond", "1 microsecond", "1 microsecond", "1 microsecond",
+                "{num} microseconds", "{num} microseconds", "{num} microseconds", "{num} microseconds",
+                "{num} microseconds", "{num} microseconds", "1 millisecond", "1 millisecond", "1 millisecond",
+                "1 millisecond", "1 millisecond", "1 millisecond", "{num} milliseconds", "{num} milliseconds",
+                "{num} milliseconds", "{num} milliseconds", "{num} milliseconds", "{num} milliseconds", "1 second",
+                "1 second", "1 second", "1 second", "1 second", "1 second", "{num} seconds", "{num} seconds",
+                "{num} seconds", "{num} seconds", "{num} seconds", "{num} seconds", "1 minute", "1 minute", "1 minute",
+                "1 minute", "1 minute", "1 minute", "{num} minutes", "{num} minutes", "{num} minutes", "{num} minutes",
+                "{num} minutes", "{num} minutes", "1 hour", "1 hour", "1 hour", "1 hour", "1 hour", "1 hour",
+                "{num} hours", "{num} hours", "{num} hours", "{num} hours", "{num} hours", "{num} hours", "1 day",
+                "1 day", "1 day", "1 day", "1 day", "1 day", "{num} days", "{num} days", "{num} days", "{num} days",
+                "{num} days", "{num} days", "1 month", "1 month", "1 month", "1 month", "1 month", "1 month",
+                "{num} months", "{num} months", "{num} months", "{num} months", "{num} months", "{num} months",
+                "1 year", "1 year", "1 year", "1 year", "1 year", "1 year", "{num} years", "{num} years", "{num} years",
+                "{num} years", "{num} years", "{num} years"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "Moments ago", "Moments ago", "Moments ago", "Moments ago", "Moments ago", "Moments ago",
+                "1 nanosecond ago", "1 nanosecond ago", "1 nanosecond ago", "1 nanosecond ago", "1 nanosecond ago",
+                "1 nanosecond ago", "", "", "", "", "", "", "1 microsecond ago", "1 microsecond ago",
+                "1 microsecond ago", "1 microsecond ago", "1 microsecond ago", "1 microsecond ago", "", "", "", "", "",
+                "", "1 millisecond ago", "1 millisecond ago", "1 millisecond ago", "1 millisecond ago",
+                "1 millisecond ago", "1 millisecond ago", "", "", "", "", "", "", "1 second ago", "1 second ago",
+                "1 second ago", "1 second ago", "1 second ago", "1 second ago", "", "", "", "", "", "", "1 minute ago",
+                "1 minute ago", "1 minute ago", "1 minute ago", "1 minute ago", "1 minute ago", "", "", "", "", "", "",
+                "1 hour ago", "1 hour ago", "1 hour ago", "1 hour ago", "1 hour ago", "1 hour ago", "", "", "", "", "",
+                "", "1 day ago", "1 day ago", "1 day ago", "1 day ago", "1 day ago", "1 day ago", "", "", "", "", "",
+                "", "1 month ago", "1 month ago", "1 month ago", "1 month ago", "1 month ago", "1 month ago", "", "",
+                "", "", "", "", "1 year ago", "1 year ago", "1 year ago", "1 year ago", "1 year ago", "1 year ago", "",
+                "", "", "", "", "", "", "", "", "", "", "", ", ", ", ", ", ", ", ", ", ", ", ", " and ", " and ",
+                " and ", " and ", " and ", " and ", "1 nanosecond", "1 nanosecond", "1 nanosecond", "1 nanosecond",
+                "1 nanosecond", "1 nanosecond", "", "", "", "", "", "", "1 microsecond", "1 microsecond",
+                "1 microsecond", "1 microsecond", "1 microsecond", "1 microsecond", "", "", "", "", "", "",
+                "1 millisecond", "1 millisecond", "1 millisecond", "1 millisecond", "1 millisecond", "1 millisecond",
+                "", "", "", "", "", "", "1 second", "1 second", "1 second", "1 second", "1 second", "1 second", "", "",
+                "", "", "", "", "1 minute", "1 minute", "1 minute", "1 minute", "1 minute", "1 minute", "", "", "", "",
+                "", "", "1 hour", "1 hour", "1 hour", "1 hour", "1 hour", "1 hour", "", "", "", "", "", "", "1 day",
+                "1 day", "1 day", "1 day", "1 day", "1 day", "", "", "", "", "", "", "1 month", "1 month", "1 month",
+                "1 month", "1 month", "1 month", "", "", "", "", "", "", "1 year", "1 year", "1 year", "1 year",
+                "1 year", "1 year", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanoseconds ago", " nanoseconds ago",
+                " nanoseconds ago", " nanoseconds ago", " nanoseconds ago", " nanoseconds ago", "", "", "", "", "", "",
+                " microseconds ago", " microseconds ago", " microseconds ago", " microseconds ago", " microseconds ago",
+                " microseconds ago", "", "", "", "", "", "", " milliseconds ago", " milliseconds ago",
+                " milliseconds ago", " milliseconds ago", " milliseconds ago", " milliseconds ago", "", "", "", "", "",
+                "", " seconds ago", " seconds ago", " seconds ago", " seconds ago", " seconds ago", " seconds ago", "",
+                "", "", "", "", "", " minutes ago", " minutes ago", " minutes ago", " minutes ago", " minutes ago",
+                " minutes ago", "", "", "", "", "", "", " hours ago", " hours ago", " hours ago", " hours ago",
+                " hours ago", " hours ago", "", "", "", "", "", "", " days ago", " days ago", " days ago", " days ago",
+                " days ago", " days ago", "", "", "", "", "", "", " months ago", " months ago", " months ago",
+                " months ago", " months ago", " months ago", "", "", "", "", "", "", " years ago", " years ago",
+                " years ago", " years ago", " years ago", " years ago", " ago", " ago", " ago", " ago", " ago", " ago",
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", " nanoseconds", " nanoseconds",
+                " nanoseconds", " nanoseconds", " nanoseconds", " nanoseconds", "", "", "", "", "", "", " microseconds",
+                " microseconds", " microseconds", " microseconds", " microseconds", " microseconds", "", "", "", "", "",
+                "", " milliseconds", " milliseconds", " milliseconds", " milliseconds", " milliseconds",
+                " milliseconds", "", "", "", "", "", "", " seconds", " seconds", " seconds", " seconds", " seconds",
+                " seconds", "", "", "", "", "", "", " minutes", " minutes", " minutes", " minutes", " minutes",
+                " minutes", "", "", "", "", "", "", " hours", " hours", " hours", " hours", " hours", " hours", "", "",
+                "", "", "", "", " days", " days", " days", " days", " days", " days", "", "", "", "", "", "", " months",
+                " months", " months", " months", " months", " months", "", "", "", "", "", "", " years", " years",
+                " years", " years", " years", " years"
+        };
+        static final byte[] BYTES_0 = {77, 111, 109, 101, 110, 116, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 32, 97, 103, 111};
+        static final byte[] BYTES_3 = {32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_4 = {49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 32, 97, 103, 111};
+        static final byte[] BYTES_5 = {32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_6 = {49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 32, 97, 103, 111};
+        static final byte[] BYTES_7 = {32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_8 = {49, 32, 115, 101, 99, 111, 110, 100, 32, 97, 103, 111};
+        static final byte[] BYTES_9 = {32, 115, 101, 99, 111, 110, 100, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_10 = {49, 32, 109, 105, 110, 117, 116, 101, 32, 97, 103, 111};
+        static final byte[] BYTES_11 = {32, 109, 105, 110, 117, 116, 101, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_12 = {49, 32, 104, 111, 117, 114, 32, 97, 103, 111};
+        static final byte[] BYTES_13 = {32, 104, 111, 117, 114, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_14 = {49, 32, 100, 97, 121, 32, 97, 103, 111};
+        static final byte[] BYTES_15 = {32, 100, 97, 121, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_16 = {49, 32, 109, 111, 110, 116, 104, 32, 97, 103, 111};
+        static final byte[] BYTES_17 = {32, 109, 111, 110, 116, 104, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_18 = {49, 32, 121, 101, 97, 114, 32, 97, 103, 111};
+        static final byte[] BYTES_19 = {32, 121, 101, 97, 114, 115, 32, 97, 103, 111};
+        static final byte[] BYTES_20 = {32, 97, 103, 111};
+        static final byte[] BYTES_21 = {44, 32};
+        static final byte[] BYTES_22 = {32, 97, 110, 100, 32};
+        static final byte[] BYTES_23 = {49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100};
+        static final byte[] BYTES_24 = {32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 115};
+        static final byte[] BYTES_25 = {49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100};
+        static final byte[] BYTES_26 = {32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 115};
+        static final byte[] BYTES_27 = {49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100};
+        static final byte[] BYTES_28 = {32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 115};
+        static final byte[] BYTES_29 = {49, 32, 115, 101, 99, 111, 110, 100};
+        static final byte[] BYTES_30 = {32, 115, 101, 99, 111, 110, 100, 115};
+        static final byte[] BYTES_31 = {49, 32, 109, 105, 110, 117, 116, 101};
+        static final byte[] BYTES_32 = {32, 109, 105, 110, 117, 116, 101, 115};
+        static final byte[] BYTES_33 = {49, 32, 104, 111, 117, 114};
+        static final byte[] BYTES_34 = {32, 104, 111, 117, 114, 115};
+        static final byte[] BYTES_35 = {49, 32, 100, 97, 121};
+        static final byte[] BYTES_36 = {32, 100, 97, 121, 115};
+        static final byte[] BYTES_37 = {49, 32, 109, 111, 110, 116, 104};
+        static final byte[] BYTES_38 = {32, 109, 111, 110, 116, 104, 115};
+        static final byte[] BYTES_39 = {49, 32, 121, 101, 97, 114};
+        static final byte[] BYTES_40 = {32, 121, 101, 97, 114, 115};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4,
+                BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_21,
+                BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22,
+                BYTES_22, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_29, BYTES_29, BYTES_29, BYTES_29, BYTES_29, BYTES_29,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31,
+                BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_33, BYTES_33, BYTES_33, BYTES_33,
+                BYTES_33, BYTES_33, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_35, BYTES_35, BYTES_35,
+                BYTES_35, BYTES_35, BYTES_35, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_37, BYTES_37,
+                BYTES_37, BYTES_37, BYTES_37, BYTES_37, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_39,
+                BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13,
+                BYTES_13, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_15, BYTES_15, BYTES_15, BYTES_15,
+                BYTES_15, BYTES_15, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_17, BYTES_17, BYTES_17,
+                BYTES_17, BYTES_17, BYTES_17, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_19, BYTES_19,
+                BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24, BYTES_24,
+                BYTES_24, BYTES_24, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_26, BYTES_26, BYTES_26,
+                BYTES_26, BYTES_26, BYTES_26, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_28, BYTES_28, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_30,
+                BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40
+        };
+    }
+
+    /**
+     * The tables of es.properties.
+     */
+    private static final class Es {
+        static final String[] PLURAL_RULES = {null, null, null, null, null, null};
+        static final byte[] PLURAL_TABLE = {
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+        };
+        static final String[] STRINGS = {
+                "Hace un momento", "Hace un momento", "Hace un momento", "Hace un momento", "Hace un momento",
+                "Hace un momento", "Hace 1 nanosegundo", "Hace 1 nanosegundo", "Hace 1 nanosegundo",
+                "Hace 1 nanosegundo", "Hace 1 nanosegundo", "Hace 1 nanosegundo", "Hace {num} nanosegundos",
+                "Hace {num} nanosegundos", "Hace {num} nanosegundos", "Hace {num} nanosegundos",
+                "Hace {num} nanosegundos", "Hace {num} nanosegundos", "Hace 1 microsegundo", "Hace 1 microsegundo",
+                "Hace 1 microsegundo", "Hace 1 microsegundo", "Hace 1 microsegundo", "Hace 1 microsegundo",
+                "Hace {num} microsegundos", "Hace {num} microsegundos", "Hace {num} microsegundos",
+                "Hace {num} microsegundos", "Hace {num} microsegundos", "Hace {num} microsegundos",
+                "Hace un milisegundo", "Hace un milisegundo", "Hace un milisegundo", "Hace un milisegundo",
+                "Hace un milisegundo", "Hace un milisegundo", "Hace {num} milisegundos", "Hace {num} milisegundos",
+                "Hace {num} milisegundos", "Hace {num} milisegundos", "Hace {num} milisegundos",
+                "Hace {num} milisegundos", "Hace 1 segundo", "Hace 1 segundo", "Hace 1 segundo", "Hace 1 segundo",
+                "Hace 1 segundo", "Hace 1 segundo", "Hace {num} segundos", "Hace {num} segundos", "Hace {num} segundos",
+                "Hace {num} segundos", "Hace {num} segundos", "Hace {num} segundos", "Hace 1 minuto", "Hace 1 minuto",
+                "Hace 1 minuto", "Hace 1 minuto", "Hace 1 minuto", "Hace 1 minuto", "Hace {num} minutos",
+                "Hace {num} minutos", "Hace {num} minutos", "Hace {num} minutos", "Hace {num} minutos",
+                "Hace {num} minutos", "Hace 1 hora", "Hace 1 hora", "Hace 1 hora", "Hace 1 hora", "Hace 1 hora",
+                "Hace 1 hora", "Hace {num} horas", "Hace {num} horas", "Hace {num} horas", "Hace {num} horas",
+                "Hace {num} horas", "Hace {num} horas", "Hace 1 d\u00eda", "Hace 1 d\u00eda", "Hace 1 d\u00eda",
+                "Hace 1 d\u00eda", "Hace 1 d\u00eda", "Hace 1 d\u00eda", "Hace {num} d\u00edas", "Hace {num} d\u00edas",
+                "Hace {num} d\u00edas", "Hace {num} d\u00edas", "Hace {num} d\u00edas", "Hace {num} d\u00edas",
+                "Hace 1 mes", "Hace 1 mes", "Hace 1 mes", "Hace 1 mes", "Hace 1 mes", "Hace 1 mes", "Hace {num} meses",
+                "Hace {num} meses", "Hace {num} meses", "Hace {num} meses", "Hace {num} meses", "Hace {num} meses",
+                "Hace 1 a\u00f1o", "Hace 1 a\u00f1o", "Hace 1 a\u00f1o", "Hace 1 a\u00f1o", "Hace 1 a\u00f1o",
+                "Hace 1 a\u00f1o", "Hace {num} a\u00f1os", "Hace {num} a\u00f1os", "Hace {num} a\u00f1os",
+                "Hace {num} a\u00f1os", "Hace {num} a\u00f1os", "Hace {num} a\u00f1os", "Hace {list}", "Hace {list}",
+                "Hace {list}", "Hace {list}", "Hace {list}", "Hace {list}", ", ", ", ", ", ", ", ", ", ", ", ", " y ",
+                " y ", " y ", " y ", " y ", " y ", "1 nanosegundo", "1 nanosegundo", "1 nanosegundo", "1 nanosegundo",
+                "1 nanosegundo", "1 nanosegundo", "{num} nanosegundos", "{num} nanosegundos", "{num} nanosegundos",
+                "{num} nanosegundos", "{num} nanosegundos", "{num} nanosegundos", "1 microsegundo", "1 microsegundo",
+                "1 microsegundo", "1 microsegundo", "1 microsegundo", "1 microsegundo", "{num} microsegundos",
+                "{num} microsegundos", "{num} microsegundos", "{num} microsegundos", "{num} microsegundos",
+                "{num} microsegundos", "1 milisegundo", "1 milisegundo", "1 milisegundo", "1 milisegundo",
+                "1 milisegundo", "1 milisegundo", "{num} milisegundos", "{num} milisegundos", "{num} milisegundos",
+                "{num} milisegundos", "{num} milisegundos", "{num} milisegundos", "1 segundo", "1 segundo", "1 segundo",
+                "1 segundo", "1 segundo", "1 segundo", "{num} segundos", "{num} segundos", "{num} segundos",
+                "{num} segundos", "{num} segundos", "{num} segundos", "1 minuto", "1 minuto", "1 minuto", "1 minuto",
+                "1 minuto", "1 minuto", "{num} minutos", "{num} minutos", "{num} minutos", "{num} minutos",
+                "{num} minutos", "{num} minutos", "1 hora", "1 hora", "1 hora", "1 hora", "1 hora", "1 hora",
+                "{num} horas", "{num} horas", "{num} horas", "{num} horas", "{num} horas", "{num} horas", "1 d\u00eda",
+                "1 d\u00eda", "1 d\u00eda", "1 d\u00eda", "1 d\u00eda", "1 d\u00eda", "{num} d\u00edas",
+                "{num} d\u00edas", "{num} d\u00edas", "{num} d\u00edas", "{num} d\u00edas", "{num} d\u00edas", "1 mes",
+                "1 mes", "1 mes", "1 mes", "1 mes", "1 mes", "{num} meses", "{num} meses", "{num} meses", "{num} meses",
+                "{num} meses", "{num} meses", "1 a\u00f1o", "1 a\u00f1o", "1 a\u00f1o", "1 a\u00f1o", "1 a\u00f1o",
+                "1 a\u00f1o", "{num} a\u00f1os", "{num} a\u00f1os", "{num} a\u00f1os", "{num} a\u00f1os",
+                "{num} a\u00f1os", "{num} a\u00f1os"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "Hace un momento", "Hace un momento", "Hace un momento", "Hace un momento", "Hace un momento",
+                "Hace un momento", "Hace 1 nanosegundo", "Hace 1 nanosegundo", "Hace 1 nanosegundo",
+                "Hace 1 nanosegundo", "Hace 1 nanosegundo", "Hace 1 nanosegundo", "Hace ", "Hace ", "Hace ", "Hace ",
+                "Hace ", "Hace ", "Hace 1 microsegundo", "Hace 1 microsegundo", "Hace 1 microsegundo",
+                "Hace 1 microsegundo", "Hace 1 microsegundo", "Hace 1 microsegundo", "Hace ", "Hace ", "Hace ", "Hace ",
+                "Hace ", "Hace ", "Hace un milisegundo", "Hace un milisegundo", "Hace un milisegundo",
+                "Hace un milisegundo", "Hace un milisegundo", "Hace un milisegundo", "Hace ", "Hace ", "Hace ", "Hace ",
+                "Hace ", "Hace ", "Hace 1 segundo", "Hace 1 segundo", "Hace 1 segundo", "Hace 1 segundo",
+                "Hace 1 segundo", "Hace 1 segundo", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ",
+                "Hace 1 minuto", "Hace 1 minuto", "Hace 1 minuto", "Hace 1 minuto", "Hace 1 minuto", "Hace 1 minuto",
+                "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace 1 hora", "Hace 1 hora", "Hace 1 hora",
+                "Hace 1 hora", "Hace 1 hora", "Hace 1 hora", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ",
+                "Hace 1 d\u00eda", "Hace 1 d\u00eda", "Hace 1 d\u00eda", "Hace 1 d\u00eda", "Hace 1 d\u00eda",
+                "Hace 1 d\u00eda", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace 1 mes", "Hace 1 mes",
+                "Hace 1 mes", "Hace 1 mes", "Hace 1 mes", "Hace 1 mes", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ",
+                "Hace ", "Hace 1 a\u00f1o", "Hace 1 a\u00f1o", "Hace 1 a\u00f1o", "Hace 1 a\u00f1o", "Hace 1 a\u00f1o",
+                "Hace 1 a\u00f1o", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ", "Hace ",
+                "Hace ", "Hace ", "Hace ", ", ", ", ", ", ", ", ", ", ", ", ", " y ", " y ", " y ", " y ", " y ", " y ",
+                "1 nanosegundo", "1 nanosegundo", "1 nanosegundo", "1 nanosegundo", "1 nanosegundo", "1 nanosegundo",
+                "", "", "", "", "", "", "1 microsegundo", "1 microsegundo", "1 microsegundo", "1 microsegundo",
+                "1 microsegundo", "1 microsegundo", "", "", "", "", "", "", "1 milisegundo", "1 milisegundo",
+                "1 milisegundo", "1 milisegundo", "1 milisegundo", "1 milisegundo", "", "", "", "", "", "", "1 segundo",
+                "1 segundo", "1 segundo", "1 segundo", "1 segundo", "1 segundo", "", "", "", "", "", "", "1 minuto",
+                "1 minuto", "1 minuto", "1 minuto", "1 minuto", "1 minuto", "", "", "", "", "", "", "1 hora", "1 hora",
+                "1 hora", "1 hora", "1 hora", "1 hora", "", "", "", "", "", "", "1 d\u00eda", "1 d\u00eda",
+                "1 d\u00eda", "1 d\u00eda", "1 d\u00eda", "1 d\u00eda", "", "", "", "", "", "", "1 mes", "1 mes",
+                "1 mes", "1 mes", "1 mes", "1 mes", "", "", "", "", "", "", "1 a\u00f1o", "1 a\u00f1o", "1 a\u00f1o",
+                "1 a\u00f1o", "1 a\u00f1o", "1 a\u00f1o", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanosegundos", " nanosegundos", " nanosegundos",
+                " nanosegundos", " nanosegundos", " nanosegundos", "", "", "", "", "", "", " microsegundos",
+                " microsegundos", " microsegundos", " microsegundos", " microsegundos", " microsegundos", "", "", "",
+                "", "", "", " milisegundos", " milisegundos", " milisegundos", " milisegundos", " milisegundos",
+                " milisegundos", "", "", "", "", "", "", " segundos", " segundos", " segundos", " segundos",
+                " segundos", " segundos", "", "", "", "", "", "", " minutos", " minutos", " minutos", " minutos",
+                " minutos", " minutos", "", "", "", "", "", "", " horas", " horas", " horas", " horas", " horas",
+                " horas", "", "", "", "", "", "", " d\u00edas", " d\u00edas", " d\u00edas", " d\u00edas", " d\u00edas",
+                " d\u00edas", "", "", "", "", "", "", " meses", " meses", " meses", " meses", " meses", " meses", "",
+                "", "", "", "", "", " a\u00f1os", " a\u00f1os", " a\u00f1os", " a\u00f1os", " a\u00f1os", " a\u00f1os",
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+                " nanosegundos", " nanosegundos", " nanosegundos", " nanosegundos", " nanosegundos", " nanosegundos",
+                "", "", "", "", "", "", " microsegundos", " microsegundos", " microsegundos", " microsegundos",
+                " microsegundos", " microsegundos", "", "", "", "", "", "", " milisegundos", " milisegundos",
+                " milisegundos", " milisegundos", " milisegundos", " milisegundos", "", "", "", "", "", "", " segundos",
+                " segundos", " segundos", " segundos", " segundos", " segundos", "", "", "", "", "", "", " minutos",
+                " minutos", " minutos", " minutos", " minutos", " minutos", "", "", "", "", "", "", " horas", " horas",
+                " horas", " horas", " horas", " horas", "", "", "", "", "", "", " d\u00edas", " d\u00edas",
+                " d\u00edas", " d\u00edas", " d\u00edas", " d\u00edas", "", "", "", "", "", "", " meses", " meses",
+                " meses", " meses", " meses", " meses", "", "", "", "", "", "", " a\u00f1os", " a\u00f1os",
+                " a\u00f1os", " a\u00f1os", " a\u00f1os", " a\u00f1os"
+        };
+        static final byte[] BYTES_0 = {72, 97, 99, 101, 32, 117, 110, 32, 109, 111, 109, 101, 110, 116, 111};
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {
+                72, 97, 99, 101, 32, 49, 32, 110, 97, 110, 111, 115, 101, 103, 117, 110, 100, 111
+        };
+        static final byte[] BYTES_3 = {72, 97, 99, 101, 32};
+        static final byte[] BYTES_4 = {32, 110, 97, 110, 111, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_5 = {
+                72, 97, 99, 101, 32, 49, 32, 109, 105, 99, 114, 111, 115, 101, 103, 117, 110, 100, 111
+        };
+        static final byte[] BYTES_6 = {32, 109, 105, 99, 114, 111, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_7 = {
+                72, 97, 99, 101, 32, 117, 110, 32, 109, 105, 108, 105, 115, 101, 103, 117, 110, 100, 111
+        };
+        static final byte[] BYTES_8 = {32, 109, 105, 108, 105, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_9 = {72, 97, 99, 101, 32, 49, 32, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_10 = {32, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_11 = {72, 97, 99, 101, 32, 49, 32, 109, 105, 110, 117, 116, 111};
+        static final byte[] BYTES_12 = {32, 109, 105, 110, 117, 116, 111, 115};
+        static final byte[] BYTES_13 = {72, 97, 99, 101, 32, 49, 32, 104, 111, 114, 97};
+        static final byte[] BYTES_14 = {32, 104, 111, 114, 97, 115};
+        static final byte[] BYTES_15 = {72, 97, 99, 101, 32, 49, 32, 100, -61, -83, 97};
+        static final byte[] BYTES_16 = {32, 100, -61, -83, 97, 115};
+        static final byte[] BYTES_17 = {72, 97, 99, 101, 32, 49, 32, 109, 101, 115};
+        static final byte[] BYTES_18 = {32, 109, 101, 115, 101, 115};
+        static final byte[] BYTES_19 = {72, 97, 99, 101, 32, 49, 32, 97, -61, -79, 111};
+        static final byte[] BYTES_20 = {32, 97, -61, -79, 111, 115};
+        static final byte[] BYTES_21 = {44, 32};
+        static final byte[] BYTES_22 = {32, 121, 32};
+        static final byte[] BYTES_23 = {49, 32, 110, 97, 110, 111, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_24 = {49, 32, 109, 105, 99, 114, 111, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_25 = {49, 32, 109, 105, 108, 105, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_26 = {49, 32, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_27 = {49, 32, 109, 105, 110, 117, 116, 111};
+        static final byte[] BYTES_28 = {49, 32, 104, 111, 114, 97};
+        static final byte[] BYTES_29 = {49, 32, 100, -61, -83, 97};
+        static final byte[] BYTES_30 = {49, 32, 109, 101, 115};
+        static final byte[] BYTES_31 = {49, 32, 97, -61, -79, 111};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_5, BYTES_5, BYTES_5, BYTES_5,
+                BYTES_5, BYTES_5, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_7, BYTES_7, BYTES_7,
+                BYTES_7, BYTES_7, BYTES_7, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_9, BYTES_9,
+                BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_11,
+                BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_21,
+                BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22,
+                BYTES_22, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27,
+                BYTES_27, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_29, BYTES_29, BYTES_29,
+                BYTES_29, BYTES_29, BYTES_29, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_30, BYTES_30,
+                BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31,
+                BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14,
+                BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16,
+                BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18,
+                BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20,
+                BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4,
+                BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12,
+                BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20
+        };
+    }
+
+    /**
+     * The tables of fr.properties.
+     */
+    private static final class Fr {
+        static final String[] PLURAL_RULES = {null, null, null, null, null, null};
+        static final byte[] PLURAL_TABLE = {
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+        };
+        static final String[] STRINGS = {
+                "Il y a quelques instants", "Il y a quelques instants", "Il y a quelques instants",
+                "Il y a quelques instants", "Il y a quelques instants", "Il y a quelques instants",
+                "Il y a 1 nanoseconde", "Il y a 1 nanoseconde", "Il y a 1 nanoseconde", "Il y a 1 nanoseconde",
+                "Il y a 1 nanoseconde", "Il y a 1 nanoseconde", "Il y a {num} nanosecondes",
+                "Il y a {num} nanosecondes", "Il y a {num} nanosecondes", "Il y a {num} nanosecondes",
+                "Il y a {num} nanosecondes", "Il y a {num} nanosecondes", "Il y a 1 microseconde",
+                "Il y a 1 microseconde", "Il y a 1 microseconde", "Il y a 1 microseconde", "Il y a 1 microseconde",
+                "Il y a 1 microseconde", "Il y a {num} microsecondes", "Il y a {num} microsecondes",
+                "Il y a {num} microsecondes", "Il y a {num} microsecondes", "Il y a {num} microsecondes",
+                "Il y a {num} microsecondes", "Il y a 1 milliseconde", "Il y a 1 milliseconde", "Il y a 1 milliseconde",
+                "Il y a 1 milliseconde", "Il y a 1 milliseconde", "Il y a 1 milliseconde", "Il y a {num} millisecondes",
+                "Il y a {num} millisecondes", "Il y a {num} millisecondes", "Il y a {num} millisecondes",
+                "Il y a {num} millisecondes", "Il y a {num} millisecondes", "Il y a 1 seconde", "Il y a 1 seconde",
+                "Il y a 1 seconde", "Il y a 1 seconde", "Il y a 1 seconde", "Il y a 1 seconde", "Il y a {num} secondes",
+                "Il y a {num} secondes", "Il y a {num} secondes", "Il y a {num} secondes", "Il y a {num} secondes",
+                "Il y a {num} secondes", "Il y a 1 minute", "Il y a 1 minute", "Il y a 1 minute", "Il y a 1 minute",
+                "Il y a 1 minute", "Il y a 1 minute", "Il y a {num} minutes", "Il y a {num} minutes",
+                "Il y a {num} minutes", "Il y a {num} minutes", "Il y a {num} minutes", "Il y a {num} minutes",
+                "Il y a 1 heure", "Il y a 1 heure", "Il y a 1 heure", "Il y a 1 heure", "Il y a 1 heure",
+                "Il y a 1 heure", "Il y a {num} heures", "Il y a {num} heures", "Il y a {num} heures",
+                "Il y a {num} heures", "Il y a {num} heures", "Il y a {num} heures", "Il y a 1 jour", "Il y a 1 jour",
+                "Il y a 1 jour", "Il y a 1 jour", "Il y a 1 jour", "Il y a 1 jour", "Il y a {num} jours",
+                "Il y a {num} jours", "Il y a {num} jours", "Il y a {num} jours", "Il y a {num} jours",
+                "Il y a {num} jours", "Il y a 1 mois", "Il y a 1 mois", "Il y a 1 mois", "Il y a 1 mois",
+                "Il y a 1 mois", "Il y a 1 mois", "Il y a {num} mois", "Il y a {num} mois", "Il y a {num} mois",
+                "Il y a {num} mois", "Il y a {num} mois", "Il y a {num} mois", "Il y a 1 an", "Il y a 1 an",
+                "Il y a 1 an", "Il y a 1 an", "Il y a 1 an", "Il y a 1 an", "Il y a {num} ans", "Il y a {num} ans",
+                "Il y a {num} ans", "Il y a {num} ans", "Il y a {num} ans", "Il y a {num} ans", "Il y a {list}",
+                "Il y a {list}", "Il y a {list}", "Il y a {list}", "Il y a {list}", "Il y a {list}", ", ", ", ", ", ",
+                ", ", ", ", ", ", " et ", " et ", " et ", " et ", " et ", " et ", "1 nanoseconde", "1 nanoseconde",
+                "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "{num} nanosecondes",
+                "{num} nanosecondes", "{num} nanosecondes", "{num} nanosecondes", "{num} nanosecondes",
+                "{num} nanosecondes", "1 microseconde", "1 microseconde", "1 microseconde", "1 microseconde",
+                "1 microseconde", "1 microseconde", "{num} microsecondes", "{num} microsecondes", "{num} microsecondes",
+                "{num} microsecondes", "{num} microsecondes", "{num} microsecondes", "1 milliseconde", "1 milliseconde",
+                "1 milliseconde", "1 milliseconde", "1 milliseconde", "1 milliseconde", "{num} millisecondes",
+                "{num} millisecondes", "{num} millisecondes", "{num} millisecondes", "{num} millisecondes",
+                "{num} millisecondes", "1 seconde", "1 seconde", "1 seconde", "1 seconde", "1 seconde", "1 seconde",
+                "{num} secondes", "{num} secondes", "{num} secondes", "{num} secondes", "{num} secondes",
+                "{num} secondes", "1 minute", "1 minute", "1 minute", "1 minute", "1 minute", "1 minute",
+                "{num} minutes", "{num} minutes", "{num} minutes", "{num} minutes", "{num} minutes", "{num} minutes",
+                "1 heure", "1 heure", "1 heure", "1 heure", "1 heure", "1 heure", "{num} heures", "{num} heures",
+                "{num} heures", "{num} heures", "{num} heures", "{num} heures", "1 jour", "1 jour", "1 jour", "1 jour",
+                "1 jour", "1 jour", "{num} jours", "{num} jours", "{num} jours", "{num} jours", "{num} jours",
+                "{num} jours", "1 mois", "1 mois", "1 mois", "1 mois", "1 mois", "1 mois", "{num} mois", "{num} mois",
+                "{num} mois", "{num} mois", "{num} mois", "{num} mois", "1 an", "1 an", "1 an", "1 an", "1 an", "1 an",
+                "{num} ans", "{num} ans", "{num} ans", "{num} ans", "{num} ans", "{num} ans"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "Il y a quelques instants", "Il y a quelques instants", "Il y a quelques instants",
+                "Il y a quelques instants", "Il y a quelques instants", "Il y a quelques instants",
+                "Il y a 1 nanoseconde", "Il y a 1 nanoseconde", "Il y a 1 nanoseconde", "Il y a 1 nanoseconde",
+                "Il y a 1 nanoseconde", "Il y a 1 nanoseconde", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ",
+                "Il y a ", "Il y a 1 microseconde", "Il y a 1 microseconde", "Il y a 1 microseconde",
+                "Il y a 1 microseconde", "Il y a 1 microseconde", "Il y a 1 microseconde", "Il y a ", "Il y a ",
+                "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a 1 milliseconde", "Il y a 1 milliseconde",
+                "Il y a 1 milliseconde", "Il y a 1 milliseconde", "Il y a 1 milliseconde", "Il y a 1 milliseconde",
+                "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a 1 seconde",
+                "Il y a 1 seconde", "Il y a 1 seconde", "Il y a 1 seconde", "Il y a 1 seconde", "Il y a 1 seconde",
+                "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a 1 minute", "Il y a 1 minute",
+                "Il y a 1 minute", "Il y a 1 minute", "Il y a 1 minute", "Il y a 1 minute", "Il y a ", "Il y a ",
+                "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a 1 heure", "Il y a 1 heure", "Il y a 1 heure",
+                "Il y a 1 heure", "Il y a 1 heure", "Il y a 1 heure", "Il y a ", "Il y a ", "Il y a ", "Il y a ",
+                "Il y a ", "Il y a ", "Il y a 1 jour", "Il y a 1 jour", "Il y a 1 jour", "Il y a 1 jour",
+                "Il y a 1 jour", "Il y a 1 jour", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ",
+                "Il y a 1 mois", "Il y a 1 mois", "Il y a 1 mois", "Il y a 1 mois", "Il y a 1 mois", "Il y a 1 mois",
+                "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a 1 an", "Il y a 1 an",
+                "Il y a 1 an", "Il y a 1 an", "Il y a 1 an", "Il y a 1 an", "Il y a ", "Il y a ", "Il y a ", "Il y a ",
+                "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", "Il y a ", ", ", ", ",
+                ", ", ", ", ", ", ", ", " et ", " et ", " et ", " et ", " et ", " et ", "1 nanoseconde",
+                "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "", "", "", "", "",
+                "", "1 microseconde", "1 microseconde", "1 microseconde", "1 microseconde", "1 microseconde",
+                "1 microseconde", "", "", "", "", "", "", "1 milliseconde", "1 milliseconde", "1 milliseconde",
+                "1 milliseconde", "1 milliseconde", "1 milliseconde", "", "", "", "", "", "", "1 seconde", "1 seconde",
+                "1 seconde", "1 seconde", "1 seconde", "1 seconde", "", "", "", "", "", "", "1 minute", "1 minute",
+                "1 minute", "1 minute", "1 minute", "1 minute", "", "", "", "", "", "", "1 heure", "1 heure", "1 heure",
+                "1 heure", "1 heure", "1 heure", "", "", "", "", "", "", "1 jour", "1 jour", "1 jour", "1 jour",
+                "1 jour", "1 jour", "", "", "", "", "", "", "1 mois", "1 mois", "1 mois", "1 mois", "1 mois", "1 mois",
+                "", "", "", "", "", "", "1 an", "1 an", "1 an", "1 an", "1 an", "1 an", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanosecondes", " nanosecondes", " nanosecondes",
+                " nanosecondes", " nanosecondes", " nanosecondes", "", "", "", "", "", "", " microsecondes",
+                " microsecondes", " microsecondes", " microsecondes", " microsecondes", " microsecondes", "", "", "",
+                "", "", "", " millisecondes", " millisecondes", " millisecondes", " millisecondes", " millisecondes",
+                " millisecondes", "", "", "", "", "", "", " secondes", " secondes", " secondes", " secondes",
+                " secondes", " secondes", "", "", "", "", "", "", " minutes", " minutes", " minutes", " minutes",
+                " minutes", " minutes", "", "", "", "", "", "", " heures", " heures", " heures", " heures", " heures",
+                " heures", "", "", "", "", "", "", " jours", " jours", " jours", " jours", " jours", " jours", "", "",
+                "", "", "", "", " mois", " mois", " mois", " mois", " mois", " mois", "", "", "", "", "", "", " ans",
+                " ans", " ans", " ans", " ans", " ans", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "", "", "", "", "", " nanosecondes", " nanosecondes", " nanosecondes", " nanosecondes",
+                " nanosecondes", " nanosecondes", "", "", "", "", "", "", " microsecondes", " microsecondes",
+                " microsecondes", " microsecondes", " microsecondes", " microsecondes", "", "", "", "", "", "",
+                " millisecondes", " millisecondes", " millisecondes", " millisecondes", " millisecondes",
+                " millisecondes", "", "", "", "", "", "", " secondes", " secondes", " secondes", " secondes",
+                " secondes", " secondes", "", "", "", "", "", "", " minutes", " minutes", " minutes", " minutes",
+                " minutes", " minutes", "", "", "", "", "", "", " heures", " heures", " heures", " heures", " heures",
+                " heures", "", "", "", "", "", "", " jours", " jours", " jours", " jours", " jours", " jours", "", "",
+                "", "", "", "", " mois", " mois", " mois", " mois", " mois", " mois", "", "", "", "", "", "", " ans",
+                " ans", " ans", " ans", " ans", " ans"
+        };
+        static final byte[] BYTES_0 = {
+                73, 108, 32, 121, 32, 97, 32, 113, 117, 101, 108, 113, 117, 101, 115, 32, 105, 110, 115, 116, 97, 110,
+                116, 115
+        };
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {
+                73, 108, 32, 121, 32, 97, 32, 49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 101
+        };
+        static final byte[] BYTES_3 = {73, 108, 32, 121, 32, 97, 32};
+        static final byte[] BYTES_4 = {32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 101, 115};
+        static final byte[] BYTES_5 = {
+                73, 108, 32, 121, 32, 97, 32, 49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 101
+        };
+        static final byte[] BYTES_6 = {32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 101, 115};
+        static final byte[] BYTES_7 = {
+                73, 108, 32, 121, 32, 97, 32, 49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 101
+        };
+        static final byte[] BYTES_8 = {32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 101, 115};
+        static final byte[] BYTES_9 = {73, 108, 32, 121, 32, 97, 32, 49, 32, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_10 = {32, 115, 101, 99, 111, 110, 100, 101, 115};
+        static final byte[] BYTES_11 = {73, 108, 32, 121, 32, 97, 32, 49, 32, 109, 105, 110, 117, 116, 101};
+        static final byte[] BYTES_12 = {32, 109, 105, 110, 117, 116, 101, 115};
+        static final byte[] BYTES_13 = {73, 108, 32, 121, 32, 97, 32, 49, 32, 104, 101, 117, 114, 101};
+        static final byte[] BYTES_14 = {32, 104, 101, 117, 114, 101, 115};
+        static final byte[] BYTES_15 = {73, 108, 32, 121, 32, 97, 32, 49, 32, 106, 111, 117, 114};
+        static final byte[] BYTES_16 = {32, 106, 111, 117, 114, 115};
+        static final byte[] BYTES_17 = {73, 108, 32, 121, 32, 97, 32, 49, 32, 109, 111, 105, 115};
+        static final byte[] BYTES_18 = {32, 109, 111, 105, 115};
+        static final byte[] BYTES_19 = {73, 108, 32, 121, 32, 97, 32, 49, 32, 97, 110};
+        static final byte[] BYTES_20 = {32, 97, 110, 115};
+        static final byte[] BYTES_21 = {44, 32};
+        static final byte[] BYTES_22 = {32, 101, 116, 32};
+        static final byte[] BYTES_23 = {49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_24 = {49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_25 = {49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_26 = {49, 32, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_27 = {49, 32, 109, 105, 110, 117, 116, 101};
+        static final byte[] BYTES_28 = {49, 32, 104, 101, 117, 114, 101};
+        static final byte[] BYTES_29 = {49, 32, 106, 111, 117, 114};
+        static final byte[] BYTES_30 = {49, 32, 109, 111, 105, 115};
+        static final byte[] BYTES_31 = {49, 32, 97, 110};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_5, BYTES_5, BYTES_5, BYTES_5,
+                BYTES_5, BYTES_5, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_7, BYTES_7, BYTES_7,
+                BYTES_7, BYTES_7, BYTES_7, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_9, BYTES_9,
+                BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_11,
+                BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_21,
+                BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22,
+                BYTES_22, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27,
+                BYTES_27, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_29, BYTES_29, BYTES_29,
+                BYTES_29, BYTES_29, BYTES_29, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_30, BYTES_30,
+                BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31,
+                BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14,
+                BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16,
+                BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18,
+                BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20,
+                BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4,
+                BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12,
+                BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20
+        };
+    }
+
+    /**
+     * The tables of it.properties.
+     */
+    private static final class It {
+        static final String[] PLURAL_RULES = {null, null, null, null, null, null};
+        static final byte[] PLURAL_TABLE = {
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+        };
+        static final String[] STRINGS = {
+                "Pochi istanti fa", "Pochi istanti fa", "Pochi istanti fa", "Pochi istanti fa", "Pochi istanti fa",
+                "Pochi istanti fa", "1 nanosecondo fa", "1 nanosecondo fa", "1 nanosecondo fa", "1 nanosecondo fa",
+                "1 nanosecondo fa", "1 nanosecondo fa", "{num} nanosecondi fa", "{num} nanosecondi fa",
+                "{num} nanosecondi fa", "{num} nanosecondi fa", "{num} nanosecondi fa", "{num} nanosecondi fa",
+                "1 microsecondo fa", "1 microsecondo fa", "1 microsecondo fa", "1 microsecondo fa", "1 microsecondo fa",
+                "1 microsecondo fa", "{num} microsecondi fa", "{num} microsecondi fa", "{num} microsecondi fa",
+                "{num} microsecondi fa", "{num} microsecondi fa", "{num} microsecondi fa", "1 millisecondo fa",
+                "1 millisecondo fa", "1 millisecondo fa", "1 millisecondo fa", "1 millisecondo fa", "1 millisecondo fa",
+                "{num} millisecondi fa", "{num} millisecondi fa", "{num} millisecondi fa", "{num} millisecondi fa",
+                "{num} millisecondi fa", "{num} millisecondi fa", "1 secondo fa", "1 secondo fa", "1 secondo fa",
+                "1 secondo fa", "1 secondo fa", "1 secondo fa", "{num} secondi fa", "{num} secondi fa",
+                "{num} secondi fa", "{num} secondi fa", "{num} secondi fa", "{num} secondi fa", "1 minuto fa",
+                "1 minuto fa", "1 minuto fa", "1 minuto fa", "1 minuto fa", "1 minuto fa", "{num} minuti fa",
+                "{num} minuti fa", "{num} minuti fa", "{num} minuti fa", "{num} minuti fa", "{num} minuti fa",
+                "1 ora fa", "1 ora fa", "1 ora fa", "1 ora fa", "1 ora fa", "1 ora fa", "{num} ore fa", "{num} ore fa",
+                "{num} ore fa", "{num} ore fa", "{num} ore fa", "{num} ore fa", "1 giorno fa", "1 giorno fa",
+                "1 giorno fa", "1 giorno fa", "1 giorno fa", "1 giorno fa", "{num} giorni fa", "{num} giorni fa",
+                "{num} giorni fa", "{num} giorni fa", "{num} giorni fa", "{num} giorni fa", "1 mese fa", "1 mese fa",
+                "1 mese fa", "1 mese fa", "1 mese fa", "1 mese fa", "{num} mesi fa", "{num} mesi fa", "{num} mesi fa",
+                "{num} mesi fa", "{num} mesi fa", "{num} mesi fa", "1 anno fa", "1 anno fa", "1 anno fa", "1 anno fa",
+                "1 anno fa", "1 anno fa", "{num} anni fa", "{num} anni fa", "{num} anni fa", "{num} anni fa",
+                "{num} anni fa", "{num} anni fa", "{list} fa", "{list} fa", "{list} fa", "{list} fa", "{list} fa",
+                "{list} fa", ", ", ", ", ", ", ", ", ", ", ", ", " e ", " e ", " e ", " e ", " e ", " e ",
+                "1 nanosecondo", "1 nanosecondo", "1 nanosecondo", "1 nanosecondo", "1 nanosecondo", "1 nanosecondo",
+                "{num} nanosecondi", "{num} nanosecondi", "{num} nanosecondi", "{num} nanosecondi", "{num} nanosecondi",
+                "{num} nanosecondi", "1 microsecondo", "1 microsecondo", "1 microsecondo", "1 microsecondo",
+                "1 microsecondo", "1 microsecondo", "{num} microsecondi", "{num} microsecondi", "{num} microsecondi",
+                "{num} microsecondi", "{num} microsecondi", "{num} microsecondi", "1 millisecondo", "1 millisecondo",
+                "1 millisecondo", "1 millisecondo", "1 millisecondo", "1 millisecondo", "{num} millisecondi",
+                "{num} millisecondi", "{num} millisecondi", "{num} millisecondi", "{num} millisecondi",
+                "{num} millisecondi", "1 secondo", "1 secondo", "1 secondo", "1 secondo", "1 secondo", "1 secondo",
+                "{num} secondi", "{num} secondi", "{num} secondi", "{num} secondi", "{num} secondi", "{num} secondi",
+                "1 minuto", "1 minuto", "1 minuto", "1 minuto", "1 minuto", "1 minuto", "{num} minuti", "{num} minuti",
+                "{num} minuti", "{num} minuti", "{num} minuti", "{num} minuti", "1 ora", "1 ora", "1 ora", "1 ora",
+                "1 ora", "1 ora", "{num} ore", "{num} ore", "{num} ore", "{num} ore", "{num} ore", "{num} ore",
+                "1 giorno", "1 giorno", "1 giorno", "1 giorno", "1 giorno", "1 giorno", "{num} giorni", "{num} giorni",
+                "{num} giorni", "{num} giorni", "{num} giorni", "{num} giorni", "1 mese", "1 mese", "1 mese", "1 mese",
+                "1 mese", "1 mese", "{num} mesi", "{num} mesi", "{num} mesi", "{num} mesi", "{num} mesi", "{num} mesi",
+                "1 anno", "1 anno", "1 anno", "1 anno", "1 anno", "1 anno", "{num} anni", "{num} anni", "{num} anni",
+                "{num} anni", "{num} anni", "{num} anni"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "Pochi istanti fa", "Pochi istanti fa", "Pochi istanti fa", "Pochi istanti fa", "Pochi istanti fa",
+                "Pochi istanti fa", "1 nanosecondo fa", "1 nanosecondo fa", "1 nanosecondo fa", "1 nanosecondo fa",
+                "1 nanosecondo fa", "1 nanosecondo fa", "", "", "", "", "", "", "1 microsecondo fa",
+                "1 microsecondo fa", "1 microsecondo fa", "1 microsecondo fa", "1 microsecondo fa", "1 microsecondo fa",
+                "", "", "", "", "", "", "1 millisecondo fa", "1 millisecondo fa", "1 millisecondo fa",
+                "1 millisecondo fa", "1 millisecondo fa", "1 millisecondo fa", "", "", "", "", "", "", "1 secondo fa",
+                "1 secondo fa", "1 secondo fa", "1 secondo fa", "1 secondo fa", "1 secondo fa", "", "", "", "", "", "",
+                "1 minuto fa", "1 minuto fa", "1 minuto fa", "1 minuto fa", "1 minuto fa", "1 minuto fa", "", "", "",
+                "", "", "", "1 ora fa", "1 ora fa", "1 ora fa", "1 ora fa", "1 ora fa", "1 ora fa", "", "", "", "", "",
+                "", "1 giorno fa", "1 giorno fa", "1 giorno fa", "1 giorno fa", "1 giorno fa", "1 giorno fa", "", "",
+                "", "", "", "", "1 mese fa", "1 mese fa", "1 mese fa", "1 mese fa", "1 mese fa", "1 mese fa", "", "",
+                "", "", "", "", "1 anno fa", "1 anno fa", "1 anno fa", "1 anno fa", "1 anno fa", "1 anno fa", "", "",
+                "", "", "", "", "", "", "", "", "", "", ", ", ", ", ", ", ", ", ", ", ", ", " e ", " e ", " e ", " e ",
+                " e ", " e ", "1 nanosecondo", "1 nanosecondo", "1 nanosecondo", "1 nanosecondo", "1 nanosecondo",
+                "1 nanosecondo", "", "", "", "", "", "", "1 microsecondo", "1 microsecondo", "1 microsecondo",
+                "1 microsecondo", "1 microsecondo", "1 microsecondo", "", "", "", "", "", "", "1 millisecondo",
+                "1 millisecondo", "1 millisecondo", "1 millisecondo", "1 millisecondo", "1 millisecondo", "", "", "",
+                "", "", "", "1 secondo", "1 secondo", "1 secondo", "1 secondo", "1 secondo", "1 secondo", "", "", "",
+                "", "", "", "1 minuto", "1 minuto", "1 minuto", "1 minuto", "1 minuto", "1 minuto", "", "", "", "", "",
+                "", "1 ora", "1 ora", "1 ora", "1 ora", "1 ora", "1 ora", "", "", "", "", "", "", "1 giorno",
+                "1 giorno", "1 giorno", "1 giorno", "1 giorno", "1 giorno", "", "", "", "", "", "", "1 mese", "1 mese",
+                "1 mese", "1 mese", "1 mese", "1 mese", "", "", "", "", "", "", "1 anno", "1 anno", "1 anno", "1 anno",
+                "1 anno", "1 anno", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanosecondi fa", " nanosecondi fa", " nanosecondi fa",
+                " nanosecondi fa", " nanosecondi fa", " nanosecondi fa", "", "", "", "", "", "", " microsecondi fa",
+                " microsecondi fa", " microsecondi fa", " microsecondi fa", " microsecondi fa", " microsecondi fa", "",
+                "", "", "", "", "", " millisecondi fa", " millisecondi fa", " millisecondi fa", " millisecondi fa",
+                " millisecondi fa", " millisecondi fa", "", "", "", "", "", "", " secondi fa", " secondi fa",
+                " secondi fa", " secondi fa", " secondi fa", " secondi fa", "", "", "", "", "", "", " minuti fa",
+                " minuti fa", " minuti fa", " minuti fa", " minuti fa", " minuti fa", "", "", "", "", "", "", " ore fa",
+                " ore fa", " ore fa", " ore fa", " ore fa", " ore fa", "", "", "", "", "", "", " giorni fa",
+                " giorni fa", " giorni fa", " giorni fa", " giorni fa", " giorni fa", "", "", "", "", "", "",
+                " mesi fa", " mesi fa", " mesi fa", " mesi fa", " mesi fa", " mesi fa", "", "", "", "", "", "",
+                " anni fa", " anni fa", " anni fa", " anni fa", " anni fa", " anni fa", " fa", " fa", " fa", " fa",
+                " fa", " fa", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", " nanosecondi",
+                " nanosecondi", " nanosecondi", " nanosecondi", " nanosecondi", " nanosecondi", "", "", "", "", "", "",
+                " microsecondi", " microsecondi", " microsecondi", " microsecondi", " microsecondi", " microsecondi",
+                "", "", "", "", "", "", " millisecondi", " millisecondi", " millisecondi", " millisecondi",
+                " millisecondi", " millisecondi", "", "", "", "", "", "", " secondi", " secondi", " secondi",
+                " secondi", " secondi", " secondi", "", "", "", "", "", "", " minuti", " minuti", " minuti", " minuti",
+                " minuti", " minuti", "", "", "", "", "", "", " ore", " ore", " ore", " ore", " ore", " ore", "", "",
+                "", "", "", "", " giorni", " giorni", " giorni", " giorni", " giorni", " giorni", "", "", "", "", "",
+                "", " mesi", " mesi", " mesi", " mesi", " mesi", " mesi", "", "", "", "", "", "", " anni", " anni",
+                " anni", " anni", " anni", " anni"
+        };
+        static final byte[] BYTES_0 = {80, 111, 99, 104, 105, 32, 105, 115, 116, 97, 110, 116, 105, 32, 102, 97};
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 111, 32, 102, 97};
+        static final byte[] BYTES_3 = {32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 105, 32, 102, 97};
+        static final byte[] BYTES_4 = {49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 111, 32, 102, 97};
+        static final byte[] BYTES_5 = {32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 105, 32, 102, 97};
+        static final byte[] BYTES_6 = {49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 111, 32, 102, 97};
+        static final byte[] BYTES_7 = {32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 105, 32, 102, 97};
+        static final byte[] BYTES_8 = {49, 32, 115, 101, 99, 111, 110, 100, 111, 32, 102, 97};
+        static final byte[] BYTES_9 = {32, 115, 101, 99, 111, 110, 100, 105, 32, 102, 97};
+        static final byte[] BYTES_10 = {49, 32, 109, 105, 110, 117, 116, 111, 32, 102, 97};
+        static final byte[] BYTES_11 = {32, 109, 105, 110, 117, 116, 105, 32, 102, 97};
+        static final byte[] BYTES_12 = {49, 32, 111, 114, 97, 32, 102, 97};
+        static final byte[] BYTES_13 = {32, 111, 114, 101, 32, 102, 97};
+        static final byte[] BYTES_14 = {49, 32, 103, 105, 111, 114, 110, 111, 32, 102, 97};
+        static final byte[] BYTES_15 = {32, 103, 105, 111, 114, 110, 105, 32, 102, 97};
+        static final byte[] BYTES_16 = {49, 32, 109, 101, 115, 101, 32, 102, 97};
+        static final byte[] BYTES_17 = {32, 109, 101, 115, 105, 32, 102, 97};
+        static final byte[] BYTES_18 = {49, 32, 97, 110, 110, 111, 32, 102, 97};
+        static final byte[] BYTES_19 = {32, 97, 110, 110, 105, 32, 102, 97};
+        static final byte[] BYTES_20 = {32, 102, 97};
+        static final byte[] BYTES_21 = {44, 32};
+        static final byte[] BYTES_22 = {32, 101, 32};
+        static final byte[] BYTES_23 = {49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 111};
+        static final byte[] BYTES_24 = {32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 105};
+        static final byte[] BYTES_25 = {49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 111};
+        static final byte[] BYTES_26 = {32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 105};
+        static final byte[] BYTES_27 = {49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 111};
+        static final byte[] BYTES_28 = {32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 105};
+        static final byte[] BYTES_29 = {49, 32, 115, 101, 99, 111, 110, 100, 111};
+        static final byte[] BYTES_30 = {32, 115, 101, 99, 111, 110, 100, 105};
+        static final byte[] BYTES_31 = {49, 32, 109, 105, 110, 117, 116, 111};
+        static final byte[] BYTES_32 = {32, 109, 105, 110, 117, 116, 105};
+        static final byte[] BYTES_33 = {49, 32, 111, 114, 97};
+        static final byte[] BYTES_34 = {32, 111, 114, 101};
+        static final byte[] BYTES_35 = {49, 32, 103, 105, 111, 114, 110, 111};
+        static final byte[] BYTES_36 = {32, 103, 105, 111, 114, 110, 105};
+        static final byte[] BYTES_37 = {49, 32, 109, 101, 115, 101};
+        static final byte[] BYTES_38 = {32, 109, 101, 115, 105};
+        static final byte[] BYTES_39 = {49, 32, 97, 110, 110, 111};
+        static final byte[] BYTES_40 = {32, 97, 110, 110, 105};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4,
+                BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_21,
+                BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22,
+                BYTES_22, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_29, BYTES_29, BYTES_29, BYTES_29, BYTES_29, BYTES_29,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31,
+                BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_33, BYTES_33, BYTES_33, BYTES_33,
+                BYTES_33, BYTES_33, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_35, BYTES_35, BYTES_35,
+                BYTES_35, BYTES_35, BYTES_35, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_37, BYTES_37,
+                BYTES_37, BYTES_37, BYTES_37, BYTES_37, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_39,
+                BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13,
+                BYTES_13, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_15, BYTES_15, BYTES_15, BYTES_15,
+                BYTES_15, BYTES_15, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_17, BYTES_17, BYTES_17,
+                BYTES_17, BYTES_17, BYTES_17, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_19, BYTES_19,
+                BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24, BYTES_24,
+                BYTES_24, BYTES_24, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_26, BYTES_26, BYTES_26,
+                BYTES_26, BYTES_26, BYTES_26, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_28, BYTES_28, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_30,
+                BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40
+        };
+    }
+
+    /**
+     * The tables of nl.properties.
+     */
+    private static final class Nl {
+        static final String[] PLURAL_RULES = {null, null, null, null, null, null};
+        static final byte[] PLURAL_TABLE = {
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+        };
+        static final String[] STRINGS = {
+                "Zojuist", "Zojuist", "Zojuist", "Zojuist", "Zojuist", "Zojuist", "1 nanoseconde geleden",
+                "1 nanoseconde geleden", "1 nanoseconde geleden", "1 nanoseconde geleden", "1 nanoseconde geleden",
+                "1 nanoseconde geleden", "{num} nanoseconden geleden", "{num} nanoseconden geleden",
+                "{num} nanoseconden geleden", "{num} nanoseconden geleden", "{num} nanoseconden geleden",
+                "{num} nanoseconden geleden", "1 microseconde geleden", "1 microseconde geleden",
+                "1 microseconde geleden", "1 microseconde geleden", "1 microseconde geleden", "1 microseconde geleden",
+                "{num} microseconden geleden", "{num} microseconden geleden", "{num} microseconden geleden",
+                "{num} microseconden geleden", "{num} microseconden geleden", "{num} microseconden geleden",
+                "1 milliseconde geleden", "1 milliseconde geleden", "1 milliseconde geleden", "1 milliseconde geleden",
+                "1 milliseconde geleden", "1 milliseconde geleden", "{num} milliseconden geleden",
+                "{num} milliseconden geleden", "{num} milliseconden geleden", "{num} milliseconden geleden",
+                "{num} milliseconden geleden", "{num} milliseconden geleden", "1 seconde geleden", "1 seconde geleden",
+                "1 seconde geleden", "1 seconde geleden", "1 seconde geleden", "1 seconde geleden",
+                "{num} seconden geleden", "{num} seconden geleden", "{num} seconden geleden", "{num} seconden geleden",
+                "{num} seconden geleden", "{num} seconden geleden", "1 minuut geleden", "1 minuut geleden",
+                "1 minuut geleden", "1 minuut geleden", "1 minuut geleden", "1 minuut geleden", "{num} minuten geleden",
+                "{num} minuten geleden", "{num} minuten geleden", "{num} minuten geleden", "{num} minuten geleden",
+                "{num} minuten geleden", "1 uur geleden", "1 uur geleden", "1 uur geleden", "1 uur geleden",
+                "1 uur geleden", "1 uur geleden", "{num} uur geleden", "{num} uur geleden", "{num} uur geleden",
+                "{num} uur geleden", "{num} uur geleden", "{num} uur geleden", "1 dag geleden", "1 dag geleden",
+                "1 dag geleden", "1 dag geleden", "1 dag geleden", "1 dag geleden", "{num} dagen geleden",
+                "{num} dagen geleden", "{num} dagen geleden", "{num} dagen geleden", "{num} dagen geleden",
+                "{num} dagen geleden", "1 maand geleden", "1 maand geleden", "1 maand geleden", "1 maand geleden",
+                "1 maand geleden", "1 maand geleden", "{num} maanden geleden", "{num} maanden geleden",
+                "{num} maanden geleden", "{num} maanden geleden", "{num} maanden geleden", "{num} maanden geleden",
+                "1 jaar geleden", "1 jaar geleden", "1 jaar geleden", "1 jaar geleden", "1 jaar geleden",
+                "1 jaar geleden", "{num} jaar geleden", "{num} jaar geleden", "{num} jaar geleden",
+                "{num} jaar geleden", "{num} jaar geleden", "{num} jaar geleden", "{list} geleden", "{list} geleden",
+                "{list} geleden", "{list} geleden", "{list} geleden", "{list} geleden", ", ", ", ", ", ", ", ", ", ",
+                ", ", " en ", " en ", " en ", " en ", " en ", " en ", "1 nanoseconde", "1 nanoseconde", "1 nanoseconde",
+                "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "{num} nanoseconden", "{num} nanoseconden",
+                "{num} nanoseconden", "{num} nanoseconden", "{num} nanoseconden", "{num} nanoseconden",
+                "1 microseconde", "1 microseconde", "1 microseconde", "1 microseconde", "1 microseconde",
+                "1 microseconde", "{num} microseconden", "{num} microseconden", "{num} microseconden",
+                "{num} microseconden", "{num} microseconden", "{num} microseconden", "1 milliseconde", "1 milliseconde",
+                "1 milliseconde", "1 milliseconde", "1 milliseconde", "1 milliseconde", "{num} milliseconden",
+                "{num} milliseconden", "{num} milliseconden", "{num} milliseconden", "{num} milliseconden",
+                "{num} milliseconden", "1 seconde", "1 seconde", "1 seconde", "1 seconde", "1 seconde", "1 seconde",
+                "{num} seconden", "{num} seconden", "{num} seconden", "{num} seconden", "{num} seconden",
+                "{num} seconden", "1 minuut", "1 minuut", "1 minuut", "1 minuut", "1 minuut", "1 minuut",
+                "{num} minuten", "{num} minuten", "{num} minuten", "{num} minuten", "{num} minuten", "{num} minuten",
+                "1 uur", "1 uur", "1 uur", "1 uur", "1 uur", "1 uur", "{num} uur", "{num} uur", "{num} uur",
+                "{num} uur", "{num} uur", "{num} uur", "1 dag", "1 dag", "1 dag", "1 dag", "1 dag", "1 dag",
+                "{num} dagen", "{num} dagen", "{num} dagen", "{num} dagen", "{num} dagen", "{num} dagen", "1 maand",
+                "1 maand", "1 maand", "1 maand", "1 maand", "1 maand", "{num} maanden", "{num} maanden",
+                "{num} maanden", "{num} maanden", "{num} maanden", "{num} maanden", "1 jaar", "1 jaar", "1 jaar",
+                "1 jaar", "1 jaar", "1 jaar", "{num} jaar", "{num} jaar", "{num} jaar", "{num} jaar", "{num} jaar",
+                "{num} jaar"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "Zojuist", "Zojuist", "Zojuist", "Zojuist", "Zojuist", "Zojuist", "1 nanoseconde geleden",
+                "1 nanoseconde geleden", "1 nanoseconde geleden", "1 nanoseconde geleden", "1 nanoseconde geleden",
+                "1 nanoseconde geleden", "", "", "", "", "", "", "1 microseconde geleden", "1 microseconde geleden",
+                "1 microseconde geleden", "1 microseconde geleden", "1 microseconde geleden", "1 microseconde geleden",
+                "", "", "", "", "", "", "1 milliseconde geleden", "1 milliseconde geleden", "1 milliseconde geleden",
+                "1 milliseconde geleden", "1 milliseconde geleden", "1 milliseconde geleden", "", "", "", "", "", "",
+                "1 seconde geleden", "1 seconde geleden", "1 seconde geleden", "1 seconde geleden", "1 seconde geleden",
+                "1 seconde geleden", "", "", "", "", "", "", "1 minuut geleden", "1 minuut geleden", "1 minuut geleden",
+                "1 minuut geleden", "1 minuut geleden", "1 minuut geleden", "", "", "", "", "", "", "1 uur geleden",
+                "1 uur geleden", "1 uur geleden", "1 uur geleden", "1 uur geleden", "1 uur geleden", "", "", "", "", "",
+                "", "1 dag geleden", "1 dag geleden", "1 dag geleden", "1 dag geleden", "1 dag geleden",
+                "1 dag geleden", "", "", "", "", "", "", "1 maand geleden", "1 maand geleden", "1 maand geleden",
+                "1 maand geleden", "1 maand geleden", "1 maand geleden", "", "", "", "", "", "", "1 jaar geleden",
+                "1 jaar geleden", "1 jaar geleden", "1 jaar geleden", "1 jaar geleden", "1 jaar geleden", "", "", "",
+                "", "", "", "", "", "", "", "", "", ", ", ", ", ", ", ", ", ", ", ", ", " en ", " en ", " en ", " en ",
+                " en ", " en ", "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "1 nanoseconde", "1 nanoseconde",
+                "1 nanoseconde", "", "", "", "", "", "", "1 microseconde", "1 microseconde", "1 microseconde",
+                "1 microseconde", "1 microseconde", "1 microseconde", "", "", "", "", "", "", "1 milliseconde",
+                "1 milliseconde", "1 milliseconde", "1 milliseconde", "1 milliseconde", "1 milliseconde", "", "", "",
+                "", "", "", "1 seconde", "1 seconde", "1 seconde", "1 seconde", "1 seconde", "1 seconde", "", "", "",
+                "", "", "", "1 minuut", "1 minuut", "1 minuut", "1 minuut", "1 minuut", "1 minuut", "", "", "", "", "",
+                "", "1 uur", "1 uur", "1 uur", "1 uur", "1 uur", "1 uur", "", "", "", "", "", "", "1 dag", "1 dag",
+                "1 dag", "1 dag", "1 dag", "1 dag", "", "", "", "", "", "", "1 maand", "1 maand", "1 maand", "1 maand",
+                "1 maand", "1 maand", "", "", "", "", "", "", "1 jaar", "1 jaar", "1 jaar", "1 jaar", "1 jaar",
+                "1 jaar", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanoseconden geleden", " nanoseconden geleden",
+                " nanoseconden geleden", " nanoseconden geleden", " nanoseconden geleden", " nanoseconden geleden", "",
+                "", "", "", "", "", " microseconden geleden", " microseconden geleden", " microseconden geleden",
+                " microseconden geleden", " microseconden geleden", " microseconden geleden", "", "", "", "", "", "",
+                " milliseconden geleden", " milliseconden geleden", " milliseconden geleden", " milliseconden geleden",
+                " milliseconden geleden", " milliseconden geleden", "", "", "", "", "", "", " seconden geleden",
+                " seconden geleden", " seconden geleden", " seconden geleden", " seconden geleden", " seconden geleden",
+                "", "", "", "", "", "", " minuten geleden", " minuten geleden", " minuten geleden", " minuten geleden",
+                " minuten geleden", " minuten geleden", "", "", "", "", "", "", " uur geleden", " uur geleden",
+                " uur geleden", " uur geleden", " uur geleden", " uur geleden", "", "", "", "", "", "",
+                " dagen geleden", " dagen geleden", " dagen geleden", " dagen geleden", " dagen geleden",
+                " dagen geleden", "", "", "", "", "", "", " maanden geleden", " maanden geleden", " maanden geleden",
+                " maanden geleden", " maanden geleden", " maanden geleden", "", "", "", "", "", "", " jaar geleden",
+                " jaar geleden", " jaar geleden", " jaar geleden", " jaar geleden", " jaar geleden", " geleden",
+                " geleden", " geleden", " geleden", " geleden", " geleden", "", "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "", "", "", "", " nanoseconden", " nanoseconden", " nanoseconden", " nanoseconden",
+                " nanoseconden", " nanoseconden", "", "", "", "", "", "", " microseconden", " microseconden",
+                " microseconden", " microseconden", " microseconden", " microseconden", "", "", "", "", "", "",
+                " milliseconden", " milliseconden", " milliseconden", " milliseconden", " milliseconden",
+                " milliseconden", "", "", "", "", "", "", " seconden", " seconden", " seconden", " seconden",
+                " seconden", " seconden", "", "", "", "", "", "", " minuten", " minuten", " minuten", " minuten",
+                " minuten", " minuten", "", "", "", "", "", "", " uur", " uur", " uur", " uur", " uur", " uur", "", "",
+                "", "", "", "", " dagen", " dagen", " dagen", " dagen", " dagen", " dagen", "", "", "", "", "", "",
+                " maanden", " maanden", " maanden", " maanden", " maanden", " maanden", "", "", "", "", "", "", " jaar",
+                " jaar", " jaar", " jaar", " jaar", " jaar"
+        };
+        static final byte[] BYTES_0 = {90, 111, 106, 117, 105, 115, 116};
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {
+                49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 101, 32, 103, 101, 108, 101, 100, 101, 110
+        };
+        static final byte[] BYTES_3 = {
+                32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 101, 110, 32, 103, 101, 108, 101, 100, 101, 110
+        };
+        static final byte[] BYTES_4 = {
+                49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 101, 32, 103, 101, 108, 101, 100, 101, 110
+        };
+        static final byte[] BYTES_5 = {
+                32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 101, 110, 32, 103, 101, 108, 101, 100, 101, 110
+        };
+        static final byte[] BYTES_6 = {
+                49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 101, 32, 103, 101, 108, 101, 100, 101, 110
+        };
+        static final byte[] BYTES_7 = {
+                32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 101, 110, 32, 103, 101, 108, 101, 100, 101,
+                110
+        };
+        static final byte[] BYTES_8 = {49, 32, 115, 101, 99, 111, 110, 100, 101, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_9 = {
+                32, 115, 101, 99, 111, 110, 100, 101, 110, 32, 103, 101, 108, 101, 100, 101, 110
+        };
+        static final byte[] BYTES_10 = {49, 32, 109, 105, 110, 117, 117, 116, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_11 = {32, 109, 105, 110, 117, 116, 101, 110, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_12 = {49, 32, 117, 117, 114, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_13 = {32, 117, 117, 114, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_14 = {49, 32, 100, 97, 103, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_15 = {32, 100, 97, 103, 101, 110, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_16 = {49, 32, 109, 97, 97, 110, 100, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_17 = {32, 109, 97, 97, 110, 100, 101, 110, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_18 = {49, 32, 106, 97, 97, 114, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_19 = {32, 106, 97, 97, 114, 32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_20 = {32, 103, 101, 108, 101, 100, 101, 110};
+        static final byte[] BYTES_21 = {44, 32};
+        static final byte[] BYTES_22 = {32, 101, 110, 32};
+        static final byte[] BYTES_23 = {49, 32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_24 = {32, 110, 97, 110, 111, 115, 101, 99, 111, 110, 100, 101, 110};
+        static final byte[] BYTES_25 = {49, 32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_26 = {32, 109, 105, 99, 114, 111, 115, 101, 99, 111, 110, 100, 101, 110};
+        static final byte[] BYTES_27 = {49, 32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_28 = {32, 109, 105, 108, 108, 105, 115, 101, 99, 111, 110, 100, 101, 110};
+        static final byte[] BYTES_29 = {49, 32, 115, 101, 99, 111, 110, 100, 101};
+        static final byte[] BYTES_30 = {32, 115, 101, 99, 111, 110, 100, 101, 110};
+        static final byte[] BYTES_31 = {49, 32, 109, 105, 110, 117, 117, 116};
+        static final byte[] BYTES_32 = {32, 109, 105, 110, 117, 116, 101, 110};
+        static final byte[] BYTES_33 = {49, 32, 117, 117, 114};
+        static final byte[] BYTES_34 = {32, 117, 117, 114};
+        static final byte[] BYTES_35 = {49, 32, 100, 97, 103};
+        static final byte[] BYTES_36 = {32, 100, 97, 103, 101, 110};
+        static final byte[] BYTES_37 = {49, 32, 109, 97, 97, 110, 100};
+        static final byte[] BYTES_38 = {32, 109, 97, 97, 110, 100, 101, 110};
+        static final byte[] BYTES_39 = {49, 32, 106, 97, 97, 114};
+        static final byte[] BYTES_40 = {32, 106, 97, 97, 114};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4,
+                BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_21,
+                BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22,
+                BYTES_22, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_29, BYTES_29, BYTES_29, BYTES_29, BYTES_29, BYTES_29,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31,
+                BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_33, BYTES_33, BYTES_33, BYTES_33,
+                BYTES_33, BYTES_33, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_35, BYTES_35, BYTES_35,
+                BYTES_35, BYTES_35, BYTES_35, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_37, BYTES_37,
+                BYTES_37, BYTES_37, BYTES_37, BYTES_37, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_39,
+                BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_5, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_7, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13,
+                BYTES_13, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_15, BYTES_15, BYTES_15, BYTES_15,
+                BYTES_15, BYTES_15, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_17, BYTES_17, BYTES_17,
+                BYTES_17, BYTES_17, BYTES_17, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_19, BYTES_19,
+                BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24, BYTES_24,
+                BYTES_24, BYTES_24, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_26, BYTES_26, BYTES_26,
+                BYTES_26, BYTES_26, BYTES_26, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_28, BYTES_28, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_30,
+                BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_36, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40
+        };
+    }
+
+    /**
+     * The tables of pl.properties.
+     */
+    private static final class Pl {
+        static final String[] PLURAL_RULES = {
+                null, null, null, "v = 0 and i % 10 = 2..4 and i % 100 != 12..14",
+                "v = 0 and i != 1 and i % 10 = 0..1 or v = 0 and i % 10 = 5..9 or v = 0 and i % 100 = 12..14", null
+        };
+        static final byte[] PLURAL_TABLE = {
+                4, 5, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 3, 3, 3, 4, 4, 4, 4, 4
+        };
+        static final String[] STRINGS = {
+                "Przed chwil\u0105", "Przed chwil\u0105", "Przed chwil\u0105", "Przed chwil\u0105", "Przed chwil\u0105",
+                "Przed chwil\u0105", "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu",
+                "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu",
+                "{num} nanosekundy temu", "{num} nanosekundy temu", "{num} nanosekundy temu", "{num} nanosekundy temu",
+                "{num} nanosekund temu", "{num} nanosekundy temu", "1 mikrosekund\u0119 temu",
+                "1 mikrosekund\u0119 temu", "1 mikrosekund\u0119 temu", "1 mikrosekund\u0119 temu",
+                "1 mikrosekund\u0119 temu", "1 mikrosekund\u0119 temu", "{num} mikrosekundy temu",
+                "{num} mikrosekundy temu", "{num} mikrosekundy temu", "{num} mikrosekundy temu",
+                "{num} mikrosekund temu", "{num} mikrosekundy temu", "1 milisekund\u0119 temu",
+                "1 milisekund\u0119 temu", "1 milisekund\u0119 temu", "1 milisekund\u0119 temu",
+                "1 milisekund\u0119 temu", "1 milisekund\u0119 temu", "{num} milisekundy temu",
+                "{num} milisekundy temu", "{num} milisekundy temu", "{num} milisekundy temu", "{num} milisekund temu",
+                "{num} milisekundy temu", "1 sekund\u0119 temu", "1 sekund\u0119 temu", "1 sekund\u0119 temu",
+                "1 sekund\u0119 temu", "1 sekund\u0119 temu", "1 sekund\u0119 temu", "{num} sekundy temu",
+                "{num} sekundy temu", "{num} sekundy temu", "{num} sekundy temu", "{num} sekund temu",
+                "{num} sekundy temu", "1 minut\u0119 temu", "1 minut\u0119 temu", "1 minut\u0119 temu",
+                "1 minut\u0119 temu", "1 minut\u0119 temu", "1 minut\u0119 temu", "{num} minuty temu",
+                "{num} minuty temu", "{num} minuty temu", "{num} minuty temu", "{num} minut temu", "{num} minuty temu",
+                "1 godzin\u0119 temu", "1 godzin\u0119 temu", "1 godzin\u0119 temu", "1 godzin\u0119 temu",
+                "1 godzin\u0119 temu", "1 godzin\u0119 temu", "{num} godziny temu", "{num} godziny temu",
+                "{num} godziny temu", "{num} godziny temu", "{num} godzin temu", "{num} godziny temu",
+                "1 dzie\u0144 temu", "1 dzie\u0144 temu", "1 dzie\u0144 temu", "1 dzie\u0144 temu", "1 dzie\u0144 temu",
+                "1 dzie\u0144 temu", "{num} dnia temu", "{num} dnia temu", "{num} dnia temu", "{num} dni temu",
+                "{num} dni temu", "{num} dnia temu", "1 miesi\u0105c temu", "1 miesi\u0105c temu",
+                "1 miesi\u0105c temu", "1 miesi\u0105c temu", "1 miesi\u0105c temu", "1 miesi\u0105c temu",
+                "{num} miesi\u0105ca temu", "{num} miesi\u0105ca temu", "{num} miesi\u0105ca temu",
+                "{num} miesi\u0105ce temu", "{num} miesi\u0119cy temu", "{num} miesi\u0105ca temu", "1 rok temu",
+                "1 rok temu", "1 rok temu", "1 rok temu", "1 rok temu", "1 rok temu", "{num} roku temu",
+                "{num} roku temu", "{num} roku temu", "{num} lata temu", "{num} lat temu", "{num} roku temu",
+                "{list} temu", "{list} temu", "{list} temu", "{list} temu", "{list} temu", "{list} temu", ", ", ", ",
+                ", ", ", ", ", ", ", ", " i ", " i ", " i ", " i ", " i ", " i ", "1 nanosekunda", "1 nanosekunda",
+                "1 nanosekunda", "1 nanosekunda", "1 nanosekunda", "1 nanosekunda", "{num} nanosekundy",
+                "{num} nanosekundy", "{num} nanosekundy", "{num} nanosekundy", "{num} nanosekund", "{num} nanosekundy",
+                "1 mikrosekunda", "1 mikrosekunda", "1 mikrosekunda", "1 mikrosekunda", "1 mikrosekunda",
+                "1 mikrosekunda", "{num} mikrosekundy", "{num} mikrosekundy", "{num} mikrosekundy",
+                "{num} mikrosekundy", "{num} mikrosekund", "{num} mikrosekundy", "1 milisekunda", "1 milisekunda",
+                "1 milisekunda", "1 milisekunda", "1 milisekunda", "1 milisekunda", "{num} milisekundy",
+                "{num} milisekundy", "{num} milisekundy", "{num} milisekundy", "{num} milisekund", "{num} milisekundy",
+                "1 sekunda", "1 sekunda", "1 sekunda", "1 sekunda", "1 sekunda", "1 sekunda", "{num} sekundy",
+                "{num} sekundy", "{num} sekundy", "{num} sekundy", "{num} sekund", "{num} sekundy", "1 minuta",
+                "1 minuta", "1 minuta", "1 minuta", "1 minuta", "1 minuta", "{num} minuty", "{num} minuty",
+                "{num} minuty", "{num} minuty", "{num} minut", "{num} minuty", "1 godzina", "1 godzina", "1 godzina",
+                "1 godzina", "1 godzina", "1 godzina", "{num} godziny", "{num} godziny", "{num} godziny",
+                "{num} godziny", "{num} godzin", "{num} godziny", "1 dzie\u0144", "1 dzie\u0144", "1 dzie\u0144",
+                "1 dzie\u0144", "1 dzie\u0144", "1 dzie\u0144", "{num} dnia", "{num} dnia", "{num} dnia", "{num} dni",
+                "{num} dni", "{num} dnia", "1 miesi\u0105c", "1 miesi\u0105c", "1 miesi\u0105c", "1 miesi\u0105c",
+                "1 miesi\u0105c", "1 miesi\u0105c", "{num} miesi\u0105ca", "{num} miesi\u0105ca", "{num} miesi\u0105ca",
+                "{num} miesi\u0105ce", "{num} miesi\u0119cy", "{num} miesi\u0105ca", "1 rok", "1 rok", "1 rok", "1 rok",
+                "1 rok", "1 rok", "{num} roku", "{num} roku", "{num} roku", "{num} lata", "{num} lat", "{num} roku"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "Przed chwil\u0105", "Przed chwil\u0105", "Przed chwil\u0105", "Przed chwil\u0105", "Przed chwil\u0105",
+                "Przed chwil\u0105", "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu",
+                "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu", "1 nanosekund\u0119 temu", "", "", "", "", "", "",
+                "1 mikrosekund\u0119 temu", "1 mikrosekund\u0119 temu", "1 mikrosekund\u0119 temu",
+                "1 mikrosekund\u0119 temu", "1 mikrosekund\u0119 temu", "1 mikrosekund\u0119 temu", "", "", "", "", "",
+                "", "1 milisekund\u0119 temu", "1 milisekund\u0119 temu", "1 milisekund\u0119 temu",
+                "1 milisekund\u0119 temu", "1 milisekund\u0119 temu", "1 milisekund\u0119 temu", "", "", "", "", "", "",
+                "1 sekund\u0119 temu", "1 sekund\u0119 temu", "1 sekund\u0119 temu", "1 sekund\u0119 temu",
+                "1 sekund\u0119 temu", "1 sekund\u0119 temu", "", "", "", "", "", "", "1 minut\u0119 temu",
+                "1 minut\u0119 temu", "1 minut\u0119 temu", "1 minut\u0119 temu", "1 minut\u0119 temu",
+                "1 minut\u0119 temu", "", "", "", "", "", "", "1 godzin\u0119 temu", "1 godzin\u0119 temu",
+                "1 godzin\u0119 temu", "1 godzin\u0119 temu", "1 godzin\u0119 temu", "1 godzin\u0119 temu", "", "", "",
+                "", "", "", "1 dzie\u0144 temu", "1 dzie\u0144 temu", "1 dzie\u0144 temu", "1 dzie\u0144 temu",
+                "1 dzie\u0144 temu", "1 dzie\u0144 temu", "", "", "", "", "", "", "1 miesi\u0105c temu",
+                "1 miesi\u0105c temu", "1 miesi\u0105c temu", "1 miesi\u0105c temu", "1 miesi\u0105c temu",
+                "1 miesi\u0105c temu", "", "", "", "", "", "", "1 rok temu", "1 rok temu", "1 rok temu", "1 rok temu",
+                "1 rok temu", "1 rok temu", "", "", "", "", "", "", "", "", "", "", "", "", ", ", ", ", ", ", ", ",
+                ", ", ", ", " i ", " i ", " i ", " i ", " i ", " i ", "1 nanosekunda", "1 nanosekunda", "1 nanosekunda",
+                "1 nanosekunda", "1 nanosekunda", "1 nanosekunda", "", "", "", "", "", "", "1 mikrosekunda",
+                "1 mikrosekunda", "1 mikrosekunda", "1 mikrosekunda", "1 mikrosekunda", "1 mikrosekunda", "", "", "",
+                "", "", "", "1 milisekunda", "1 milisekunda", "1 milisekunda", "1 milisekunda", "1 milisekunda",
+                "1 milisekunda", "", "", "", "", "", "", "1 sekunda", "1 sekunda", "1 sekunda", "1 sekunda",
+                "1 sekunda", "1 sekunda", "", "", "", "", "", "", "1 minuta", "1 minuta", "1 minuta", "1 minuta",
+                "1 minuta", "1 minuta", "", "", "", "", "", "", "1 godzina", "1 godzina", "1 godzina", "1 godzina",
+                "1 godzina", "1 godzina", "", "", "", "", "", "", "1 dzie\u0144", "1 dzie\u0144", "1 dzie\u0144",
+                "1 dzie\u0144", "1 dzie\u0144", "1 dzie\u0144", "", "", "", "", "", "", "1 miesi\u0105c",
+                "1 miesi\u0105c", "1 miesi\u0105c", "1 miesi\u0105c", "1 miesi\u0105c", "1 miesi\u0105c", "", "", "",
+                "", "", "", "1 rok", "1 rok", "1 rok", "1 rok", "1 rok", "1 rok", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanosekundy temu", " nanosekundy temu",
+                " nanosekundy temu", " nanosekundy temu", " nanosekund temu", " nanosekundy temu", "", "", "", "", "",
+                "", " mikrosekundy temu", " mikrosekundy temu", " mikrosekundy temu", " mikrosekundy temu",
+                " mikrosekund temu", " mikrosekundy temu", "", "", "", "", "", "", " milisekundy temu",
+                " milisekundy temu", " milisekundy temu", " milisekundy temu", " milisekund temu", " milisekundy temu",
+                "", "", "", "", "", "", " sekundy temu", " sekundy temu", " sekundy temu", " sekundy temu",
+                " sekund temu", " sekundy temu", "", "", "", "", "", "", " minuty temu", " minuty temu", " minuty temu",
+                " minuty temu", " minut temu", " minuty temu", "", "", "", "", "", "", " godziny temu", " godziny temu",
+                " godziny temu", " godziny temu", " godzin temu", " godziny temu", "", "", "", "", "", "", " dnia temu",
+                " dnia temu", " dnia temu", " dni temu", " dni temu", " dnia temu", "", "", "", "", "", "",
+                " miesi\u0105ca temu", " miesi\u0105ca temu", " miesi\u0105ca temu", " miesi\u0105ce temu",
+                " miesi\u0119cy temu", " miesi\u0105ca temu", "", "", "", "", "", "", " roku temu", " roku temu",
+                " roku temu", " lata temu", " lat temu", " roku temu", " temu", " temu", " temu", " temu", " temu",
+                " temu", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", " nanosekundy",
+                " nanosekundy", " nanosekundy", " nanosekundy", " nanosekund", " nanosekundy", "", "", "", "", "", "",
+                " mikrosekundy", " mikrosekundy", " mikrosekundy", " mikrosekundy", " mikrosekund", " mikrosekundy", "",
+                "", "", "", "", "", " milisekundy", " milisekundy", " milisekundy", " milisekundy", " milisekund",
+                " milisekundy", "", "", "", "", "", "", " sekundy", " sekundy", " sekundy", " sekundy", " sekund",
+                " sekundy", "", "", "", "", "", "", " minuty", " minuty", " minuty", " minuty", " minut", " minuty", "",
+                "", "", "", "", "", " godziny", " godziny", " godziny", " godziny", " godzin", " godziny", "", "", "",
+                "", "", "", " dnia", " dnia", " dnia", " dni", " dni", " dnia", "", "", "", "", "", "",
+                " miesi\u0105ca", " miesi\u0105ca", " miesi\u0105ca", " miesi\u0105ce", " miesi\u0119cy",
+                " miesi\u0105ca", "", "", "", "", "", "", " roku", " roku", " roku", " lata", " lat", " roku"
+        };
+        static final byte[] BYTES_0 = {80, 114, 122, 101, 100, 32, 99, 104, 119, 105, 108, -60, -123};
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {
+                49, 32, 110, 97, 110, 111, 115, 101, 107, 117, 110, 100, -60, -103, 32, 116, 101, 109, 117
+        };
+        static final byte[] BYTES_3 = {
+                32, 110, 97, 110, 111, 115, 101, 107, 117, 110, 100, 121, 32, 116, 101, 109, 117
+        };
+        static final byte[] BYTES_4 = {32, 110, 97, 110, 111, 115, 101, 107, 117, 110, 100, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_5 = {
+                49, 32, 109, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, -60, -103, 32, 116, 101, 109, 117
+        };
+        static final byte[] BYTES_6 = {
+                32, 109, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, 121, 32, 116, 101, 109, 117
+        };
+        static final byte[] BYTES_7 = {
+                32, 109, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, 32, 116, 101, 109, 117
+        };
+        static final byte[] BYTES_8 = {
+                49, 32, 109, 105, 108, 105, 115, 101, 107, 117, 110, 100, -60, -103, 32, 116, 101, 109, 117
+        };
+        static final byte[] BYTES_9 = {
+                32, 109, 105, 108, 105, 115, 101, 107, 117, 110, 100, 121, 32, 116, 101, 109, 117
+        };
+        static final byte[] BYTES_10 = {32, 109, 105, 108, 105, 115, 101, 107, 117, 110, 100, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_11 = {49, 32, 115, 101, 107, 117, 110, 100, -60, -103, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_12 = {32, 115, 101, 107, 117, 110, 100, 121, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_13 = {32, 115, 101, 107, 117, 110, 100, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_14 = {49, 32, 109, 105, 110, 117, 116, -60, -103, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_15 = {32, 109, 105, 110, 117, 116, 121, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_16 = {32, 109, 105, 110, 117, 116, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_17 = {49, 32, 103, 111, 100, 122, 105, 110, -60, -103, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_18 = {32, 103, 111, 100, 122, 105, 110, 121, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_19 = {32, 103, 111, 100, 122, 105, 110, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_20 = {49, 32, 100, 122, 105, 101, -59, -124, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_21 = {32, 100, 110, 105, 97, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_22 = {32, 100, 110, 105, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_23 = {49, 32, 109, 105, 101, 115, 105, -60, -123, 99, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_24 = {32, 109, 105, 101, 115, 105, -60, -123, 99, 97, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_25 = {32, 109, 105, 101, 115, 105, -60, -123, 99, 101, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_26 = {32, 109, 105, 101, 115, 105, -60, -103, 99, 121, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_27 = {49, 32, 114, 111, 107, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_28 = {32, 114, 111, 107, 117, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_29 = {32, 108, 97, 116, 97, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_30 = {32, 108, 97, 116, 32, 116, 101, 109, 117};
+        static final byte[] BYTES_31 = {32, 116, 101, 109, 117};
+        static final byte[] BYTES_32 = {44, 32};
+        static final byte[] BYTES_33 = {32, 105, 32};
+        static final byte[] BYTES_34 = {49, 32, 110, 97, 110, 111, 115, 101, 107, 117, 110, 100, 97};
+        static final byte[] BYTES_35 = {32, 110, 97, 110, 111, 115, 101, 107, 117, 110, 100, 121};
+        static final byte[] BYTES_36 = {32, 110, 97, 110, 111, 115, 101, 107, 117, 110, 100};
+        static final byte[] BYTES_37 = {49, 32, 109, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, 97};
+        static final byte[] BYTES_38 = {32, 109, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100, 121};
+        static final byte[] BYTES_39 = {32, 109, 105, 107, 114, 111, 115, 101, 107, 117, 110, 100};
+        static final byte[] BYTES_40 = {49, 32, 109, 105, 108, 105, 115, 101, 107, 117, 110, 100, 97};
+        static final byte[] BYTES_41 = {32, 109, 105, 108, 105, 115, 101, 107, 117, 110, 100, 121};
+        static final byte[] BYTES_42 = {32, 109, 105, 108, 105, 115, 101, 107, 117, 110, 100};
+        static final byte[] BYTES_43 = {49, 32, 115, 101, 107, 117, 110, 100, 97};
+        static final byte[] BYTES_44 = {32, 115, 101, 107, 117, 110, 100, 121};
+        static final byte[] BYTES_45 = {32, 115, 101, 107, 117, 110, 100};
+        static final byte[] BYTES_46 = {49, 32, 109, 105, 110, 117, 116, 97};
+        static final byte[] BYTES_47 = {32, 109, 105, 110, 117, 116, 121};
+        static final byte[] BYTES_48 = {32, 109, 105, 110, 117, 116};
+        static final byte[] BYTES_49 = {49, 32, 103, 111, 100, 122, 105, 110, 97};
+        static final byte[] BYTES_50 = {32, 103, 111, 100, 122, 105, 110, 121};
+        static final byte[] BYTES_51 = {32, 103, 111, 100, 122, 105, 110};
+        static final byte[] BYTES_52 = {49, 32, 100, 122, 105, 101, -59, -124};
+        static final byte[] BYTES_53 = {32, 100, 110, 105, 97};
+        static final byte[] BYTES_54 = {32, 100, 110, 105};
+        static final byte[] BYTES_55 = {49, 32, 109, 105, 101, 115, 105, -60, -123, 99};
+        static final byte[] BYTES_56 = {32, 109, 105, 101, 115, 105, -60, -123, 99, 97};
+        static final byte[] BYTES_57 = {32, 109, 105, 101, 115, 105, -60, -123, 99, 101};
+        static final byte[] BYTES_58 = {32, 109, 105, 101, 115, 105, -60, -103, 99, 121};
+        static final byte[] BYTES_59 = {49, 32, 114, 111, 107};
+        static final byte[] BYTES_60 = {32, 114, 111, 107, 117};
+        static final byte[] BYTES_61 = {32, 108, 97, 116, 97};
+        static final byte[] BYTES_62 = {32, 108, 97, 116};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_5, BYTES_5, BYTES_5, BYTES_5,
+                BYTES_5, BYTES_5, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_11, BYTES_11,
+                BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_14,
+                BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_32,
+                BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_32, BYTES_33, BYTES_33, BYTES_33, BYTES_33, BYTES_33,
+                BYTES_33, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_37, BYTES_37, BYTES_37, BYTES_37, BYTES_37, BYTES_37, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_43, BYTES_43, BYTES_43, BYTES_43, BYTES_43, BYTES_43,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_46, BYTES_46, BYTES_46, BYTES_46, BYTES_46,
+                BYTES_46, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_49, BYTES_49, BYTES_49, BYTES_49,
+                BYTES_49, BYTES_49, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_52, BYTES_52, BYTES_52,
+                BYTES_52, BYTES_52, BYTES_52, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_55, BYTES_55,
+                BYTES_55, BYTES_55, BYTES_55, BYTES_55, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_59,
+                BYTES_59, BYTES_59, BYTES_59, BYTES_59, BYTES_59, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_4, BYTES_3, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_7, BYTES_6, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_10, BYTES_9, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_13, BYTES_12, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_16, BYTES_15,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_19,
+                BYTES_18, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_21, BYTES_21, BYTES_21, BYTES_22,
+                BYTES_22, BYTES_21, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24,
+                BYTES_25, BYTES_26, BYTES_24, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_29, BYTES_30, BYTES_28, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_35, BYTES_35, BYTES_35, BYTES_35,
+                BYTES_36, BYTES_35, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_38, BYTES_38, BYTES_38,
+                BYTES_38, BYTES_39, BYTES_38, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_41, BYTES_41,
+                BYTES_41, BYTES_41, BYTES_42, BYTES_41, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_44,
+                BYTES_44, BYTES_44, BYTES_44, BYTES_45, BYTES_44, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_47, BYTES_47, BYTES_47, BYTES_47, BYTES_48, BYTES_47, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_50, BYTES_50, BYTES_50, BYTES_50, BYTES_51, BYTES_50, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_53, BYTES_53, BYTES_53, BYTES_54, BYTES_54, BYTES_53, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_56, BYTES_56, BYTES_56, BYTES_57, BYTES_58, BYTES_56, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_60, BYTES_60, BYTES_60, BYTES_61, BYTES_62, BYTES_60
+        };
+    }
+
+    /**
+     * The tables of pt.properties.
+     */
+    private static final class Pt {
+        static final String[] PLURAL_RULES = {null, null, null, null, null, null};
+        static final byte[] PLURAL_TABLE = {
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+                5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+        };
+        static final String[] STRINGS = {
+                "H\u00e1 alguns instantes", "H\u00e1 alguns instantes", "H\u00e1 alguns instantes",
+                "H\u00e1 alguns instantes", "H\u00e1 alguns instantes", "H\u00e1 alguns instantes",
+                "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo",
+                "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo", "H\u00e1 {num} nanossegundos",
+                "H\u00e1 {num} nanossegundos", "H\u00e1 {num} nanossegundos", "H\u00e1 {num} nanossegundos",
+                "H\u00e1 {num} nanossegundos", "H\u00e1 {num} nanossegundos", "H\u00e1 1 microssegundo",
+                "H\u00e1 1 microssegundo", "H\u00e1 1 microssegundo", "H\u00e1 1 microssegundo",
+                "H\u00e1 1 microssegundo", "H\u00e1 1 microssegundo", "H\u00e1 {num} microssegundos",
+                "H\u00e1 {num} microssegundos", "H\u00e1 {num} microssegundos", "H\u00e1 {num} microssegundos",
+                "H\u00e1 {num} microssegundos", "H\u00e1 {num} microssegundos", "H\u00e1 1 milissegundo",
+                "H\u00e1 1 milissegundo", "H\u00e1 1 milissegundo", "H\u00e1 1 milissegundo", "H\u00e1 1 milissegundo",
+                "H\u00e1 1 milissegundo", "H\u00e1 {num} milissegundos", "H\u00e1 {num} milissegundos",
+                "H\u00e1 {num} milissegundos", "H\u00e1 {num} milissegundos", "H\u00e1 {num} milissegundos",
+                "H\u00e1 {num} milissegundos", "H\u00e1 1 segundo", "H\u00e1 1 segundo", "H\u00e1 1 segundo",
+                "H\u00e1 1 segundo", "H\u00e1 1 segundo", "H\u00e1 1 segundo", "H\u00e1 {num} segundos",
+                "H\u00e1 {num} segundos", "H\u00e1 {num} segundos", "H\u00e1 {num} segundos", "H\u00e1 {num} segundos",
+                "H\u00e1 {num} segundos", "H\u00e1 1 minuto", "H\u00e1 1 minuto", "H\u00e1 1 minuto",
+                "H\u00e1 1 minuto", "H\u00e1 1 minuto", "H\u00e1 1 minuto", "H\u00e1 {num} minutos",
+                "H\u00e1 {num} minutos", "H\u00e1 {num} minutos", "H\u00e1 {num} minutos", "H\u00e1 {num} minutos",
+                "H\u00e1 {num} minutos", "H\u00e1 1 hora", "H\u00e1 1 hora", "H\u00e1 1 hora", "H\u00e1 1 hora",
+                "H\u00e1 1 hora", "H\u00e1 1 hora", "H\u00e1 {num} horas", "H\u00e1 {num} horas", "H\u00e1 {num} horas",
+                "H\u00e1 {num} horas", "H\u00e1 {num} horas", "H\u00e1 {num} horas", "H\u00e1 1 dia", "H\u00e1 1 dia",
+                "H\u00e1 1 dia", "H\u00e1 1 dia", "H\u00e1 1 dia", "H\u00e1 1 dia", "H\u00e1 {num} dias",
+                "H\u00e1 {num} dias", "H\u00e1 {num} dias", "H\u00e1 {num} dias", "H\u00e1 {num} dias",
+                "H\u00e1 {num} dias", "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas",
+                "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas", "H\u00e1 {num} meses",
+                "H\u00e1 {num} meses", "H\u00e1 {num} meses", "H\u00e1 {num} meses", "H\u00e1 {num} meses",
+                "H\u00e1 {num} meses", "H\u00e1 1 ano", "H\u00e1 1 ano", "H\u00e1 1 ano", "H\u00e1 1 ano",
+                "H\u00e1 1 ano", "H\u00e1 1 ano", "H\u00e1 {num} anos", "H\u00e1 {num} anos", "H\u00e1 {num} anos",
+                "H\u00e1 {num} anos", "H\u00e1 {num} anos", "H\u00e1 {num} anos", "H\u00e1 {list}", "H\u00e1 {list}",
+                "H\u00e1 {list}", "H\u00e1 {list}", "H\u00e1 {list}", "H\u00e1 {list}", ", ", ", ", ", ", ", ", ", ",
+                ", ", " e ", " e ", " e ", " e ", " e ", " e ", "1 nanossegundo", "1 nanossegundo", "1 nanossegundo",
+                "1 nanossegundo", "1 nanossegundo", "1 nanossegundo", "{num} nanossegundos", "{num} nanossegundos",
+                "{num} nanossegundos", "{num} nanossegundos", "{num} nanossegundos", "{num} nanossegundos",
+                "1 microssegundo", "1 microssegundo", "1 microssegundo", "1 microssegundo", "1 microssegundo",
+                "1 microssegundo", "{num} microssegundos", "{num} microssegundos", "{num} microssegundos",
+                "{num} microssegundos", "{num} microssegundos", "{num} microssegundos", "1 milissegundo",
+                "1 milissegundo", "1 milissegundo", "1 milissegundo", "1 milissegundo", "1 milissegundo",
+                "{num} milissegundos", "{num} milissegundos", "{num} milissegundos", "{num} milissegundos",
+                "{num} milissegundos", "{num} milissegundos", "1 segundo", "1 segundo", "1 segundo", "1 segundo",
+                "1 segundo", "1 segundo", "{num} segundos", "{num} segundos", "{num} segundos", "{num} segundos",
+                "{num} segundos", "{num} segundos", "1 minuto", "1 minuto", "1 minuto", "1 minuto", "1 minuto",
+                "1 minuto", "{num} minutos", "{num} minutos", "{num} minutos", "{num} minutos", "{num} minutos",
+                "{num} minutos", "1 hora", "1 hora", "1 hora", "1 hora", "1 hora", "1 hora", "{num} horas",
+                "{num} horas", "{num} horas", "{num} horas", "{num} horas", "{num} horas", "1 dia", "1 dia", "1 dia",
+                "1 dia", "1 dia", "1 dia", "{num} dias", "{num} dias", "{num} dias", "{num} dias", "{num} dias",
+                "{num} dias", "1 m\u00eas", "1 m\u00eas", "1 m\u00eas", "1 m\u00eas", "1 m\u00eas", "1 m\u00eas",
+                "{num} meses", "{num} meses", "{num} meses", "{num} meses", "{num} meses", "{num} meses", "1 ano",
+                "1 ano", "1 ano", "1 ano", "1 ano", "1 ano", "{num} anos", "{num} anos", "{num} anos", "{num} anos",
+                "{num} anos", "{num} anos"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "H\u00e1 alguns instantes", "H\u00e1 alguns instantes", "H\u00e1 alguns instantes",
+                "H\u00e1 alguns instantes", "H\u00e1 alguns instantes", "H\u00e1 alguns instantes",
+                "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo",
+                "H\u00e1 1 nanossegundo", "H\u00e1 1 nanossegundo", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 microssegundo", "H\u00e1 1 microssegundo", "H\u00e1 1 microssegundo",
+                "H\u00e1 1 microssegundo", "H\u00e1 1 microssegundo", "H\u00e1 1 microssegundo", "H\u00e1 ", "H\u00e1 ",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 milissegundo", "H\u00e1 1 milissegundo",
+                "H\u00e1 1 milissegundo", "H\u00e1 1 milissegundo", "H\u00e1 1 milissegundo", "H\u00e1 1 milissegundo",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 segundo",
+                "H\u00e1 1 segundo", "H\u00e1 1 segundo", "H\u00e1 1 segundo", "H\u00e1 1 segundo", "H\u00e1 1 segundo",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 minuto",
+                "H\u00e1 1 minuto", "H\u00e1 1 minuto", "H\u00e1 1 minuto", "H\u00e1 1 minuto", "H\u00e1 1 minuto",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 hora",
+                "H\u00e1 1 hora", "H\u00e1 1 hora", "H\u00e1 1 hora", "H\u00e1 1 hora", "H\u00e1 1 hora", "H\u00e1 ",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 dia", "H\u00e1 1 dia",
+                "H\u00e1 1 dia", "H\u00e1 1 dia", "H\u00e1 1 dia", "H\u00e1 1 dia", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas",
+                "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas", "H\u00e1 1 m\u00eas", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 1 ano", "H\u00e1 1 ano", "H\u00e1 1 ano", "H\u00e1 1 ano",
+                "H\u00e1 1 ano", "H\u00e1 1 ano", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ",
+                "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", "H\u00e1 ", ", ", ", ", ", ",
+                ", ", ", ", ", ", " e ", " e ", " e ", " e ", " e ", " e ", "1 nanossegundo", "1 nanossegundo",
+                "1 nanossegundo", "1 nanossegundo", "1 nanossegundo", "1 nanossegundo", "", "", "", "", "", "",
+                "1 microssegundo", "1 microssegundo", "1 microssegundo", "1 microssegundo", "1 microssegundo",
+                "1 microssegundo", "", "", "", "", "", "", "1 milissegundo", "1 milissegundo", "1 milissegundo",
+                "1 milissegundo", "1 milissegundo", "1 milissegundo", "", "", "", "", "", "", "1 segundo", "1 segundo",
+                "1 segundo", "1 segundo", "1 segundo", "1 segundo", "", "", "", "", "", "", "1 minuto", "1 minuto",
+                "1 minuto", "1 minuto", "1 minuto", "1 minuto", "", "", "", "", "", "", "1 hora", "1 hora", "1 hora",
+                "1 hora", "1 hora", "1 hora", "", "", "", "", "", "", "1 dia", "1 dia", "1 dia", "1 dia", "1 dia",
+                "1 dia", "", "", "", "", "", "", "1 m\u00eas", "1 m\u00eas", "1 m\u00eas", "1 m\u00eas", "1 m\u00eas",
+                "1 m\u00eas", "", "", "", "", "", "", "1 ano", "1 ano", "1 ano", "1 ano", "1 ano", "1 ano", "", "", "",
+                "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanossegundos", " nanossegundos", " nanossegundos",
+                " nanossegundos", " nanossegundos", " nanossegundos", "", "", "", "", "", "", " microssegundos",
+                " microssegundos", " microssegundos", " microssegundos", " microssegundos", " microssegundos", "", "",
+                "", "", "", "", " milissegundos", " milissegundos", " milissegundos", " milissegundos",
+                " milissegundos", " milissegundos", "", "", "", "", "", "", " segundos", " segundos", " segundos",
+                " segundos", " segundos", " segundos", "", "", "", "", "", "", " minutos", " minutos", " minutos",
+                " minutos", " minutos", " minutos", "", "", "", "", "", "", " horas", " horas", " horas", " horas",
+                " horas", " horas", "", "", "", "", "", "", " dias", " dias", " dias", " dias", " dias", " dias", "",
+                "", "", "", "", "", " meses", " meses", " meses", " meses", " meses", " meses", "", "", "", "", "", "",
+                " anos", " anos", " anos", " anos", " anos", " anos", "", "", "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "", "", "", " nanossegundos", " nanossegundos", " nanossegundos",
+                " nanossegundos", " nanossegundos", " nanossegundos", "", "", "", "", "", "", " microssegundos",
+                " microssegundos", " microssegundos", " microssegundos", " microssegundos", " microssegundos", "", "",
+                "", "", "", "", " milissegundos", " milissegundos", " milissegundos", " milissegundos",
+                " milissegundos", " milissegundos", "", "", "", "", "", "", " segundos", " segundos", " segundos",
+                " segundos", " segundos", " segundos", "", "", "", "", "", "", " minutos", " minutos", " minutos",
+                " minutos", " minutos", " minutos", "", "", "", "", "", "", " horas", " horas", " horas", " horas",
+                " horas", " horas", "", "", "", "", "", "", " dias", " dias", " dias", " dias", " dias", " dias", "",
+                "", "", "", "", "", " meses", " meses", " meses", " meses", " meses", " meses", "", "", "", "", "", "",
+                " anos", " anos", " anos", " anos", " anos", " anos"
+        };
+        static final byte[] BYTES_0 = {
+                72, -61, -95, 32, 97, 108, 103, 117, 110, 115, 32, 105, 110, 115, 116, 97, 110, 116, 101, 115
+        };
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {
+                72, -61, -95, 32, 49, 32, 110, 97, 110, 111, 115, 115, 101, 103, 117, 110, 100, 111
+        };
+        static final byte[] BYTES_3 = {72, -61, -95, 32};
+        static final byte[] BYTES_4 = {32, 110, 97, 110, 111, 115, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_5 = {
+                72, -61, -95, 32, 49, 32, 109, 105, 99, 114, 111, 115, 115, 101, 103, 117, 110, 100, 111
+        };
+        static final byte[] BYTES_6 = {32, 109, 105, 99, 114, 111, 115, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_7 = {
+                72, -61, -95, 32, 49, 32, 109, 105, 108, 105, 115, 115, 101, 103, 117, 110, 100, 111
+        };
+        static final byte[] BYTES_8 = {32, 109, 105, 108, 105, 115, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_9 = {72, -61, -95, 32, 49, 32, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_10 = {32, 115, 101, 103, 117, 110, 100, 111, 115};
+        static final byte[] BYTES_11 = {72, -61, -95, 32, 49, 32, 109, 105, 110, 117, 116, 111};
+        static final byte[] BYTES_12 = {32, 109, 105, 110, 117, 116, 111, 115};
+        static final byte[] BYTES_13 = {72, -61, -95, 32, 49, 32, 104, 111, 114, 97};
+        static final byte[] BYTES_14 = {32, 104, 111, 114, 97, 115};
+        static final byte[] BYTES_15 = {72, -61, -95, 32, 49, 32, 100, 105, 97};
+        static final byte[] BYTES_16 = {32, 100, 105, 97, 115};
+        static final byte[] BYTES_17 = {72, -61, -95, 32, 49, 32, 109, -61, -86, 115};
+        static final byte[] BYTES_18 = {32, 109, 101, 115, 101, 115};
+        static final byte[] BYTES_19 = {72, -61, -95, 32, 49, 32, 97, 110, 111};
+        static final byte[] BYTES_20 = {32, 97, 110, 111, 115};
+        static final byte[] BYTES_21 = {44, 32};
+        static final byte[] BYTES_22 = {32, 101, 32};
+        static final byte[] BYTES_23 = {49, 32, 110, 97, 110, 111, 115, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_24 = {49, 32, 109, 105, 99, 114, 111, 115, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_25 = {49, 32, 109, 105, 108, 105, 115, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_26 = {49, 32, 115, 101, 103, 117, 110, 100, 111};
+        static final byte[] BYTES_27 = {49, 32, 109, 105, 110, 117, 116, 111};
+        static final byte[] BYTES_28 = {49, 32, 104, 111, 114, 97};
+        static final byte[] BYTES_29 = {49, 32, 100, 105, 97};
+        static final byte[] BYTES_30 = {49, 32, 109, -61, -86, 115};
+        static final byte[] BYTES_31 = {49, 32, 97, 110, 111};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_5, BYTES_5, BYTES_5, BYTES_5,
+                BYTES_5, BYTES_5, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_7, BYTES_7, BYTES_7,
+                BYTES_7, BYTES_7, BYTES_7, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_9, BYTES_9,
+                BYTES_9, BYTES_9, BYTES_9, BYTES_9, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_11,
+                BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_11, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_13, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_15, BYTES_3, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_17, BYTES_3, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_19, BYTES_3, BYTES_3,
+                BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_3, BYTES_21,
+                BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_21, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22,
+                BYTES_22, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_23, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_24, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_25, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_27, BYTES_27, BYTES_27, BYTES_27,
+                BYTES_27, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_28, BYTES_28, BYTES_28, BYTES_28,
+                BYTES_28, BYTES_28, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_29, BYTES_29, BYTES_29,
+                BYTES_29, BYTES_29, BYTES_29, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_30, BYTES_30,
+                BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31,
+                BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14,
+                BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16,
+                BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18,
+                BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20,
+                BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_4, BYTES_4, BYTES_4, BYTES_4, BYTES_4,
+                BYTES_4, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_8, BYTES_8, BYTES_8,
+                BYTES_8, BYTES_8, BYTES_8, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_12,
+                BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_12, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_16, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20, BYTES_20
+        };
+    }
+
+    /**
+     * The tables of ru.properties.
+     */
+    private static final class Ru {
+        static final String[] PLURAL_RULES = {
+                null, "v = 0 and i % 10 = 1 and i % 100 != 11", null, "v = 0 and i % 10 = 2..4 and i % 100 != 12..14",
+                "v = 0 and i % 10 = 0 or v = 0 and i % 10 = 5..9 or v = 0 and i % 100 = 11..14", null
+        };
+        static final byte[] PLURAL_TABLE = {
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3,
+                4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4,
+                4, 1, 3, 3, 3, 4, 4, 4, 4, 4, 4, 1, 3, 3, 3, 4, 4, 4, 4, 4
+        };
+        static final String[] STRINGS = {
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043d\u0443\u0442 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0447\u0430\u0441\u043e\u0432 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0434\u043d\u0435\u0439 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0435\u0441\u044f\u0446\u0435\u0432 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u043b\u0435\u0442 \u043d\u0430\u0437\u0430\u0434",
+                "{num} \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434",
+                "{list} \u043d\u0430\u0437\u0430\u0434", "{list} \u043d\u0430\u0437\u0430\u0434",
+                "{list} \u043d\u0430\u0437\u0430\u0434", "{list} \u043d\u0430\u0437\u0430\u0434",
+                "{list} \u043d\u0430\u0437\u0430\u0434", "{list} \u043d\u0430\u0437\u0430\u0434", ", ", ", ", ", ",
+                ", ", ", ", ", ", " \u0438 ", " \u0438 ", " \u0438 ", " \u0438 ", " \u0438 ", " \u0438 ",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434",
+                "{num} \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434",
+                "{num} \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434",
+                "{num} \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430", "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430", "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430", "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b", "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b", "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "{num} \u0441\u0435\u043a\u0443\u043d\u0434", "{num} \u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0430", "1 \u043c\u0438\u043d\u0443\u0442\u0430",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0430", "1 \u043c\u0438\u043d\u0443\u0442\u0430",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0430", "1 \u043c\u0438\u043d\u0443\u0442\u0430",
+                "{num} \u043c\u0438\u043d\u0443\u0442\u044b", "{num} \u043c\u0438\u043d\u0443\u0442\u0430",
+                "{num} \u043c\u0438\u043d\u0443\u0442\u044b", "{num} \u043c\u0438\u043d\u0443\u0442\u044b",
+                "{num} \u043c\u0438\u043d\u0443\u0442", "{num} \u043c\u0438\u043d\u0443\u0442\u044b",
+                "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441",
+                "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441", "{num} \u0447\u0430\u0441\u0430",
+                "{num} \u0447\u0430\u0441", "{num} \u0447\u0430\u0441\u0430", "{num} \u0447\u0430\u0441\u0430",
+                "{num} \u0447\u0430\u0441\u043e\u0432", "{num} \u0447\u0430\u0441\u0430", "1 \u0434\u0435\u043d\u044c",
+                "1 \u0434\u0435\u043d\u044c", "1 \u0434\u0435\u043d\u044c", "1 \u0434\u0435\u043d\u044c",
+                "1 \u0434\u0435\u043d\u044c", "1 \u0434\u0435\u043d\u044c", "{num} \u0434\u043d\u044f",
+                "{num} \u0434\u0435\u043d\u044c", "{num} \u0434\u043d\u044f", "{num} \u0434\u043d\u044f",
+                "{num} \u0434\u043d\u0435\u0439", "{num} \u0434\u043d\u044f", "1 \u043c\u0435\u0441\u044f\u0446",
+                "1 \u043c\u0435\u0441\u044f\u0446", "1 \u043c\u0435\u0441\u044f\u0446",
+                "1 \u043c\u0435\u0441\u044f\u0446", "1 \u043c\u0435\u0441\u044f\u0446",
+                "1 \u043c\u0435\u0441\u044f\u0446", "{num} \u043c\u0435\u0441\u044f\u0446\u0430",
+                "{num} \u043c\u0435\u0441\u044f\u0446", "{num} \u043c\u0435\u0441\u044f\u0446\u0430",
+                "{num} \u043c\u0435\u0441\u044f\u0446\u0430", "{num} \u043c\u0435\u0441\u044f\u0446\u0435\u0432",
+                "{num} \u043c\u0435\u0441\u044f\u0446\u0430", "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434",
+                "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434",
+                "{num} \u0433\u043e\u0434\u0430", "{num} \u0433\u043e\u0434", "{num} \u0433\u043e\u0434\u0430",
+                "{num} \u0433\u043e\u0434\u0430", "{num} \u043b\u0435\u0442", "{num} \u0433\u043e\u0434\u0430"
+        };
+        static final boolean[] NUMBERS = {
+                false, false, false, false, false, false, false, false, false, false, false, false, true, true, true,
+                true, true, true, false, false, false, false, false, false, true, true, true, true, true, true, false,
+                false, false, false, false, false, true, true, true, true, true, true, false, false, false, false,
+                false, false, true, true, true, true, true, true, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, true, true, true, true, true, true, false, false, false, false, false,
+                false, false, false, false, false, false, false, false, false, false, false, false, false, true, true,
+                true, true, true, true, false, false, false, false, false, false, true, true, true, true, true, true,
+                false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true, false, false, false, false, false, false, true, true, true, true, true,
+                true, false, false, false, false, false, false, true, true, true, true, true, true, false, false, false,
+                false, false, false, true, true, true, true, true, true, false, false, false, false, false, false, true,
+                true, true, true, true, true
+        };
+        static final String[] PREFIXES = {
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "\u0422\u043e\u043b\u044c\u043a\u043e \u0447\u0442\u043e",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "", "", "", "", "", "",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "", "", "", "", "", "",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "", "", "", "", "", "", "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                "1 \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "", "", "", "", "", "", "",
+                ", ", ", ", ", ", ", ", ", ", ", ", " \u0438 ", " \u0438 ", " \u0438 ", " \u0438 ", " \u0438 ",
+                " \u0438 ", "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430", "", "", "", "", "", "",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430", "", "", "", "", "", "",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430", "", "", "", "", "", "",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430", "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430", "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430", "1 \u0441\u0435\u043a\u0443\u043d\u0434\u0430", "", "",
+                "", "", "", "", "1 \u043c\u0438\u043d\u0443\u0442\u0430", "1 \u043c\u0438\u043d\u0443\u0442\u0430",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0430", "1 \u043c\u0438\u043d\u0443\u0442\u0430",
+                "1 \u043c\u0438\u043d\u0443\u0442\u0430", "1 \u043c\u0438\u043d\u0443\u0442\u0430", "", "", "", "", "",
+                "", "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441",
+                "1 \u0447\u0430\u0441", "1 \u0447\u0430\u0441", "", "", "", "", "", "", "1 \u0434\u0435\u043d\u044c",
+                "1 \u0434\u0435\u043d\u044c", "1 \u0434\u0435\u043d\u044c", "1 \u0434\u0435\u043d\u044c",
+                "1 \u0434\u0435\u043d\u044c", "1 \u0434\u0435\u043d\u044c", "", "", "", "", "", "",
+                "1 \u043c\u0435\u0441\u044f\u0446", "1 \u043c\u0435\u0441\u044f\u0446",
+                "1 \u043c\u0435\u0441\u044f\u0446", "1 \u043c\u0435\u0441\u044f\u0446",
+                "1 \u043c\u0435\u0441\u044f\u0446", "1 \u043c\u0435\u0441\u044f\u0446", "", "", "", "", "", "",
+                "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434",
+                "1 \u0433\u043e\u0434", "1 \u0433\u043e\u0434", "", "", "", "", "", ""
+        };
+        static final String[] SUFFIXES = {
+                "", "", "", "", "", "", "", "", "", "", "", "",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "", "", "", "", "", "",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "", "", "", "", "", "",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                "", "", "", "", "", "", " \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u0441\u0435\u043a\u0443\u043d\u0434\u0443 \u043d\u0430\u0437\u0430\u0434",
+                " \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u0441\u0435\u043a\u0443\u043d\u0434 \u043d\u0430\u0437\u0430\u0434",
+                " \u0441\u0435\u043a\u0443\u043d\u0434\u044b \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                " \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043d\u0443\u0442\u0443 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043d\u0443\u0442 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0438\u043d\u0443\u0442\u044b \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                " \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u0447\u0430\u0441 \u043d\u0430\u0437\u0430\u0434",
+                " \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u0447\u0430\u0441\u043e\u0432 \u043d\u0430\u0437\u0430\u0434",
+                " \u0447\u0430\u0441\u0430 \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                " \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434",
+                " \u0434\u0435\u043d\u044c \u043d\u0430\u0437\u0430\u0434",
+                " \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434",
+                " \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434",
+                " \u0434\u043d\u0435\u0439 \u043d\u0430\u0437\u0430\u0434",
+                " \u0434\u043d\u044f \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                " \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0435\u0441\u044f\u0446 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0435\u0441\u044f\u0446\u0435\u0432 \u043d\u0430\u0437\u0430\u0434",
+                " \u043c\u0435\u0441\u044f\u0446\u0430 \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "",
+                " \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u0433\u043e\u0434 \u043d\u0430\u0437\u0430\u0434",
+                " \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434",
+                " \u043b\u0435\u0442 \u043d\u0430\u0437\u0430\u0434",
+                " \u0433\u043e\u0434\u0430 \u043d\u0430\u0437\u0430\u0434", " \u043d\u0430\u0437\u0430\u0434",
+                " \u043d\u0430\u0437\u0430\u0434", " \u043d\u0430\u0437\u0430\u0434", " \u043d\u0430\u0437\u0430\u0434",
+                " \u043d\u0430\u0437\u0430\u0434", " \u043d\u0430\u0437\u0430\u0434", "", "", "", "", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434",
+                " \u043d\u0430\u043d\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b", "", "", "", "", "", "",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434",
+                " \u043c\u0438\u043a\u0440\u043e\u0441\u0435\u043a\u0443\u043d\u0434\u044b", "", "", "", "", "", "",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434",
+                " \u043c\u0438\u043b\u043b\u0438\u0441\u0435\u043a\u0443\u043d\u0434\u044b", "", "", "", "", "", "",
+                " \u0441\u0435\u043a\u0443\u043d\u0434\u044b", " \u0441\u0435\u043a\u0443\u043d\u0434\u0430",
+                " \u0441\u0435\u043a\u0443\u043d\u0434\u044b", " \u0441\u0435\u043a\u0443\u043d\u0434\u044b",
+                " \u0441\u0435\u043a\u0443\u043d\u0434", " \u0441\u0435\u043a\u0443\u043d\u0434\u044b", "", "", "", "",
+                "", "", " \u043c\u0438\u043d\u0443\u0442\u044b", " \u043c\u0438\u043d\u0443\u0442\u0430",
+                " \u043c\u0438\u043d\u0443\u0442\u044b", " \u043c\u0438\u043d\u0443\u0442\u044b",
+                " \u043c\u0438\u043d\u0443\u0442", " \u043c\u0438\u043d\u0443\u0442\u044b", "", "", "", "", "", "",
+                " \u0447\u0430\u0441\u0430", " \u0447\u0430\u0441", " \u0447\u0430\u0441\u0430",
+                " \u0447\u0430\u0441\u0430", " \u0447\u0430\u0441\u043e\u0432", " \u0447\u0430\u0441\u0430", "", "", "",
+                "", "", "", " \u0434\u043d\u044f", " \u0434\u0435\u043d\u044c", " \u0434\u043d\u044f",
+                " \u0434\u043d\u044f", " \u0434\u043d\u0435\u0439", " \u0434\u043d\u044f", "", "", "", "", "", "",
+                " \u043c\u0435\u0441\u044f\u0446\u0430", " \u043c\u0435\u0441\u044f\u0446",
+                " \u043c\u0435\u0441\u044f\u0446\u0430", " \u043c\u0435\u0441\u044f\u0446\u0430",
+                " \u043c\u0435\u0441\u044f\u0446\u0435\u0432", " \u043c\u0435\u0441\u044f\u0446\u0430", "", "", "", "",
+                "", "", " \u0433\u043e\u0434\u0430", " \u0433\u043e\u0434", " \u0433\u043e\u0434\u0430",
+                " \u0433\u043e\u0434\u0430", " \u043b\u0435\u0442", " \u0433\u043e\u0434\u0430"
+        };
+        static final byte[] BYTES_0 = {
+                -48, -94, -48, -66, -48, -69, -47, -116, -48, -70, -48, -66, 32, -47, -121, -47, -126, -48, -66
+        };
+        static final byte[] BYTES_1 = {};
+        static final byte[] BYTES_2 = {
+                49, 32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48,
+                -76, -47, -125, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_3 = {
+                32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48,
+                -76, -47, -117, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_4 = {
+                32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48,
+                -76, -47, -125, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_5 = {
+                32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48,
+                -76, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_6 = {
+                49, 32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125,
+                -48, -67, -48, -76, -47, -125, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_7 = {
+                32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -47, -117, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_8 = {
+                32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -47, -125, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_9 = {
+                32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_10 = {
+                49, 32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -47, -125, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_11 = {
+                32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -47, -117, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_12 = {
+                32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -47, -125, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_13 = {
+                32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_14 = {
+                49, 32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76, -47, -125, 32, -48, -67, -48, -80,
+                -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_15 = {
+                32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76, -47, -117, 32, -48, -67, -48, -80,
+                -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_16 = {
+                32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76, -47, -125, 32, -48, -67, -48, -80,
+                -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_17 = {
+                32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76, 32, -48, -67, -48, -80, -48, -73, -48,
+                -80, -48, -76
+        };
+        static final byte[] BYTES_18 = {
+                49, 32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126, -47, -125, 32, -48, -67, -48, -80, -48, -73,
+                -48, -80, -48, -76
+        };
+        static final byte[] BYTES_19 = {
+                32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126, -47, -117, 32, -48, -67, -48, -80, -48, -73,
+                -48, -80, -48, -76
+        };
+        static final byte[] BYTES_20 = {
+                32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126, -47, -125, 32, -48, -67, -48, -80, -48, -73,
+                -48, -80, -48, -76
+        };
+        static final byte[] BYTES_21 = {
+                32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48,
+                -76
+        };
+        static final byte[] BYTES_22 = {
+                49, 32, -47, -121, -48, -80, -47, -127, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_23 = {
+                32, -47, -121, -48, -80, -47, -127, -48, -80, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_24 = {
+                32, -47, -121, -48, -80, -47, -127, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_25 = {
+                32, -47, -121, -48, -80, -47, -127, -48, -66, -48, -78, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48,
+                -76
+        };
+        static final byte[] BYTES_26 = {
+                49, 32, -48, -76, -48, -75, -48, -67, -47, -116, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_27 = {
+                32, -48, -76, -48, -67, -47, -113, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_28 = {
+                32, -48, -76, -48, -75, -48, -67, -47, -116, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_29 = {
+                32, -48, -76, -48, -67, -48, -75, -48, -71, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_30 = {
+                49, 32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122, 32, -48, -67, -48, -80, -48, -73, -48, -80,
+                -48, -76
+        };
+        static final byte[] BYTES_31 = {
+                32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122, -48, -80, 32, -48, -67, -48, -80, -48, -73,
+                -48, -80, -48, -76
+        };
+        static final byte[] BYTES_32 = {
+                32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122, 32, -48, -67, -48, -80, -48, -73, -48, -80,
+                -48, -76
+        };
+        static final byte[] BYTES_33 = {
+                32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122, -48, -75, -48, -78, 32, -48, -67, -48, -80,
+                -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_34 = {
+                49, 32, -48, -77, -48, -66, -48, -76, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_35 = {
+                32, -48, -77, -48, -66, -48, -76, -48, -80, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_36 = {
+                32, -48, -77, -48, -66, -48, -76, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_37 = {
+                32, -48, -69, -48, -75, -47, -126, 32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76
+        };
+        static final byte[] BYTES_38 = {32, -48, -67, -48, -80, -48, -73, -48, -80, -48, -76};
+        static final byte[] BYTES_39 = {44, 32};
+        static final byte[] BYTES_40 = {32, -48, -72, 32};
+        static final byte[] BYTES_41 = {
+                49, 32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48,
+                -76, -48, -80
+        };
+        static final byte[] BYTES_42 = {
+                32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48,
+                -76, -47, -117
+        };
+        static final byte[] BYTES_43 = {
+                32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48,
+                -76, -48, -80
+        };
+        static final byte[] BYTES_44 = {
+                32, -48, -67, -48, -80, -48, -67, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76
+        };
+        static final byte[] BYTES_45 = {
+                49, 32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125,
+                -48, -67, -48, -76, -48, -80
+        };
+        static final byte[] BYTES_46 = {
+                32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -47, -117
+        };
+        static final byte[] BYTES_47 = {
+                32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -48, -80
+        };
+        static final byte[] BYTES_48 = {
+                32, -48, -68, -48, -72, -48, -70, -47, -128, -48, -66, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76
+        };
+        static final byte[] BYTES_49 = {
+                49, 32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -48, -80
+        };
+        static final byte[] BYTES_50 = {
+                32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -47, -117
+        };
+        static final byte[] BYTES_51 = {
+                32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76, -48, -80
+        };
+        static final byte[] BYTES_52 = {
+                32, -48, -68, -48, -72, -48, -69, -48, -69, -48, -72, -47, -127, -48, -75, -48, -70, -47, -125, -48,
+                -67, -48, -76
+        };
+        static final byte[] BYTES_53 = {49, 32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76, -48, -80};
+        static final byte[] BYTES_54 = {32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76, -47, -117};
+        static final byte[] BYTES_55 = {32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76, -48, -80};
+        static final byte[] BYTES_56 = {32, -47, -127, -48, -75, -48, -70, -47, -125, -48, -67, -48, -76};
+        static final byte[] BYTES_57 = {49, 32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126, -48, -80};
+        static final byte[] BYTES_58 = {32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126, -47, -117};
+        static final byte[] BYTES_59 = {32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126, -48, -80};
+        static final byte[] BYTES_60 = {32, -48, -68, -48, -72, -48, -67, -47, -125, -47, -126};
+        static final byte[] BYTES_61 = {49, 32, -47, -121, -48, -80, -47, -127};
+        static final byte[] BYTES_62 = {32, -47, -121, -48, -80, -47, -127, -48, -80};
+        static final byte[] BYTES_63 = {32, -47, -121, -48, -80, -47, -127};
+        static final byte[] BYTES_64 = {32, -47, -121, -48, -80, -47, -127, -48, -66, -48, -78};
+        static final byte[] BYTES_65 = {49, 32, -48, -76, -48, -75, -48, -67, -47, -116};
+        static final byte[] BYTES_66 = {32, -48, -76, -48, -67, -47, -113};
+        static final byte[] BYTES_67 = {32, -48, -76, -48, -75, -48, -67, -47, -116};
+        static final byte[] BYTES_68 = {32, -48, -76, -48, -67, -48, -75, -48, -71};
+        static final byte[] BYTES_69 = {49, 32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122};
+        static final byte[] BYTES_70 = {32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122, -48, -80};
+        static final byte[] BYTES_71 = {32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122};
+        static final byte[] BYTES_72 = {32, -48, -68, -48, -75, -47, -127, -47, -113, -47, -122, -48, -75, -48, -78};
+        static final byte[] BYTES_73 = {49, 32, -48, -77, -48, -66, -48, -76};
+        static final byte[] BYTES_74 = {32, -48, -77, -48, -66, -48, -76, -48, -80};
+        static final byte[] BYTES_75 = {32, -48, -77, -48, -66, -48, -76};
+        static final byte[] BYTES_76 = {32, -48, -69, -48, -75, -47, -126};
+        static final byte[][] ENCODED_PREFIXES = {
+                BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_0, BYTES_2, BYTES_2, BYTES_2, BYTES_2, BYTES_2,
+                BYTES_2, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_6, BYTES_6, BYTES_6, BYTES_6,
+                BYTES_6, BYTES_6, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_10, BYTES_10, BYTES_10,
+                BYTES_10, BYTES_10, BYTES_10, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_14, BYTES_14,
+                BYTES_14, BYTES_14, BYTES_14, BYTES_14, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_18,
+                BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_18, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_22, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_26, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_30, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_34, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_39,
+                BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_39, BYTES_40, BYTES_40, BYTES_40, BYTES_40, BYTES_40,
+                BYTES_40, BYTES_41, BYTES_41, BYTES_41, BYTES_41, BYTES_41, BYTES_41, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_45, BYTES_45, BYTES_45, BYTES_45, BYTES_45, BYTES_45, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_49, BYTES_49, BYTES_49, BYTES_49, BYTES_49, BYTES_49, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_53, BYTES_53, BYTES_53, BYTES_53, BYTES_53, BYTES_53,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_57, BYTES_57, BYTES_57, BYTES_57, BYTES_57,
+                BYTES_57, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_61, BYTES_61, BYTES_61, BYTES_61,
+                BYTES_61, BYTES_61, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_65, BYTES_65, BYTES_65,
+                BYTES_65, BYTES_65, BYTES_65, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_69, BYTES_69,
+                BYTES_69, BYTES_69, BYTES_69, BYTES_69, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_73,
+                BYTES_73, BYTES_73, BYTES_73, BYTES_73, BYTES_73, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1
+        };
+        static final byte[][] ENCODED_SUFFIXES = {
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_3, BYTES_4, BYTES_3, BYTES_3, BYTES_5, BYTES_3, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_7, BYTES_8, BYTES_7, BYTES_7, BYTES_9, BYTES_7, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_11, BYTES_12, BYTES_11, BYTES_11, BYTES_13, BYTES_11, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_15, BYTES_16, BYTES_15, BYTES_15, BYTES_17, BYTES_15, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_19, BYTES_20, BYTES_19, BYTES_19, BYTES_21, BYTES_19,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_23, BYTES_24, BYTES_23, BYTES_23, BYTES_25,
+                BYTES_23, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_27, BYTES_28, BYTES_27, BYTES_27,
+                BYTES_29, BYTES_27, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_31, BYTES_32, BYTES_31,
+                BYTES_31, BYTES_33, BYTES_31, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_35, BYTES_36,
+                BYTES_35, BYTES_35, BYTES_37, BYTES_35, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38, BYTES_38,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_42, BYTES_43, BYTES_42, BYTES_42,
+                BYTES_44, BYTES_42, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_46, BYTES_47, BYTES_46,
+                BYTES_46, BYTES_48, BYTES_46, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_50, BYTES_51,
+                BYTES_50, BYTES_50, BYTES_52, BYTES_50, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_54,
+                BYTES_55, BYTES_54, BYTES_54, BYTES_56, BYTES_54, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_58, BYTES_59, BYTES_58, BYTES_58, BYTES_60, BYTES_58, BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_62, BYTES_63, BYTES_62, BYTES_62, BYTES_64, BYTES_62, BYTES_1, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_66, BYTES_67, BYTES_66, BYTES_66, BYTES_68, BYTES_66, BYTES_1, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_70, BYTES_71, BYTES_70, BYTES_70, BYTES_72, BYTES_70, BYTES_1, BYTES_1,
+                BYTES_1, BYTES_1, BYTES_1, BYTES_1, BYTES_74, BYTES_75, BYTES_74, BYTES_74, BYTES_76, BYTES_74
+        };
+    }
+}
@@ -1,9 +1,10 @@
 package com.vdurmont.elapsedtime;
 
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * ElapsedTime is an utility to generate strings that describe an elapsed time.
@@ -20,6 +21,8 @@ public class ElapsedTime {
     // CONFIG
     ////////////////
 
+    // The config is global to the JVM. Use a ElapsedTimeFormatter if you need different configs at the same time.
+
     /**
      * The locale to use if no locale is provided when calling the method
      */
@@ -30,6 +33,28 @@ public class ElapsedTime {
      */
     public static TimeDivision smallestTimeDivision = TimeDivision.SECOND;
 
+    /**
+     * The cache of the generated strings. The strings are generated on every call if null.
+     */
+    public static ElapsedTimeCache cache = null;
+
+    /**
+     * A classification is packed as [division ordinal][value on VALUE_BITS bits], so that the classifications are
+     * ordered like the durations they represent.
+     */
+    private static final int VALUE_BITS = 59;
+    private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+
+    /**
+     * The biggest value of a classification.
+     */
+    static final long MAX_VALUE = VALUE_MASK;
+
+    /**
+     * The formatter used by the static methods, rebuilt when the config fields change.
+     */
+    private static volatile ElapsedTimeFormatter defaultFormatter = ElapsedTimeFormatter.builder().build();
+
     ////////////////////////
     // METHODS
     ////////////////
@@ -39,6 +64,26 @@ public class ElapsedTime {
      */
     private ElapsedTime() {}
 
+    /**
+     * Returns the formatter used by the static methods, with the config of the static fields.
+     *
+     * @return the default formatter
+     */
+    public static ElapsedTimeFormatter getDefaultFormatter() {
+        ElapsedTimeFormatter formatter = defaultFormatter;
+        if (formatter.getLocale() != defaultLocale
+                || formatter.getSmallestTimeDivision() != smallestTimeDivision
+                || formatter.getCache() != cache) {
+            formatter = ElapsedTimeFormatter.builder()
+                    .locale(defaultLocale)
+                    .smallestTimeDivision(smallestTimeDivision)
+                    .cache(cache)
+                    .build();
+            defaultFormatter = formatter;
+        }
+        return formatter;
+    }
+
     /**
      * Returns the string representing the duration between the provided date and the present instant.
      *
@@ -48,7 +93,7 @@ public class ElapsedTime {
      * @throws java.lang.IllegalArgumentException if the date is in the future
      */
     public static String getFromDate(Date date) {
-        return getFromDate(date, defaultLocale);
+        return getDefaultFormatter().formatDate(date);
     }
 
     /**
@@ -61,9 +106,57 @@ public class ElapsedTime {
      * @throws java.lang.IllegalArgumentException if the date is in the future
      */
     public static String getFromDate(Date date, Locale locale) {
-        Date now = new Date();
-        long durationMillis = now.getTime() - date.getTime();
-        return getFromDurationMillis(durationMillis, locale);
+        return getDefaultFormatter().formatDate(date, locale);
+    }
+
+    /**
+     * Returns the string representing the duration between the provided instant and the present instant.
+     *
+     * @param instant the instant (in the past)
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the instant is in the future
+     */
+    public static String getFromDate(Instant instant) {
+        return getDefaultFormatter().formatDate(instant);
+    }
+
+    /**
+     * Returns the string representing the duration between the provided instant and the present instant.
+     *
+     * @param instant the instant (in the past)
+     * @param locale  the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the instant is in the future
+     */
+    public static String getFromDate(Instant instant, Locale locale) {
+        return getDefaultFormatter().formatDate(instant, locale);
+    }
+
+    /**
+     * Returns the string representing the duration between the provided timestamp and the present instant.
+     *
+     * @param epochMillis the timestamp (in the past) in milliseconds since the epoch
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the timestamp is in the future
+     */
+    public static String getFromDate(long epochMillis) {
+        return getDefaultFormatter().formatDate(epochMillis);
+    }
+
+    /**
+     * Returns the string representing the duration between the provided timestamp and the present instant.
+     *
+     * @param epochMillis the timestamp (in the past) in milliseconds since the epoch
+     * @param locale      the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the timestamp is in the future
+     */
+    public static String getFromDate(long epochMillis, Locale locale) {
+        return getDefaultFormatter().formatDate(epochMillis, locale);
     }
 
     /**
@@ -101,7 +194,7 @@ public class ElapsedTime {
      * @throws java.lang.IllegalArgumentException if the duration is lower than 0
      */
     public static String getFromDurationMillis(long durationMillis) {
-        return getFromDurationMillis(durationMillis, defaultLocale);
+        return getDefaultFormatter().format(durationMillis);
     }
 
     /**
@@ -115,79 +208,329 @@ public class ElapsedTime {
      * @throws java.lang.IllegalArgumentException if the locale is null
      */
     public static String getFromDurationMillis(long durationMillis, Locale locale) {
-        if (durationMillis < 0) {
-            throw new IllegalArgumentException("The provided duration is < 0.");
-        }
-        if (locale == null) {
-            throw new IllegalArgumentException("The provided locale is null.");
-        }
-        Map<TimeDivision, Long> dividedTime = divideTime(durationMillis);
-        TimeDivision division = TimeDivision.YEAR;
-        long value = 0;
-        while (division != null && value == 0) {
-            value = dividedTime.get(division);
-            if (value == 0) {
-                division = division.getSubDivision();
-            }
-        }
+        return getDefaultFormatter().format(durationMillis, locale);
+    }
 
-        if (division == null) {
-            throw new RuntimeException("Unable to divide the time properly.");
-        }
+    /**
+     * Returns the string representing the provided duration, measured in nanoseconds.
+     * See {@link ElapsedTimeFormatter#formatNanos(long)}.
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public static String getFromDurationNanos(long durationNanos) {
+        return getDefaultFormatter().formatNanos(durationNanos);
+    }
 
-        // Check if we crossed the current division threshold
-        boolean crossed = false;
-        if (division.getSuperDivision() != null && value >= division.getThreshold()) {
-            division = division.getSuperDivision();
-            value = 1;
-            crossed = true;
-        }
+    /**
+     * Returns the string representing the provided duration, measured in nanoseconds.
+     * See {@link ElapsedTimeFormatter#formatNanos(long)}.
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param locale        the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public static String getFromDurationNanos(long durationNanos, Locale locale) {
+        return getDefaultFormatter().formatNanos(durationNanos, locale);
+    }
 
+    /**
+     * Returns the precise string representing the provided duration (e.g.: "3 hours, 32 minutes and 8 seconds ago").
+     * See {@link ElapsedTimeFormatter#formatPrecise(long)}.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     *
+     * @return the precise string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public static String getPreciseFromDurationMillis(long durationMillis) {
+        return getDefaultFormatter().formatPrecise(durationMillis);
+    }
 
-        // Check if we crossed a threshold in the subdivision
-        // We don't do it if we already increased the division, it can't happen
-        TimeDivision subDivision = division.getSubDivision();
-        if (!crossed && subDivision != null) {
-            long remaining = durationMillis % division.getMillis();
-            if (remaining >= subDivision.getThresholdMillis()) {
-                value++;
-            }
-        }
+    /**
+     * Returns the precise string representing the provided duration (e.g.: "3 hours, 32 minutes and 8 seconds ago").
+     * See {@link ElapsedTimeFormatter#formatPrecise(long)}.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     *
+     * @return the precise string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public static String getPreciseFromDurationMillis(long durationMillis, Locale locale) {
+        return getDefaultFormatter().formatPrecise(durationMillis, locale);
+    }
 
-        // If our time division cannot be printed, return the "epsilon" text.
-        if (smallestTimeDivision.getMillis() > division.getMillis()) {
-            return locale.getString(StringKey.MOMENTS_AGO);
-        }
+    /**
+     * Appends the string representing the provided duration to the provided buffer.
+     * Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public static void formatTo(long durationMillis, StringBuilder out) {
+        getDefaultFormatter().formatTo(durationMillis, out);
+    }
 
-        // Else return the singular or plural text
-        if (value > 1) {
-            return locale.getString(division.getPluralStringKey()).replaceAll("\\{num\\}", String.valueOf(value));
-        }
-        return locale.getString(division.getSingularStringKey());
+    /**
+     * Appends the string representing the provided duration to the provided buffer.
+     * Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public static void formatTo(long durationMillis, Locale locale, StringBuilder out) {
+        getDefaultFormatter().formatTo(durationMillis, locale, out);
     }
 
     /**
-     * Creates a hashmap with the amount of each division that can be fit into the duration.
-     * We start at the biggest division and everytime a division can fit, we decrease the remaining duration.
+     * Appends the string representing the provided duration to the provided {@link Appendable}.
+     * The digits are written one by one so that nothing is allocated.
      *
-     * Example:
-     * - 275723300 millis can fit: 3 days + 4 hours + 35 minutes + 23 seconds + 300 millis
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the appendable to write into
      *
-     * @param duration the duration to divide
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public static void formatTo(long durationMillis, Appendable out) throws IOException {
+        getDefaultFormatter().formatTo(durationMillis, out);
+    }
+
+    /**
+     * Appends the string representing the provided duration to the provided {@link Appendable}.
+     * The digits are written one by one so that nothing is allocated.
      *
-     * @return the amount for each {@link TimeDivision}
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the appendable to write into
+     *
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
      */
-    private static Map<TimeDivision, Long> divideTime(long duration) {
-        TimeDivision division = TimeDivision.YEAR;
-        Map<TimeDivision, Long> results = new HashMap<TimeDivision, Long>();
+    public static void formatTo(long durationMillis, Locale locale, Appendable out) throws IOException {
+        getDefaultFormatter().formatTo(durationMillis, locale, out);
+    }
 
-        while (division != null) {
-            results.put(division, duration / division.getMillis());
-            duration %= division.getMillis();
-            division = division.getSubDivision();
-        }
+    /**
+     * Writes the string representing the provided duration, encoded in UTF-8, to the provided buffer.
+     * The strings are encoded once per locale and the digits are written as ASCII, so nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the buffer to write into, from its position
+     *
+     * @throws java.nio.BufferOverflowException   if the buffer is too small, in which case nothing is written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public static void formatTo(long durationMillis, ByteBuffer out) {
+        getDefaultFormatter().formatTo(durationMillis, out);
+    }
 
-        return results;
+    /**
+     * Writes the string representing the provided duration, encoded in UTF-8, to the provided buffer.
+     * The strings are encoded once per locale and the digits are written as ASCII, so nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the buffer to write into, from its position
+     *
+     * @throws java.nio.BufferOverflowException   if the buffer is too small, in which case nothing is written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public static void formatTo(long durationMillis, Locale locale, ByteBuffer out) {
+        getDefaultFormatter().formatTo(durationMillis, locale, out);
+    }
+
+    /**
+     * Returns the string representing the provided duration and the duration at which it will change.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     *
+     * @return the label
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public static ElapsedTimeLabel getLabel(long durationMillis) {
+        return getDefaultFormatter().label(durationMillis);
+    }
+
+    /**
+     * Returns the string representing the provided duration and the duration at which it will change.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     *
+     * @return the label
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public static ElapsedTimeLabel getLabel(long durationMillis, Locale locale) {
+        return getDefaultFormatter().label(durationMillis, locale);
+    }
+
+    /**
+     * Generates the strings representing the durations between the provided timestamps and "now".
+     * Large arrays are processed in parallel (see {@link ElapsedTimeFormatter#formatAll(long[], long, String[])}).
+     *
+     * @param epochMillis the timestamps (in the past) in milliseconds since the epoch
+     * @param now         the present instant in milliseconds since the epoch
+     * @param out         the array that receives the strings, at the same indexes as the timestamps
+     *
+     * @throws java.lang.IllegalArgumentException if a timestamp is in the future
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the timestamps array
+     */
+    public static void formatAll(long[] epochMillis, long now, String[] out) {
+        getDefaultFormatter().formatAll(epochMillis, now, out);
+    }
+
+    /**
+     * Generates the strings representing the durations between the provided timestamps and "now".
+     * Large arrays are processed in parallel (see {@link ElapsedTimeFormatter#formatAll(long[], long, String[])}).
+     *
+     * @param epochMillis the timestamps (in the past) in milliseconds since the epoch
+     * @param now         the present instant in milliseconds since the epoch
+     * @param locale      the locale to use for the strings
+     * @param out         the array that receives the strings, at the same indexes as the timestamps
+     *
+     * @throws java.lang.IllegalArgumentException if a timestamp is in the future
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the timestamps array
+     */
+    public static void formatAll(long[] epochMillis, long now, Locale locale, String[] out) {
+        getDefaultFormatter().formatAll(epochMillis, now, locale, out);
+    }
+
+    /**
+     * Generates the strings representing the provided durations.
+     * Large arrays are processed in parallel (see {@link ElapsedTimeFormatter#formatAll(long[], long, String[])}).
+     *
+     * @param durationsMillis the durations to represent in milliseconds
+     * @param out             the array that receives the strings, at the same indexes as the durations
+     *
+     * @throws java.lang.IllegalArgumentException if a duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the durations array
+     */
+    public static void formatAllDurations(long[] durationsMillis, String[] out) {
+        getDefaultFormatter().formatAllDurations(durationsMillis, out);
+    }
+
+    /**
+     * Generates the strings representing the provided durations.
+     * Large arrays are processed in parallel (see {@link ElapsedTimeFormatter#formatAll(long[], long, String[])}).
+     *
+     * @param durationsMillis the durations to represent in milliseconds
+     * @param locale          the locale to use for the strings
+     * @param out             the array that receives the strings, at the same indexes as the durations
+     *
+     * @throws java.lang.IllegalArgumentException if a duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the durations array
+     */
+    public static void formatAllDurations(long[] durationsMillis, Locale locale, String[] out) {
+        getDefaultFormatter().formatAllDurations(durationsMillis, locale, out);
+    }
+
+    /**
+     * Counts the timestamps by elapsed time bucket (e.g.: "2 hours ago") without generating any string.
+     * Large arrays are counted in parallel (see {@link ElapsedTimeFormatter#histogram(long[], long)}).
+     *
+     * @param epochMillis the timestamps (in the past) in milliseconds since the epoch
+     * @param now         the present instant in milliseconds since the epoch
+     *
+     * @return the number of timestamps in each bucket
+     * @throws java.lang.IllegalArgumentException if a timestamp is in the future
+     */
+    public static ElapsedTimeHistogram histogram(long[] epochMillis, long now) {
+        return getDefaultFormatter().histogram(epochMillis, now);
+    }
+
+    /**
+     * Counts the durations by bucket (e.g.: "2 hours ago") without generating any string.
+     * Large arrays are counted in parallel (see {@link ElapsedTimeFormatter#histogram(long[], long)}).
+     *
+     * @param durationsMillis the durations in milliseconds
+     *
+     * @return the number of durations in each bucket
+     * @throws java.lang.IllegalArgumentException if a duration is lower than 0
+     */
+    public static ElapsedTimeHistogram histogramOfDurations(long[] durationsMillis) {
+        return getDefaultFormatter().histogramOfDurations(durationsMillis);
+    }
+
+    ////////////////////////
+    // CLASSIFICATION
+    ////////////////
+
+    /**
+     * Returns the division and the value that represent the provided duration, packed in a long, without generating
+     * any string. Use it to group or sort durations by "bucket" (e.g.: "3 hours").
+     * The classifications are ordered like the durations: a longer duration never has a smaller classification.
+     *
+     * @param durationMillis the duration in milliseconds
+     *
+     * @return the classification (see {@link #getDivision(long)} and {@link #getValue(long)})
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public static long classify(long durationMillis) {
+        return getDefaultFormatter().classify(durationMillis);
+    }
+
+    /**
+     * Returns the durations printed like the provided division and value with the default formatter (see
+     * {@link ElapsedTimeFormatter#range(TimeDivision, long)}).
+     *
+     * @param division the time division
+     * @param value    the number of time divisions
+     *
+     * @return the range, or null if no duration is printed with this division and value
+     * @throws java.lang.IllegalArgumentException if the division is null
+     * @throws java.lang.IllegalArgumentException if the value is lower than 0
+     */
+    public static ElapsedTimeRange range(TimeDivision division, long value) {
+        return getDefaultFormatter().range(division, value);
+    }
+
+    /**
+     * Packs a division and a value in a classification.
+     *
+     * @param division the division
+     * @param value    the value (at most 2^59 - 1)
+     *
+     * @return the classification
+     */
+    public static long pack(TimeDivision division, long value) {
+        return ((long) division.ordinal() << VALUE_BITS) | value;
+    }
+
+    /**
+     * @param classification a classification (see {@link #classify(long)})
+     *
+     * @return the division of the classification
+     */
+    public static TimeDivision getDivision(long classification) {
+        return TimeDivision.VALUES[(int) (classification >>> VALUE_BITS)];
+    }
+
+    /**
+     * @param classification a classification (see {@link #classify(long)})
+     *
+     * @return the value of the classification (e.g.: 3 for "3 hours"). A value of 0 is printed as "moments ago".
+     */
+    public static long getValue(long classification) {
+        return classification & VALUE_MASK;
     }
 
     ////////////////////////
@@ -197,25 +540,34 @@ public class ElapsedTime {
     /**
      * Represents the different time divisions supported by this library.
      * Also provides useful information such as:
-     * - the duration of this division in millis,
+     * - the duration of this division in nanos (and in millis from MILLIS),
      * - the string keys for plural and singular forms
      * - the subdivision
      * - a threshold that, once reach, will increase the super division amount by 1
+     *
+     * NANOS and MICROS are only used by the nanosecond methods (e.g.: {@link ElapsedTimeFormatter#formatNanos(long)}):
+     * the millisecond methods stop at MILLIS.
      */
-    private static enum TimeDivision {
-        MILLIS(1, StringKey.MILLISECOND_AGO, StringKey.MILLISECONDS_AGO, 750),
-        SECOND(1000, StringKey.SECOND_AGO, StringKey.SECONDS_AGO, 45),
-        MINUTE(60 * TimeDivision.SECOND.getMillis(), StringKey.MINUTE_AGO, StringKey.MINUTES_AGO, 45),
-        HOUR(60 * TimeDivision.MINUTE.getMillis(), StringKey.HOUR_AGO, StringKey.HOURS_AGO, 22),
-        DAY(24 * TimeDivision.HOUR.getMillis(), StringKey.DAY_AGO, StringKey.DAYS_AGO, 26),
-        MONTH(30 * TimeDivision.DAY.getMillis(), StringKey.MONTH_AGO, StringKey.MONTHS_AGO, 11), // Duration is an approximation
-        YEAR(12 * TimeDivision.MONTH.getMillis(), StringKey.YEAR_AGO, StringKey.YEARS_AGO, 0); // Duration is an approximation
+    public enum TimeDivision {
+        NANOS(1, StringKey.NANOSECOND_AGO, StringKey.NANOSECONDS_AGO, StringKey.NANOSECOND, StringKey.NANOSECONDS, 750),
+        MICROS(1000, StringKey.MICROSECOND_AGO, StringKey.MICROSECONDS_AGO, StringKey.MICROSECOND, StringKey.MICROSECONDS, 750),
+        MILLIS(1000 * TimeDivision.MICROS.getNanos(), StringKey.MILLISECOND_AGO, StringKey.MILLISECONDS_AGO, StringKey.MILLISECOND, StringKey.MILLISECONDS, 750),
+        SECOND(1000 * TimeDivision.MILLIS.getNanos(), StringKey.SECOND_AGO, StringKey.SECONDS_AGO, StringKey.SECOND, StringKey.SECONDS, 45),
+        MINUTE(60 * TimeDivision.SECOND.getNanos(), StringKey.MINUTE_AGO, StringKey.MINUTES_AGO, StringKey.MINUTE, StringKey.MINUTES, 45),
+        HOUR(60 * TimeDivision.MINUTE.getNanos(), StringKey.HOUR_AGO, StringKey.HOURS_AGO, StringKey.HOUR, StringKey.HOURS, 22),
+        DAY(24 * TimeDivision.HOUR.getNanos(), StringKey.DAY_AGO, StringKey.DAYS_AGO, StringKey.DAY, StringKey.DAYS, 26),
+        MONTH(30 * TimeDivision.DAY.getNanos(), StringKey.MONTH_AGO, StringKey.MONTHS_AGO, StringKey.MONTH, StringKey.MONTHS, 11), // Duration is an approximation
+        YEAR(12 * TimeDivision.MONTH.getNanos(), StringKey.YEAR_AGO, StringKey.YEARS_AGO, StringKey.YEAR, StringKey.YEARS, 0); // Duration is an approximation
+
+        private static final TimeDivision[] VALUES = values();
 
         /**
          *  Workaround to avoid IllegalForwardReferences
          */
         static {
             // Setting the subDivisions
+            MICROS.subDivision = NANOS;
+            MILLIS.subDivision = MICROS;
             SECOND.subDivision = MILLIS;
             MINUTE.subDivision = SECOND;
             HOUR.subDivision = MINUTE;
@@ -224,6 +576,8 @@ public class ElapsedTime {
             YEAR.subDivision = MONTH;
 
             // Setting the superDivisions
+            NANOS.superDivision = MICROS;
+            MICROS.superDivision = MILLIS;
             MILLIS.superDivision = SECOND;
             SECOND.superDivision = MINUTE;
             MINUTE.superDivision = HOUR;
@@ -232,24 +586,45 @@ public class ElapsedTime {
             MONTH.superDivision = YEAR;
         }
 
+        private final long nanos;
         private final long millis;
         private final StringKey singularStringKey;
         private final StringKey pluralStringKey;
+        private final StringKey singularUnitStringKey;
+        private final StringKey pluralUnitStringKey;
         private TimeDivision subDivision;
         private TimeDivision superDivision;
         private final long threshold;
 
-        private TimeDivision(long millis, StringKey singularStringKey, StringKey pluralStringKey, long threshold) {
-            this.millis = millis;
+        private TimeDivision(long nanos, StringKey singularStringKey, StringKey pluralStringKey,
+                             StringKey singularUnitStringKey, StringKey pluralUnitStringKey, long threshold) {
+            this.nanos = nanos;
+            this.millis = nanos / 1000000;
             this.singularStringKey = singularStringKey;
             this.pluralStringKey = pluralStringKey;
+            this.singularUnitStringKey = singularUnitStringKey;
+            this.pluralUnitStringKey = pluralUnitStringKey;
             this.threshold = threshold;
         }
 
+        /**
+         * Returns the duration of this division in milliseconds.
+         * The divisions below MILLIS are shorter than a millisecond and return 0: a caller that walks the
+         * subdivisions (MILLIS.getSubDivision() is MICROS) must use {@link #getNanos()} instead.
+         *
+         * @return the duration of this division in milliseconds, or 0 for the divisions below MILLIS
+         */
         public long getMillis() {
             return millis;
         }
 
+        /**
+         * @return the duration of this division in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
         public StringKey getSingularStringKey() {
             return singularStringKey;
         }
@@ -258,6 +633,20 @@ public class ElapsedTime {
             return pluralStringKey;
         }
 
+        /**
+         * @return the key of the unit alone, as used in the precise strings (e.g.: "1 hour")
+         */
+        public StringKey getSingularUnitStringKey() {
+            return singularUnitStringKey;
+        }
+
+        /**
+         * @return the key of the unit alone, as used in the precise strings (e.g.: "{num} hours")
+         */
+        public StringKey getPluralUnitStringKey() {
+            return pluralUnitStringKey;
+        }
+
         public TimeDivision getSubDivision() {
             return subDivision;
         }
@@ -270,9 +659,20 @@ public class ElapsedTime {
             return threshold;
         }
 
+        /**
+         * @return the threshold of this division in milliseconds, or 0 for the divisions below MILLIS (see
+         * {@link #getThresholdNanos()})
+         */
         public long getThresholdMillis() {
             return threshold * millis;
         }
+
+        /**
+         * @return the threshold of this division in nanoseconds
+         */
+        public long getThresholdNanos() {
+            return threshold * nanos;
+        }
     }
 
     ////////////////////////
@@ -280,94 +680,123 @@ public class ElapsedTime {
     ////////////////
 
     /**
-     * The supported languages and their associated strings.
+     * The languages shipped with the library.
+     * Their strings are loaded from the properties files of {@link ResourceLocaleProvider} the first time they are
+     * used (see {@link ElapsedTimeLocale}).
      */
     public enum Locale {
-        ENGLISH(StringsMap.newInstance()
-                .with(StringKey.MOMENTS_AGO, "Moments ago")
-                .with(StringKey.MILLISECOND_AGO, "1 millisecond ago")
-                .with(StringKey.MILLISECONDS_AGO, "{num} milliseconds ago")
-                .with(StringKey.SECOND_AGO, "1 second ago")
-                .with(StringKey.SECONDS_AGO, "{num} seconds ago")
-                .with(StringKey.MINUTE_AGO, "1 minute ago")
-                .with(StringKey.MINUTES_AGO, "{num} minutes ago")
-                .with(StringKey.HOUR_AGO, "1 hour ago")
-                .with(StringKey.HOURS_AGO, "{num} hours ago")
-                .with(StringKey.DAY_AGO, "1 day ago")
-                .with(StringKey.DAYS_AGO, "{num} days ago")
-                .with(StringKey.MONTH_AGO, "1 month ago")
-                .with(StringKey.MONTHS_AGO, "{num} months ago")
-                .with(StringKey.YEAR_AGO, "1 year ago")
-                .with(StringKey.YEARS_AGO, "{num} years ago")),
-        FRENCH(StringsMap.newInstance()
-                .with(StringKey.MOMENTS_AGO, "Il y a quelques instants")
-                .with(StringKey.MILLISECOND_AGO, "Il y a 1 milliseconde")
-                .with(StringKey.MILLISECONDS_AGO, "Il y a {num} millisecondes")
-                .with(StringKey.SECOND_AGO, "Il y a 1 seconde")
-                .with(StringKey.SECONDS_AGO, "Il y a {num} secondes")
-                .with(StringKey.MINUTE_AGO, "Il y a 1 minute")
-                .with(StringKey.MINUTES_AGO, "Il y a {num} minutes")
-                .with(StringKey.HOUR_AGO, "Il y a 1 heure")
-                .with(StringKey.HOURS_AGO, "Il y a {num} heures")
-                .with(StringKey.DAY_AGO, "Il y a 1 jour")
-                .with(StringKey.DAYS_AGO, "Il y a {num} jours")
-                .with(StringKey.MONTH_AGO, "Il y a 1 mois")
-                .with(StringKey.MONTHS_AGO, "Il y a {num} mois")
-                .with(StringKey.YEAR_AGO, "Il y a 1 an")
-                .with(StringKey.YEARS_AGO, "Il y a {num} ans")),
-        SPANISH(StringsMap.newInstance()
-                .with(StringKey.MOMENTS_AGO, "Hace un momento")
-                .with(StringKey.MILLISECOND_AGO, "Hace un milisegundo")
-                .with(StringKey.MILLISECONDS_AGO, "Hace {num} milisegundos")
-                .with(StringKey.SECOND_AGO, "Hace 1 segundo")
-                .with(StringKey.SECONDS_AGO, "Hace {num} segundos")
-                .with(StringKey.MINUTE_AGO, "Hace 1 minuto")
-                .with(StringKey.MINUTES_AGO, "Hace {num} minutos")
-                .with(StringKey.HOUR_AGO, "Hace 1 hora")
-                .with(StringKey.HOURS_AGO, "Hace {num} horas")
-                .with(StringKey.DAY_AGO, "Hace 1 día")
-                .with(StringKey.DAYS_AGO, "Hace {num} días")
-                .with(StringKey.MONTH_AGO, "Hace 1 mes")
-                .with(StringKey.MONTHS_AGO, "Hace {num} meses")
-                .with(StringKey.YEAR_AGO, "Hace 1 año")
-                .with(StringKey.YEARS_AGO, "Hace {num} años"));
-
-        private Map<StringKey, String> strings;
-
-        private Locale(Map<StringKey, String> strings) {
-            this.strings = strings;
+        ENGLISH("en"),
+        FRENCH("fr"),
+        SPANISH("es");
+
+        private final String languageTag;
+        private ElapsedTimeLocale strings;
+
+        private Locale(String languageTag) {
+            this.languageTag = languageTag;
+        }
+
+        /**
+         * @return the IETF BCP 47 tag of this language (e.g.: "fr")
+         */
+        public String getLanguageTag() {
+            return this.languageTag;
+        }
+
+        /**
+         * Returns the compiled strings of this language, loading them on the first call.
+         * The strings are immutable, so a race between two first calls only loads them twice.
+         *
+         * @return the strings
+         */
+        public ElapsedTimeLocale getStrings() {
+            ElapsedTimeLocale strings = this.strings;
+            if (strings == null) {
+                strings = ElapsedTimeLocale.forLanguageTag(this.languageTag);
+                this.strings = strings;
+            }
+            return strings;
         }
 
         public String getString(StringKey key) {
-            return this.strings.get(key);
+            return getStrings().getString(key);
+        }
+
+        /**
+         * Returns the maximum number of bytes of a string of this locale encoded in UTF-8.
+         */
+        int getMaxEncodedLength() {
+            return getStrings().getMaxEncodedLength();
         }
     }
 
     /**
-     * The keys for the strings used in the generation
+     * The plural categories of the CLDR (see http://cldr.unicode.org/index/cldr-spec/plural-rules).
+     * The plural rules of a language select the category of a value (see
+     * {@link ElapsedTimeLocale#getPluralCategory(long)}), and the category selects the template of the plural keys:
+     * e.g.: "{num} minuty temu" (FEW) or "{num} minut temu" (MANY) in Polish.
+     *
+     * The singular keys are always used for 1, whatever its category.
      */
-    protected enum StringKey {
-        MOMENTS_AGO,
-        MILLISECOND_AGO, MILLISECONDS_AGO,
-        SECOND_AGO, SECONDS_AGO,
-        MINUTE_AGO, MINUTES_AGO,
-        HOUR_AGO, HOURS_AGO,
-        DAY_AGO, DAYS_AGO,
-        MONTH_AGO, MONTHS_AGO,
-        YEAR_AGO, YEARS_AGO
+    public enum PluralCategory {
+        ZERO, ONE, TWO, FEW, MANY, OTHER
     }
 
     /**
-     * A utility class to create a HashMap<StringKey, String> with a fluent syntax.
+     * The keys for the strings used in the generation.
+     * The plural keys (with {num}) have a template per plural category of the language: MINUTES_AGO is the OTHER
+     * template and MINUTES_AGO_FEW the FEW one (see {@link #getName(PluralCategory)}). The templates are only required
+     * for the categories the language has a rule for.
      */
-    private static class StringsMap extends HashMap<StringKey, String> {
-        public static StringsMap newInstance() {
-            return new StringsMap();
+    protected enum StringKey {
+        MOMENTS_AGO,
+        NANOSECOND_AGO, NANOSECONDS_AGO(true),
+        MICROSECOND_AGO, MICROSECONDS_AGO(true),
+        MILLISECOND_AGO, MILLISECONDS_AGO(true),
+        SECOND_AGO, SECONDS_AGO(true),
+        MINUTE_AGO, MINUTES_AGO(true),
+        HOUR_AGO, HOURS_AGO(true),
+        DAY_AGO, DAYS_AGO(true),
+        MONTH_AGO, MONTHS_AGO(true),
+        YEAR_AGO, YEARS_AGO(true),
+
+        // The precise strings: AGO wraps the units joined with the separators
+        AGO, LIST_SEPARATOR, LIST_LAST_SEPARATOR,
+        NANOSECOND, NANOSECONDS(true),
+        MICROSECOND, MICROSECONDS(true),
+        MILLISECOND, MILLISECONDS(true),
+        SECOND, SECONDS(true),
+        MINUTE, MINUTES(true),
+        HOUR, HOURS(true),
+        DAY, DAYS(true),
+        MONTH, MONTHS(true),
+        YEAR, YEARS(true);
+
+        private final boolean plural;
+
+        private StringKey() {
+            this(false);
         }
 
-        public StringsMap with(StringKey key, String value) {
-            this.put(key, value);
-            return this;
+        private StringKey(boolean plural) {
+            this.plural = plural;
+        }
+
+        /**
+         * @return true if the strings of this key contain {num} and have a template per plural category
+         */
+        public boolean isPlural() {
+            return this.plural;
+        }
+
+        /**
+         * @param category the plural category
+         *
+         * @return the name of the template of this key for the category (e.g.: "MINUTES_AGO_FEW"), which is the name of
+         * the key for OTHER
+         */
+        public String getName(PluralCategory category) {
+            return category == PluralCategory.OTHER ? name() : name() + "_" + category.name();
         }
     }
 }
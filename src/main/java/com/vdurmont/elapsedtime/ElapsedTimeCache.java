@@ -0,0 +1,188 @@
+package com.vdurmont.elapsedtime;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the generated strings.
+ * Most of the traffic is made of a few hundred distinct (locale, division, value) outputs (e.g.: "1..59 minutes
+ * ago"), so instead of building a new string on every call, all the callers share the same instances.
+ *
+ * The cache has two levels:
+ * - a dense table for the values below {@link #DENSE_LIMIT}, which includes every second, minute, hour, day and
+ * month value, and is never evicted,
+ * - a direct-mapped table of fixed size for the other values (e.g.: most of the milliseconds, or the years). When
+ * two keys land in the same slot, the newest one evicts the oldest one.
+ *
+ * Both levels are lock-free: the strings are immutable so a thread that reads a slot while another one writes it
+ * sees either the old entry or the new one, and worst case it renders the string again.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public class ElapsedTimeCache {
+    /**
+     * The values below this limit are stored in the dense table.
+     */
+    public static final int DENSE_LIMIT = 64;
+
+    private final boolean[] enabledLocales;
+    private final String[][][] dense;
+    private final Entry[] slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache for all the locales.
+     *
+     * @param maxSize the maximum number of entries stored in the direct-mapped table (rounded up to a power of 2)
+     *
+     * @throws java.lang.IllegalArgumentException if the size is lower than 1
+     */
+    public ElapsedTimeCache(int maxSize) {
+        this(maxSize, ElapsedTime.Locale.values());
+    }
+
+    /**
+     * Creates a cache for the provided locales only. The other locales are never cached.
+     *
+     * @param maxSize the maximum number of entries stored in the direct-mapped table (rounded up to a power of 2)
+     * @param locales the locales to cache
+     *
+     * @throws java.lang.IllegalArgumentException if the size is lower than 1
+     * @throws java.lang.IllegalArgumentException if a locale is null
+     */
+    public ElapsedTimeCache(int maxSize, ElapsedTime.Locale... locales) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The provided size is < 1.");
+        }
+        int size = Integer.highestOneBit(maxSize);
+        if (size < maxSize) {
+            size <<= 1;
+        }
+        this.slots = new Entry[size];
+        this.mask = size - 1;
+
+        this.enabledLocales = new boolean[ElapsedTime.Locale.values().length];
+        this.dense = new String[ElapsedTime.Locale.values().length][][];
+        for (ElapsedTime.Locale locale : locales) {
+            if (locale == null) {
+                throw new IllegalArgumentException("The provided locale is null.");
+            }
+            this.enabledLocales[locale.ordinal()] = true;
+            this.dense[locale.ordinal()] = new String[ElapsedTime.TimeDivision.values().length][DENSE_LIMIT];
+        }
+    }
+
+    /**
+     * Returns true if the strings of this locale are cached.
+     *
+     * @param locale the locale
+     *
+     * @return true if the locale is cached
+     */
+    public boolean isEnabled(ElapsedTime.Locale locale) {
+        return this.enabledLocales[locale.ordinal()];
+    }
+
+    /**
+     * Returns true if the strings of this language are cached. Only the languages of {@link ElapsedTime.Locale} can
+     * be cached.
+     */
+    boolean isEnabled(ElapsedTimeLocale locale) {
+        int index = locale.getIndex();
+        return index < this.enabledLocales.length && this.enabledLocales[index];
+    }
+
+    /**
+     * Returns the plural string for this division and value, from the cache if possible.
+     * The locale must be enabled.
+     */
+    String get(ElapsedTimeLocale locale, ElapsedTime.TimeDivision division, long value) {
+        if (value < DENSE_LIMIT) {
+            String[] strings = this.dense[locale.getIndex()][division.ordinal()];
+            String str = strings[(int) value];
+            if (str != null) {
+                this.hits.increment();
+                return str;
+            }
+            this.misses.increment();
+            str = ElapsedTimeFormatter.render(locale, division, value);
+            strings[(int) value] = str;
+            return str;
+        }
+
+        long key = (value << 8) | (locale.getIndex() << 4) | division.ordinal();
+        int index = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & this.mask;
+        Entry entry = this.slots[index];
+        if (entry != null && entry.key == key) {
+            this.hits.increment();
+            return entry.value;
+        }
+        this.misses.increment();
+        if (entry != null) {
+            this.evictions.increment();
+        }
+        String str = ElapsedTimeFormatter.render(locale, division, value);
+        this.slots[index] = new Entry(key, str);
+        return str;
+    }
+
+    /**
+     * @return the number of times a string was found in the cache
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return the number of times a string had to be generated
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return the number of times an entry of the direct-mapped table was replaced by another one
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * @return the ratio of hits over the total number of requests, or 0 if the cache was never used
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Removes all the entries and resets the counters.
+     */
+    public void clear() {
+        for (String[][] strings : this.dense) {
+            if (strings != null) {
+                for (String[] values : strings) {
+                    Arrays.fill(values, null);
+                }
+            }
+        }
+        Arrays.fill(this.slots, null);
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+    }
+
+    private static class Entry {
+        private final long key;
+        private final String value;
+
+        private Entry(long key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.vdurmont.elapsedtime;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The calendar months of a time zone, precomputed so that the number of months between two instants is found with a
+ * binary search instead of going through java.time on every call.
+ *
+ * The table covers the months from {@link #YEARS_BEFORE} years before the year of the first use to
+ * {@link #YEARS_AFTER} years after. The instants outside of this range are computed with java.time.
+ *
+ * The months are counted like {@link ChronoUnit#MONTHS} on the local date-times: the day and the time of the month must
+ * be reached, so from January 31st, 1 month is only reached on March 1st. Every offset transition of the range is
+ * recorded, so the zones that change their offset several times a month or at midnight are handled like java.time.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+final class ElapsedTimeCalendar {
+    static final int YEARS_BEFORE = 150;
+    static final int YEARS_AFTER = 2;
+
+    private static final long DAY_MILLIS = ElapsedTime.TimeDivision.DAY.getMillis();
+    private static final ConcurrentMap<ZoneId, ElapsedTimeCalendar> CALENDARS =
+            new ConcurrentHashMap<ZoneId, ElapsedTimeCalendar>();
+
+    private final ZoneId zone;
+
+    /**
+     * The local epoch day of the 1st of each month, plus the 1st of the month after the last one.
+     */
+    private final long[] monthDays;
+
+    /**
+     * The instants covered by the table: from the start of the first month (inclusive) to the start of the month after
+     * the last one (exclusive).
+     */
+    private final long first;
+    private final long end;
+
+    /**
+     * The instant of every offset transition around the table.
+     */
+    private final long[] transitions;
+
+    /**
+     * The offset before the first transition, then the offset after each transition (in milliseconds).
+     */
+    private final long[] offsets;
+
+    private ElapsedTimeCalendar(ZoneId zone, int fromYear, int toYear) {
+        this.zone = zone;
+        ZoneRules rules = zone.getRules();
+        int months = (toYear - fromYear) * 12;
+        this.monthDays = new long[months + 1];
+
+        LocalDate date = LocalDate.of(fromYear, 1, 1);
+        for (int i = 0; i <= months; i++, date = date.plusMonths(1)) {
+            this.monthDays[i] = date.toEpochDay();
+        }
+        this.first = LocalDate.of(fromYear, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        this.end = date.minusMonths(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        // A margin of 2 days so that the local date-times of the first and last days are resolved with the table
+        Instant instant = Instant.ofEpochMilli(this.first - 2 * DAY_MILLIS);
+        long last = this.end + 2 * DAY_MILLIS;
+        List<ZoneOffsetTransition> transitions = new ArrayList<ZoneOffsetTransition>();
+        ZoneOffsetTransition transition = rules.nextTransition(instant);
+        while (transition != null && transition.toEpochSecond() * 1000 < last) {
+            transitions.add(transition);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        this.transitions = new long[transitions.size()];
+        this.offsets = new long[transitions.size() + 1];
+        this.offsets[0] = rules.getOffset(instant).getTotalSeconds() * 1000L;
+        for (int i = 0; i < this.transitions.length; i++) {
+            this.transitions[i] = transitions.get(i).toEpochSecond() * 1000;
+            this.offsets[i + 1] = transitions.get(i).getOffsetAfter().getTotalSeconds() * 1000L;
+        }
+    }
+
+    /**
+     * Returns the calendar of a time zone, computing its table on the first call.
+     *
+     * @param zone the time zone
+     *
+     * @return the calendar
+     * @throws java.lang.IllegalArgumentException if the zone is null
+     */
+    static ElapsedTimeCalendar of(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("The provided zone is null.");
+        }
+        ElapsedTimeCalendar calendar = CALENDARS.get(zone);
+        if (calendar == null) {
+            int year = ZonedDateTime.now(zone).getYear();
+            calendar = new ElapsedTimeCalendar(zone, year - YEARS_BEFORE, year + YEARS_AFTER);
+            ElapsedTimeCalendar previous = CALENDARS.putIfAbsent(zone, calendar);
+            calendar = previous != null ? previous : calendar;
+        }
+        return calendar;
+    }
+
+    ZoneId getZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the number of complete calendar months between two instants.
+     *
+     * @param from the first instant in milliseconds since the epoch
+     * @param to   the second instant in milliseconds since the epoch (must be >= from)
+     *
+     * @return the number of months
+     */
+    long monthsBetween(long from, long to) {
+        if (!covers(from) || !covers(to)) {
+            return ChronoUnit.MONTHS.between(zoned(from), zoned(to));
+        }
+        long fromLocal = from + offsetAt(from);
+        long toLocal = to + offsetAt(to);
+        long fromDay = Math.floorDiv(fromLocal, DAY_MILLIS);
+        long toDay = Math.floorDiv(toLocal, DAY_MILLIS);
+        long fromTime = Math.floorMod(fromLocal, DAY_MILLIS);
+        long toTime = Math.floorMod(toLocal, DAY_MILLIS);
+
+        // Like LocalDateTime.until: if the time of the day is not reached, the last day does not count
+        if (toDay > fromDay && toTime < fromTime) {
+            toDay--;
+        } else if (toDay < fromDay && toTime > fromTime) {
+            toDay++;
+        }
+        int fromMonth = monthOf(fromDay);
+        int toMonth = monthOf(toDay);
+        if (fromMonth < 0 || toMonth < 0) {
+            return ChronoUnit.MONTHS.between(zoned(from), zoned(to));
+        }
+
+        // Then like LocalDate.until: if the day of the month is not reached, the last month does not count
+        long months = toMonth - fromMonth;
+        long days = (toDay - this.monthDays[toMonth]) - (fromDay - this.monthDays[fromMonth]);
+        if (months > 0 && days < 0) {
+            months--;
+        } else if (months < 0 && days > 0) {
+            months++;
+        }
+        return months;
+    }
+
+    /**
+     * Adds calendar months to an instant like {@link ZonedDateTime#plusMonths(long)}. If the day does not exist in the
+     * target month, the last day of the month is used with the same time. If the local date-time falls in a gap, it is
+     * moved forward by the length of the gap, and in an overlap the offset of the instant is kept when possible.
+     *
+     * @param from   the instant in milliseconds since the epoch
+     * @param months the number of months to add (must be >= 0)
+     *
+     * @return the resulting instant in milliseconds since the epoch
+     */
+    long plusMonths(long from, long months) {
+        if (!covers(from)) {
+            return zoned(from).plusMonths(months).toInstant().toEpochMilli();
+        }
+        long offset = offsetAt(from);
+        long local = from + offset;
+        long day = Math.floorDiv(local, DAY_MILLIS);
+        int fromMonth = monthOf(day);
+        if (fromMonth < 0 || fromMonth + months >= this.monthDays.length - 1) {
+            return zoned(from).plusMonths(months).toInstant().toEpochMilli();
+        }
+        int month = (int) (fromMonth + months);
+        long dayOfMonth = Math.min(day - this.monthDays[fromMonth],
+                this.monthDays[month + 1] - this.monthDays[month] - 1);
+        long target = (this.monthDays[month] + dayOfMonth) * DAY_MILLIS + Math.floorMod(local, DAY_MILLIS);
+        return toEpochMillis(target, offset);
+    }
+
+    private boolean covers(long epochMillis) {
+        return epochMillis >= this.first && epochMillis < this.end;
+    }
+
+    /**
+     * Returns the index of the month that contains the local epoch day, or -1 if it is outside of the table.
+     */
+    private int monthOf(long epochDay) {
+        long[] monthDays = this.monthDays;
+        if (epochDay < monthDays[0] || epochDay >= monthDays[monthDays.length - 1]) {
+            return -1;
+        }
+        int low = 0;
+        int high = monthDays.length - 2;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (monthDays[middle] <= epochDay) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the offset of the zone at an instant, like {@link ZoneRules#getOffset(Instant)}.
+     */
+    private long offsetAt(long epochMillis) {
+        long[] transitions = this.transitions;
+        // The number of transitions <= epochMillis
+        int low = 0;
+        int high = transitions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (transitions[middle] <= epochMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return this.offsets[low];
+    }
+
+    /**
+     * Returns the instant of a local date-time (in milliseconds since the local epoch), resolved like
+     * {@link ZonedDateTime#ofLocal}: a gap moves the time forward by its length, and an overlap keeps the preferred
+     * offset if it is valid, or the offset before the transition otherwise.
+     */
+    private long toEpochMillis(long local, long preferredOffset) {
+        long[] transitions = this.transitions;
+        long[] offsets = this.offsets;
+        // The last transition whose gap or overlap starts at or before the local date-time
+        int low = -1;
+        int high = transitions.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >> 1;
+            if (transitions[middle] + Math.min(offsets[middle], offsets[middle + 1]) <= local) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (low < 0) {
+            return local - offsets[0];
+        }
+        long before = offsets[low];
+        long after = offsets[low + 1];
+        if (local >= transitions[low] + Math.max(before, after)) {
+            return local - after;
+        }
+        if (after > before) {
+            // In the gap: the time is moved forward by the length of the gap, with the offset after
+            return local - before;
+        }
+        return local - (preferredOffset == after ? after : before);
+    }
+
+    private ZonedDateTime zoned(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(this.zone);
+    }
+}
@@ -0,0 +1,593 @@
+package com.vdurmont.elapsedtime;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A streaming pipeline stage that appends an elapsed time column (e.g.: "2 hours ago") to every row of a delimited
+ * text file (CSV, TSV, logs...).
+ *
+ * The input file is memory-mapped window by window and the timestamps are parsed directly from the mapped bytes, so
+ * no string is created for the rows. The enriched rows and the UTF-8 labels are written through a single reusable
+ * output buffer. The memory used is therefore the same whatever the size of the file.
+ *
+ * The rows are separated by '\n' (a '\r' before it is kept at the end of the row). The timestamp column can be quoted
+ * with '"'. A row whose timestamp is missing, malformed or in the future receives an empty column.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeEnricher enricher = ElapsedTimeEnricher.builder()
+ *         .column(2)
+ *         .timestampFormat(ElapsedTimeEnricher.TimestampFormat.ISO_8601)
+ *         .header("elapsed")
+ *         .build();
+ * enricher.enrich(Paths.get("export.csv"), Paths.get("export-enriched.csv"));
+ * </pre>
+ *
+ * An enricher is immutable and can be used by several threads at the same time.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeEnricher {
+    /**
+     * The default size of the memory-mapped windows.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default size of the output buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The supported formats for the timestamp column.
+     */
+    public enum TimestampFormat {
+        /**
+         * Milliseconds since the epoch, e.g.: 1500000000000
+         */
+        EPOCH_MILLIS,
+        /**
+         * ISO-8601 date-time, e.g.: 2017-07-14T02:40:00Z, 2017-07-14 04:40:00.123+02:00 (UTC if there is no offset)
+         */
+        ISO_8601
+    }
+
+    /**
+     * Returned by the parsers when the timestamp is malformed.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private final ElapsedTimeFormatter formatter;
+    private final ElapsedTimeLocale locale;
+    private final int column;
+    private final byte delimiter;
+    private final TimestampFormat timestampFormat;
+    private final byte[] header;
+    private final long now;
+    private final int windowSize;
+    private final int bufferSize;
+
+    private ElapsedTimeEnricher(Builder builder) {
+        this.formatter = builder.formatter;
+        this.locale = builder.locale != null ? builder.locale.getStrings() : builder.formatter.getLanguage();
+        this.column = builder.column;
+        this.delimiter = builder.delimiter;
+        this.timestampFormat = builder.timestampFormat;
+        this.header = builder.header;
+        this.now = builder.now;
+        this.windowSize = builder.windowSize;
+        this.bufferSize = builder.bufferSize;
+    }
+
+    /**
+     * Creates a builder initialized with the default configuration:
+     * - the default formatter of {@link ElapsedTime} and its locale,
+     * - the first column, separated by ',', in milliseconds since the epoch,
+     * - no header,
+     * - "now" read from the clock of the formatter when the enrichment starts.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Enriches the input file into the output file. The output file is created or truncated.
+     *
+     * @param input  the file to read
+     * @param output the file to write
+     *
+     * @return the number of rows written, header excluded
+     * @throws java.io.IOException if a file cannot be read or written, or if a row is longer than the window size
+     */
+    public long enrich(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            return enrich(in, out);
+        }
+    }
+
+    /**
+     * Enriches the input file into the output channel. The channels are not closed.
+     *
+     * @param in  the file to read, from its beginning
+     * @param out the channel to write
+     *
+     * @return the number of rows written, header excluded
+     * @throws java.io.IOException if a channel cannot be read or written, or if a row is longer than the window size
+     */
+    public long enrich(FileChannel in, WritableByteChannel out) throws IOException {
+        Session session = new Session(out);
+        long size = in.size();
+        long position = 0;
+        boolean first = true;
+        while (position < size) {
+            long length = Math.min(this.windowSize, size - position);
+            boolean last = position + length == size;
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+            ByteBuffer source = window.duplicate();
+
+            int rowStart = 0;
+            int limit = (int) length;
+            while (rowStart < limit) {
+                int rowEnd = indexOf(window, (byte) '\n', rowStart, limit);
+                if (rowEnd < 0) {
+                    if (!last) {
+                        // The row continues in the next window
+                        break;
+                    }
+                    rowEnd = limit;
+                }
+                if (first && this.header != null) {
+                    session.writeHeader(window, source, rowStart, rowEnd, limit);
+                } else {
+                    session.writeRow(window, source, rowStart, rowEnd, limit);
+                }
+                first = false;
+                rowStart = rowEnd + 1;
+            }
+            if (rowStart == 0 && !last) {
+                throw new IOException("A row is longer than the window size (" + this.windowSize + " bytes).");
+            }
+            position += Math.min(rowStart, limit);
+        }
+        session.flush();
+        return session.rows;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The state of a single enrichment: the output buffer and the counters.
+     */
+    private final class Session {
+        private final WritableByteChannel out;
+        private final ByteBuffer buffer;
+        private final long now;
+        private long rows;
+
+        private Session(WritableByteChannel out) {
+            this.out = out;
+            // The buffer must be able to hold any label
+            int maxLabelLength = ElapsedTimeEnricher.this.locale.getMaxEncodedLength();
+            this.buffer = ByteBuffer.allocateDirect(Math.max(ElapsedTimeEnricher.this.bufferSize, maxLabelLength));
+            this.now = ElapsedTimeEnricher.this.now != INVALID
+                    ? ElapsedTimeEnricher.this.now
+                    : ElapsedTimeEnricher.this.formatter.getClock().millis();
+        }
+
+        /**
+         * Writes a row and its elapsed time column.
+         *
+         * @param window   the mapped window, read with absolute gets
+         * @param source   a view of the window used for the bulk copies
+         * @param rowStart the index of the first byte of the row
+         * @param rowEnd   the index of the '\n' ending the row, or the end of the window for the last row
+         * @param limit    the end of the window
+         */
+        private void writeRow(ByteBuffer window, ByteBuffer source, int rowStart, int rowEnd, int limit)
+                throws IOException {
+            int contentEnd = rowEnd > rowStart && window.get(rowEnd - 1) == '\r' ? rowEnd - 1 : rowEnd;
+            if (contentEnd == rowStart) {
+                // Empty rows are kept as is
+                copy(source, rowStart, Math.min(rowEnd + 1, limit));
+                return;
+            }
+            copy(source, rowStart, contentEnd);
+            put(ElapsedTimeEnricher.this.delimiter);
+
+            long timestamp = parseColumn(window, rowStart, contentEnd);
+            if (timestamp != INVALID && timestamp <= this.now) {
+                ElapsedTimeLocale locale = ElapsedTimeEnricher.this.locale;
+                if (this.buffer.remaining() < locale.getMaxEncodedLength()) {
+                    flush();
+                }
+                ElapsedTimeEnricher.this.formatter.formatDateTo(timestamp, this.now, locale, this.buffer);
+            }
+
+            copy(source, contentEnd, Math.min(rowEnd + 1, limit));
+            this.rows++;
+        }
+
+        /**
+         * Writes the header row and the name of the elapsed time column.
+         */
+        private void writeHeader(ByteBuffer window, ByteBuffer source, int rowStart, int rowEnd, int limit)
+                throws IOException {
+            int contentEnd = rowEnd > rowStart && window.get(rowEnd - 1) == '\r' ? rowEnd - 1 : rowEnd;
+            copy(source, rowStart, contentEnd);
+            put(ElapsedTimeEnricher.this.delimiter);
+            for (byte b : ElapsedTimeEnricher.this.header) {
+                put(b);
+            }
+            copy(source, contentEnd, Math.min(rowEnd + 1, limit));
+        }
+
+        /**
+         * Finds the timestamp column in the row and parses it.
+         */
+        private long parseColumn(ByteBuffer window, int rowStart, int rowEnd) {
+            int fieldStart = rowStart;
+            int field = 0;
+            boolean quoted = false;
+            for (int i = rowStart; i <= rowEnd; i++) {
+                byte b = i < rowEnd ? window.get(i) : ElapsedTimeEnricher.this.delimiter;
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == ElapsedTimeEnricher.this.delimiter && (!quoted || i == rowEnd)) {
+                    if (field == ElapsedTimeEnricher.this.column) {
+                        int start = fieldStart;
+                        int end = i;
+                        if (end - start >= 2 && window.get(start) == '"' && window.get(end - 1) == '"') {
+                            start++;
+                            end--;
+                        }
+                        return ElapsedTimeEnricher.this.timestampFormat == TimestampFormat.EPOCH_MILLIS
+                                ? parseEpochMillis(window, start, end)
+                                : parseIso8601(window, start, end);
+                    }
+                    field++;
+                    fieldStart = i + 1;
+                }
+            }
+            return INVALID;
+        }
+
+        private void copy(ByteBuffer source, int from, int to) throws IOException {
+            // The Buffer methods go through Buffer: their ByteBuffer overrides only exist since Java 9
+            ((Buffer) source).limit(to);
+            ((Buffer) source).position(from);
+            while (source.hasRemaining()) {
+                if (!this.buffer.hasRemaining()) {
+                    flush();
+                }
+                if (source.remaining() <= this.buffer.remaining()) {
+                    this.buffer.put(source);
+                } else {
+                    int chunkEnd = source.position() + this.buffer.remaining();
+                    int end = source.limit();
+                    ((Buffer) source).limit(chunkEnd);
+                    this.buffer.put(source);
+                    ((Buffer) source).limit(end);
+                }
+            }
+        }
+
+        private void put(byte b) throws IOException {
+            if (!this.buffer.hasRemaining()) {
+                flush();
+            }
+            this.buffer.put(b);
+        }
+
+        private void flush() throws IOException {
+            ((Buffer) this.buffer).flip();
+            while (this.buffer.hasRemaining()) {
+                this.out.write(this.buffer);
+            }
+            ((Buffer) this.buffer).clear();
+        }
+    }
+
+    ////////////////////////
+    // PARSING
+    ////////////////
+
+    /**
+     * Parses a number of milliseconds since the epoch.
+     *
+     * @return the timestamp or {@link #INVALID}
+     */
+    static long parseEpochMillis(ByteBuffer buffer, int from, int to) {
+        if (from >= to || to - from > 18) {
+            return INVALID;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses an ISO-8601 date-time: yyyy-MM-dd'T'HH:mm:ss[.fraction][Z|+HH:mm|+HHmm|+HH].
+     * A space is accepted instead of the 'T' and the time is in UTC if there is no offset.
+     *
+     * @return the timestamp or {@link #INVALID}
+     */
+    static long parseIso8601(ByteBuffer buffer, int from, int to) {
+        if (to - from < 19
+                || buffer.get(from + 4) != '-' || buffer.get(from + 7) != '-'
+                || (buffer.get(from + 10) != 'T' && buffer.get(from + 10) != ' ')
+                || buffer.get(from + 13) != ':' || buffer.get(from + 16) != ':') {
+            return INVALID;
+        }
+        int year = parseDigits(buffer, from, 4);
+        int month = parseDigits(buffer, from + 5, 2);
+        int day = parseDigits(buffer, from + 8, 2);
+        int hour = parseDigits(buffer, from + 11, 2);
+        int minute = parseDigits(buffer, from + 14, 2);
+        int second = parseDigits(buffer, from + 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+
+        // Fraction of second: only the milliseconds are kept
+        int i = from + 19;
+        int millis = 0;
+        if (i < to && (buffer.get(i) == '.' || buffer.get(i) == ',')) {
+            i++;
+            int digits = 0;
+            while (i < to && buffer.get(i) >= '0' && buffer.get(i) <= '9') {
+                if (digits < 3) {
+                    millis = millis * 10 + (buffer.get(i) - '0');
+                }
+                digits++;
+                i++;
+            }
+            if (digits == 0) {
+                return INVALID;
+            }
+            for (; digits < 3; digits++) {
+                millis *= 10;
+            }
+        }
+
+        // Offset
+        int offsetSeconds = 0;
+        if (i < to) {
+            byte sign = buffer.get(i);
+            if (sign == 'Z' && i + 1 == to) {
+                // UTC
+            } else if (sign == '+' || sign == '-') {
+                int offsetHours;
+                int offsetMinutes = 0;
+                int remaining = to - i - 1;
+                if (remaining == 2) {
+                    offsetHours = parseDigits(buffer, i + 1, 2);
+                } else if (remaining == 4) {
+                    offsetHours = parseDigits(buffer, i + 1, 2);
+                    offsetMinutes = parseDigits(buffer, i + 3, 2);
+                } else if (remaining == 5 && buffer.get(i + 3) == ':') {
+                    offsetHours = parseDigits(buffer, i + 1, 2);
+                    offsetMinutes = parseDigits(buffer, i + 4, 2);
+                } else {
+                    return INVALID;
+                }
+                if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+                    return INVALID;
+                }
+                offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (sign == '-' ? -1 : 1);
+            } else {
+                return INVALID;
+            }
+        }
+
+        long epochDay = epochDay(year, month, day);
+        long epochSeconds = epochDay * 86400 + hour * 3600 + minute * 60 + second - offsetSeconds;
+        return epochSeconds * 1000 + millis;
+    }
+
+    /**
+     * @return the value of the decimal digits, or -1 if a byte is not a digit
+     */
+    private static int parseDigits(ByteBuffer buffer, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * @return the number of days of a month of the proleptic Gregorian calendar
+     */
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            boolean leap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Computes the number of days since 1970-01-01 of a date of the proleptic Gregorian calendar.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    ////////////////////////
+    // BUILDER
+    ////////////////
+
+    /**
+     * Builds {@link ElapsedTimeEnricher} instances.
+     */
+    public static final class Builder {
+        private ElapsedTimeFormatter formatter = ElapsedTime.getDefaultFormatter();
+        private ElapsedTime.Locale locale;
+        private int column = 0;
+        private byte delimiter = ',';
+        private TimestampFormat timestampFormat = TimestampFormat.EPOCH_MILLIS;
+        private byte[] header;
+        private long now = INVALID;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+        private Builder() {}
+
+        /**
+         * @param formatter the formatter that generates the elapsed time column
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the formatter is null
+         */
+        public Builder formatter(ElapsedTimeFormatter formatter) {
+            if (formatter == null) {
+                throw new IllegalArgumentException("The provided formatter is null.");
+            }
+            this.formatter = formatter;
+            return this;
+        }
+
+        /**
+         * @param locale the locale of the elapsed time column, or null to use the locale of the formatter
+         *
+         * @return this builder
+         */
+        public Builder locale(ElapsedTime.Locale locale) {
+            this.locale = locale;
+            return this;
+        }
+
+        /**
+         * @param column the index of the timestamp column, starting at 0
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the index is lower than 0
+         */
+        public Builder column(int column) {
+            if (column < 0) {
+                throw new IllegalArgumentException("The provided column is < 0.");
+            }
+            this.column = column;
+            return this;
+        }
+
+        /**
+         * @param delimiter the column delimiter, must be an ASCII character
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the delimiter is not an ASCII character or is a quote
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+                throw new IllegalArgumentException("The provided delimiter is not supported.");
+            }
+            this.delimiter = (byte) delimiter;
+            return this;
+        }
+
+        /**
+         * @param timestampFormat the format of the timestamp column
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the format is null
+         */
+        public Builder timestampFormat(TimestampFormat timestampFormat) {
+            if (timestampFormat == null) {
+                throw new IllegalArgumentException("The provided format is null.");
+            }
+            this.timestampFormat = timestampFormat;
+            return this;
+        }
+
+        /**
+         * @param name the name of the elapsed time column. If not null, the first row is considered as a header and
+         *             receives this name instead of an elapsed time.
+         *
+         * @return this builder
+         */
+        public Builder header(String name) {
+            this.header = name == null ? null : name.getBytes(StandardCharsets.UTF_8);
+            return this;
+        }
+
+        /**
+         * @param now the present instant in milliseconds since the epoch, used for all the rows
+         *
+         * @return this builder
+         */
+        public Builder now(long now) {
+            this.now = now;
+            return this;
+        }
+
+        /**
+         * @param windowSize the size of the memory-mapped windows in bytes. A row cannot be longer than a window.
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the size is lower than 1
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("The provided size is < 1.");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * @param bufferSize the size of the output buffer in bytes
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the size is lower than 1
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("The provided size is < 1.");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * @return a new enricher with the configuration of this builder
+         */
+        public ElapsedTimeEnricher build() {
+            return new ElapsedTimeEnricher(this);
+        }
+    }
+}
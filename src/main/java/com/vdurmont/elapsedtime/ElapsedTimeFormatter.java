@@ -0,0 +1,2186 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.Locale;
+import com.vdurmont.elapsedtime.ElapsedTime.StringKey;
+import com.vdurmont.elapsedtime.ElapsedTime.TimeDivision;
+import com.vdurmont.elapsedtime.ElapsedTimeHistogram.Counter;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable and thread-safe formatter that generates strings describing an elapsed time.
+ * The configuration (locale, smallest division, thresholds, cache, clock and metrics) is captured once when the formatter
+ * is built,
+ * so a single instance can be shared by any number of threads without locking.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+ *         .locale(ElapsedTime.Locale.FRENCH)
+ *         .smallestTimeDivision(ElapsedTime.TimeDivision.MINUTE)
+ *         .build();
+ * formatter.format(3650000); // Il y a 1 heure
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeFormatter {
+    /**
+     * The default size from which the bulk methods are executed in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 16384;
+
+    /**
+     * The default maximum number of units of the precise strings (e.g.: "3 hours, 32 minutes and 8 seconds ago").
+     */
+    public static final int DEFAULT_MAX_UNITS = 3;
+
+    private static final int MIN_LEAF_SIZE = 1024;
+    private static final int MILLIS_CELLS = (int) TimeDivision.SECOND.getMillis();
+    private static final int YEAR_CELLS = 128;
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private final Locale locale;
+    private final ElapsedTimeLocale language;
+    private final TimeDivision smallestTimeDivision;
+    private final long[] thresholds;
+    private final long[] thresholdsMillis;
+    private final long[] boundaries;
+    private final long[] classifications;
+    private final int maxUnits;
+    private final ElapsedTimeCalendar calendar;
+    private final ElapsedTimeCache cache;
+    private final int parallelThreshold;
+    private final ForkJoinPool forkJoinPool;
+    private final Clock clock;
+    private final long clockLagMillis;
+    private final ElapsedTimeMetrics metrics;
+
+    private ElapsedTimeFormatter(Builder builder) {
+        this.locale = builder.locale;
+        this.language = builder.language;
+        this.smallestTimeDivision = builder.smallestTimeDivision;
+        this.thresholds = builder.thresholds.clone();
+        this.thresholdsMillis = new long[this.thresholds.length];
+        for (TimeDivision division : TimeDivision.values()) {
+            this.thresholdsMillis[division.ordinal()] = this.thresholds[division.ordinal()] * division.getMillis();
+        }
+        long[][] table = buildClassificationTable(this.thresholds, this.thresholdsMillis);
+        this.boundaries = table[0];
+        this.classifications = table[1];
+        this.maxUnits = builder.maxUnits;
+        this.calendar = builder.calendarZone == null ? null : ElapsedTimeCalendar.of(builder.calendarZone);
+        this.cache = builder.cache;
+        this.parallelThreshold = builder.parallelThreshold;
+        this.forkJoinPool = builder.forkJoinPool;
+        this.clock = builder.clock;
+        this.clockLagMillis = builder.clockLagMillis;
+        this.metrics = builder.metrics;
+    }
+
+    /**
+     * Creates a builder initialized with the default configuration:
+     * - ENGLISH locale,
+     * - SECOND as the smallest time division,
+     * - the default thresholds of each {@link TimeDivision},
+     * - {@link #DEFAULT_MAX_UNITS} units in the precise strings,
+     * - months of 30 days and years of 360 days,
+     * - no cache,
+     * - bulk methods executed in parallel in the common pool from {@link #DEFAULT_PARALLEL_THRESHOLD} elements,
+     * - the system clock,
+     * - no metrics.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder initialized with the configuration of this formatter.
+     *
+     * @return the builder
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.locale = this.locale;
+        builder.language = this.language;
+        builder.smallestTimeDivision = this.smallestTimeDivision;
+        builder.thresholds = this.thresholds.clone();
+        builder.maxUnits = this.maxUnits;
+        builder.calendarZone = getCalendarZone();
+        builder.cache = this.cache;
+        builder.parallelThreshold = this.parallelThreshold;
+        builder.forkJoinPool = this.forkJoinPool;
+        builder.clock = this.clock;
+        builder.clockLagMillis = this.clockLagMillis;
+        builder.metrics = this.metrics;
+        return builder;
+    }
+
+    /**
+     * Returns a formatter with the same configuration whose clock is frozen at the present instant.
+     * Use it to format a whole page against a single consistent "now".
+     *
+     * @return the snapshot formatter
+     */
+    public ElapsedTimeFormatter snapshot() {
+        Instant now = Instant.ofEpochMilli(this.clock.millis());
+        Builder builder = toBuilder().clock(Clock.fixed(now, ZoneOffset.UTC));
+        // The frozen instant is as late as the clock it was read from
+        builder.clockLagMillis = this.clockLagMillis;
+        return builder.build();
+    }
+
+    ////////////////////////
+    // FORMATTING
+    ////////////////
+
+    /**
+     * Returns the string representing the duration between the provided date and the present instant of the clock.
+     *
+     * @param date the date (in the past)
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the date is in the future
+     */
+    public String formatDate(Date date) {
+        return formatDate(date.getTime(), getLanguage());
+    }
+
+    /**
+     * Returns the string representing the duration between the provided date and the present instant of the clock.
+     *
+     * @param date   the date (in the past)
+     * @param locale the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the date is in the future
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String formatDate(Date date, Locale locale) {
+        return formatDate(date.getTime(), locale);
+    }
+
+    /**
+     * Returns the string representing the duration between the provided instant and the present instant of the
+     * clock.
+     *
+     * @param instant the instant (in the past)
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the instant is in the future
+     */
+    public String formatDate(Instant instant) {
+        return formatDate(instant.toEpochMilli(), getLanguage());
+    }
+
+    /**
+     * Returns the string representing the duration between the provided instant and the present instant of the
+     * clock.
+     *
+     * @param instant the instant (in the past)
+     * @param locale  the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the instant is in the future
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String formatDate(Instant instant, Locale locale) {
+        return formatDate(instant.toEpochMilli(), locale);
+    }
+
+    /**
+     * Returns the string representing the duration between the provided timestamp and the present instant of the
+     * clock.
+     *
+     * @param epochMillis the timestamp (in the past) in milliseconds since the epoch
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the timestamp is in the future
+     */
+    public String formatDate(long epochMillis) {
+        return formatDate(epochMillis, getLanguage());
+    }
+
+    /**
+     * Returns the string representing the duration between the provided timestamp and the present instant of the
+     * clock.
+     *
+     * @param epochMillis the timestamp (in the past) in milliseconds since the epoch
+     * @param locale      the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the timestamp is in the future
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String formatDate(long epochMillis, Locale locale) {
+        return formatDate(epochMillis, stringsOf(locale));
+    }
+
+    /**
+     * Returns the string representing the duration between the provided timestamp and the present instant of the
+     * clock.
+     *
+     * @param epochMillis the timestamp (in the past) in milliseconds since the epoch
+     * @param locale      the language to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the timestamp is in the future
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public String formatDate(long epochMillis, ElapsedTimeLocale locale) {
+        long now = this.clock.millis();
+        if (epochMillis > now && epochMillis - now <= this.clockLagMillis) {
+            // The clock is late (e.g.: a CoarseClock between two ticks): the timestamp is actually "now"
+            now = epochMillis;
+        }
+        return formatDate(epochMillis, now, locale, null);
+    }
+
+    /**
+     * Returns the string representing the duration between the provided timestamp and "now", with the calendar months
+     * if a calendar is configured.
+     *
+     * @param scratch a buffer to reuse when the string must be generated, or null to use a new one
+     */
+    private String formatDate(long epochMillis, long now, ElapsedTimeLocale locale, StringBuilder scratch) {
+        if (this.calendar == null) {
+            return format(now - epochMillis, locale, scratch);
+        }
+        checkArguments(now - epochMillis, locale);
+        long start = startTimer();
+        return format(divide(epochMillis, now), locale, scratch, start);
+    }
+
+    /**
+     * Returns the string representing the provided duration.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public String format(long durationMillis) {
+        return format(durationMillis, getLanguage());
+    }
+
+    /**
+     * Returns the string representing the provided duration.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String format(long durationMillis, Locale locale) {
+        return format(durationMillis, stringsOf(locale), null);
+    }
+
+    /**
+     * Returns the string representing the provided duration.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public String format(long durationMillis, ElapsedTimeLocale locale) {
+        return format(durationMillis, locale, null);
+    }
+
+    /**
+     * Returns the string representing the provided duration.
+     *
+     * @param scratch a buffer to reuse when the string must be generated, or null to use a new one
+     */
+    private String format(long durationMillis, ElapsedTimeLocale locale, StringBuilder scratch) {
+        checkArguments(durationMillis, locale);
+        long start = startTimer();
+        return format(divide(durationMillis), locale, scratch, start);
+    }
+
+    /**
+     * Returns the string of a classification and records it in the metrics.
+     *
+     * @param start the start time of the call (see {@link #startTimer()})
+     */
+    private String format(long classification, ElapsedTimeLocale locale, StringBuilder scratch, long start) {
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        long value = ElapsedTime.getValue(classification);
+        boolean printable = isPrintable(division, value);
+        String result = format(division, value, printable, locale, scratch);
+        stopTimer(locale, printable ? division : null, start);
+        return result;
+    }
+
+    /**
+     * Returns the string of a classification (see {@link #classify(long)}).
+     */
+    String formatClassification(long classification, ElapsedTimeLocale locale) {
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        long value = ElapsedTime.getValue(classification);
+        return format(division, value, isPrintable(division, value), locale, null);
+    }
+
+    private String format(TimeDivision division, long value, boolean printable, ElapsedTimeLocale locale,
+                          StringBuilder scratch) {
+        if (!printable) {
+            // If our time division cannot be printed, return the "epsilon" text.
+            return locale.getString(StringKey.MOMENTS_AGO);
+        } else if (value > 1) {
+            // Else return the singular or plural text
+            ElapsedTimeCache cache = this.cache;
+            if (cache != null && cache.isEnabled(locale)) {
+                return cache.get(locale, division, value);
+            } else if (scratch != null) {
+                scratch.setLength(0);
+                return render(locale, division, value, scratch);
+            } else {
+                return render(locale, division, value);
+            }
+        } else {
+            return locale.getString(division.getSingularStringKey());
+        }
+    }
+
+    /**
+     * Appends the string representing the provided duration to the provided buffer.
+     * Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public void formatTo(long durationMillis, StringBuilder out) {
+        formatTo(durationMillis, getLanguage(), out);
+    }
+
+    /**
+     * Appends the string representing the provided duration to the provided buffer.
+     * Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public void formatTo(long durationMillis, Locale locale, StringBuilder out) {
+        formatTo(durationMillis, stringsOf(locale), out);
+    }
+
+    /**
+     * Appends the string representing the provided duration to the provided buffer.
+     * Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public void formatTo(long durationMillis, ElapsedTimeLocale locale, StringBuilder out) {
+        checkArguments(durationMillis, locale);
+        long start = startTimer();
+        long classification = divide(durationMillis);
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        long value = ElapsedTime.getValue(classification);
+
+        if (!isPrintable(division, value)) {
+            out.append(locale.getString(StringKey.MOMENTS_AGO));
+            division = null;
+        } else if (value > 1) {
+            int template = locale.templateOf(division.getPluralStringKey(), value);
+            out.append(locale.getPrefix(template));
+            if (locale.hasNumber(template)) {
+                out.append(value);
+            }
+            out.append(locale.getSuffix(template));
+        } else {
+            out.append(locale.getString(division.getSingularStringKey()));
+        }
+
+        stopTimer(locale, division, start);
+    }
+
+    /**
+     * Appends the string representing the provided duration to the provided {@link Appendable}.
+     * The digits are written one by one so that nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the appendable to write into
+     *
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public void formatTo(long durationMillis, Appendable out) throws IOException {
+        formatTo(durationMillis, getLanguage(), out);
+    }
+
+    /**
+     * Appends the string representing the provided duration to the provided {@link Appendable}.
+     * The digits are written one by one so that nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the appendable to write into
+     *
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public void formatTo(long durationMillis, Locale locale, Appendable out) throws IOException {
+        formatTo(durationMillis, stringsOf(locale), out);
+    }
+
+    /**
+     * Appends the string representing the provided duration to the provided {@link Appendable}.
+     * The digits are written one by one so that nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     * @param out            the appendable to write into
+     *
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public void formatTo(long durationMillis, ElapsedTimeLocale locale, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            formatTo(durationMillis, locale, (StringBuilder) out);
+            return;
+        }
+        checkArguments(durationMillis, locale);
+        long start = startTimer();
+        long classification = divide(durationMillis);
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        long value = ElapsedTime.getValue(classification);
+
+        if (!isPrintable(division, value)) {
+            out.append(locale.getString(StringKey.MOMENTS_AGO));
+            division = null;
+        } else if (value > 1) {
+            int template = locale.templateOf(division.getPluralStringKey(), value);
+            out.append(locale.getPrefix(template));
+            if (locale.hasNumber(template)) {
+                appendDigits(value, out);
+            }
+            out.append(locale.getSuffix(template));
+        } else {
+            out.append(locale.getString(division.getSingularStringKey()));
+        }
+
+        stopTimer(locale, division, start);
+    }
+
+    /**
+     * Writes the string representing the provided duration, encoded in UTF-8, to the provided buffer.
+     * The strings are encoded once per locale and the digits are written as ASCII, so nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the buffer to write into, from its position
+     *
+     * @throws java.nio.BufferOverflowException   if the buffer is too small, in which case nothing is written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public void formatTo(long durationMillis, ByteBuffer out) {
+        formatTo(durationMillis, getLanguage(), out);
+    }
+
+    /**
+     * Writes the string representing the provided duration, encoded in UTF-8, to the provided buffer.
+     * The strings are encoded once per locale and the digits are written as ASCII, so nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the buffer to write into, from its position
+     *
+     * @throws java.nio.BufferOverflowException   if the buffer is too small, in which case nothing is written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public void formatTo(long durationMillis, Locale locale, ByteBuffer out) {
+        formatTo(durationMillis, stringsOf(locale), out);
+    }
+
+    /**
+     * Writes the string representing the provided duration, encoded in UTF-8, to the provided buffer.
+     * The strings are encoded once per language and the digits are written as ASCII, so nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     * @param out            the buffer to write into, from its position
+     *
+     * @throws java.nio.BufferOverflowException   if the buffer is too small, in which case nothing is written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public void formatTo(long durationMillis, ElapsedTimeLocale locale, ByteBuffer out) {
+        checkArguments(durationMillis, locale);
+        long start = startTimer();
+        formatTo(divide(durationMillis), locale, out, start);
+    }
+
+    /**
+     * Writes the UTF-8 string representing the duration between the provided timestamp and "now" into the provided
+     * buffer, with the calendar months if a calendar is configured.
+     *
+     * @throws java.nio.BufferOverflowException   if the buffer is too small, in which case nothing is written
+     * @throws java.lang.IllegalArgumentException if the timestamp is after "now"
+     */
+    void formatDateTo(long epochMillis, long now, ElapsedTimeLocale locale, ByteBuffer out) {
+        checkArguments(now - epochMillis, locale);
+        long start = startTimer();
+        formatTo(divide(epochMillis, now), locale, out, start);
+    }
+
+    /**
+     * Writes the UTF-8 string of a classification and records it in the metrics.
+     *
+     * @param start the start time of the call (see {@link #startTimer()})
+     */
+    private void formatTo(long classification, ElapsedTimeLocale locale, ByteBuffer out, long start) {
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        long value = ElapsedTime.getValue(classification);
+
+        int template;
+        int digits = 0;
+        if (!isPrintable(division, value)) {
+            template = locale.templateOf(StringKey.MOMENTS_AGO, 0);
+            division = null;
+        } else if (value > 1) {
+            template = locale.templateOf(division.getPluralStringKey(), value);
+            digits = locale.hasNumber(template) ? countDigits(value) : 0;
+        } else {
+            template = locale.templateOf(division.getSingularStringKey(), value);
+        }
+        byte[] prefix = locale.getEncodedPrefix(template);
+        byte[] suffix = locale.getEncodedSuffix(template);
+        if (out.remaining() < prefix.length + digits + suffix.length) {
+            throw new BufferOverflowException();
+        }
+
+        out.put(prefix);
+        if (digits > 0) {
+            // Write the digits from right to left at their final position
+            int position = out.position();
+            for (int i = position + digits - 1; i >= position; i--) {
+                out.put(i, (byte) ('0' + value % 10));
+                value /= 10;
+            }
+            // Through Buffer: ByteBuffer.position(int) only exists since Java 9
+            ((Buffer) out).position(position + digits);
+        }
+        out.put(suffix);
+
+        stopTimer(locale, division, start);
+    }
+
+    ////////////////////////
+    // PRECISE FORMATTING
+    ////////////////
+
+    /**
+     * Returns the precise string representing the provided duration, with up to {@link #getMaxUnits()} units
+     * (e.g.: "3 hours, 32 minutes and 8 seconds ago").
+     * The units start at the biggest division that fits in the duration and stop at the smallest time division. The
+     * last unit is truncated, not rounded, and the units equal to 0 are skipped.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     *
+     * @return the precise string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public String formatPrecise(long durationMillis) {
+        return formatPrecise(durationMillis, getLanguage());
+    }
+
+    /**
+     * Returns the precise string representing the provided duration (see {@link #formatPrecise(long)}).
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     *
+     * @return the precise string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String formatPrecise(long durationMillis, Locale locale) {
+        return formatPrecise(durationMillis, stringsOf(locale));
+    }
+
+    /**
+     * Returns the precise string representing the provided duration (see {@link #formatPrecise(long)}).
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     *
+     * @return the precise string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public String formatPrecise(long durationMillis, ElapsedTimeLocale locale) {
+        StringBuilder sb = new StringBuilder(64);
+        formatPreciseTo(durationMillis, locale, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the precise string representing the provided duration (see {@link #formatPrecise(long)}) to the
+     * provided buffer. Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public void formatPreciseTo(long durationMillis, StringBuilder out) {
+        formatPreciseTo(durationMillis, getLanguage(), out);
+    }
+
+    /**
+     * Appends the precise string representing the provided duration (see {@link #formatPrecise(long)}) to the
+     * provided buffer. Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public void formatPreciseTo(long durationMillis, Locale locale, StringBuilder out) {
+        formatPreciseTo(durationMillis, stringsOf(locale), out);
+    }
+
+    /**
+     * Appends the precise string representing the provided duration (see {@link #formatPrecise(long)}) to the
+     * provided buffer. Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     * @param out            the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public void formatPreciseTo(long durationMillis, ElapsedTimeLocale locale, StringBuilder out) {
+        try {
+            formatPreciseTo(durationMillis, locale, (Appendable) out);
+        } catch (IOException e) {
+            // A StringBuilder never throws
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Appends the precise string representing the provided duration (see {@link #formatPrecise(long)}) to the
+     * provided {@link Appendable}. The digits are written one by one so that nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param out            the appendable to write into
+     *
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public void formatPreciseTo(long durationMillis, Appendable out) throws IOException {
+        formatPreciseTo(durationMillis, getLanguage(), out);
+    }
+
+    /**
+     * Appends the precise string representing the provided duration (see {@link #formatPrecise(long)}) to the
+     * provided {@link Appendable}. The digits are written one by one so that nothing is allocated.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     * @param out            the appendable to write into
+     *
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public void formatPreciseTo(long durationMillis, Locale locale, Appendable out) throws IOException {
+        formatPreciseTo(durationMillis, stringsOf(locale), out);
+    }
+
+    /**
+     * Appends the precise string representing the provided duration (see {@link #formatPrecise(long)}) to the
+     * provided {@link Appendable}. The digits are written one by one so that nothing is allocated.
+     *
+     * The units are computed twice instead of being stored: once to find the last one (which is preceded by
+     * {@link StringKey#LIST_LAST_SEPARATOR} instead of {@link StringKey#LIST_SEPARATOR}) and once to write them.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     * @param out            the appendable to write into
+     *
+     * @throws java.io.IOException                if the appendable cannot be written
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public void formatPreciseTo(long durationMillis, ElapsedTimeLocale locale, Appendable out) throws IOException {
+        checkArguments(durationMillis, locale);
+        long start = startTimer();
+
+        // The biggest division that fits (the divisions below MILLIS are only used by the nanosecond methods)
+        TimeDivision first = TimeDivision.YEAR;
+        while (first != TimeDivision.MILLIS && durationMillis < first.getMillis()) {
+            first = first.getSubDivision();
+        }
+        if (durationMillis < first.getMillis() || first.compareTo(this.smallestTimeDivision) < 0) {
+            out.append(locale.getString(StringKey.MOMENTS_AGO));
+            stopTimer(locale, null, start);
+            return;
+        }
+
+        // Count the units to print
+        int count = 0;
+        TimeDivision division = first;
+        for (int i = 0; i < this.maxUnits && isPreciseUnit(division); i++, division = division.getSubDivision()) {
+            if (unitValue(durationMillis, division) > 0) {
+                count++;
+            }
+        }
+
+        // And print them
+        out.append(locale.getPrefix(StringKey.AGO));
+        int printed = 0;
+        division = first;
+        for (int i = 0; i < this.maxUnits && isPreciseUnit(division); i++, division = division.getSubDivision()) {
+            long value = unitValue(durationMillis, division);
+            if (value == 0) {
+                continue;
+            }
+            if (printed > 0) {
+                out.append(locale.getString(printed == count - 1
+                        ? StringKey.LIST_LAST_SEPARATOR
+                        : StringKey.LIST_SEPARATOR));
+            }
+            if (value > 1) {
+                int template = locale.templateOf(division.getPluralUnitStringKey(), value);
+                out.append(locale.getPrefix(template));
+                if (locale.hasNumber(template) && out instanceof StringBuilder) {
+                    ((StringBuilder) out).append(value);
+                } else if (locale.hasNumber(template)) {
+                    appendDigits(value, out);
+                }
+                out.append(locale.getSuffix(template));
+            } else {
+                out.append(locale.getString(division.getSingularUnitStringKey()));
+            }
+            printed++;
+        }
+        out.append(locale.getSuffix(StringKey.AGO));
+
+        stopTimer(locale, first, start);
+    }
+
+    /**
+     * Returns true if the division can be printed in a precise string.
+     */
+    private boolean isPreciseUnit(TimeDivision division) {
+        return division != null && division.compareTo(TimeDivision.MILLIS) >= 0
+                && division.compareTo(this.smallestTimeDivision) >= 0;
+    }
+
+    /**
+     * Returns the number of divisions in the duration once the bigger divisions are removed.
+     * Every division is a multiple of its subdivision, so no remainder is lost.
+     */
+    private static long unitValue(long durationMillis, TimeDivision division) {
+        TimeDivision superDivision = division.getSuperDivision();
+        long remaining = superDivision == null ? durationMillis : durationMillis % superDivision.getMillis();
+        return remaining / division.getMillis();
+    }
+
+    ////////////////////////
+    // NANOSECONDS
+    ////////////////
+
+    /**
+     * Returns the string representing the provided duration, measured in nanoseconds (e.g.: with
+     * {@link System#nanoTime()}). The durations below 1 millisecond are printed with the MICROS and NANOS divisions,
+     * if the smallest time division allows it.
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public String formatNanos(long durationNanos) {
+        return formatNanos(durationNanos, getLanguage());
+    }
+
+    /**
+     * Returns the string representing the provided duration (see {@link #formatNanos(long)}).
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param locale        the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String formatNanos(long durationNanos, Locale locale) {
+        return formatNanos(durationNanos, stringsOf(locale));
+    }
+
+    /**
+     * Returns the string representing the provided duration (see {@link #formatNanos(long)}).
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param locale        the language to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public String formatNanos(long durationNanos, ElapsedTimeLocale locale) {
+        checkArguments(durationNanos, locale);
+        long start = startTimer();
+        return format(divideNanos(durationNanos), locale, null, start);
+    }
+
+    /**
+     * Returns the string representing the provided duration as a span of time, without "ago" (e.g.: "340 microseconds"
+     * or "2 hours"), which is what is printed for a timing. The duration is divided like {@link #formatNanos(long)} but
+     * the smallest time division is ignored: a span is never printed as "moments ago" and 0 is printed with the
+     * NANOS division.
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public String formatSpan(long durationNanos) {
+        return formatSpan(durationNanos, getLanguage());
+    }
+
+    /**
+     * Returns the string representing the provided duration as a span of time (see {@link #formatSpan(long)}).
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param locale        the locale to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String formatSpan(long durationNanos, Locale locale) {
+        return formatSpan(durationNanos, stringsOf(locale));
+    }
+
+    /**
+     * Returns the string representing the provided duration as a span of time (see {@link #formatSpan(long)}).
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param locale        the language to use for this string
+     *
+     * @return the string representing the provided duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public String formatSpan(long durationNanos, ElapsedTimeLocale locale) {
+        StringBuilder sb = new StringBuilder(32);
+        formatSpanTo(durationNanos, locale, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the string representing the provided duration as a span of time (see {@link #formatSpan(long)}) to the
+     * provided buffer. Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param out           the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public void formatSpanTo(long durationNanos, StringBuilder out) {
+        formatSpanTo(durationNanos, getLanguage(), out);
+    }
+
+    /**
+     * Appends the string representing the provided duration as a span of time (see {@link #formatSpan(long)}) to the
+     * provided buffer. Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param locale        the locale to use for this string
+     * @param out           the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public void formatSpanTo(long durationNanos, Locale locale, StringBuilder out) {
+        formatSpanTo(durationNanos, stringsOf(locale), out);
+    }
+
+    /**
+     * Appends the string representing the provided duration as a span of time (see {@link #formatSpan(long)}) to the
+     * provided buffer. Nothing is allocated apart from the buffer growth.
+     *
+     * @param durationNanos the duration to represent in nanoseconds
+     * @param locale        the language to use for this string
+     * @param out           the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public void formatSpanTo(long durationNanos, ElapsedTimeLocale locale, StringBuilder out) {
+        checkArguments(durationNanos, locale);
+        long start = startTimer();
+        long classification = divideNanos(durationNanos);
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        long value = ElapsedTime.getValue(classification);
+
+        if (value == 1) {
+            out.append(locale.getString(division.getSingularUnitStringKey()));
+        } else {
+            int template = locale.templateOf(division.getPluralUnitStringKey(), value);
+            out.append(locale.getPrefix(template));
+            if (locale.hasNumber(template)) {
+                out.append(value);
+            }
+            out.append(locale.getSuffix(template));
+        }
+
+        stopTimer(locale, division, start);
+    }
+
+    ////////////////////////
+    // NEXT CHANGE
+    ////////////////
+
+    /**
+     * Returns the string representing the provided duration and the duration at which it will change.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     *
+     * @return the label
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public ElapsedTimeLabel label(long durationMillis) {
+        return label(durationMillis, getLanguage());
+    }
+
+    /**
+     * Returns the string representing the provided duration and the duration at which it will change.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the locale to use for this string
+     *
+     * @return the label
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public ElapsedTimeLabel label(long durationMillis, Locale locale) {
+        return label(durationMillis, stringsOf(locale));
+    }
+
+    /**
+     * Returns the string representing the provided duration and the duration at which it will change.
+     *
+     * @param durationMillis the duration to represent in milliseconds
+     * @param locale         the language to use for this string
+     *
+     * @return the label
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public ElapsedTimeLabel label(long durationMillis, ElapsedTimeLocale locale) {
+        String text = format(durationMillis, locale);
+        return new ElapsedTimeLabel(text, durationMillis, nextChangeMillis(durationMillis));
+    }
+
+    /**
+     * Returns the smallest duration, greater than the provided one, whose string is different.
+     * All the durations in between have the same string.
+     *
+     * Example: with the default config, the next change of 10 minutes is 10 minutes and 45 seconds ("11 minutes ago").
+     *
+     * @param durationMillis the duration in milliseconds
+     *
+     * @return the duration of the next change in milliseconds, or Long.MAX_VALUE if the string never changes
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public long nextChangeMillis(long durationMillis) {
+        if (durationMillis < 0) {
+            throw new IllegalArgumentException("The provided duration is < 0.");
+        }
+        long text = textOf(divide(durationMillis));
+        long current = durationMillis;
+        while (true) {
+            // The string cannot change between two boundaries, so we only have to check the boundaries
+            current = nextBoundary(current);
+            if (current == Long.MAX_VALUE || textOf(divide(current)) != text) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Identifies the string of a classification: 2 classifications with the same identifier have the same string.
+     */
+    private long textOf(long classification) {
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        long value = ElapsedTime.getValue(classification);
+        if (!isPrintable(division, value)) {
+            return -1;
+        }
+        return value > 1 ? classification : ElapsedTime.pack(division, 1);
+    }
+
+    /**
+     * Returns the next duration at which the result of {@link #divide(long)} may change. These are the points where
+     * the division or its value changes, and the points where the remaining time crosses the subdivision threshold.
+     */
+    private long nextBoundary(long durationMillis) {
+        TimeDivision division = TimeDivision.YEAR;
+        while (division != TimeDivision.MILLIS && durationMillis < division.getMillis()) {
+            division = division.getSubDivision();
+        }
+        long millis = division.getMillis();
+        long value = durationMillis / millis;
+        long start = value * millis;
+        TimeDivision superDivision = division.getSuperDivision();
+        TimeDivision subDivision = division == TimeDivision.MILLIS ? null : division.getSubDivision();
+
+        long next;
+        if (superDivision != null && value >= this.thresholds[division.ordinal()]) {
+            // 1 super division until the super division fits
+            next = superDivision.getMillis();
+        } else if (superDivision != null && this.smallestTimeDivision.compareTo(division) > 0) {
+            // "Moments ago" until the threshold is crossed or the super division fits
+            next = Math.min(this.thresholds[division.ordinal()] * millis, superDivision.getMillis());
+        } else if (subDivision != null && durationMillis - start < this.thresholdsMillis[subDivision.ordinal()]) {
+            next = start + Math.min(this.thresholdsMillis[subDivision.ordinal()], millis);
+        } else {
+            next = start + millis;
+        }
+        return next <= durationMillis ? Long.MAX_VALUE : next;
+    }
+
+    ////////////////////////
+    // RANGES
+    ////////////////
+
+    /**
+     * Returns the durations printed like the provided division and value: the inverse of {@link #classify(long)}.
+     * The range honors the thresholds of this formatter, including the rounding up on the remaining time. If the
+     * division and the value are printed as "moments ago", the range of "moments ago" is returned.
+     *
+     * Example: with the default thresholds, (HOUR, 3) is printed from 2 hours and 45 minutes (inclusive) to 3 hours
+     * and 45 minutes (exclusive).
+     *
+     * The ranges are computed with months of 30 days, like {@link #format(long)}: they do not follow the calendar (see
+     * {@link Builder#calendar(ZoneId)}).
+     *
+     * @param division the time division
+     * @param value    the number of time divisions
+     *
+     * @return the range, or null if no duration is printed with this division and value (e.g.: 50 minutes, because
+     * 45 minutes are printed as 1 hour)
+     * @throws java.lang.IllegalArgumentException if the division is null
+     * @throws java.lang.IllegalArgumentException if the value is lower than 0
+     */
+    public ElapsedTimeRange range(TimeDivision division, long value) {
+        if (division == null) {
+            throw new IllegalArgumentException("The provided division is null.");
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException("The provided value is < 0.");
+        }
+        if (division.compareTo(TimeDivision.MILLIS) < 0 || value > ElapsedTime.MAX_VALUE) {
+            // The millisecond engine never prints them
+            return null;
+        }
+        long classification = ElapsedTime.pack(division, value);
+        long from = lowerBound(classification);
+        if (divide(from) != classification) {
+            return null;
+        }
+        return rangeOf(from);
+    }
+
+    /**
+     * Returns the durations printed like the provided duration.
+     *
+     * @param durationMillis the duration in milliseconds
+     *
+     * @return the range that contains the duration
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public ElapsedTimeRange rangeOf(long durationMillis) {
+        if (durationMillis < 0) {
+            throw new IllegalArgumentException("The provided duration is < 0.");
+        }
+        long classification = divide(durationMillis);
+        if (isMomentsAgo(classification)) {
+            // Every duration is printable from the first one that reaches the smallest division
+            long to = lowerBound(ElapsedTime.pack(this.smallestTimeDivision, 1));
+            return new ElapsedTimeRange(divide(0), true, 0, to);
+        }
+        return new ElapsedTimeRange(classification, false, start(durationMillis, classification),
+                end(durationMillis, classification));
+    }
+
+    /**
+     * Lists the consecutive ranges from 0 to the provided horizon, e.g.: to group the timestamps of the last week by
+     * string with a single query. The ranges of the table of the formatter (up to 1 year) are read from it, so listing
+     * them is cheap.
+     *
+     * @param horizonMillis the longest duration to cover in milliseconds (exclusive)
+     *
+     * @return the ranges, from the most recent to the oldest. The last one contains horizonMillis - 1.
+     * @throws java.lang.IllegalArgumentException if the horizon is lower than 0
+     */
+    public List<ElapsedTimeRange> ranges(long horizonMillis) {
+        if (horizonMillis < 0) {
+            throw new IllegalArgumentException("The provided horizon is < 0.");
+        }
+        List<ElapsedTimeRange> ranges = new ArrayList<ElapsedTimeRange>();
+        long from = 0;
+        while (from < horizonMillis) {
+            ElapsedTimeRange range = rangeOf(from);
+            ranges.add(range);
+            from = range.getToMillis();
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the shortest duration whose classification is >= the provided one, or Long.MAX_VALUE if there is none.
+     * The classifications are ordered like the durations, so this is a binary search on {@link #divide(long)}.
+     */
+    private long lowerBound(long classification) {
+        long low = 0;
+        long high = Long.MAX_VALUE;
+        while (low < high) {
+            long middle = low + (high - low) / 2;
+            if (divide(middle) >= classification) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first duration that has the same classification as the provided one.
+     * Inside the table, this is the boundary of the entry.
+     */
+    private long start(long durationMillis, long classification) {
+        long[] boundaries = this.boundaries;
+        if (durationMillis < boundaries[0]) {
+            if (ElapsedTime.getDivision(classification) == TimeDivision.MILLIS) {
+                return durationMillis;
+            }
+        } else if (durationMillis < TimeDivision.YEAR.getMillis()) {
+            int index = indexOf(durationMillis);
+            if (index > 0) {
+                return boundaries[index];
+            }
+        }
+        return lowerBound(classification);
+    }
+
+    /**
+     * Returns the first duration after the provided one that has another classification, or Long.MAX_VALUE.
+     * Inside the table, this is the next boundary.
+     */
+    private long end(long durationMillis, long classification) {
+        long[] boundaries = this.boundaries;
+        if (durationMillis < boundaries[0]) {
+            if (ElapsedTime.getDivision(classification) == TimeDivision.MILLIS) {
+                return durationMillis + 1;
+            }
+        } else if (durationMillis < TimeDivision.YEAR.getMillis()) {
+            int index = indexOf(durationMillis);
+            if (index + 1 < boundaries.length) {
+                return boundaries[index + 1];
+            }
+        }
+        return lowerBound(classification + 1);
+    }
+
+    ////////////////////////
+    // BULK FORMATTING
+    ////////////////
+
+    /**
+     * Generates the strings representing the durations between the provided timestamps and "now".
+     * The arrays are processed in parallel if they contain at least {@link #getParallelThreshold()} elements.
+     *
+     * @param epochMillis the timestamps (in the past) in milliseconds since the epoch
+     * @param now         the present instant in milliseconds since the epoch
+     * @param out         the array that receives the strings, at the same indexes as the timestamps
+     *
+     * @throws java.lang.IllegalArgumentException if a timestamp is in the future
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the timestamps array
+     */
+    public void formatAll(long[] epochMillis, long now, String[] out) {
+        formatAll(epochMillis, now, true, getLanguage(), out);
+    }
+
+    /**
+     * Generates the strings representing the durations between the provided timestamps and "now".
+     * The arrays are processed in parallel if they contain at least {@link #getParallelThreshold()} elements.
+     *
+     * @param epochMillis the timestamps (in the past) in milliseconds since the epoch
+     * @param now         the present instant in milliseconds since the epoch
+     * @param locale      the locale to use for the strings
+     * @param out         the array that receives the strings, at the same indexes as the timestamps
+     *
+     * @throws java.lang.IllegalArgumentException if a timestamp is in the future
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the timestamps array
+     */
+    public void formatAll(long[] epochMillis, long now, Locale locale, String[] out) {
+        formatAll(epochMillis, now, true, stringsOf(locale), out);
+    }
+
+    /**
+     * Generates the strings representing the provided durations.
+     * The arrays are processed in parallel if they contain at least {@link #getParallelThreshold()} elements.
+     *
+     * @param durationsMillis the durations to represent in milliseconds
+     * @param out             the array that receives the strings, at the same indexes as the durations
+     *
+     * @throws java.lang.IllegalArgumentException if a duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the durations array
+     */
+    public void formatAllDurations(long[] durationsMillis, String[] out) {
+        formatAll(durationsMillis, 0, false, getLanguage(), out);
+    }
+
+    /**
+     * Generates the strings representing the provided durations.
+     * The arrays are processed in parallel if they contain at least {@link #getParallelThreshold()} elements.
+     *
+     * @param durationsMillis the durations to represent in milliseconds
+     * @param locale          the locale to use for the strings
+     * @param out             the array that receives the strings, at the same indexes as the durations
+     *
+     * @throws java.lang.IllegalArgumentException if a duration is lower than 0
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     * @throws java.lang.IllegalArgumentException if the output array is smaller than the durations array
+     */
+    public void formatAllDurations(long[] durationsMillis, Locale locale, String[] out) {
+        formatAll(durationsMillis, 0, false, stringsOf(locale), out);
+    }
+
+    private void formatAll(long[] values, long now, boolean timestamps, ElapsedTimeLocale locale, String[] out) {
+        if (out.length < values.length) {
+            throw new IllegalArgumentException("The provided output array is too small.");
+        }
+        if (values.length < this.parallelThreshold) {
+            formatRange(values, now, timestamps, locale, out, 0, values.length);
+        } else {
+            ForkJoinPool pool = this.forkJoinPool != null ? this.forkJoinPool : ForkJoinPool.commonPool();
+            int leafSize = Math.max(MIN_LEAF_SIZE, values.length / (pool.getParallelism() * 4));
+            pool.invoke(new BulkTask(values, now, timestamps, locale, out, 0, values.length, leafSize));
+        }
+    }
+
+    /**
+     * Formats the values between from (inclusive) and to (exclusive) with a single scratch buffer.
+     */
+    private void formatRange(long[] values, long now, boolean timestamps, ElapsedTimeLocale locale, String[] out,
+                             int from, int to) {
+        StringBuilder scratch = new StringBuilder(32);
+        for (int i = from; i < to; i++) {
+            if (timestamps) {
+                out[i] = formatDate(values[i], now, locale, scratch);
+            } else {
+                out[i] = format(values[i], locale, scratch);
+            }
+        }
+    }
+
+    /**
+     * Splits a bulk formatting in halves until the ranges are small enough to be formatted by a single thread.
+     */
+    private final class BulkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values;
+        private final long now;
+        private final boolean timestamps;
+        private final ElapsedTimeLocale locale;
+        private final String[] out;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private BulkTask(long[] values, long now, boolean timestamps, ElapsedTimeLocale locale, String[] out, int from,
+                         int to, int leafSize) {
+            this.values = values;
+            this.now = now;
+            this.timestamps = timestamps;
+            this.locale = locale;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override protected void compute() {
+            if (this.to - this.from <= this.leafSize) {
+                formatRange(this.values, this.now, this.timestamps, this.locale, this.out, this.from, this.to);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new BulkTask(this.values, this.now, this.timestamps, this.locale, this.out, this.from, middle,
+                            this.leafSize),
+                    new BulkTask(this.values, this.now, this.timestamps, this.locale, this.out, middle, this.to,
+                            this.leafSize)
+            );
+        }
+    }
+
+    ////////////////////////
+    // AGGREGATION
+    ////////////////
+
+    /**
+     * Counts the timestamps by elapsed time bucket (e.g.: "12 seconds ago" or "2 hours ago") without generating any
+     * string. The array is counted in parallel if it contains at least {@link #getParallelThreshold()} elements.
+     * The months and the years are counted on the calendar if a calendar is configured.
+     *
+     * @param epochMillis the timestamps (in the past) in milliseconds since the epoch
+     * @param now         the present instant in milliseconds since the epoch
+     *
+     * @return the number of timestamps in each bucket
+     * @throws java.lang.IllegalArgumentException if a timestamp is in the future
+     */
+    public ElapsedTimeHistogram histogram(long[] epochMillis, long now) {
+        return histogram(epochMillis, now, true);
+    }
+
+    /**
+     * Counts the durations by bucket (e.g.: "12 seconds ago" or "2 hours ago") without generating any string.
+     * The array is counted in parallel if it contains at least {@link #getParallelThreshold()} elements.
+     *
+     * @param durationsMillis the durations in milliseconds
+     *
+     * @return the number of durations in each bucket
+     * @throws java.lang.IllegalArgumentException if a duration is lower than 0
+     */
+    public ElapsedTimeHistogram histogramOfDurations(long[] durationsMillis) {
+        return histogram(durationsMillis, 0, false);
+    }
+
+    /**
+     * Counts the timestamps by elapsed time bucket (e.g.: "12 seconds ago" or "2 hours ago") without generating any
+     * string. A parallel stream is counted in parallel: each thread fills its own counters and they are merged at the
+     * end. The months and the years are counted on the calendar if a calendar is configured.
+     *
+     * @param epochMillis the timestamps (in the past) in milliseconds since the epoch
+     * @param now         the present instant in milliseconds since the epoch
+     *
+     * @return the number of timestamps in each bucket
+     * @throws java.lang.IllegalArgumentException if a timestamp is in the future
+     */
+    public ElapsedTimeHistogram histogram(LongStream epochMillis, long now) {
+        return histogram(epochMillis, now, true);
+    }
+
+    /**
+     * Counts the durations by bucket (e.g.: "12 seconds ago" or "2 hours ago") without generating any string.
+     * A parallel stream is counted in parallel: each thread fills its own counters and they are merged at the end.
+     *
+     * @param durationsMillis the durations in milliseconds
+     *
+     * @return the number of durations in each bucket
+     * @throws java.lang.IllegalArgumentException if a duration is lower than 0
+     */
+    public ElapsedTimeHistogram histogramOfDurations(LongStream durationsMillis) {
+        return histogram(durationsMillis, 0, false);
+    }
+
+    private ElapsedTimeHistogram histogram(long[] values, long now, boolean timestamps) {
+        Counter counter;
+        if (values.length < this.parallelThreshold) {
+            counter = new Counter(this);
+            counter.addAll(values, now, timestamps, 0, values.length);
+        } else {
+            ForkJoinPool pool = this.forkJoinPool != null ? this.forkJoinPool : ForkJoinPool.commonPool();
+            int leafSize = Math.max(MIN_LEAF_SIZE, values.length / (pool.getParallelism() * 4));
+            counter = pool.invoke(new HistogramTask(values, now, timestamps, 0, values.length, leafSize));
+        }
+        return counter.toHistogram();
+    }
+
+    private ElapsedTimeHistogram histogram(LongStream values, final long now, final boolean timestamps) {
+        return values.collect(
+                new Supplier<Counter>() {
+                    @Override public Counter get() {
+                        return new Counter(ElapsedTimeFormatter.this);
+                    }
+                },
+                new ObjLongConsumer<Counter>() {
+                    @Override public void accept(Counter counter, long value) {
+                        if (timestamps) {
+                            counter.addDate(value, now);
+                        } else {
+                            counter.add(value);
+                        }
+                    }
+                },
+                new BiConsumer<Counter, Counter>() {
+                    @Override public void accept(Counter counter, Counter other) {
+                        counter.merge(other);
+                    }
+                }
+        ).toHistogram();
+    }
+
+    /**
+     * Splits a bulk count in halves until the ranges are small enough to be counted by a single thread, then merges
+     * the counters of the halves.
+     */
+    private final class HistogramTask extends RecursiveTask<Counter> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] values;
+        private final long now;
+        private final boolean timestamps;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private HistogramTask(long[] values, long now, boolean timestamps, int from, int to, int leafSize) {
+            this.values = values;
+            this.now = now;
+            this.timestamps = timestamps;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override protected Counter compute() {
+            if (this.to - this.from <= this.leafSize) {
+                Counter counter = new Counter(ElapsedTimeFormatter.this);
+                counter.addAll(this.values, this.now, this.timestamps, this.from, this.to);
+                return counter;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            HistogramTask left = new HistogramTask(this.values, this.now, this.timestamps, this.from, middle,
+                    this.leafSize);
+            HistogramTask right = new HistogramTask(this.values, this.now, this.timestamps, middle, this.to,
+                    this.leafSize);
+            left.fork();
+            Counter counter = right.compute();
+            counter.merge(left.join());
+            return counter;
+        }
+    }
+
+    /**
+     * Returns the start time of a call if the metrics are enabled and the call is sampled, {@link #NOT_TIMED} otherwise.
+     */
+    private long startTimer() {
+        ElapsedTimeMetrics metrics = this.metrics;
+        return metrics != null && metrics.isSampled() ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Records a generated string in the metrics, if they are enabled.
+     *
+     * @param division the division of the string, or null for "moments ago"
+     */
+    private void stopTimer(ElapsedTimeLocale locale, TimeDivision division, long start) {
+        ElapsedTimeMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.record(locale, division, start == NOT_TIMED ? -1 : System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the compiled strings of an enum locale.
+     */
+    private static ElapsedTimeLocale stringsOf(Locale locale) {
+        if (locale == null) {
+            throw new IllegalArgumentException("The provided locale is null.");
+        }
+        return locale.getStrings();
+    }
+
+    private static void checkArguments(long durationMillis, ElapsedTimeLocale locale) {
+        if (durationMillis < 0) {
+            throw new IllegalArgumentException("The provided duration is < 0.");
+        }
+        if (locale == null) {
+            throw new IllegalArgumentException("The provided locale is null.");
+        }
+    }
+
+    /**
+     * Returns true if the division can be printed, false if the "epsilon" text must be used instead.
+     */
+    private boolean isPrintable(TimeDivision division, long value) {
+        return value > 0 && division.compareTo(this.smallestTimeDivision) >= 0;
+    }
+
+    /**
+     * Returns the division and the value that represent the provided duration, after the thresholds are applied,
+     * packed in a long. This is what the strings are generated from, without the strings.
+     * The classifications are ordered like the durations: a longer duration never has a smaller classification.
+     *
+     * Example: 2 hours and 40 minutes is classified as (HOUR, 3).
+     *
+     * @param durationMillis the duration in milliseconds
+     *
+     * @return the classification (see {@link ElapsedTime#getDivision(long)} and {@link ElapsedTime#getValue(long)})
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public long classify(long durationMillis) {
+        if (durationMillis < 0) {
+            throw new IllegalArgumentException("The provided duration is < 0.");
+        }
+        return divide(durationMillis);
+    }
+
+    /**
+     * Returns the division and the value that represent the provided duration (see {@link #classify(long)}), measured in
+     * nanoseconds. Below 1 millisecond, the MICROS and NANOS divisions are used.
+     *
+     * Example: 340800 nanoseconds is classified as (MICROS, 341).
+     *
+     * @param durationNanos the duration in nanoseconds
+     *
+     * @return the classification (see {@link ElapsedTime#getDivision(long)} and {@link ElapsedTime#getValue(long)})
+     * @throws java.lang.IllegalArgumentException if the duration is lower than 0
+     */
+    public long classifyNanos(long durationNanos) {
+        if (durationNanos < 0) {
+            throw new IllegalArgumentException("The provided duration is < 0.");
+        }
+        return divideNanos(durationNanos);
+    }
+
+    /**
+     * @param classification a classification (see {@link #classify(long)})
+     *
+     * @return true if the classification is printed as "moments ago" by this formatter
+     */
+    public boolean isMomentsAgo(long classification) {
+        return !isPrintable(ElapsedTime.getDivision(classification), ElapsedTime.getValue(classification));
+    }
+
+    /**
+     * Finds the division and the value to print for the provided duration.
+     * We take the biggest division that fits in the duration and then apply the thresholds:
+     * - if the value crossed the division threshold, we print 1 of the super division
+     * - else if the remaining time crossed the subdivision threshold, we round the value up
+     *
+     * Example:
+     * - 275723300 millis is 3 days + 4 hours + ... so we print 3 days
+     * - 82800000 millis is 23 hours which is above the hours threshold so we print 1 day
+     *
+     * The result only changes at a few hundred durations between 1 second and 1 year, so they are precomputed (see
+     * {@link #buildClassificationTable(long[], long[])}) and found with a binary search. Below 1 second every
+     * millisecond is a different value and above 1 year the years are counted, so these are computed.
+     *
+     * @param durationMillis the duration to divide (must be >= 0)
+     *
+     * @return the division and the value packed in a long (see {@link ElapsedTime#getDivision(long)} and
+     * {@link ElapsedTime#getValue(long)})
+     */
+    long divide(long durationMillis) {
+        long[] boundaries = this.boundaries;
+        if (durationMillis < boundaries[0]) {
+            // The smallest division has no subdivision to round up
+            TimeDivision division = TimeDivision.MILLIS;
+            if (durationMillis >= this.thresholds[division.ordinal()]) {
+                return ElapsedTime.pack(division.getSuperDivision(), 1);
+            }
+            return ElapsedTime.pack(division, durationMillis);
+        }
+        if (durationMillis >= TimeDivision.YEAR.getMillis()) {
+            // The biggest division has no threshold
+            TimeDivision division = TimeDivision.YEAR;
+            long value = durationMillis / division.getMillis();
+            if (durationMillis % division.getMillis() >= this.thresholdsMillis[division.getSubDivision().ordinal()]) {
+                value++;
+            }
+            return ElapsedTime.pack(division, value);
+        }
+
+        return this.classifications[indexOf(durationMillis)];
+    }
+
+    /**
+     * Finds the division and the value to print for a duration in nanoseconds. From 1 second, the boundaries are whole
+     * milliseconds so this is {@link #divide(long)}. Below, the thresholds are applied on the NANOS, MICROS and MILLIS
+     * divisions the same way, with the remaining nanoseconds.
+     *
+     * @param durationNanos the duration to divide (must be >= 0)
+     *
+     * @return the division and the value packed in a long
+     */
+    long divideNanos(long durationNanos) {
+        if (durationNanos >= TimeDivision.SECOND.getNanos()) {
+            return divide(durationNanos / TimeDivision.MILLIS.getNanos());
+        }
+        TimeDivision division = durationNanos >= TimeDivision.MILLIS.getNanos() ? TimeDivision.MILLIS
+                : durationNanos >= TimeDivision.MICROS.getNanos() ? TimeDivision.MICROS
+                : TimeDivision.NANOS;
+        long nanos = division.getNanos();
+        long value = durationNanos / nanos;
+        if (value >= this.thresholds[division.ordinal()]) {
+            return ElapsedTime.pack(division.getSuperDivision(), 1);
+        }
+        TimeDivision subDivision = division.getSubDivision();
+        if (subDivision != null
+                && durationNanos % nanos >= this.thresholds[subDivision.ordinal()] * subDivision.getNanos()) {
+            value++;
+        }
+        return ElapsedTime.pack(division, value);
+    }
+
+    /**
+     * Finds the division and the value to print for the duration between two instants. Without a calendar, this is
+     * {@link #divide(long)}. With a calendar, the months and the years are counted on the calendar instead of with
+     * months of 30 days, and the thresholds are applied the same way:
+     * - the remaining days round the months up from 26 days (the DAY threshold)
+     * - 11 months or more is 1 year (the MONTH threshold)
+     * - the remaining months round the years up from 11 months (the MONTH threshold)
+     *
+     * @param epochMillis the first instant in milliseconds since the epoch
+     * @param now         the second instant in milliseconds since the epoch (must be >= epochMillis)
+     *
+     * @return the division and the value packed in a long
+     */
+    long divide(long epochMillis, long now) {
+        long classification = divide(now - epochMillis);
+        ElapsedTimeCalendar calendar = this.calendar;
+        if (calendar == null || ElapsedTime.getDivision(classification).compareTo(TimeDivision.MONTH) < 0) {
+            // Below a month, the days are exact
+            return classification;
+        }
+        long months = calendar.monthsBetween(epochMillis, now);
+        if (months == 0) {
+            // Between the DAY threshold and the end of the month
+            return classification;
+        }
+
+        // Round up first so that the rounded months also go through the MONTH threshold
+        long remaining = now - calendar.plusMonths(epochMillis, months);
+        if (remaining >= this.thresholdsMillis[TimeDivision.DAY.ordinal()]) {
+            months++;
+        }
+        long monthThreshold = this.thresholds[TimeDivision.MONTH.ordinal()];
+        if (months >= 12) {
+            long years = months / 12;
+            if (months % 12 >= monthThreshold) {
+                years++;
+            }
+            return ElapsedTime.pack(TimeDivision.YEAR, years);
+        }
+        if (months >= monthThreshold) {
+            return ElapsedTime.pack(TimeDivision.YEAR, 1);
+        }
+        return ElapsedTime.pack(TimeDivision.MONTH, months);
+    }
+
+    /**
+     * Returns the index of the last boundary <= durationMillis.
+     */
+    private int indexOf(long durationMillis) {
+        long[] boundaries = this.boundaries;
+        int low = 0;
+        int high = boundaries.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (boundaries[middle] <= durationMillis) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of cells used to count the durations (see {@link #cellOf(long)}).
+     */
+    int getCellCount() {
+        return MILLIS_CELLS + this.boundaries.length + YEAR_CELLS;
+    }
+
+    /**
+     * Maps a duration to a cell, so that the durations can be counted in a flat array. The cells are ordered like the
+     * durations: the milliseconds below 1 second, then the entries of the classification table, then the years.
+     * Several cells can have the same classification.
+     *
+     * @param durationMillis the duration to map (must be >= 0)
+     *
+     * @return the cell, or -1 if the duration is too long to have a cell (it must be counted by classification)
+     */
+    int cellOf(long durationMillis) {
+        if (durationMillis < MILLIS_CELLS) {
+            return (int) durationMillis;
+        }
+        if (durationMillis < TimeDivision.YEAR.getMillis()) {
+            return MILLIS_CELLS + indexOf(durationMillis);
+        }
+        long years = ElapsedTime.getValue(divide(durationMillis));
+        return years < YEAR_CELLS ? MILLIS_CELLS + this.boundaries.length + (int) years : -1;
+    }
+
+    /**
+     * Maps the duration between a timestamp and "now" to a cell (see {@link #cellOf(long)}), with the calendar months
+     * if a calendar is configured.
+     *
+     * @param epochMillis the timestamp in milliseconds since the epoch (must be <= now)
+     * @param now         the present instant in milliseconds since the epoch
+     *
+     * @return the cell, or -1 if the duration must be counted by classification (see {@link #divide(long, long)})
+     */
+    int cellOf(long epochMillis, long now) {
+        long durationMillis = now - epochMillis;
+        if (this.calendar == null) {
+            return cellOf(durationMillis);
+        }
+        long classification = divide(epochMillis, now);
+        TimeDivision division = ElapsedTime.getDivision(classification);
+        if (division.compareTo(TimeDivision.MONTH) < 0) {
+            // Below a month, the calendar does not change the classification
+            return cellOf(durationMillis);
+        }
+        long value = ElapsedTime.getValue(classification);
+        if (division == TimeDivision.YEAR && value < YEAR_CELLS) {
+            return MILLIS_CELLS + this.boundaries.length + (int) value;
+        }
+        // The classifications of the table are ordered: any cell with the same classification has the same string
+        int index = Arrays.binarySearch(this.classifications, classification);
+        return index >= 0 ? MILLIS_CELLS + index : -1;
+    }
+
+    /**
+     * Returns the classification of the durations of a cell (see {@link #cellOf(long)}).
+     */
+    long classificationOf(int cell) {
+        if (cell < MILLIS_CELLS) {
+            return divide(cell);
+        }
+        if (cell < MILLIS_CELLS + this.boundaries.length) {
+            return this.classifications[cell - MILLIS_CELLS];
+        }
+        return ElapsedTime.pack(TimeDivision.YEAR, cell - MILLIS_CELLS - this.boundaries.length);
+    }
+
+    /**
+     * Lists the durations where the classification changes between the smallest and the biggest divisions, with the
+     * classification that starts at each duration.
+     *
+     * @return the boundaries (sorted) and the classifications
+     */
+    private static long[][] buildClassificationTable(long[] thresholds, long[] thresholdsMillis) {
+        int size = 0;
+        for (TimeDivision division = TimeDivision.MILLIS.getSuperDivision(); division.getSuperDivision() != null;
+             division = division.getSuperDivision()) {
+            size += 2 * (division.getSuperDivision().getMillis() / division.getMillis() + 1);
+        }
+        long[] boundaries = new long[size];
+        long[] classifications = new long[size];
+        int length = 0;
+
+        for (TimeDivision division = TimeDivision.MILLIS.getSuperDivision(); division.getSuperDivision() != null;
+             division = division.getSuperDivision()) {
+            long millis = division.getMillis();
+            long end = division.getSuperDivision().getMillis();
+            long roundUp = thresholdsMillis[division.getSubDivision().ordinal()];
+            for (long value = 1; value * millis < end; value++) {
+                long start = value * millis;
+                if (value >= thresholds[division.ordinal()]) {
+                    // 1 super division until the end of the division
+                    length = append(boundaries, classifications, length, start,
+                            ElapsedTime.pack(division.getSuperDivision(), 1));
+                    break;
+                }
+                length = append(boundaries, classifications, length, start, ElapsedTime.pack(division, value));
+                if (roundUp < millis) {
+                    length = append(boundaries, classifications, length, start + roundUp,
+                            ElapsedTime.pack(division, value + 1));
+                }
+            }
+        }
+        return new long[][]{Arrays.copyOf(boundaries, length), Arrays.copyOf(classifications, length)};
+    }
+
+    /**
+     * Appends a boundary to the table, unless the previous one has the same classification.
+     *
+     * @return the new length of the table
+     */
+    private static int append(long[] boundaries, long[] classifications, int length, long start, long classification) {
+        if (length > 0 && classifications[length - 1] == classification) {
+            return length;
+        }
+        boundaries[length] = start;
+        classifications[length] = classification;
+        return length + 1;
+    }
+
+    /**
+     * Generates the plural string for this division and value.
+     */
+    static String render(ElapsedTimeLocale locale, TimeDivision division, long value) {
+        StringKey key = division.getPluralStringKey();
+        return render(locale, division, value, new StringBuilder(locale.getString(key).length() + 14));
+    }
+
+    private static String render(ElapsedTimeLocale locale, TimeDivision division, long value,
+                                 StringBuilder sb) {
+        int template = locale.templateOf(division.getPluralStringKey(), value);
+        sb.append(locale.getPrefix(template));
+        if (locale.hasNumber(template)) {
+            sb.append(value);
+        }
+        return sb.append(locale.getSuffix(template)).toString();
+    }
+
+    /**
+     * Returns the number of decimal digits of a positive value.
+     */
+    private static int countDigits(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Writes the decimal digits of a positive value without creating an intermediate string.
+     */
+    private static void appendDigits(long value, Appendable out) throws IOException {
+        long divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            out.append((char) ('0' + (value / divisor) % 10));
+            divisor /= 10;
+        }
+    }
+
+    ////////////////////////
+    // GETTERS
+    ////////////////
+
+    /**
+     * @return the locale used when no locale is provided, or null if it is a language loaded with
+     * {@link ElapsedTimeLocale#forLanguageTag(String)}
+     */
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * @return the language used when no locale is provided
+     */
+    public ElapsedTimeLocale getLanguage() {
+        return this.language != null ? this.language : this.locale.getStrings();
+    }
+
+    /**
+     * @return the smallest time division that can be printed
+     */
+    public TimeDivision getSmallestTimeDivision() {
+        return this.smallestTimeDivision;
+    }
+
+    /**
+     * @param division the division
+     *
+     * @return the threshold that, once reached, increases the super division amount by 1
+     */
+    public long getThreshold(TimeDivision division) {
+        return this.thresholds[division.ordinal()];
+    }
+
+    /**
+     * @return the cache of the generated strings, or null if there is none
+     */
+    public ElapsedTimeCache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * @return the time zone of the calendar months and years, or null if the months have 30 days
+     */
+    public ZoneId getCalendarZone() {
+        return this.calendar == null ? null : this.calendar.getZone();
+    }
+
+    /**
+     * @return the maximum number of units of the precise strings
+     */
+    public int getMaxUnits() {
+        return this.maxUnits;
+    }
+
+    /**
+     * @return the size from which the bulk methods are executed in parallel
+     */
+    public int getParallelThreshold() {
+        return this.parallelThreshold;
+    }
+
+    /**
+     * @return the pool used by the bulk methods, or null if they use the common pool
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return this.forkJoinPool;
+    }
+
+    /**
+     * @return the clock that gives the present instant to the date methods
+     */
+    public Clock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * @return the metrics of the generated strings, or null if they are not measured
+     */
+    public ElapsedTimeMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    ////////////////////////
+    // BUILDER
+    ////////////////
+
+    /**
+     * Builds {@link ElapsedTimeFormatter} instances. A builder is not thread-safe but the formatters are.
+     */
+    public static final class Builder {
+        private Locale locale = Locale.ENGLISH;
+        private ElapsedTimeLocale language;
+        private TimeDivision smallestTimeDivision = TimeDivision.SECOND;
+        private long[] thresholds;
+        private int maxUnits = DEFAULT_MAX_UNITS;
+        private ZoneId calendarZone;
+        private ElapsedTimeCache cache;
+        private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        private ForkJoinPool forkJoinPool;
+        private Clock clock = Clock.systemUTC();
+        private long clockLagMillis;
+        private ElapsedTimeMetrics metrics;
+
+        private Builder() {
+            this.thresholds = new long[TimeDivision.values().length];
+            for (TimeDivision division : TimeDivision.values()) {
+                this.thresholds[division.ordinal()] = division.getThreshold();
+            }
+        }
+
+        /**
+         * @param locale the locale to use if no locale is provided when calling the methods
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the locale is null
+         */
+        public Builder locale(Locale locale) {
+            if (locale == null) {
+                throw new IllegalArgumentException("The provided locale is null.");
+            }
+            this.locale = locale;
+            this.language = null;
+            return this;
+        }
+
+        /**
+         * Uses a language that is not shipped with the library (see {@link ElapsedTimeLocale}) when no locale is
+         * provided when calling the methods.
+         *
+         * @param languageTag the IETF BCP 47 language tag (e.g.: "de")
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the tag is null or if no provider supports the language
+         */
+        public Builder language(String languageTag) {
+            this.language = ElapsedTimeLocale.forLanguageTag(languageTag);
+            this.locale = null;
+            for (Locale locale : Locale.values()) {
+                if (locale.getLanguageTag().equals(this.language.getLanguageTag())) {
+                    // Keep the enum so that getLocale() still works
+                    this.locale = locale;
+                    this.language = null;
+                    break;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @param division the smallest time division that can be printed. Everything below will be considered as
+         *                 "moments ago".
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the division is null
+         */
+        public Builder smallestTimeDivision(TimeDivision division) {
+            if (division == null) {
+                throw new IllegalArgumentException("The provided division is null.");
+            }
+            this.smallestTimeDivision = division;
+            return this;
+        }
+
+        /**
+         * Changes the threshold of a division. Once the amount of this division reaches the threshold, 1 super
+         * division is printed instead. The threshold is also used to round up the super division.
+         * Example: with a threshold of 45 for SECOND, 46 seconds are printed as "1 minute" and 1 minute and 46
+         * seconds as "2 minutes".
+         *
+         * @param division  the division
+         * @param threshold the threshold
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the division is null
+         * @throws java.lang.IllegalArgumentException if the threshold is lower than 1
+         */
+        public Builder threshold(TimeDivision division, long threshold) {
+            if (division == null) {
+                throw new IllegalArgumentException("The provided division is null.");
+            }
+            if (threshold < 1) {
+                throw new IllegalArgumentException("The provided threshold is < 1.");
+            }
+            this.thresholds[division.ordinal()] = threshold;
+            return this;
+        }
+
+        /**
+         * Counts the months and the years on the calendar of a time zone, instead of with months of 30 days and years
+         * of 360 days. This only applies to the date methods (formatDate and formatAll): a duration alone has no date
+         * to count the months from.
+         * The month boundaries of the zone are precomputed once, so this costs a binary search per string.
+         *
+         * @param zone the time zone of the calendar, or null to use months of 30 days
+         *
+         * @return this builder
+         */
+        public Builder calendar(ZoneId zone) {
+            this.calendarZone = zone;
+            return this;
+        }
+
+        /**
+         * @param cache the cache of the generated strings, or null to generate them on every call
+         *
+         * @return this builder
+         */
+        public Builder cache(ElapsedTimeCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * @param maxUnits the maximum number of units of the precise strings (e.g.: 2 for "3 hours and 32 minutes
+         *                 ago", see {@link ElapsedTimeFormatter#formatPrecise(long)})
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the number of units is lower than 1
+         */
+        public Builder maxUnits(int maxUnits) {
+            if (maxUnits < 1) {
+                throw new IllegalArgumentException("The provided number of units is < 1.");
+            }
+            this.maxUnits = maxUnits;
+            return this;
+        }
+
+        /**
+         * @param parallelThreshold the size from which the bulk methods are executed in parallel. Use
+         *                          Integer.MAX_VALUE to always execute them in the calling thread.
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the threshold is lower than 1
+         */
+        public Builder parallelThreshold(int parallelThreshold) {
+            if (parallelThreshold < 1) {
+                throw new IllegalArgumentException("The provided threshold is < 1.");
+            }
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * @param forkJoinPool the pool used by the bulk methods, or null to use the common pool
+         *
+         * @return this builder
+         */
+        public Builder forkJoinPool(ForkJoinPool forkJoinPool) {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        /**
+         * @param clock the clock that gives the present instant to the date methods (e.g.: a {@link CoarseClock}
+         *              for high-rate callers). The timestamps that are less than one tick of a CoarseClock in the
+         *              future are formatted as "now".
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the clock is null
+         */
+        public Builder clock(Clock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("The provided clock is null.");
+            }
+            this.clock = clock;
+            this.clockLagMillis = clock instanceof CoarseClock ? ((CoarseClock) clock).getTickMillis() : 0;
+            return this;
+        }
+
+        /**
+         * @param metrics the metrics that count and time the generated strings, or null to not measure them
+         *
+         * @return this builder
+         */
+        public Builder metrics(ElapsedTimeMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @return a new formatter with the configuration of this builder
+         */
+        public ElapsedTimeFormatter build() {
+            return new ElapsedTimeFormatter(this);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.Locale;
+import com.vdurmont.elapsedtime.ElapsedTime.TimeDivision;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The number of timestamps (or durations) in each elapsed time bucket, as generated by
+ * {@link ElapsedTimeFormatter#histogram(long[], long)}.
+ * A bucket is a classification (see {@link ElapsedTimeFormatter#classify(long)}): every duration of a bucket has the
+ * same string. The buckets are ordered from the most recent to the oldest and the empty ones are omitted. All the
+ * durations printed as "moments ago" are counted in the first bucket.
+ *
+ * The strings are only generated when they are requested.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeHistogram histogram = formatter.histogram(timestamps, System.currentTimeMillis());
+ * for (int i = 0; i &lt; histogram.size(); i++) {
+ *     System.out.println(histogram.getCount(i) + " " + histogram.getLabel(i)); // 340 2 hours ago
+ * }
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeHistogram {
+    private final ElapsedTimeFormatter formatter;
+    private final long[] classifications;
+    private final long[] counts;
+    private final long totalCount;
+    private final String[] labels;
+
+    private ElapsedTimeHistogram(ElapsedTimeFormatter formatter, long[] classifications, long[] counts) {
+        this.formatter = formatter;
+        this.classifications = classifications;
+        this.counts = counts;
+        long totalCount = 0;
+        for (long count : counts) {
+            totalCount += count;
+        }
+        this.totalCount = totalCount;
+        this.labels = new String[counts.length];
+    }
+
+    /**
+     * @return the number of non-empty buckets
+     */
+    public int size() {
+        return this.counts.length;
+    }
+
+    /**
+     * @return the number of timestamps in all the buckets
+     */
+    public long getTotalCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * @param index the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     *
+     * @return the number of timestamps in the bucket
+     */
+    public long getCount(int index) {
+        return this.counts[index];
+    }
+
+    /**
+     * @param index the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     *
+     * @return the classification of the bucket (see {@link ElapsedTimeFormatter#classify(long)})
+     */
+    public long getClassification(int index) {
+        return this.classifications[index];
+    }
+
+    /**
+     * @param index the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     *
+     * @return the time division of the bucket
+     */
+    public TimeDivision getDivision(int index) {
+        return ElapsedTime.getDivision(this.classifications[index]);
+    }
+
+    /**
+     * @param index the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     *
+     * @return the number of time divisions of the bucket (e.g.: 2 for "2 hours ago")
+     */
+    public long getValue(int index) {
+        return ElapsedTime.getValue(this.classifications[index]);
+    }
+
+    /**
+     * @param index the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     *
+     * @return true if the bucket is printed as "moments ago"
+     */
+    public boolean isMomentsAgo(int index) {
+        return this.formatter.isMomentsAgo(this.classifications[index]);
+    }
+
+    /**
+     * Returns the string of a bucket in the default language of the formatter.
+     * The string is generated the first time it is requested.
+     *
+     * @param index the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     *
+     * @return the string of the bucket (e.g.: "2 hours ago")
+     */
+    public String getLabel(int index) {
+        String label = this.labels[index];
+        if (label == null) {
+            // Several threads may generate the same string, which is harmless
+            label = getLabel(index, this.formatter.getLanguage());
+            this.labels[index] = label;
+        }
+        return label;
+    }
+
+    /**
+     * Returns the string of a bucket in the provided locale.
+     *
+     * @param index  the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     * @param locale the locale to use for the string
+     *
+     * @return the string of the bucket (e.g.: "Il y a 2 heures")
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public String getLabel(int index, Locale locale) {
+        if (locale == null) {
+            throw new IllegalArgumentException("The provided locale is null.");
+        }
+        return getLabel(index, locale.getStrings());
+    }
+
+    /**
+     * Returns the string of a bucket in the provided language.
+     *
+     * @param index  the index of the bucket, from 0 (the most recent) to {@link #size()} (exclusive)
+     * @param locale the language to use for the string
+     *
+     * @return the string of the bucket (e.g.: "Vor 2 Stunden")
+     * @throws java.lang.IllegalArgumentException if the language is null
+     */
+    public String getLabel(int index, ElapsedTimeLocale locale) {
+        if (locale == null) {
+            throw new IllegalArgumentException("The provided locale is null.");
+        }
+        return this.formatter.formatClassification(this.classifications[index], locale);
+    }
+
+    /**
+     * @return the number of timestamps per string in the default language of the formatter, from the most recent to
+     * the oldest
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new LinkedHashMap<String, Long>();
+        for (int i = 0; i < this.counts.length; i++) {
+            map.put(getLabel(i), this.counts[i]);
+        }
+        return map;
+    }
+
+    @Override public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * Counts durations in a flat array of primitive counters (see {@link ElapsedTimeFormatter#cellOf(long)}).
+     * A counter is not thread-safe: each thread fills its own counter and they are merged at the end.
+     */
+    static final class Counter {
+        private final ElapsedTimeFormatter formatter;
+        private final long[] cells;
+        private TreeMap<Long, Long> overflow;
+
+        Counter(ElapsedTimeFormatter formatter) {
+            this.formatter = formatter;
+            this.cells = new long[formatter.getCellCount()];
+        }
+
+        void add(long durationMillis) {
+            if (durationMillis < 0) {
+                throw new IllegalArgumentException("The provided duration is < 0.");
+            }
+            int cell = this.formatter.cellOf(durationMillis);
+            if (cell >= 0) {
+                this.cells[cell]++;
+            } else {
+                addOverflow(this.formatter.classify(durationMillis), 1);
+            }
+        }
+
+        /**
+         * Counts the duration between a timestamp and "now", with the calendar months of the formatter if it has a
+         * calendar.
+         */
+        void addDate(long epochMillis, long now) {
+            if (now - epochMillis < 0) {
+                throw new IllegalArgumentException("The provided duration is < 0.");
+            }
+            int cell = this.formatter.cellOf(epochMillis, now);
+            if (cell >= 0) {
+                this.cells[cell]++;
+            } else {
+                addOverflow(this.formatter.divide(epochMillis, now), 1);
+            }
+        }
+
+        /**
+         * Counts the values between from (inclusive) and to (exclusive).
+         */
+        void addAll(long[] values, long now, boolean timestamps, int from, int to) {
+            if (timestamps) {
+                for (int i = from; i < to; i++) {
+                    addDate(values[i], now);
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    add(values[i]);
+                }
+            }
+        }
+
+        void merge(Counter other) {
+            long[] cells = this.cells;
+            long[] otherCells = other.cells;
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] += otherCells[i];
+            }
+            if (other.overflow != null) {
+                for (Map.Entry<Long, Long> entry : other.overflow.entrySet()) {
+                    addOverflow(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        /**
+         * The very old timestamps are rare, so they are counted in a map rather than in the cells.
+         */
+        private void addOverflow(long classification, long count) {
+            if (this.overflow == null) {
+                this.overflow = new TreeMap<Long, Long>();
+            }
+            Long previous = this.overflow.get(classification);
+            this.overflow.put(classification, previous == null ? count : previous + count);
+        }
+
+        ElapsedTimeHistogram toHistogram() {
+            int size = this.cells.length + (this.overflow == null ? 0 : this.overflow.size());
+            long[] classifications = new long[size];
+            long[] counts = new long[size];
+            int length = 0;
+            for (int cell = 0; cell < this.cells.length; cell++) {
+                if (this.cells[cell] > 0) {
+                    length = append(classifications, counts, length, this.formatter.classificationOf(cell),
+                            this.cells[cell]);
+                }
+            }
+            if (this.overflow != null) {
+                for (Map.Entry<Long, Long> entry : this.overflow.entrySet()) {
+                    length = append(classifications, counts, length, entry.getKey(), entry.getValue());
+                }
+            }
+            return new ElapsedTimeHistogram(this.formatter, Arrays.copyOf(classifications, length),
+                    Arrays.copyOf(counts, length));
+        }
+
+        /**
+         * Appends a bucket, or adds the count to the previous bucket if they have the same string.
+         * The cells are ordered like the classifications, so the equal ones are next to each other.
+         *
+         * @return the new number of buckets
+         */
+        private int append(long[] classifications, long[] counts, int length, long classification, long count) {
+            if (length > 0) {
+                long previous = classifications[length - 1];
+                if (previous == classification
+                        || this.formatter.isMomentsAgo(previous) && this.formatter.isMomentsAgo(classification)) {
+                    counts[length - 1] += count;
+                    return length;
+                }
+            }
+            classifications[length] = classification;
+            counts[length] = count;
+            return length + 1;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.vdurmont.elapsedtime;
+
+/**
+ * A generated string and the duration at which it will change.
+ * Use it to refresh the labels of a UI exactly when needed instead of polling.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeLabel label = formatter.label(now - item.getTimestamp());
+ * display(label.getText());
+ * scheduleRefresh(label.getMillisUntilChange());
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeLabel {
+    private final String text;
+    private final long durationMillis;
+    private final long nextChangeMillis;
+
+    ElapsedTimeLabel(String text, long durationMillis, long nextChangeMillis) {
+        this.text = text;
+        this.durationMillis = durationMillis;
+        this.nextChangeMillis = nextChangeMillis;
+    }
+
+    /**
+     * @return the string representing the duration
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * @return the duration represented by this label in milliseconds
+     */
+    public long getDurationMillis() {
+        return this.durationMillis;
+    }
+
+    /**
+     * @return the smallest duration at which the string is different, or Long.MAX_VALUE if it never changes
+     */
+    public long getNextChangeMillis() {
+        return this.nextChangeMillis;
+    }
+
+    /**
+     * @return the time left before the string changes in milliseconds, or Long.MAX_VALUE if it never changes
+     */
+    public long getMillisUntilChange() {
+        if (this.nextChangeMillis == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return this.nextChangeMillis - this.durationMillis;
+    }
+
+    @Override public String toString() {
+        return this.text;
+    }
+}
@@ -0,0 +1,364 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.PluralCategory;
+import com.vdurmont.elapsedtime.ElapsedTime.StringKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The strings of a language, compiled into arrays indexed by {@link StringKey#ordinal()} and {@link PluralCategory}.
+ *
+ * A language is only loaded the first time it is used. The languages shipped with the library are compiled into the
+ * code at build time (see {@link BundledLocales}), so that loading them reads no file, does not start the
+ * {@link ServiceLoader} lookup and compiles nothing. The other ones come from the {@link LocaleProvider}s registered
+ * with {@link ServiceLoader}, then from the properties files of {@link ResourceLocaleProvider}: their templates are
+ * split around {num} and encoded in UTF-8 once, when the language is loaded, and their plural rules are compiled into
+ * a table (see {@link PluralRules}).
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeLocale german = ElapsedTimeLocale.forLanguageTag("de");
+ * formatter.format(3650000, german);
+ * </pre>
+ *
+ * The languages of {@link ElapsedTime.Locale} are loaded the same way.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeLocale {
+    private static final String NUM_PLACEHOLDER = "{num}";
+    private static final String LIST_PLACEHOLDER = "{list}";
+
+    /**
+     * The maximum number of digits of a long.
+     */
+    private static final int MAX_DIGITS = 19;
+
+    private static final ConcurrentMap<String, ElapsedTimeLocale> LOADED =
+            new ConcurrentHashMap<String, ElapsedTimeLocale>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger(ElapsedTime.Locale.values().length);
+
+    private static final PluralCategory[] CATEGORIES = PluralCategory.values();
+    private static final int OTHER = PluralCategory.OTHER.ordinal();
+
+    /**
+     * The number of templates: one per key and plural category.
+     */
+    static final int TEMPLATES = StringKey.values().length * CATEGORIES.length;
+
+    private final String languageTag;
+    private final int index;
+    private final PluralRules pluralRules;
+
+    /**
+     * The templates, indexed by {@link #templateOf(StringKey, long)}. A category without template has the OTHER one.
+     */
+    private final String[] strings;
+    private final boolean[] numbers;
+    private final String[] prefixes;
+    private final String[] suffixes;
+    private final byte[][] encodedPrefixes;
+    private final byte[][] encodedSuffixes;
+    private final int maxEncodedLength;
+
+    /**
+     * Creates the strings of a language from its compiled templates (see {@link #compile(String, int, Map)}). The
+     * arrays are indexed by {@link #templateOf(StringKey, long)} and are not copied.
+     */
+    ElapsedTimeLocale(String languageTag, int index, PluralRules pluralRules, String[] strings, boolean[] numbers,
+                      String[] prefixes, String[] suffixes, byte[][] encodedPrefixes, byte[][] encodedSuffixes) {
+        this.languageTag = languageTag;
+        this.index = index;
+        this.pluralRules = pluralRules;
+        this.strings = strings;
+        this.numbers = numbers;
+        this.prefixes = prefixes;
+        this.suffixes = suffixes;
+        this.encodedPrefixes = encodedPrefixes;
+        this.encodedSuffixes = encodedSuffixes;
+        int maxEncodedLength = 0;
+        for (int i = 0; i < TEMPLATES; i++) {
+            int encodedLength = encodedPrefixes[i].length + encodedSuffixes[i].length;
+            maxEncodedLength = Math.max(maxEncodedLength, encodedLength + MAX_DIGITS);
+        }
+        this.maxEncodedLength = maxEncodedLength;
+    }
+
+    /**
+     * Compiles the strings of a language: splits the templates around {num} and encodes them in UTF-8, and compiles
+     * the plural rules.
+     *
+     * @param languageTag the language tag, in lower case (e.g.: "de")
+     * @param index       the index of the language (see {@link #getIndex()})
+     * @param strings     the strings of the language, by name (e.g.: "MINUTES_AGO_FEW")
+     *
+     * @return the compiled strings
+     * @throws java.lang.IllegalArgumentException if some strings are missing or a plural rule cannot be parsed
+     */
+    static ElapsedTimeLocale compile(String languageTag, int index, Map<String, String> strings) {
+        PluralRules pluralRules = PluralRules.compile(languageTag, strings);
+        String[] templates = new String[TEMPLATES];
+        boolean[] numbers = new boolean[TEMPLATES];
+        String[] prefixes = new String[TEMPLATES];
+        String[] suffixes = new String[TEMPLATES];
+        byte[][] encodedPrefixes = new byte[TEMPLATES][];
+        byte[][] encodedSuffixes = new byte[TEMPLATES][];
+        for (StringKey key : StringKey.values()) {
+            String other = getRequiredString(languageTag, strings, key.name());
+            for (PluralCategory category : CATEGORIES) {
+                String str = other;
+                if (key.isPlural() && pluralRules.hasRule(category)) {
+                    str = getRequiredString(languageTag, strings, key.getName(category));
+                }
+
+                // Split the templates around {num} (or {list}) once and for all
+                int i = key.ordinal() * CATEGORIES.length + category.ordinal();
+                String placeholder = key == StringKey.AGO ? LIST_PLACEHOLDER : NUM_PLACEHOLDER;
+                int num = str.indexOf(placeholder);
+                templates[i] = str;
+                numbers[i] = num >= 0;
+                prefixes[i] = num < 0 ? str : str.substring(0, num);
+                suffixes[i] = num < 0 ? "" : str.substring(num + placeholder.length());
+
+                // And encode them once and for all too
+                encodedPrefixes[i] = prefixes[i].getBytes(StandardCharsets.UTF_8);
+                encodedSuffixes[i] = suffixes[i].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return new ElapsedTimeLocale(languageTag, index, pluralRules, templates, numbers, prefixes, suffixes,
+                encodedPrefixes, encodedSuffixes);
+    }
+
+    private static String getRequiredString(String languageTag, Map<String, String> strings, String name) {
+        String str = strings.get(name);
+        if (str == null) {
+            throw new IllegalArgumentException("The language " + languageTag + " has no string " + name + ".");
+        }
+        return str;
+    }
+
+    /**
+     * Returns the strings of a language, loading them if it is the first time the language is used.
+     * If the language is not found, its parent is used (e.g.: "fr" for "fr-CA").
+     *
+     * @param languageTag the IETF BCP 47 language tag (e.g.: "de" or "pt-BR")
+     *
+     * @return the strings of the language
+     * @throws java.lang.IllegalArgumentException if the tag is null
+     * @throws java.lang.IllegalArgumentException if no provider supports the language
+     * @throws java.lang.IllegalArgumentException if the provider misses some strings
+     */
+    public static ElapsedTimeLocale forLanguageTag(String languageTag) {
+        if (languageTag == null) {
+            throw new IllegalArgumentException("The provided language tag is null.");
+        }
+        String tag = languageTag.replace('_', '-').toLowerCase(java.util.Locale.ROOT);
+        ElapsedTimeLocale locale = LOADED.get(tag);
+        if (locale != null) {
+            return locale;
+        }
+
+        for (String candidate = tag; !candidate.isEmpty(); candidate = parentOf(candidate)) {
+            locale = LOADED.get(candidate);
+            if (locale == null) {
+                if (BundledLocales.contains(candidate)) {
+                    locale = BundledLocales.load(candidate, indexOf(candidate));
+                } else {
+                    Map<String, String> strings = Providers.getStrings(candidate);
+                    if (strings != null) {
+                        locale = compile(candidate, indexOf(candidate), strings);
+                    }
+                }
+                if (locale != null) {
+                    ElapsedTimeLocale previous = LOADED.putIfAbsent(candidate, locale);
+                    locale = previous != null ? previous : locale;
+                }
+            }
+            if (locale != null) {
+                // Remember the language for the next calls with the same tag
+                ElapsedTimeLocale previous = LOADED.putIfAbsent(tag, locale);
+                return previous != null ? previous : locale;
+            }
+        }
+        throw new IllegalArgumentException("No provider supports the language " + languageTag + ".");
+    }
+
+    private static String parentOf(String tag) {
+        int dash = tag.lastIndexOf('-');
+        return dash < 0 ? "" : tag.substring(0, dash);
+    }
+
+    /**
+     * The languages of {@link ElapsedTime.Locale} keep their ordinal so that they can index arrays, the other ones get
+     * the next free index.
+     */
+    private static int indexOf(String tag) {
+        for (ElapsedTime.Locale locale : ElapsedTime.Locale.values()) {
+            if (locale.getLanguageTag().equals(tag)) {
+                return locale.ordinal();
+            }
+        }
+        return NEXT_INDEX.getAndIncrement();
+    }
+
+    /**
+     * @return the language tag of these strings, in lower case (e.g.: "fr")
+     */
+    public String getLanguageTag() {
+        return this.languageTag;
+    }
+
+    /**
+     * Returns a unique index for this language. The languages of {@link ElapsedTime.Locale} have their ordinal.
+     */
+    int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the plural category of a value in this language, which selects the template of the plural keys.
+     * Note that the singular keys are used for 1, whatever its category.
+     *
+     * @param value the value (e.g.: 3 for "3 minutes ago")
+     *
+     * @return the plural category
+     * @throws java.lang.IllegalArgumentException if the value is lower than 0
+     */
+    public PluralCategory getPluralCategory(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("The provided value is < 0.");
+        }
+        return CATEGORIES[this.pluralRules.categoryOf(value)];
+    }
+
+    /**
+     * Returns the index of the template of a key for a value: the template of the plural category of the value if
+     * the key is plural. The index is what the other methods of the templates take.
+     *
+     * @param value the value printed in the template (must be >= 0)
+     */
+    int templateOf(StringKey key, long value) {
+        return key.ordinal() * CATEGORIES.length + this.pluralRules.categoryOf(value);
+    }
+
+    private static int templateOf(StringKey key) {
+        return key.ordinal() * CATEGORIES.length + OTHER;
+    }
+
+    String getString(StringKey key) {
+        return this.strings[templateOf(key)];
+    }
+
+    /**
+     * Returns the part of the string located before the {num} placeholder ({list} for {@link StringKey#AGO}).
+     */
+    String getPrefix(StringKey key) {
+        return this.prefixes[templateOf(key)];
+    }
+
+    /**
+     * Returns the part of the string located after the {num} placeholder ({list} for {@link StringKey#AGO}).
+     */
+    String getSuffix(StringKey key) {
+        return this.suffixes[templateOf(key)];
+    }
+
+    /**
+     * Returns the whole template, with its placeholder.
+     *
+     * @param template the index of the template (see {@link #templateOf(StringKey, long)})
+     */
+    String getString(int template) {
+        return this.strings[template];
+    }
+
+    /**
+     * Returns true if the template contains the {num} placeholder. Some categories have none (e.g.: the Arabic dual).
+     *
+     * @param template the index of the template (see {@link #templateOf(StringKey, long)})
+     */
+    boolean hasNumber(int template) {
+        return this.numbers[template];
+    }
+
+    /**
+     * Returns the part of the template located before the {num} placeholder, or the whole template if it has none.
+     *
+     * @param template the index of the template (see {@link #templateOf(StringKey, long)})
+     */
+    String getPrefix(int template) {
+        return this.prefixes[template];
+    }
+
+    /**
+     * Returns the part of the template located after the {num} placeholder.
+     *
+     * @param template the index of the template (see {@link #templateOf(StringKey, long)})
+     */
+    String getSuffix(int template) {
+        return this.suffixes[template];
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the part of the template located before the {num} placeholder.
+     *
+     * @param template the index of the template (see {@link #templateOf(StringKey, long)})
+     */
+    byte[] getEncodedPrefix(int template) {
+        return this.encodedPrefixes[template];
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the part of the template located after the {num} placeholder.
+     *
+     * @param template the index of the template (see {@link #templateOf(StringKey, long)})
+     */
+    byte[] getEncodedSuffix(int template) {
+        return this.encodedSuffixes[template];
+    }
+
+    /**
+     * Returns the maximum number of bytes of a string of this locale encoded in UTF-8.
+     */
+    int getMaxEncodedLength() {
+        return this.maxEncodedLength;
+    }
+
+    @Override public String toString() {
+        return this.languageTag;
+    }
+
+    /**
+     * The providers, only looked up when a language that is not shipped with the library is loaded for the first
+     * time.
+     */
+    private static class Providers {
+        private static final List<LocaleProvider> PROVIDERS = load();
+
+        private static List<LocaleProvider> load() {
+            List<LocaleProvider> providers = new ArrayList<LocaleProvider>();
+            for (LocaleProvider provider : ServiceLoader.load(LocaleProvider.class)) {
+                providers.add(provider);
+            }
+            providers.add(new ResourceLocaleProvider());
+            return providers;
+        }
+
+        private static Map<String, String> getStrings(String languageTag) {
+            for (LocaleProvider provider : PROVIDERS) {
+                Map<String, String> strings = provider.getStrings(languageTag);
+                if (strings != null) {
+                    return strings;
+                }
+            }
+            return null;
+        }
+    }
+}
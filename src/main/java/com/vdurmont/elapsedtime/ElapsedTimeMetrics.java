@@ -0,0 +1,369 @@
+package com.vdurmont.elapsedtime;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the strings generated by the formatters that use it and measures how long they take.
+ *
+ * The counters are {@link LongAdder}s, so the threads that format strings never contend on a lock or on a single
+ * memory location. The latency is kept in a histogram of {@link #LATENCY_BUCKETS} power-of-2 buckets: bucket 0 counts
+ * the calls that took 0ns, and bucket i counts the calls that took between 2^(i-1) and 2^i - 1 nanoseconds.
+ * Reading the clock costs more than formatting a string, so only a random sample of the calls is timed (1 out of
+ * {@link #DEFAULT_LATENCY_SAMPLING} by default). The counts are exact.
+ *
+ * The metrics are opt-in: a formatter without metrics only pays for a null check.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeMetrics metrics = new ElapsedTimeMetrics();
+ * metrics.register("feed"); // exposes the metrics through JMX
+ * ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().metrics(metrics).build();
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public class ElapsedTimeMetrics implements ElapsedTimeMetricsMXBean {
+    /**
+     * The number of buckets of the latency histogram.
+     */
+    public static final int LATENCY_BUCKETS = 64;
+
+    /**
+     * By default, 1 call out of this number is timed.
+     */
+    public static final int DEFAULT_LATENCY_SAMPLING = 64;
+
+    /**
+     * The JMX domain of the registered metrics.
+     */
+    public static final String JMX_DOMAIN = "com.vdurmont.elapsedtime";
+
+    private final LongAdder[] divisionCounts;
+    private final LongAdder momentsAgoCount;
+    private final LongAdder[] localeCounts;
+    private final ConcurrentMap<String, LongAdder> languageCounts;
+    private final LongAdder[] latencyBuckets;
+    private final LongAdder totalLatencyNanos;
+    private final int samplingMask;
+
+    /**
+     * Creates metrics that time 1 call out of {@link #DEFAULT_LATENCY_SAMPLING}.
+     */
+    public ElapsedTimeMetrics() {
+        this(DEFAULT_LATENCY_SAMPLING);
+    }
+
+    /**
+     * Creates metrics that time 1 call out of the provided number.
+     *
+     * @param latencySampling the sampling of the latency (rounded up to a power of 2). Use 1 to time every call.
+     *
+     * @throws java.lang.IllegalArgumentException if the sampling is lower than 1
+     */
+    public ElapsedTimeMetrics(int latencySampling) {
+        if (latencySampling < 1) {
+            throw new IllegalArgumentException("The provided sampling is < 1.");
+        }
+        int sampling = Integer.highestOneBit(latencySampling);
+        if (sampling < latencySampling) {
+            sampling <<= 1;
+        }
+        this.samplingMask = sampling - 1;
+        this.divisionCounts = newAdders(ElapsedTime.TimeDivision.values().length);
+        this.momentsAgoCount = new LongAdder();
+        this.localeCounts = newAdders(ElapsedTime.Locale.values().length);
+        this.languageCounts = new ConcurrentHashMap<String, LongAdder>();
+        this.latencyBuckets = newAdders(LATENCY_BUCKETS);
+        this.totalLatencyNanos = new LongAdder();
+    }
+
+    private static LongAdder[] newAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * @return true if the current call must be timed
+     */
+    boolean isSampled() {
+        return (ThreadLocalRandom.current().nextInt() & this.samplingMask) == 0;
+    }
+
+    /**
+     * Records a generated string.
+     *
+     * @param locale   the locale of the string
+     * @param division the division of the string, or null for "moments ago"
+     * @param nanos    the time spent to generate the string, or a negative value if the call was not timed
+     */
+    void record(ElapsedTimeLocale locale, ElapsedTime.TimeDivision division, long nanos) {
+        if (division == null) {
+            this.momentsAgoCount.increment();
+        } else {
+            this.divisionCounts[division.ordinal()].increment();
+        }
+        int index = locale.getIndex();
+        if (index < this.localeCounts.length) {
+            this.localeCounts[index].increment();
+        } else {
+            languageCount(locale.getLanguageTag()).increment();
+        }
+        if (nanos >= 0) {
+            this.latencyBuckets[Long.SIZE - Long.numberOfLeadingZeros(nanos)].increment();
+            this.totalLatencyNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Returns the counter of a language that is not in {@link ElapsedTime.Locale}.
+     */
+    private LongAdder languageCount(String languageTag) {
+        LongAdder count = this.languageCounts.get(languageTag);
+        if (count == null) {
+            LongAdder previous = this.languageCounts.putIfAbsent(languageTag, count = new LongAdder());
+            if (previous != null) {
+                count = previous;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a copy of the counters. The copy is not atomic: the counters that are updated during the copy may or
+     * may not include the updates.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        Map<String, Long> languageCounts = new HashMap<String, Long>();
+        for (Map.Entry<String, LongAdder> entry : this.languageCounts.entrySet()) {
+            languageCounts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return new Snapshot(sum(this.divisionCounts), this.momentsAgoCount.sum(), sum(this.localeCounts),
+                languageCounts, sum(this.latencyBuckets), this.totalLatencyNanos.sum());
+    }
+
+    private static long[] sum(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+
+    @Override public void reset() {
+        for (LongAdder adder : this.divisionCounts) {
+            adder.reset();
+        }
+        this.momentsAgoCount.reset();
+        for (LongAdder adder : this.localeCounts) {
+            adder.reset();
+        }
+        this.languageCounts.clear();
+        for (LongAdder adder : this.latencyBuckets) {
+            adder.reset();
+        }
+        this.totalLatencyNanos.reset();
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server, under the name
+     * "com.vdurmont.elapsedtime:type=ElapsedTimeMetrics,name=[name]".
+     *
+     * @param name the name of these metrics (e.g.: the name of the formatter)
+     *
+     * @return the name of the MBean, to unregister it
+     * @throws javax.management.JMException if the MBean cannot be registered (e.g.: the name is already used)
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=ElapsedTimeMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    ////////////////////////
+    // JMX
+    ////////////////
+
+    @Override public long getCount() {
+        return snapshot().getCount();
+    }
+
+    @Override public long getMomentsAgoCount() {
+        return this.momentsAgoCount.sum();
+    }
+
+    @Override public Map<String, Long> getDivisionCounts() {
+        Snapshot snapshot = snapshot();
+        Map<String, Long> counts = new LinkedHashMap<String, Long>();
+        for (ElapsedTime.TimeDivision division : ElapsedTime.TimeDivision.values()) {
+            counts.put(division.name(), snapshot.getCount(division));
+        }
+        return counts;
+    }
+
+    @Override public Map<String, Long> getLocaleCounts() {
+        Snapshot snapshot = snapshot();
+        Map<String, Long> counts = new LinkedHashMap<String, Long>();
+        for (ElapsedTime.Locale locale : ElapsedTime.Locale.values()) {
+            counts.put(locale.name(), snapshot.getCount(locale));
+        }
+        counts.putAll(snapshot.languageCounts);
+        return counts;
+    }
+
+    @Override public long getMeanLatencyNanos() {
+        return snapshot().getMeanLatencyNanos();
+    }
+
+    @Override public long getLatencyP50Nanos() {
+        return snapshot().getLatencyPercentileNanos(50);
+    }
+
+    @Override public long getLatencyP99Nanos() {
+        return snapshot().getLatencyPercentileNanos(99);
+    }
+
+    @Override public long getLatencyP999Nanos() {
+        return snapshot().getLatencyPercentileNanos(99.9);
+    }
+
+    @Override public long[] getLatencyHistogram() {
+        return snapshot().getLatencyHistogram();
+    }
+
+    ////////////////////////
+    // SNAPSHOT
+    ////////////////
+
+    /**
+     * An immutable copy of the counters.
+     */
+    public static final class Snapshot {
+        private final long[] divisionCounts;
+        private final long momentsAgoCount;
+        private final long[] localeCounts;
+        private final Map<String, Long> languageCounts;
+        private final long[] latencyHistogram;
+        private final long totalLatencyNanos;
+        private final long count;
+
+        private Snapshot(long[] divisionCounts, long momentsAgoCount, long[] localeCounts,
+                         Map<String, Long> languageCounts, long[] latencyHistogram, long totalLatencyNanos) {
+            this.divisionCounts = divisionCounts;
+            this.momentsAgoCount = momentsAgoCount;
+            this.localeCounts = localeCounts;
+            this.languageCounts = languageCounts;
+            this.latencyHistogram = latencyHistogram;
+            this.totalLatencyNanos = totalLatencyNanos;
+            long count = momentsAgoCount;
+            for (long divisionCount : divisionCounts) {
+                count += divisionCount;
+            }
+            this.count = count;
+        }
+
+        /**
+         * @return the number of generated strings
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * @param division the division
+         *
+         * @return the number of generated strings of this division (excluding "moments ago")
+         */
+        public long getCount(ElapsedTime.TimeDivision division) {
+            return this.divisionCounts[division.ordinal()];
+        }
+
+        /**
+         * @param locale the locale
+         *
+         * @return the number of generated strings in this locale
+         */
+        public long getCount(ElapsedTime.Locale locale) {
+            return this.localeCounts[locale.ordinal()];
+        }
+
+        /**
+         * @param locale the language
+         *
+         * @return the number of generated strings in this language
+         */
+        public long getCount(ElapsedTimeLocale locale) {
+            int index = locale.getIndex();
+            if (index < this.localeCounts.length) {
+                return this.localeCounts[index];
+            }
+            Long count = this.languageCounts.get(locale.getLanguageTag());
+            return count == null ? 0 : count;
+        }
+
+        /**
+         * @return the number of "moments ago" strings
+         */
+        public long getMomentsAgoCount() {
+            return this.momentsAgoCount;
+        }
+
+        /**
+         * @return a copy of the latency histogram: the value at index 0 is the number of calls that took 0ns, and
+         * the value at index i is the number of calls that took between 2^(i-1) and 2^i - 1 nanoseconds
+         */
+        public long[] getLatencyHistogram() {
+            return this.latencyHistogram.clone();
+        }
+
+        /**
+         * @return the mean time spent to generate a string, in nanoseconds, or 0 if no string was timed
+         */
+        public long getMeanLatencyNanos() {
+            long calls = 0;
+            for (long bucket : this.latencyHistogram) {
+                calls += bucket;
+            }
+            return calls == 0 ? 0 : this.totalLatencyNanos / calls;
+        }
+
+        /**
+         * @param percentile the percentile, between 0 and 100
+         *
+         * @return the upper bound (in nanoseconds) of the histogram bucket that contains the percentile, or 0 if no
+         * string was timed
+         * @throws java.lang.IllegalArgumentException if the percentile is not between 0 and 100
+         */
+        public long getLatencyPercentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("The provided percentile is not between 0 and 100.");
+            }
+            long calls = 0;
+            for (long bucket : this.latencyHistogram) {
+                calls += bucket;
+            }
+            long rank = (long) Math.ceil(calls * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < this.latencyHistogram.length; i++) {
+                seen += this.latencyHistogram[i];
+                if (seen >= rank && seen > 0) {
+                    return i == 0 ? 0 : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+    }
+}
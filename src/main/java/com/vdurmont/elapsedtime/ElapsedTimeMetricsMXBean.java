@@ -0,0 +1,62 @@
+package com.vdurmont.elapsedtime;
+
+import java.util.Map;
+
+/**
+ * The JMX view of {@link ElapsedTimeMetrics}.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public interface ElapsedTimeMetricsMXBean {
+    /**
+     * @return the number of generated strings
+     */
+    long getCount();
+
+    /**
+     * @return the number of "moments ago" strings
+     */
+    long getMomentsAgoCount();
+
+    /**
+     * @return the number of generated strings per time division (excluding "moments ago")
+     */
+    Map<String, Long> getDivisionCounts();
+
+    /**
+     * @return the number of generated strings per locale (and per language tag for the languages of a LocaleProvider)
+     */
+    Map<String, Long> getLocaleCounts();
+
+    /**
+     * @return the mean time spent to generate a string, in nanoseconds
+     */
+    long getMeanLatencyNanos();
+
+    /**
+     * @return the median time spent to generate a string, in nanoseconds (upper bound of its histogram bucket)
+     */
+    long getLatencyP50Nanos();
+
+    /**
+     * @return the 99th percentile of the time spent to generate a string, in nanoseconds (upper bound of its
+     * histogram bucket)
+     */
+    long getLatencyP99Nanos();
+
+    /**
+     * @return the 99.9th percentile of the time spent to generate a string, in nanoseconds (upper bound of its
+     * histogram bucket)
+     */
+    long getLatencyP999Nanos();
+
+    /**
+     * @return the latency histogram (see {@link ElapsedTimeMetrics.Snapshot#getLatencyHistogram()})
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Resets all the counters to 0.
+     */
+    void reset();
+}
@@ -0,0 +1,447 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.Locale;
+import com.vdurmont.elapsedtime.ElapsedTime.StringKey;
+import com.vdurmont.elapsedtime.ElapsedTime.TimeDivision;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Parses the strings printed by an {@link ElapsedTimeFormatter} (e.g.: "2 hours ago") back to their classification
+ * (see {@link ElapsedTimeFormatter#classify(long)}) and to the range of durations they stand for (see
+ * {@link ElapsedTimeFormatter#range(TimeDivision, long)}).
+ *
+ * The templates of the languages are compiled once into a trie, in which {num} is an edge of its own, so a string is
+ * parsed in a single pass: the number is read inline and nothing is allocated. There is one trie for the characters
+ * and one for the UTF-8 bytes, to parse raw input without decoding it.
+ *
+ * Only the exact strings are recognized: the case, the spaces and the punctuation must match the templates. The
+ * number is not checked against the plural category of the template. If two languages print the same string for
+ * different classifications, the first language wins.
+ *
+ * A parser is immutable and thread-safe.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeParser parser = ElapsedTimeParser.of(formatter, Locale.ENGLISH, Locale.FRENCH, Locale.SPANISH);
+ * long classification = parser.parse("Il y a 2 heures"); // ElapsedTime.pack(TimeDivision.HOUR, 2)
+ * ElapsedTimeRange range = parser.range(classification); // [1 hour and 45 minutes, 2 hours and 45 minutes)
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeParser {
+    /**
+     * The result of the parse methods when the input is not a string of the languages.
+     */
+    public static final long NO_MATCH = -1L;
+
+    private final ElapsedTimeFormatter formatter;
+    private final Trie chars;
+    private final Trie bytes;
+
+    private ElapsedTimeParser(ElapsedTimeFormatter formatter, ElapsedTimeLocale[] locales) {
+        this.formatter = formatter;
+        Node chars = new Node();
+        Node bytes = new Node();
+        long momentsAgo = formatter.classify(0);
+        for (ElapsedTimeLocale locale : locales) {
+            addString(chars, bytes, locale.getString(StringKey.MOMENTS_AGO), momentsAgo);
+            for (TimeDivision division : TimeDivision.values()) {
+                addDivision(chars, bytes, locale, division);
+            }
+        }
+        this.chars = new Trie(chars);
+        this.bytes = new Trie(bytes);
+    }
+
+    private static void addDivision(Node chars, Node bytes, ElapsedTimeLocale locale, TimeDivision division) {
+        // The singular strings are printed as they are, even if they contain {num}
+        addString(chars, bytes, locale.getString(division.getSingularStringKey()), ElapsedTime.pack(division, 1));
+
+        // A plural key has a template per category, found with the values that select them
+        StringKey plural = division.getPluralStringKey();
+        List<Integer> templates = new ArrayList<Integer>();
+        for (long value = 2; value < PluralRules.TABLE_SIZE; value++) {
+            int template = locale.templateOf(plural, value);
+            if (templates.contains(template)) {
+                continue;
+            }
+            templates.add(template);
+            if (locale.hasNumber(template)) {
+                long classification = ElapsedTime.pack(division, 0);
+                chars.add(locale.getPrefix(template), locale.getSuffix(template), classification);
+                bytes.add(locale.getEncodedPrefix(template), locale.getEncodedSuffix(template), true, classification);
+            } else {
+                // A template without number (e.g.: the Arabic dual) stands for the first value of its category
+                addString(chars, bytes, locale.getPrefix(template), ElapsedTime.pack(division, value));
+            }
+        }
+    }
+
+    /**
+     * Adds a string without number to both tries.
+     */
+    private static void addString(Node chars, Node bytes, String str, long classification) {
+        chars.add(str, null, classification);
+        bytes.add(str.getBytes(StandardCharsets.UTF_8), null, false, classification);
+    }
+
+    /**
+     * Creates a parser of the strings of the provided languages.
+     *
+     * @param formatter the formatter that printed the strings, whose thresholds define the ranges
+     * @param locales   the languages of the strings
+     *
+     * @return the parser
+     * @throws java.lang.IllegalArgumentException if the formatter is null
+     * @throws java.lang.IllegalArgumentException if there is no locale or if one of them is null
+     */
+    public static ElapsedTimeParser of(ElapsedTimeFormatter formatter, Locale... locales) {
+        if (locales == null) {
+            throw new IllegalArgumentException("The provided locales are null.");
+        }
+        ElapsedTimeLocale[] strings = new ElapsedTimeLocale[locales.length];
+        for (int i = 0; i < locales.length; i++) {
+            if (locales[i] == null) {
+                throw new IllegalArgumentException("The provided locale is null.");
+            }
+            strings[i] = locales[i].getStrings();
+        }
+        return of(formatter, strings);
+    }
+
+    /**
+     * Creates a parser of the strings of the provided languages.
+     *
+     * @param formatter the formatter that printed the strings, whose thresholds define the ranges
+     * @param locales   the languages of the strings
+     *
+     * @return the parser
+     * @throws java.lang.IllegalArgumentException if the formatter is null
+     * @throws java.lang.IllegalArgumentException if there is no locale or if one of them is null
+     */
+    public static ElapsedTimeParser of(ElapsedTimeFormatter formatter, ElapsedTimeLocale... locales) {
+        if (formatter == null) {
+            throw new IllegalArgumentException("The provided formatter is null.");
+        }
+        if (locales == null || locales.length == 0) {
+            throw new IllegalArgumentException("The provided locales are empty.");
+        }
+        for (ElapsedTimeLocale locale : locales) {
+            if (locale == null) {
+                throw new IllegalArgumentException("The provided locale is null.");
+            }
+        }
+        return new ElapsedTimeParser(formatter, locales.clone());
+    }
+
+    /**
+     * @return the formatter whose thresholds define the ranges
+     */
+    public ElapsedTimeFormatter getFormatter() {
+        return this.formatter;
+    }
+
+    /**
+     * Parses a string (e.g.: "2 hours ago"). Nothing is allocated.
+     *
+     * @param text the string
+     *
+     * @return the classification of the string (see {@link ElapsedTime#getDivision(long)} and
+     * {@link ElapsedTime#getValue(long)}), or {@link #NO_MATCH}. "Moments ago" has the classification of a duration of
+     * 0 (see {@link ElapsedTimeFormatter#isMomentsAgo(long)}).
+     * @throws java.lang.IllegalArgumentException if the text is null
+     */
+    public long parse(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("The provided text is null.");
+        }
+        return this.chars.match(0, text, 0, text.length(), -1L);
+    }
+
+    /**
+     * Parses a part of a sequence of characters (e.g.: a field of a line). Nothing is allocated.
+     *
+     * @param text  the characters
+     * @param start the index of the first character (inclusive)
+     * @param end   the index of the last character (exclusive)
+     *
+     * @return the classification of the string, or {@link #NO_MATCH}
+     * @throws java.lang.IllegalArgumentException if the text is null
+     * @throws java.lang.IndexOutOfBoundsException if the indexes are out of the text
+     */
+    public long parse(CharSequence text, int start, int end) {
+        if (text == null) {
+            throw new IllegalArgumentException("The provided text is null.");
+        }
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + text.length());
+        }
+        return this.chars.match(0, text, start, end, -1L);
+    }
+
+    /**
+     * Parses a string encoded in UTF-8, without decoding it. Nothing is allocated.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     *
+     * @return the classification of the string, or {@link #NO_MATCH}
+     * @throws java.lang.IllegalArgumentException if the bytes are null
+     * @throws java.lang.IndexOutOfBoundsException if the offset and the length are out of the bytes
+     */
+    public long parse(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("The provided bytes are null.");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + bytes.length);
+        }
+        return this.bytes.match(0, bytes, offset, offset + length, -1L);
+    }
+
+    /**
+     * Parses a string and returns the range of durations printed with it.
+     *
+     * @param text the string
+     *
+     * @return the range, or null if the text is not a string of the languages or if no duration in milliseconds is
+     * printed with it (see {@link #range(long)})
+     * @throws java.lang.IllegalArgumentException if the text is null
+     */
+    public ElapsedTimeRange parseRange(CharSequence text) {
+        return range(parse(text));
+    }
+
+    /**
+     * Returns the range of durations printed with the string of a classification, with the thresholds of the
+     * formatter (see {@link ElapsedTimeFormatter#range(TimeDivision, long)}).
+     *
+     * @param classification a classification returned by the parse methods
+     *
+     * @return the range, or null if the classification is {@link #NO_MATCH}, below milliseconds (e.g.: "340
+     * microseconds ago") or never printed by the formatter (e.g.: "50 minutes ago")
+     */
+    public ElapsedTimeRange range(long classification) {
+        if (classification == NO_MATCH) {
+            return null;
+        }
+        return this.formatter.range(ElapsedTime.getDivision(classification), ElapsedTime.getValue(classification));
+    }
+
+    ////////////////////////
+    // TRIE
+    ////////////////
+
+    /**
+     * A node of the trie while it is built. The symbols are the characters or the unsigned bytes.
+     */
+    private static final class Node {
+        private final Map<Integer, Node> children = new TreeMap<Integer, Node>();
+        private Node number;
+        private long classification = NO_MATCH;
+
+        private void add(String prefix, String suffix, long classification) {
+            Node node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (suffix != null) {
+                node = node.number();
+                for (int i = 0; i < suffix.length(); i++) {
+                    node = node.child(suffix.charAt(i));
+                }
+            }
+            node.terminate(classification);
+        }
+
+        /**
+         * @param number true if {num} is between the prefix and the suffix, false if the prefix is the whole string
+         *               (the suffix is then ignored: it is empty or null)
+         */
+        private void add(byte[] prefix, byte[] suffix, boolean number, long classification) {
+            Node node = this;
+            for (byte b : prefix) {
+                node = node.child(b & 0xFF);
+            }
+            if (number) {
+                node = node.number();
+                for (byte b : suffix) {
+                    node = node.child(b & 0xFF);
+                }
+            }
+            node.terminate(classification);
+        }
+
+        private Node child(int symbol) {
+            Node child = this.children.get(symbol);
+            if (child == null) {
+                child = new Node();
+                this.children.put(symbol, child);
+            }
+            return child;
+        }
+
+        private Node number() {
+            if (this.number == null) {
+                this.number = new Node();
+            }
+            return this.number;
+        }
+
+        private void terminate(long classification) {
+            // The first language wins
+            if (this.classification == NO_MATCH) {
+                this.classification = classification;
+            }
+        }
+    }
+
+    /**
+     * The trie flattened into arrays, indexed by node (the root is 0). The edges of a node are contiguous.
+     */
+    private static final class Trie {
+        private final int[] firstEdges;
+        private final int[] symbols;
+        private final int[] targets;
+        private final int[] numbers;
+        private final long[] classifications;
+
+        private Trie(Node root) {
+            List<Node> nodes = new ArrayList<Node>();
+            nodes.add(root);
+            int edges = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                nodes.addAll(node.children.values());
+                edges += node.children.size();
+                if (node.number != null) {
+                    nodes.add(node.number);
+                }
+            }
+
+            this.firstEdges = new int[nodes.size() + 1];
+            this.symbols = new int[edges];
+            this.targets = new int[edges];
+            this.numbers = new int[nodes.size()];
+            this.classifications = new long[nodes.size()];
+            Map<Node, Integer> indexes = new IdentityHashMap<Node, Integer>();
+            for (int i = 0; i < nodes.size(); i++) {
+                indexes.put(nodes.get(i), i);
+            }
+            int edge = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                this.firstEdges[i] = edge;
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    this.symbols[edge] = child.getKey();
+                    this.targets[edge] = indexes.get(child.getValue());
+                    edge++;
+                }
+                this.numbers[i] = node.number == null ? -1 : indexes.get(node.number);
+                this.classifications[i] = node.classification;
+            }
+            this.firstEdges[nodes.size()] = edge;
+        }
+
+        private int child(int node, int symbol) {
+            int[] symbols = this.symbols;
+            for (int edge = this.firstEdges[node], last = this.firstEdges[node + 1]; edge < last; edge++) {
+                if (symbols[edge] == symbol) {
+                    return this.targets[edge];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the classification of the node reached at the end of the input.
+         *
+         * @param value the number read in the input, or -1
+         */
+        private long terminal(int node, long value) {
+            long classification = this.classifications[node];
+            if (classification == NO_MATCH || value < 0) {
+                return classification;
+            }
+            // {num} is only printed for 2 and more
+            return value < 2 ? NO_MATCH : classification | value;
+        }
+
+        /**
+         * Walks the trie from a node. The literal symbols are tried first: a digit can also start {num} (e.g.: "1
+         * hour ago" and "{num} hours ago"), in which case the number is read when the literal path fails.
+         */
+        private long match(int node, CharSequence text, int position, int end, long value) {
+            while (position < end) {
+                char c = text.charAt(position);
+                int child = child(node, c);
+                int number = this.numbers[node];
+                if (number >= 0 && c >= '0' && c <= '9') {
+                    if (child >= 0) {
+                        long classification = match(child, text, position + 1, end, value);
+                        if (classification != NO_MATCH) {
+                            return classification;
+                        }
+                    }
+                    long parsed = 0;
+                    for (; position < end && (c = text.charAt(position)) >= '0' && c <= '9'; position++) {
+                        if (parsed > (ElapsedTime.MAX_VALUE - (c - '0')) / 10) {
+                            return NO_MATCH;
+                        }
+                        parsed = parsed * 10 + (c - '0');
+                    }
+                    node = number;
+                    value = parsed;
+                } else if (child >= 0) {
+                    node = child;
+                    position++;
+                } else {
+                    return NO_MATCH;
+                }
+            }
+            return terminal(node, value);
+        }
+
+        /**
+         * Same as {@link #match(int, CharSequence, int, int, long)} with the UTF-8 bytes.
+         */
+        private long match(int node, byte[] bytes, int position, int end, long value) {
+            while (position < end) {
+                int b = bytes[position] & 0xFF;
+                int child = child(node, b);
+                int number = this.numbers[node];
+                if (number >= 0 && b >= '0' && b <= '9') {
+                    if (child >= 0) {
+                        long classification = match(child, bytes, position + 1, end, value);
+                        if (classification != NO_MATCH) {
+                            return classification;
+                        }
+                    }
+                    long parsed = 0;
+                    for (; position < end && (b = bytes[position]) >= '0' && b <= '9'; position++) {
+                        if (parsed > (ElapsedTime.MAX_VALUE - (b - '0')) / 10) {
+                            return NO_MATCH;
+                        }
+                        parsed = parsed * 10 + (b - '0');
+                    }
+                    node = number;
+                    value = parsed;
+                } else if (child >= 0) {
+                    node = child;
+                    position++;
+                } else {
+                    return NO_MATCH;
+                }
+            }
+            return terminal(node, value);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.TimeDivision;
+
+/**
+ * The durations printed with the same string, as returned by {@link ElapsedTimeFormatter#range(TimeDivision, long)}:
+ * from {@link #getFromMillis()} (inclusive) to {@link #getToMillis()} (exclusive).
+ * Use it to group the timestamps in a database instead of loading and formatting them.
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeRange range = formatter.range(TimeDivision.HOUR, 3);
+ * long now = System.currentTimeMillis();
+ * query("SELECT COUNT(*) FROM items WHERE ts BETWEEN ? AND ?", range.getMinEpochMillis(now), range.getMaxEpochMillis(now));
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class ElapsedTimeRange {
+    private final long classification;
+    private final boolean momentsAgo;
+    private final long fromMillis;
+    private final long toMillis;
+
+    ElapsedTimeRange(long classification, boolean momentsAgo, long fromMillis, long toMillis) {
+        this.classification = classification;
+        this.momentsAgo = momentsAgo;
+        this.fromMillis = fromMillis;
+        this.toMillis = toMillis;
+    }
+
+    /**
+     * @return the classification of the first duration of the range (see {@link ElapsedTimeFormatter#classify(long)})
+     */
+    public long getClassification() {
+        return this.classification;
+    }
+
+    /**
+     * @return the time division of the first duration of the range
+     */
+    public TimeDivision getDivision() {
+        return ElapsedTime.getDivision(this.classification);
+    }
+
+    /**
+     * @return the number of time divisions of the first duration of the range (e.g.: 3 for "3 hours ago")
+     */
+    public long getValue() {
+        return ElapsedTime.getValue(this.classification);
+    }
+
+    /**
+     * @return true if the durations of the range are printed as "moments ago"
+     */
+    public boolean isMomentsAgo() {
+        return this.momentsAgo;
+    }
+
+    /**
+     * @return the shortest duration of the range in milliseconds (inclusive)
+     */
+    public long getFromMillis() {
+        return this.fromMillis;
+    }
+
+    /**
+     * @return the end of the range in milliseconds (exclusive), or Long.MAX_VALUE if the range has no end
+     */
+    public long getToMillis() {
+        return this.toMillis;
+    }
+
+    /**
+     * @param durationMillis a duration in milliseconds
+     *
+     * @return true if the duration is in the range
+     */
+    public boolean contains(long durationMillis) {
+        return durationMillis >= this.fromMillis && durationMillis < this.toMillis;
+    }
+
+    /**
+     * Returns the oldest timestamp of the range for the provided "now" (inclusive, for a SQL BETWEEN).
+     *
+     * @param now the current time in milliseconds since the epoch
+     *
+     * @return the oldest timestamp in milliseconds since the epoch, or Long.MIN_VALUE if the range has no end
+     */
+    public long getMinEpochMillis(long now) {
+        if (this.toMillis == Long.MAX_VALUE || now - this.toMillis > now) {
+            return Long.MIN_VALUE;
+        }
+        return now - this.toMillis + 1;
+    }
+
+    /**
+     * Returns the most recent timestamp of the range for the provided "now" (inclusive, for a SQL BETWEEN).
+     *
+     * @param now the current time in milliseconds since the epoch
+     *
+     * @return the most recent timestamp in milliseconds since the epoch
+     */
+    public long getMaxEpochMillis(long now) {
+        return now - this.fromMillis;
+    }
+
+    @Override public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ElapsedTimeRange)) {
+            return false;
+        }
+        ElapsedTimeRange other = (ElapsedTimeRange) o;
+        return this.classification == other.classification && this.momentsAgo == other.momentsAgo
+                && this.fromMillis == other.fromMillis && this.toMillis == other.toMillis;
+    }
+
+    @Override public int hashCode() {
+        int result = (int) (this.classification ^ (this.classification >>> 32));
+        result = 31 * result + (int) (this.fromMillis ^ (this.fromMillis >>> 32));
+        return 31 * result + (int) (this.toMillis ^ (this.toMillis >>> 32));
+    }
+
+    @Override public String toString() {
+        String name = this.momentsAgo ? "MOMENTS_AGO" : getDivision() + " " + getValue();
+        return name + " [" + this.fromMillis + ", " + (this.toMillis == Long.MAX_VALUE ? "+inf" : this.toMillis) + ")";
+    }
+}
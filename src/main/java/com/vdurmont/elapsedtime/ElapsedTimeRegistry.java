@@ -0,0 +1,406 @@
+package com.vdurmont.elapsedtime;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a set of live labels (e.g.: "posted 3 minutes ago") up to date and notifies a listener only when the text of a
+ * label actually changes.
+ *
+ * Each label is scheduled at the instant its text changes (see {@link ElapsedTimeFormatter#nextChangeMillis(long)})
+ * in a hierarchical timing wheel, so the cost of a tick is proportional to the number of labels that change, not to
+ * the number of registered labels.
+ *
+ * The wheel has {@link #LEVELS} levels of 64 slots. A slot of the first level lasts one tick, a slot of the next level
+ * lasts 64 ticks, and so on. A label is stored in the lowest level that can hold its deadline. When the first slot of a
+ * level comes, the labels of the matching slot of the level above are moved down ("cascade").
+ *
+ * Example:
+ * <pre>
+ * ElapsedTimeRegistry&lt;Long&gt; registry = ElapsedTimeRegistry.builder(new ElapsedTimeRegistry.Listener&lt;Long&gt;() {
+ *     public void onChange(Long id, String label) {
+ *         push(id, label);
+ *     }
+ * }).build();
+ * registry.start();
+ * String label = registry.register(42L, post.getTimestamp(), ElapsedTime.Locale.ENGLISH);
+ * </pre>
+ *
+ * The registry is thread-safe. The listener is called with the lock of the registry held, from the thread that
+ * advances the registry: it must be fast. It can register and unregister labels.
+ *
+ * @param <K> the type of the identifiers of the labels
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public class ElapsedTimeRegistry<K> implements Closeable {
+    /**
+     * The default duration of a tick in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    /**
+     * The number of levels of the timing wheel.
+     */
+    public static final int LEVELS = 6;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /**
+     * The largest delay (in ticks) that the wheel can hold. Farther labels are stored at this delay and rescheduled.
+     */
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * Receives the new texts of the labels.
+     *
+     * @param <K> the type of the identifiers of the labels
+     */
+    public interface Listener<K> {
+        /**
+         * Called when the text of a label changes.
+         *
+         * @param id    the identifier of the label
+         * @param label the new text
+         */
+        void onChange(K id, String label);
+    }
+
+    private final ElapsedTimeFormatter formatter;
+    private final Listener<? super K> listener;
+    private final long tickMillis;
+    private final Entry<K>[][] wheel;
+    private final Map<K, Entry<K>> entries;
+    private long currentTick;
+    private ScheduledExecutorService executor;
+
+    @SuppressWarnings("unchecked")
+    private ElapsedTimeRegistry(Builder<K> builder) {
+        this.formatter = builder.formatter;
+        this.listener = builder.listener;
+        this.tickMillis = builder.tickMillis;
+        this.wheel = (Entry<K>[][]) new Entry<?>[LEVELS][SLOTS];
+        this.entries = new HashMap<K, Entry<K>>();
+        this.currentTick = this.formatter.getClock().millis() / this.tickMillis;
+    }
+
+    /**
+     * Creates a builder initialized with the default configuration:
+     * - the default formatter of {@link ElapsedTime} (and its clock),
+     * - a tick of {@link #DEFAULT_TICK_MILLIS} milliseconds.
+     *
+     * @param listener the listener that receives the new texts
+     * @param <K>      the type of the identifiers of the labels
+     *
+     * @return the builder
+     * @throws java.lang.IllegalArgumentException if the listener is null
+     */
+    public static <K> Builder<K> builder(Listener<? super K> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("The provided listener is null.");
+        }
+        return new Builder<K>(listener);
+    }
+
+    ////////////////////////
+    // LABELS
+    ////////////////
+
+    /**
+     * Registers a label, or replaces the label with the same identifier.
+     * The listener is not called for the current text: it is returned.
+     *
+     * @param id          the identifier of the label
+     * @param epochMillis the timestamp (in the past) of the label in milliseconds since the epoch
+     * @param locale      the locale of the label
+     *
+     * @return the current text of the label
+     * @throws java.lang.IllegalArgumentException if the id or the locale is null
+     * @throws java.lang.IllegalArgumentException if the timestamp is in the future
+     */
+    public synchronized String register(K id, long epochMillis, ElapsedTime.Locale locale) {
+        if (id == null) {
+            throw new IllegalArgumentException("The provided id is null.");
+        }
+        long now = Math.max(this.formatter.getClock().millis(), this.currentTick * this.tickMillis);
+        String text = this.formatter.format(now - epochMillis, locale);
+
+        Entry<K> entry = this.entries.get(id);
+        if (entry != null) {
+            unlink(entry);
+        } else {
+            entry = new Entry<K>(id);
+            this.entries.put(id, entry);
+        }
+        entry.epochMillis = epochMillis;
+        entry.locale = locale;
+        entry.text = text;
+        schedule(entry, now);
+        return text;
+    }
+
+    /**
+     * Unregisters a label. The listener will not be called for this label anymore.
+     *
+     * @param id the identifier of the label
+     *
+     * @return true if the label was registered
+     */
+    public synchronized boolean unregister(K id) {
+        Entry<K> entry = this.entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * @param id the identifier of the label
+     *
+     * @return the last text of the label, or null if it is not registered
+     */
+    public synchronized String getText(K id) {
+        Entry<K> entry = this.entries.get(id);
+        return entry == null ? null : entry.text;
+    }
+
+    /**
+     * @return the number of registered labels
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    ////////////////////////
+    // TIME
+    ////////////////
+
+    /**
+     * Advances the registry to the present instant of the clock of the formatter.
+     */
+    public void advance() {
+        advanceTo(this.formatter.getClock().millis());
+    }
+
+    /**
+     * Advances the registry to the provided instant: every label that changed in between is updated and the listener
+     * is called with its new text. Nothing happens if the instant is in the past of the registry.
+     *
+     * @param now the present instant in milliseconds since the epoch
+     */
+    public synchronized void advanceTo(long now) {
+        long targetTick = now / this.tickMillis;
+        while (this.currentTick < targetTick) {
+            long tick = ++this.currentTick;
+
+            // Move down the labels of the upper levels whose slot starts now
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    int slot = (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+                    Entry<K> entry;
+                    while ((entry = this.wheel[level][slot]) != null) {
+                        unlink(entry);
+                        insert(entry);
+                    }
+                }
+            }
+
+            // Update the labels whose text changes now
+            long tickNow = tick * this.tickMillis;
+            int slot = (int) tick & SLOT_MASK;
+            Entry<K> entry;
+            while ((entry = this.wheel[0][slot]) != null) {
+                unlink(entry);
+                if (entry.deadlineTick > tick) {
+                    // The label was too far for the wheel
+                    insert(entry);
+                    continue;
+                }
+                String text = this.formatter.format(tickNow - entry.epochMillis, entry.locale);
+                schedule(entry, tickNow);
+                if (!text.equals(entry.text)) {
+                    entry.text = text;
+                    this.listener.onChange(entry.id, text);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a daemon thread that advances the registry at every tick.
+     *
+     * @throws java.lang.IllegalStateException if the registry is already started
+     */
+    public synchronized void start() {
+        if (this.executor != null) {
+            throw new IllegalStateException("The registry is already started.");
+        }
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "elapsedtime-registry");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.executor.scheduleAtFixedRate(new Runnable() {
+            @Override public void run() {
+                advance();
+            }
+        }, this.tickMillis, this.tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the thread started by {@link #start()}, if any.
+     */
+    @Override public synchronized void close() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+    }
+
+    ////////////////////////
+    // TIMING WHEEL
+    ////////////////
+
+    /**
+     * Computes the deadline of the entry (the first tick after the next change of its text) and inserts it.
+     */
+    private void schedule(Entry<K> entry, long now) {
+        long nextChange = this.formatter.nextChangeMillis(now - entry.epochMillis);
+        if (nextChange == Long.MAX_VALUE || entry.epochMillis > Long.MAX_VALUE - nextChange) {
+            // Never changes: the entry stays registered but is not scheduled
+            entry.deadlineTick = Long.MAX_VALUE;
+            return;
+        }
+        long changeAt = entry.epochMillis + nextChange;
+        entry.deadlineTick = (changeAt + this.tickMillis - 1) / this.tickMillis;
+        insert(entry);
+    }
+
+    /**
+     * Inserts the entry in the lowest level that can hold its deadline.
+     * A deadline that is already due (during a cascade) goes in the slot of the current tick, processed right after.
+     */
+    private void insert(Entry<K> entry) {
+        long delay = Math.min(Math.max(entry.deadlineTick - this.currentTick, 0), MAX_DELAY);
+        long deadline = this.currentTick + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+
+        Entry<K> head = this.wheel[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.previous = null;
+        entry.next = head;
+        if (head != null) {
+            head.previous = entry;
+        }
+        this.wheel[level][slot] = entry;
+    }
+
+    /**
+     * Removes the entry from its slot, if it is in one.
+     */
+    private void unlink(Entry<K> entry) {
+        if (entry.level < 0) {
+            return;
+        }
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            this.wheel[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.level = -1;
+    }
+
+    /**
+     * A registered label. The entries of a slot are a doubly linked list so that they can be removed in O(1).
+     */
+    private static class Entry<K> {
+        private final K id;
+        private long epochMillis;
+        private ElapsedTime.Locale locale;
+        private String text;
+        private long deadlineTick;
+        private int level = -1;
+        private int slot;
+        private Entry<K> previous;
+        private Entry<K> next;
+
+        private Entry(K id) {
+            this.id = id;
+        }
+    }
+
+    ////////////////////////
+    // BUILDER
+    ////////////////
+
+    /**
+     * Builds {@link ElapsedTimeRegistry} instances.
+     *
+     * @param <K> the type of the identifiers of the labels
+     */
+    public static final class Builder<K> {
+        private final Listener<? super K> listener;
+        private ElapsedTimeFormatter formatter = ElapsedTime.getDefaultFormatter();
+        private long tickMillis = DEFAULT_TICK_MILLIS;
+
+        private Builder(Listener<? super K> listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * @param formatter the formatter that generates the texts. Its clock gives the present instant.
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the formatter is null
+         */
+        public Builder<K> formatter(ElapsedTimeFormatter formatter) {
+            if (formatter == null) {
+                throw new IllegalArgumentException("The provided formatter is null.");
+            }
+            this.formatter = formatter;
+            return this;
+        }
+
+        /**
+         * @param tickMillis the duration of a tick in milliseconds. A label is updated at most one tick after its
+         *                   text changed.
+         *
+         * @return this builder
+         * @throws java.lang.IllegalArgumentException if the tick is lower than 1
+         */
+        public Builder<K> tickMillis(long tickMillis) {
+            if (tickMillis < 1) {
+                throw new IllegalArgumentException("The provided tick is < 1.");
+            }
+            this.tickMillis = tickMillis;
+            return this;
+        }
+
+        /**
+         * @return a new registry with the configuration of this builder
+         */
+        public ElapsedTimeRegistry<K> build() {
+            return new ElapsedTimeRegistry<K>(this);
+        }
+    }
+}
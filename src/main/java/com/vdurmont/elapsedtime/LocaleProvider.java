@@ -0,0 +1,27 @@
+package com.vdurmont.elapsedtime;
+
+import java.util.Map;
+
+/**
+ * Provides the strings of the languages that are not shipped with the library.
+ *
+ * The providers are discovered with {@link java.util.ServiceLoader}: list your implementation in a
+ * META-INF/services/com.vdurmont.elapsedtime.LocaleProvider file. They are only asked for a language the first time it
+ * is used (see {@link ElapsedTimeLocale#forLanguageTag(String)}), before the properties files of the class path, and
+ * never for the languages shipped with the library, which are compiled into it.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public interface LocaleProvider {
+    /**
+     * Returns the strings of a language.
+     *
+     * @param languageTag the IETF BCP 47 language tag, in lower case (e.g.: "de" or "pt-br")
+     *
+     * @return the strings keyed by the names of the {@link ElapsedTime.StringKey}s (e.g.: "MINUTES_AGO" to
+     * "{num} minutes ago"), plus the optional plural rules (e.g.: "PLURAL_FEW") and their templates (see
+     * {@link ElapsedTime.StringKey#getName(ElapsedTime.PluralCategory)}), or null if this provider doesn't support the
+     * language
+     */
+    Map<String, String> getStrings(String languageTag);
+}
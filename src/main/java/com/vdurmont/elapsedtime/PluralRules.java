@@ -0,0 +1,274 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.PluralCategory;
+
+import java.util.Map;
+
+/**
+ * The plural rules of a language, compiled once when the language is loaded.
+ *
+ * The rules are read from the strings of the language, with the CLDR syntax (see
+ * http://unicode.org/reports/tr35/tr35-numbers.html#Language_Plural_Rules): PLURAL_ZERO, PLURAL_ONE, PLURAL_TWO,
+ * PLURAL_FEW and PLURAL_MANY, e.g.: "PLURAL_FEW=v = 0 and i % 10 = 2..4 and i % 100 != 12..14". The values that match
+ * no rule are OTHER, so a language without rules only has OTHER.
+ *
+ * The rules are evaluated for every value below {@link #TABLE_SIZE} when they are compiled, which covers every value
+ * printed by the library but the years: selecting a category is then a lookup in a table. The bigger values evaluate
+ * the parsed rules, which does not allocate either. The languages shipped with the library come with their table
+ * already evaluated (see {@link BundledLocales}), and their rules are only parsed for the first bigger value.
+ *
+ * The values are always integers: n and i are the value and the operands of the fraction digits and of the exponent
+ * (v, w, f, t, c and e) are 0.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+final class PluralRules {
+    static final int TABLE_SIZE = 1000;
+
+    private static final String RULE_PREFIX = "PLURAL_";
+    private static final PluralCategory[] CATEGORIES = PluralCategory.values();
+    private static final int OTHER = PluralCategory.OTHER.ordinal();
+
+    private final String languageTag;
+
+    /**
+     * The rule of each category, or null if the category has no rule.
+     */
+    private final String[] rules;
+
+    /**
+     * The conditions of each category (null if the category has no rule), or null if the rules are not parsed yet.
+     */
+    private volatile Relation[][][] conditions;
+    private final byte[] table;
+
+    private PluralRules(String languageTag, String[] rules, Relation[][][] conditions) {
+        this.languageTag = languageTag;
+        this.rules = rules;
+        this.conditions = conditions;
+        this.table = new byte[TABLE_SIZE];
+        for (int value = 0; value < TABLE_SIZE; value++) {
+            this.table[value] = (byte) evaluate(value);
+        }
+    }
+
+    private PluralRules(String languageTag, String[] rules, byte[] table) {
+        this.languageTag = languageTag;
+        this.rules = rules;
+        this.table = table;
+    }
+
+    /**
+     * Compiles the plural rules found in the strings of a language.
+     *
+     * @param languageTag the tag of the language, for the error messages
+     * @param strings     the strings of the language
+     *
+     * @return the compiled rules
+     * @throws java.lang.IllegalArgumentException if a rule cannot be parsed
+     */
+    static PluralRules compile(String languageTag, Map<String, String> strings) {
+        String[] rules = new String[CATEGORIES.length];
+        for (PluralCategory category : CATEGORIES) {
+            rules[category.ordinal()] = strings.get(RULE_PREFIX + category.name());
+        }
+        return new PluralRules(languageTag, rules, parse(languageTag, rules));
+    }
+
+    /**
+     * Creates the plural rules of a language whose table was evaluated at build time. The rules must be valid: they
+     * are only parsed for the first value that is not in the table.
+     *
+     * @param languageTag the tag of the language
+     * @param rules       the rule of each category (indexed by {@link PluralCategory#ordinal()}), or null
+     * @param table       the ordinal of the category of every value below {@link #TABLE_SIZE}
+     *
+     * @return the rules
+     */
+    static PluralRules precompiled(String languageTag, String[] rules, byte[] table) {
+        return new PluralRules(languageTag, rules, table);
+    }
+
+    /**
+     * @param category the plural category
+     *
+     * @return true if the language has a rule for this category (OTHER has none)
+     */
+    boolean hasRule(PluralCategory category) {
+        return this.rules[category.ordinal()] != null;
+    }
+
+    /**
+     * Returns the ordinal of the plural category of a value.
+     *
+     * @param value the value (must be >= 0)
+     *
+     * @return the ordinal of the category
+     */
+    int categoryOf(long value) {
+        return value < TABLE_SIZE ? this.table[(int) value] : evaluate(value);
+    }
+
+    /**
+     * Returns the first category whose rule matches the value, in the order of {@link PluralCategory}, or OTHER.
+     */
+    private int evaluate(long value) {
+        Relation[][][] conditions = this.conditions;
+        if (conditions == null) {
+            // Precompiled rules: a race between two first calls only parses them twice
+            conditions = parse(this.languageTag, this.rules);
+            this.conditions = conditions;
+        }
+        for (int category = 0; category < OTHER; category++) {
+            Relation[][] condition = conditions[category];
+            if (condition != null && matches(condition, value)) {
+                return category;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * A condition is a disjunction ("or") of conjunctions ("and") of relations.
+     */
+    private static boolean matches(Relation[][] condition, long value) {
+        for (Relation[] conjunction : condition) {
+            boolean matches = true;
+            for (int i = 0; i < conjunction.length && matches; i++) {
+                matches = conjunction[i].matches(value);
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    ////////////////////////
+    // PARSING
+    ////////////////
+
+    private static Relation[][][] parse(String languageTag, String[] rules) {
+        Relation[][][] conditions = new Relation[CATEGORIES.length][][];
+        for (PluralCategory category : CATEGORIES) {
+            String rule = rules[category.ordinal()];
+            if (rule == null) {
+                continue;
+            }
+            if (category == PluralCategory.OTHER) {
+                throw new IllegalArgumentException("The language " + languageTag + " has a rule for OTHER.");
+            }
+            try {
+                conditions[category.ordinal()] = parseCondition(rule);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("The language " + languageTag + " has an invalid plural rule "
+                        + RULE_PREFIX + category.name() + ": " + e.getMessage(), e);
+            }
+        }
+        return conditions;
+    }
+
+    private static Relation[][] parseCondition(String rule) {
+        // The samples ("@integer 2~4, 22~24, ...") are only documentation
+        int samples = rule.indexOf('@');
+        String condition = (samples < 0 ? rule : rule.substring(0, samples)).trim();
+        if (condition.isEmpty()) {
+            throw new IllegalArgumentException("the rule is empty");
+        }
+        String[] disjunction = condition.split("\\s+or\\s+");
+        Relation[][] result = new Relation[disjunction.length][];
+        for (int i = 0; i < disjunction.length; i++) {
+            String[] conjunction = disjunction[i].split("\\s+and\\s+");
+            result[i] = new Relation[conjunction.length];
+            for (int j = 0; j < conjunction.length; j++) {
+                result[i][j] = parseRelation(conjunction[j].trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses a relation: an operand, an optional modulus, = or != and a list of values and ranges
+     * (e.g.: "i % 100 != 12..14" or "n = 0,1").
+     */
+    private static Relation parseRelation(String relation) {
+        int operator = relation.indexOf('=');
+        if (operator < 1) {
+            throw new IllegalArgumentException("no = in \"" + relation + "\"");
+        }
+        boolean negated = relation.charAt(operator - 1) == '!';
+        String expression = relation.substring(0, negated ? operator - 1 : operator).trim();
+        String list = relation.substring(operator + 1).trim();
+
+        long modulus = 0;
+        int percent = expression.indexOf('%');
+        if (percent >= 0) {
+            modulus = parseNumber(expression.substring(percent + 1).trim());
+            if (modulus == 0) {
+                throw new IllegalArgumentException("modulus 0 in \"" + relation + "\"");
+            }
+            expression = expression.substring(0, percent).trim();
+        }
+        boolean integer;
+        if (expression.equals("n") || expression.equals("i")) {
+            integer = true;
+        } else if (expression.length() == 1 && "vwftce".indexOf(expression.charAt(0)) >= 0) {
+            integer = false;
+        } else {
+            throw new IllegalArgumentException("unknown operand \"" + expression + "\"");
+        }
+
+        String[] items = list.split(",");
+        long[] ranges = new long[2 * items.length];
+        for (int i = 0; i < items.length; i++) {
+            String item = items[i].trim();
+            int dots = item.indexOf("..");
+            ranges[2 * i] = parseNumber(dots < 0 ? item : item.substring(0, dots).trim());
+            ranges[2 * i + 1] = dots < 0 ? ranges[2 * i] : parseNumber(item.substring(dots + 2).trim());
+        }
+        return new Relation(integer, modulus, negated, ranges);
+    }
+
+    private static long parseNumber(String str) {
+        try {
+            return Long.parseLong(str);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("\"" + str + "\" is not a number", e);
+        }
+    }
+
+    /**
+     * A relation between an operand and a list of ranges (e.g.: "i % 10 = 2..4").
+     */
+    private static final class Relation {
+        private final boolean integer;
+        private final long modulus;
+        private final boolean negated;
+        private final long[] ranges;
+
+        /**
+         * @param integer true for the operands n and i, false for the ones that are always 0
+         * @param modulus the modulus applied to the operand, or 0
+         * @param negated true for !=
+         * @param ranges  the bounds (inclusive) of the ranges, 2 per range
+         */
+        private Relation(boolean integer, long modulus, boolean negated, long[] ranges) {
+            this.integer = integer;
+            this.modulus = modulus;
+            this.negated = negated;
+            this.ranges = ranges;
+        }
+
+        private boolean matches(long value) {
+            long operand = this.integer ? value : 0;
+            if (this.modulus != 0) {
+                operand %= this.modulus;
+            }
+            boolean in = false;
+            for (int i = 0; i < this.ranges.length && !in; i += 2) {
+                in = operand >= this.ranges[i] && operand <= this.ranges[i + 1];
+            }
+            return in != this.negated;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.vdurmont.elapsedtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Loads the strings of a language from a properties file of the class path, encoded in UTF-8: [path][language
+ * tag].properties (e.g.: com/vdurmont/elapsedtime/locales/de.properties).
+ *
+ * The languages shipped with the library are written in properties files at {@link #DEFAULT_PATH} too, but they are
+ * compiled into the library at build time: {@link ElapsedTimeLocale} does not ask this provider for them. A jar can
+ * add a language by shipping a properties file at the same path.
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public class ResourceLocaleProvider implements LocaleProvider {
+    /**
+     * The path of the properties files shipped with the library.
+     */
+    public static final String DEFAULT_PATH = "com/vdurmont/elapsedtime/locales/";
+
+    private final ClassLoader classLoader;
+    private final String path;
+
+    /**
+     * Creates a provider that reads the properties files at {@link #DEFAULT_PATH} with the class loader of the
+     * library.
+     */
+    public ResourceLocaleProvider() {
+        this(ResourceLocaleProvider.class.getClassLoader(), DEFAULT_PATH);
+    }
+
+    /**
+     * @param classLoader the class loader that reads the files
+     * @param path        the path of the files, ending with a "/"
+     *
+     * @throws java.lang.IllegalArgumentException if the class loader or the path is null
+     */
+    public ResourceLocaleProvider(ClassLoader classLoader, String path) {
+        if (classLoader == null) {
+            throw new IllegalArgumentException("The provided class loader is null.");
+        }
+        if (path == null) {
+            throw new IllegalArgumentException("The provided path is null.");
+        }
+        this.classLoader = classLoader;
+        this.path = path;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws java.lang.IllegalStateException if the file exists but cannot be read
+     */
+    @Override public Map<String, String> getStrings(String languageTag) {
+        String name = this.path + languageTag + ".properties";
+        InputStream stream = this.classLoader.getResourceAsStream(name);
+        if (stream == null) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try {
+            Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+            try {
+                properties.load(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + name, e);
+        }
+        Map<String, String> strings = new HashMap<String, String>();
+        for (String key : properties.stringPropertyNames()) {
+            strings.put(key, properties.getProperty(key));
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,186 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.Locale;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Measures the time spent in a piece of code with {@link System#nanoTime()} and prints it with an
+ * {@link ElapsedTimeFormatter} (see {@link ElapsedTimeFormatter#formatSpan(long)}).
+ * Starting, lapping and stopping a stopwatch read the time and update a few fields: nothing is allocated, so it can
+ * be left in hot code paths.
+ *
+ * A stopwatch is not thread-safe: use one per thread.
+ *
+ * Example:
+ * <pre>
+ * Stopwatch stopwatch = Stopwatch.start();
+ * load();
+ * long loading = stopwatch.lap();
+ * process();
+ * stopwatch.stop();
+ * log.info("Done in " + stopwatch); // Done in 340 microseconds
+ * </pre>
+ *
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+public final class Stopwatch {
+    private final ElapsedTimeFormatter formatter;
+    private final LongSupplier ticker;
+    private boolean running;
+    private long startNanos;
+    private long elapsedNanos;
+    private long lapNanos;
+
+    /**
+     * @param ticker the source of the time in nanoseconds, or null to use {@link System#nanoTime()}
+     */
+    Stopwatch(ElapsedTimeFormatter formatter, LongSupplier ticker) {
+        if (formatter == null) {
+            throw new IllegalArgumentException("The provided formatter is null.");
+        }
+        this.formatter = formatter;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Creates and starts a stopwatch that is printed with the default formatter (see
+     * {@link ElapsedTime#getDefaultFormatter()}).
+     *
+     * @return the running stopwatch
+     */
+    public static Stopwatch start() {
+        return start(ElapsedTime.getDefaultFormatter());
+    }
+
+    /**
+     * Creates and starts a stopwatch that is printed with the provided formatter.
+     *
+     * @param formatter the formatter used to print the elapsed time
+     *
+     * @return the running stopwatch
+     * @throws java.lang.IllegalArgumentException if the formatter is null
+     */
+    public static Stopwatch start(ElapsedTimeFormatter formatter) {
+        Stopwatch stopwatch = new Stopwatch(formatter, null);
+        stopwatch.resume();
+        return stopwatch;
+    }
+
+    private long now() {
+        LongSupplier ticker = this.ticker;
+        return ticker == null ? System.nanoTime() : ticker.getAsLong();
+    }
+
+    /**
+     * Stops the stopwatch. The elapsed time is kept and the stopwatch can be resumed. Does nothing if it is already
+     * stopped.
+     *
+     * @return the total elapsed time in nanoseconds
+     */
+    public long stop() {
+        if (this.running) {
+            this.elapsedNanos += now() - this.startNanos;
+            this.running = false;
+        }
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Starts the stopwatch again after it was stopped, without resetting the elapsed time. Does nothing if it is
+     * already running.
+     *
+     * @return this stopwatch
+     */
+    public Stopwatch resume() {
+        if (!this.running) {
+            this.startNanos = now();
+            this.running = true;
+        }
+        return this;
+    }
+
+    /**
+     * Resets the elapsed time to 0 and starts the stopwatch.
+     *
+     * @return this stopwatch
+     */
+    public Stopwatch reset() {
+        this.elapsedNanos = 0;
+        this.lapNanos = 0;
+        this.startNanos = now();
+        this.running = true;
+        return this;
+    }
+
+    /**
+     * Returns the time elapsed since the previous lap (or the start) and starts a new lap. The time during which the
+     * stopwatch was stopped is not counted.
+     *
+     * @return the duration of the lap in nanoseconds
+     */
+    public long lap() {
+        long elapsed = getElapsedNanos();
+        long lap = elapsed - this.lapNanos;
+        this.lapNanos = elapsed;
+        return lap;
+    }
+
+    /**
+     * @return true if the stopwatch is running
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * @return the total time elapsed while the stopwatch was running in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return this.running ? this.elapsedNanos + now() - this.startNanos : this.elapsedNanos;
+    }
+
+    /**
+     * @return the total time elapsed while the stopwatch was running in milliseconds
+     */
+    public long getElapsedMillis() {
+        return getElapsedNanos() / ElapsedTime.TimeDivision.MILLIS.getNanos();
+    }
+
+    /**
+     * @return the formatter used to print the elapsed time
+     */
+    public ElapsedTimeFormatter getFormatter() {
+        return this.formatter;
+    }
+
+    /**
+     * Appends the elapsed time (e.g.: "340 microseconds") to the provided buffer.
+     * Nothing is allocated apart from the buffer growth.
+     *
+     * @param out the buffer to write into
+     */
+    public void formatTo(StringBuilder out) {
+        this.formatter.formatSpanTo(getElapsedNanos(), out);
+    }
+
+    /**
+     * Appends the elapsed time (e.g.: "340 microsecondes") to the provided buffer.
+     * Nothing is allocated apart from the buffer growth.
+     *
+     * @param locale the locale to use for this string
+     * @param out    the buffer to write into
+     *
+     * @throws java.lang.IllegalArgumentException if the locale is null
+     */
+    public void formatTo(Locale locale, StringBuilder out) {
+        this.formatter.formatSpanTo(getElapsedNanos(), locale, out);
+    }
+
+    /**
+     * @return the elapsed time (e.g.: "340 microseconds")
+     */
+    @Override public String toString() {
+        return this.formatter.formatSpan(getElapsedNanos());
+    }
+}
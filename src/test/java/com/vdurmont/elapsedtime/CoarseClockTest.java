@@ -0,0 +1,48 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class CoarseClockTest {
+    @Test public void the_time_is_updated_in_the_background() throws InterruptedException {
+        try (CoarseClock clock = new CoarseClock(1)) {
+            long start = clock.millis();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (clock.millis() == start && System.currentTimeMillis() < deadline) {
+                Thread.sleep(2);
+            }
+            assertTrue(clock.millis() > start);
+        }
+    }
+
+    @Test public void the_time_is_late_by_at_most_one_tick() {
+        try (CoarseClock clock = new CoarseClock(10000)) {
+            long diff = System.currentTimeMillis() - clock.millis();
+            assertTrue(diff >= 0 && diff < 10000);
+        }
+    }
+
+    @Test public void withZone_shares_the_time() {
+        try (CoarseClock clock = new CoarseClock(10000)) {
+            Clock paris = clock.withZone(ZoneId.of("Europe/Paris"));
+            assertEquals(ZoneId.of("Europe/Paris"), paris.getZone());
+            assertEquals(clock.millis(), paris.millis());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_with_a_tick_lower_than_1_fails() {
+        new CoarseClock(0);
+    }
+}
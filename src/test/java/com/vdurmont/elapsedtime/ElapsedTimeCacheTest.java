@@ -0,0 +1,90 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeCacheTest {
+    private static final long MINUTE = 60 * 1000;
+    private static final long YEAR = 360 * 24 * 60 * MINUTE;
+
+    @After public void tearDown() {
+        ElapsedTime.cache = null;
+    }
+
+    @Test public void cached_strings_are_shared() {
+        ElapsedTime.cache = new ElapsedTimeCache(16);
+
+        String first = ElapsedTime.getFromDurationMillis(10 * MINUTE);
+        String second = ElapsedTime.getFromDurationMillis(10 * MINUTE + 2000);
+
+        assertEquals("10 minutes ago", first);
+        assertSame(first, second);
+        assertEquals(1, ElapsedTime.cache.getHitCount());
+        assertEquals(1, ElapsedTime.cache.getMissCount());
+    }
+
+    @Test public void singular_strings_do_not_go_through_the_cache() {
+        ElapsedTime.cache = new ElapsedTimeCache(16);
+
+        assertEquals("1 minute ago", ElapsedTime.getFromDurationMillis(MINUTE));
+        assertEquals("Moments ago", ElapsedTime.getFromDurationMillis(3));
+
+        assertEquals(0, ElapsedTime.cache.getHitCount());
+        assertEquals(0, ElapsedTime.cache.getMissCount());
+    }
+
+    @Test public void large_values_are_evicted_when_the_slot_is_taken() {
+        ElapsedTimeCache cache = new ElapsedTimeCache(1);
+        ElapsedTime.cache = cache;
+
+        assertEquals("900 years ago", ElapsedTime.getFromDurationMillis(900 * YEAR));
+        assertEquals("901 years ago", ElapsedTime.getFromDurationMillis(901 * YEAR));
+        assertEquals("900 years ago", ElapsedTime.getFromDurationMillis(900 * YEAR));
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test public void only_the_provided_locales_are_cached() {
+        ElapsedTimeCache cache = new ElapsedTimeCache(16, ElapsedTime.Locale.FRENCH);
+        ElapsedTime.cache = cache;
+
+        assertTrue(cache.isEnabled(ElapsedTime.Locale.FRENCH));
+        assertFalse(cache.isEnabled(ElapsedTime.Locale.ENGLISH));
+        assertEquals("10 minutes ago", ElapsedTime.getFromDurationMillis(10 * MINUTE, ElapsedTime.Locale.ENGLISH));
+        assertEquals("Il y a 10 minutes", ElapsedTime.getFromDurationMillis(10 * MINUTE, ElapsedTime.Locale.FRENCH));
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test public void clear_resets_the_entries_and_the_counters() {
+        ElapsedTimeCache cache = new ElapsedTimeCache(16);
+        ElapsedTime.cache = cache;
+        ElapsedTime.getFromDurationMillis(10 * MINUTE);
+        ElapsedTime.getFromDurationMillis(10 * MINUTE);
+        assertEquals(0.5, cache.getHitRate(), 0);
+
+        cache.clear();
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        ElapsedTime.getFromDurationMillis(10 * MINUTE);
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_with_a_size_lower_than_1_fails() {
+        new ElapsedTimeCache(0);
+    }
+}
@@ -0,0 +1,162 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeCalendarTest {
+    private static final long HOUR = 3600000;
+    private static final long YEAR = 365L * 24 * HOUR;
+    private static final String[] ZONES = {"UTC", "Europe/Paris", "America/New_York", "America/Sao_Paulo",
+            "America/Havana", "Africa/Casablanca", "Pacific/Apia", "Australia/Lord_Howe"};
+
+    @Test public void calendars_are_shared_per_zone() {
+        assertSame(ElapsedTimeCalendar.of(ZoneOffset.UTC), ElapsedTimeCalendar.of(ZoneOffset.UTC));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_with_a_null_zone_fails() {
+        ElapsedTimeCalendar.of(null);
+    }
+
+    @Test public void months_are_counted_like_java_time() {
+        Random random = new Random(42);
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ElapsedTimeCalendar calendar = ElapsedTimeCalendar.of(zone);
+            long[] instants = boundaries(zone);
+            for (int i = 0; i < 50000; i++) {
+                long from = instants[random.nextInt(instants.length)];
+                long to = instants[random.nextInt(instants.length)];
+                if (i % 2 == 0) {
+                    // Ranges of a few months, close to the boundaries and the transitions
+                    to = from + (long) (random.nextDouble() * 14) * 30 * 24 * HOUR + random.nextInt(48) * HOUR / 2;
+                } else if (from > to) {
+                    long swap = from;
+                    from = to;
+                    to = swap;
+                }
+                assertLikeJavaTime(calendar, from, to);
+            }
+        }
+    }
+
+    @Test public void months_are_counted_like_java_time_on_random_instants() {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        for (String id : ZONES) {
+            ElapsedTimeCalendar calendar = ElapsedTimeCalendar.of(ZoneId.of(id));
+            for (int i = 0; i < 20000; i++) {
+                // Up to 200 years ago, so that some instants are outside of the table
+                long to = now - (long) (random.nextDouble() * 10 * YEAR);
+                long from = to - (long) (random.nextDouble() * random.nextDouble() * 190 * YEAR);
+                assertLikeJavaTime(calendar, from, to);
+            }
+        }
+    }
+
+    @Test public void months_are_counted_across_a_midnight_gap() {
+        // DST starts at midnight in Havana, so the 1st of April 2012 starts at 01:00
+        ZoneId zone = ZoneId.of("America/Havana");
+        long from = ZonedDateTime.of(2011, 11, 1, 0, 38, 0, 0, zone).toInstant().toEpochMilli();
+        long to = ZonedDateTime.of(2012, 4, 1, 1, 4, 0, 0, zone).toInstant().toEpochMilli();
+
+        assertEquals(5, ElapsedTimeCalendar.of(zone).monthsBetween(from, to));
+        assertLikeJavaTime(ElapsedTimeCalendar.of(zone), from, to);
+    }
+
+    @Test public void plusMonths_keeps_the_offset_in_an_overlap() {
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ElapsedTimeCalendar calendar = ElapsedTimeCalendar.of(zone);
+        // 02:30 exists twice on the 27th of October 2024
+        ZonedDateTime earlier = ZonedDateTime.of(2024, 9, 27, 2, 30, 0, 0, zone);
+        ZonedDateTime later = ZonedDateTime.of(2024, 10, 27, 2, 30, 0, 0, zone).withLaterOffsetAtOverlap();
+
+        assertEquals(earlier.plusMonths(1).toInstant().toEpochMilli(),
+                calendar.plusMonths(earlier.toInstant().toEpochMilli(), 1));
+        assertEquals(later.minusMonths(1).plusMonths(1).toInstant().toEpochMilli(),
+                calendar.plusMonths(later.minusMonths(1).toInstant().toEpochMilli(), 1));
+    }
+
+    @Test public void plusMonths_uses_the_last_day_of_a_shorter_month() {
+        ElapsedTimeCalendar calendar = ElapsedTimeCalendar.of(ZoneOffset.UTC);
+        long from = ZonedDateTime.of(2024, 1, 31, 10, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        long to = ZonedDateTime.of(2024, 2, 29, 10, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+
+        assertEquals(to, calendar.plusMonths(from, 1));
+        assertEquals(0, calendar.monthsBetween(from, to - 1));
+        assertEquals(1, calendar.monthsBetween(from, to + 24 * HOUR));
+    }
+
+    @Test public void the_months_rounded_up_by_the_days_become_a_year() {
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().calendar(zone).build();
+        long from = ZonedDateTime.of(2023, 1, 5, 0, 0, 0, 0, zone).toInstant().toEpochMilli();
+        long to = ZonedDateTime.of(2023, 12, 2, 0, 0, 0, 0, zone).toInstant().toEpochMilli();
+        long nextYear = ZonedDateTime.of(2024, 12, 2, 0, 0, 0, 0, zone).toInstant().toEpochMilli();
+
+        // 10 months and 27 days: rounded up to 11 months, which is the MONTH threshold
+        assertEquals(10, ElapsedTimeCalendar.of(zone).monthsBetween(from, to));
+        assertEquals(ElapsedTime.pack(ElapsedTime.TimeDivision.YEAR, 1), formatter.divide(from, to));
+        assertEquals("1 year ago", formatter.toBuilder().clock(Clock.fixed(Instant.ofEpochMilli(to), zone)).build()
+                .formatDate(from));
+        // 1 year, 10 months and 27 days
+        assertEquals(ElapsedTime.pack(ElapsedTime.TimeDivision.YEAR, 2), formatter.divide(from, nextYear));
+    }
+
+    private static void assertLikeJavaTime(ElapsedTimeCalendar calendar, long from, long to) {
+        ZoneId zone = calendar.getZone();
+        ZonedDateTime zonedFrom = Instant.ofEpochMilli(from).atZone(zone);
+        long months = ChronoUnit.MONTHS.between(zonedFrom, Instant.ofEpochMilli(to).atZone(zone));
+        String message = zone + " " + from + " " + to;
+
+        assertEquals(message, months, calendar.monthsBetween(from, to));
+        assertEquals(message, zonedFrom.plusMonths(months).toInstant().toEpochMilli(),
+                calendar.plusMonths(from, months));
+    }
+
+    /**
+     * Returns the starts of the months and the offset transitions of the last 160 years, and the instants around them.
+     */
+    private static long[] boundaries(ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        int year = ZonedDateTime.now(zone).getYear();
+        List<Long> instants = new ArrayList<Long>();
+        for (LocalDate date = LocalDate.of(year - 160, 1, 1); date.getYear() <= year + 3; date = date.plusMonths(1)) {
+            instants.add(date.atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(instants.get(0)));
+        while (transition != null && transition.toEpochSecond() * 1000 < instants.get(instants.size() - 1)) {
+            instants.add(transition.toEpochSecond() * 1000);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        long[] deltas = {0, -1, 1, -HOUR / 2, HOUR / 2, -HOUR, HOUR, -24 * HOUR, 24 * HOUR};
+        long[] result = new long[instants.size() * deltas.length];
+        for (int i = 0; i < instants.size(); i++) {
+            for (int j = 0; j < deltas.length; j++) {
+                result[i * deltas.length + j] = instants.get(i) + deltas[j];
+            }
+        }
+        return result;
+    }
+}
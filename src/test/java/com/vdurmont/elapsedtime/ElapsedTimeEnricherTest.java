@@ -0,0 +1,134 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeEnricherTest {
+    private static final long NOW = 1500000000000L; // 2017-07-14T02:40:00Z
+    private static final long MINUTE = 60 * 1000;
+    private static final long HOUR = 60 * MINUTE;
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private String enrich(ElapsedTimeEnricher.Builder builder, String input) throws IOException {
+        Path in = this.folder.newFile().toPath();
+        Path out = this.folder.newFile().toPath();
+        Files.write(in, input.getBytes(StandardCharsets.UTF_8));
+        builder.now(NOW).build().enrich(in, out);
+        return new String(Files.readAllBytes(out), StandardCharsets.UTF_8);
+    }
+
+    @Test public void enrich_with_epoch_millis() throws IOException {
+        String input = "a," + (NOW - 10 * MINUTE) + "\nb," + (NOW - 3 * HOUR) + "\n";
+
+        String result = enrich(ElapsedTimeEnricher.builder().column(1), input);
+
+        assertEquals("a," + (NOW - 10 * MINUTE) + ",10 minutes ago\nb," + (NOW - 3 * HOUR) + ",3 hours ago\n", result);
+    }
+
+    @Test public void enrich_with_iso_dates_a_header_and_crlf() throws IOException {
+        String input = "id;date\r\n"
+                + "1;2017-07-14T02:30:00Z\r\n"
+                + "2;2017-07-14 04:37:00.500+02:00\r\n"
+                + "3;\"2017-07-13T02:40:00.1234Z\"";
+
+        String result = enrich(ElapsedTimeEnricher.builder()
+                .column(1)
+                .delimiter(';')
+                .timestampFormat(ElapsedTimeEnricher.TimestampFormat.ISO_8601)
+                .header("elapsed")
+                .locale(ElapsedTime.Locale.SPANISH), input);
+
+        assertEquals("id;date;elapsed\r\n"
+                + "1;2017-07-14T02:30:00Z;Hace 10 minutos\r\n"
+                + "2;2017-07-14 04:37:00.500+02:00;Hace 3 minutos\r\n"
+                + "3;\"2017-07-13T02:40:00.1234Z\";Hace 1 día", result);
+    }
+
+    @Test public void enrich_with_malformed_or_future_timestamps_adds_an_empty_column() throws IOException {
+        String input = "x,abc\ny," + (NOW + HOUR) + "\nz\n\n";
+
+        String result = enrich(ElapsedTimeEnricher.builder().column(1), input);
+
+        assertEquals("x,abc,\ny," + (NOW + HOUR) + ",\nz,\n\n", result);
+    }
+
+    @Test public void enrich_with_a_calendar_counts_the_calendar_months() throws IOException {
+        // 2017-01-19T02:40:00Z: 5 calendar months and 25 days, but 5 months of 30 days and 26 days
+        String input = "a,1484793600000\n";
+        ElapsedTimeFormatter calendar = ElapsedTimeFormatter.builder().calendar(ZoneOffset.UTC).build();
+
+        assertEquals("a,1484793600000,6 months ago\n", enrich(ElapsedTimeEnricher.builder().column(1), input));
+        assertEquals("a,1484793600000,5 months ago\n",
+                enrich(ElapsedTimeEnricher.builder().column(1).formatter(calendar), input));
+    }
+
+    @Test public void enrich_with_quoted_delimiters() throws IOException {
+        String input = "\"a,b\"," + (NOW - 10 * MINUTE) + "\n";
+
+        String result = enrich(ElapsedTimeEnricher.builder().column(1), input);
+
+        assertEquals("\"a,b\"," + (NOW - 10 * MINUTE) + ",10 minutes ago\n", result);
+    }
+
+    @Test public void enrich_with_rows_across_windows_and_a_small_buffer() throws IOException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            long timestamp = NOW - i * MINUTE;
+            input.append(i).append(',').append(timestamp).append('\n');
+            expected.append(i).append(',').append(timestamp).append(',')
+                    .append(ElapsedTime.getFromDurationMillis(i * MINUTE, ElapsedTime.Locale.FRENCH)).append('\n');
+        }
+
+        String result = enrich(ElapsedTimeEnricher.builder()
+                .column(1)
+                .locale(ElapsedTime.Locale.FRENCH)
+                .windowSize(100)
+                .bufferSize(7), input.toString());
+
+        assertEquals(expected.toString(), result);
+    }
+
+    @Test(expected = IOException.class)
+    public void enrich_with_a_row_longer_than_the_window_fails() throws IOException {
+        enrich(ElapsedTimeEnricher.builder().windowSize(10), "0123456789012345\nabc\n");
+    }
+
+    @Test public void parseIso8601_matches_java_time() {
+        String[] dates = {"1970-01-01T00:00:00Z", "2000-02-29T23:59:59.999Z", "1969-12-31T23:59:59-05:30",
+                "2017-07-14T04:40:00+0200", "2017-07-14T04:40:00+02", "2024-02-29T12:00:00Z", "2023-12-31T12:00:00Z"};
+        for (String date : dates) {
+            ByteBuffer buffer = ByteBuffer.wrap(date.getBytes(StandardCharsets.US_ASCII));
+            long expected = java.time.OffsetDateTime.parse(date.replaceAll("\\+(\\d\\d)(\\d\\d)$", "+$1:$2")
+                    .replaceAll("\\+(\\d\\d)$", "+$1:00")).toInstant().toEpochMilli();
+            assertEquals(date, expected, ElapsedTimeEnricher.parseIso8601(buffer, 0, buffer.limit()));
+        }
+    }
+
+    @Test public void parseIso8601_with_a_day_after_the_end_of_the_month_returns_INVALID() {
+        String[] dates = {"2023-02-29T12:00:00Z", "2023-02-31T12:00:00Z", "2023-04-31T12:00:00Z",
+                "1900-02-29T12:00:00Z", "2024-02-30T12:00:00Z", "2023-01-32T12:00:00Z"};
+        for (String date : dates) {
+            ByteBuffer buffer = ByteBuffer.wrap(date.getBytes(StandardCharsets.US_ASCII));
+            long timestamp = ElapsedTimeEnricher.parseIso8601(buffer, 0, buffer.limit());
+            assertEquals(date, ElapsedTimeEnricher.INVALID, timestamp);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.vdurmont.elapsedtime;
+
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeFormatterTest {
+    private static final long SECOND = 1000;
+    private static final long MINUTE = SECOND * 60;
+    private static final long HOUR = MINUTE * 60;
+
+    @After public void tearDown() {
+        ElapsedTime.defaultLocale = ElapsedTime.Locale.ENGLISH;
+        ElapsedTime.smallestTimeDivision = ElapsedTime.TimeDivision.SECOND;
+    }
+
+    @Test public void build_with_the_default_config() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        assertEquals(ElapsedTime.Locale.ENGLISH, formatter.getLocale());
+        assertEquals(ElapsedTime.TimeDivision.SECOND, formatter.getSmallestTimeDivision());
+        assertEquals(45, formatter.getThreshold(ElapsedTime.TimeDivision.SECOND));
+        assertEquals("10 minutes ago", formatter.format(10 * MINUTE));
+    }
+
+    @Test public void format_with_a_locale() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().locale(ElapsedTime.Locale.SPANISH).build();
+
+        assertEquals("Hace 10 minutos", formatter.format(10 * MINUTE));
+        assertEquals("Il y a 10 minutes", formatter.format(10 * MINUTE, ElapsedTime.Locale.FRENCH));
+    }
+
+    @Test public void format_below_the_smallest_division_returns_EPSILON_TEXT() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .smallestTimeDivision(ElapsedTime.TimeDivision.MINUTE)
+                .build();
+
+        assertEquals("Moments ago", formatter.format(10 * SECOND));
+        assertEquals("1 minute ago", formatter.format(MINUTE));
+    }
+
+    @Test public void format_with_a_custom_threshold() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .threshold(ElapsedTime.TimeDivision.MINUTE, 55)
+                .build();
+
+        assertEquals("50 minutes ago", formatter.format(50 * MINUTE));
+        assertEquals("1 hour ago", formatter.format(56 * MINUTE));
+        // The threshold is also used to round up the hours
+        assertEquals("1 hour ago", formatter.format(HOUR + 50 * MINUTE));
+        assertEquals("2 hours ago", formatter.format(HOUR + 55 * MINUTE));
+    }
+
+    @Test public void toBuilder_does_not_change_the_original_formatter() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+        ElapsedTimeFormatter french = formatter.toBuilder().locale(ElapsedTime.Locale.FRENCH).build();
+
+        assertEquals("10 minutes ago", formatter.format(10 * MINUTE));
+        assertEquals("Il y a 10 minutes", french.format(10 * MINUTE));
+    }
+
+    @Test public void the_default_formatter_follows_the_static_config() {
+        ElapsedTimeFormatter formatter = ElapsedTime.getDefaultFormatter();
+        assertSame(formatter, ElapsedTime.getDefaultFormatter());
+
+        ElapsedTime.defaultLocale = ElapsedTime.Locale.FRENCH;
+
+        assertNotSame(formatter, ElapsedTime.getDefaultFormatter());
+        assertEquals("Il y a 10 minutes", ElapsedTime.getFromDurationMillis(10 * MINUTE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_with_a_threshold_lower_than_1_fails() {
+        ElapsedTimeFormatter.builder().threshold(ElapsedTime.TimeDivision.SECOND, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_with_a_null_locale_fails() {
+        ElapsedTimeFormatter.builder().locale(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void format_with_a_negative_duration_fails() {
+        ElapsedTimeFormatter.builder().build().format(-1);
+    }
+
+    @Test public void formatAll_matches_the_single_value_path() {
+        long now = 1500000000000L;
+        long[] timestamps = new long[50000];
+        Random random = new Random(42);
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = now - (long) Math.pow(10, random.nextDouble() * 11);
+        }
+        ElapsedTimeFormatter sequential = ElapsedTimeFormatter.builder().parallelThreshold(Integer.MAX_VALUE).build();
+        ElapsedTimeFormatter parallel = ElapsedTimeFormatter.builder().parallelThreshold(1000).build();
+
+        String[] sequentialOut = new String[timestamps.length];
+        String[] parallelOut = new String[timestamps.length];
+        sequential.formatAll(timestamps, now, ElapsedTime.Locale.FRENCH, sequentialOut);
+        parallel.formatAll(timestamps, now, ElapsedTime.Locale.FRENCH, parallelOut);
+
+        for (int i = 0; i < timestamps.length; i++) {
+            String expected = sequential.format(now - timestamps[i], ElapsedTime.Locale.FRENCH);
+            assertEquals(expected, sequentialOut[i]);
+            assertEquals(expected, parallelOut[i]);
+        }
+    }
+
+    @Test public void formatAllDurations_matches_the_single_value_path() {
+        long[] durations = {0, 3, SECOND, 10 * MINUTE, 23 * HOUR};
+        String[] out = new String[durations.length];
+
+        ElapsedTime.formatAllDurations(durations, out);
+
+        for (int i = 0; i < durations.length; i++) {
+            assertEquals(ElapsedTime.getFromDurationMillis(durations[i]), out[i]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void formatAll_with_a_future_timestamp_fails() {
+        ElapsedTime.formatAll(new long[]{1000, 3000}, 2000, new String[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void formatAll_with_a_small_output_array_fails() {
+        ElapsedTime.formatAllDurations(new long[]{1000, 3000}, new String[1]);
+    }
+
+    @Test public void formatDate_uses_the_clock() {
+        long now = 1500000000000L;
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .clock(Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC))
+                .build();
+
+        assertEquals("10 minutes ago", formatter.formatDate(now - 10 * MINUTE));
+        assertEquals("10 minutes ago", formatter.formatDate(Instant.ofEpochMilli(now - 10 * MINUTE)));
+        assertEquals("10 minutes ago", formatter.formatDate(new Date(now - 10 * MINUTE)));
+        assertEquals("Il y a 3 heures", formatter.formatDate(now - 3 * HOUR, ElapsedTime.Locale.FRENCH));
+    }
+
+    @Test public void snapshot_freezes_the_clock() throws InterruptedException {
+        ElapsedTimeFormatter snapshot = ElapsedTimeFormatter.builder().build().snapshot();
+        long now = snapshot.getClock().millis();
+
+        Thread.sleep(5);
+
+        assertEquals(now, snapshot.getClock().millis());
+        assertEquals("Moments ago", snapshot.formatDate(now));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void formatDate_with_a_future_timestamp_fails() {
+        ElapsedTime.getFromDate(System.currentTimeMillis() + HOUR);
+    }
+
+    @Test public void formatDate_with_a_timestamp_ahead_of_a_coarse_clock_returns_EPSILON_TEXT()
+            throws InterruptedException {
+        try (CoarseClock clock = new CoarseClock(HOUR)) {
+            ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().clock(clock).build();
+
+            Thread.sleep(5);
+
+            assertTrue(System.currentTimeMillis() > clock.millis());
+            assertEquals("Moments ago", formatter.formatDate(System.currentTimeMillis()));
+            assertEquals("Moments ago", formatter.snapshot().formatDate(System.currentTimeMillis()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void formatDate_with_a_timestamp_more_than_one_tick_ahead_of_a_coarse_clock_fails() {
+        try (CoarseClock clock = new CoarseClock(MINUTE)) {
+            ElapsedTimeFormatter.builder().clock(clock).build().formatDate(System.currentTimeMillis() + HOUR);
+        }
+    }
+
+    @Test public void classify_returns_the_division_and_the_value() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        long classification = formatter.classify(2 * HOUR + 50 * MINUTE);
+        assertEquals(ElapsedTime.TimeDivision.HOUR, ElapsedTime.getDivision(classification));
+        assertEquals(3, ElapsedTime.getValue(classification));
+        assertEquals(ElapsedTime.pack(ElapsedTime.TimeDivision.DAY, 1), formatter.classify(23 * HOUR));
+        assertEquals(ElapsedTime.pack(ElapsedTime.TimeDivision.MILLIS, 10), formatter.classify(10));
+        assertEquals(ElapsedTime.pack(ElapsedTime.TimeDivision.YEAR, 1000), formatter.classify(1000 * 360 * 24 * HOUR));
+        assertTrue(formatter.isMomentsAgo(formatter.classify(10)));
+        assertFalse(formatter.isMomentsAgo(formatter.classify(10 * SECOND)));
+    }
+
+    @Test public void classify_matches_the_reference_algorithm() {
+        Random random = new Random(42);
+        ElapsedTimeFormatter[] formatters = {
+                ElapsedTimeFormatter.builder().build(),
+                ElapsedTimeFormatter.builder()
+                        .threshold(ElapsedTime.TimeDivision.MILLIS, 2000)
+                        .threshold(ElapsedTime.TimeDivision.SECOND, 90)
+                        .threshold(ElapsedTime.TimeDivision.MINUTE, 1)
+                        .threshold(ElapsedTime.TimeDivision.DAY, 40)
+                        .threshold(ElapsedTime.TimeDivision.MONTH, 5)
+                        .build()
+        };
+        for (ElapsedTimeFormatter formatter : formatters) {
+            for (int i = 0; i < 1000000; i++) {
+                // Log-uniform durations, plus the exact boundaries of the divisions
+                long duration = (long) Math.pow(10, random.nextDouble() * 12);
+                if (i % 10 == 0) {
+                    duration = ElapsedTime.TimeDivision.values()[2 + i % 7].getMillis() * random.nextInt(100);
+                }
+                assertEquals(classifyWithLoop(formatter, duration), formatter.classify(duration));
+            }
+        }
+    }
+
+    @Test public void classifications_are_ordered_like_the_durations() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+        long previous = formatter.classify(0);
+        for (long duration = 0; duration < 3 * 360 * 24 * HOUR; duration += 997) {
+            long classification = formatter.classify(duration);
+            assertTrue(classification >= previous);
+            previous = classification;
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void classify_with_a_negative_duration_fails() {
+        ElapsedTime.classify(-1);
+    }
+
+    @Test public void classifyNanos_matches_the_loop_down_to_the_nanoseconds() {
+        Random random = new Random(42);
+        ElapsedTimeFormatter[] formatters = {
+                ElapsedTimeFormatter.builder().build(),
+                ElapsedTimeFormatter.builder()
+                        .threshold(ElapsedTime.TimeDivision.NANOS, 100)
+                        .threshold(ElapsedTime.TimeDivision.MICROS, 900)
+                        .threshold(ElapsedTime.TimeDivision.MILLIS, 10)
+                        .build()
+        };
+        for (ElapsedTimeFormatter formatter : formatters) {
+            for (int i = 0; i < 1000000; i++) {
+                // Log-uniform durations up to ~30 years
+                long duration = (long) Math.pow(10, random.nextDouble() * 18);
+                assertEquals(classifyWithLoop(formatter, duration, ElapsedTime.TimeDivision.NANOS),
+                        formatter.classifyNanos(duration));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void classifyNanos_with_a_negative_duration_fails() {
+        ElapsedTimeFormatter.builder().build().classifyNanos(-1);
+    }
+
+    @Test public void formatNanos_uses_the_sub_millisecond_divisions() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .smallestTimeDivision(ElapsedTime.TimeDivision.NANOS)
+                .build();
+
+        assertEquals("500 nanoseconds ago", formatter.formatNanos(500));
+        assertEquals("1 microsecond ago", formatter.formatNanos(800));
+        assertEquals("341 microseconds ago", formatter.formatNanos(340800));
+        assertEquals("1 millisecond ago", formatter.formatNanos(760000));
+        assertEquals("3 seconds ago", formatter.formatNanos(3 * SECOND * 1000000));
+        assertEquals("Il y a 12 microsecondes", formatter.formatNanos(12000, ElapsedTime.Locale.FRENCH));
+    }
+
+    @Test public void formatNanos_respects_the_smallest_time_division() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .smallestTimeDivision(ElapsedTime.TimeDivision.MICROS)
+                .build();
+
+        assertEquals("Moments ago", formatter.formatNanos(500));
+        assertEquals("341 microseconds ago", formatter.formatNanos(340800));
+        assertEquals("Moments ago", ElapsedTime.getFromDurationNanos(340800));
+        assertEquals("2 minutes ago", ElapsedTime.getFromDurationNanos(2 * MINUTE * 1000000));
+    }
+
+    @Test public void formatSpan_prints_the_units_without_ago() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        assertEquals("0 nanoseconds", formatter.formatSpan(0));
+        assertEquals("1 nanosecond", formatter.formatSpan(1));
+        assertEquals("341 microseconds", formatter.formatSpan(340800));
+        assertEquals("2 hours", formatter.formatSpan(2 * HOUR * 1000000));
+        assertEquals("341 microsegundos", formatter.formatSpan(340800, ElapsedTime.Locale.SPANISH));
+
+        StringBuilder sb = new StringBuilder("Done in ");
+        formatter.formatSpanTo(42, sb);
+        assertEquals("Done in 42 nanoseconds", sb.toString());
+    }
+
+    /**
+     * The original algorithm: walk down the divisions until one fits, then apply the thresholds.
+     */
+    private static long classifyWithLoop(ElapsedTimeFormatter formatter, long durationMillis) {
+        return classifyWithLoop(formatter, durationMillis * ElapsedTime.TimeDivision.MILLIS.getNanos(),
+                ElapsedTime.TimeDivision.MILLIS);
+    }
+
+    private static long classifyWithLoop(ElapsedTimeFormatter formatter, long durationNanos,
+                                         ElapsedTime.TimeDivision smallest) {
+        ElapsedTime.TimeDivision division = ElapsedTime.TimeDivision.YEAR;
+        while (division != smallest && durationNanos < division.getNanos()) {
+            division = division.getSubDivision();
+        }
+        long value = durationNanos / division.getNanos();
+        if (division.getSuperDivision() != null && value >= formatter.getThreshold(division)) {
+            return ElapsedTime.pack(division.getSuperDivision(), 1);
+        }
+        ElapsedTime.TimeDivision subDivision = division == smallest ? null : division.getSubDivision();
+        if (subDivision != null) {
+            long remaining = durationNanos % division.getNanos();
+            if (remaining >= formatter.getThreshold(subDivision) * subDivision.getNanos()) {
+                value++;
+            }
+        }
+        return ElapsedTime.pack(division, value);
+    }
+
+    @Test public void formatPrecise_joins_the_units() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        assertEquals("3 hours, 32 minutes and 8 seconds ago",
+                formatter.formatPrecise(3 * HOUR + 32 * MINUTE + 8 * SECOND));
+        assertEquals("1 hour and 1 second ago", formatter.formatPrecise(HOUR + SECOND + 500));
+        assertEquals("2 days ago", formatter.formatPrecise(2 * 24 * HOUR + 59 * SECOND));
+        assertEquals("1 minute ago", formatter.formatPrecise(MINUTE));
+        assertEquals("Moments ago", formatter.formatPrecise(999));
+        assertEquals("Il y a 3 heures, 32 minutes et 8 secondes",
+                formatter.formatPrecise(3 * HOUR + 32 * MINUTE + 8 * SECOND, ElapsedTime.Locale.FRENCH));
+        assertEquals("Hace 1 hora y 2 minutos", formatter.formatPrecise(HOUR + 2 * MINUTE, ElapsedTime.Locale.SPANISH));
+        assertEquals("Vor 1 Tag und 2 Stunden",
+                formatter.formatPrecise(26 * HOUR, ElapsedTimeLocale.forLanguageTag("de")));
+    }
+
+    @Test public void formatPrecise_with_a_custom_number_of_units_and_smallest_division() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .maxUnits(5)
+                .smallestTimeDivision(ElapsedTime.TimeDivision.MINUTE)
+                .build();
+
+        assertEquals(5, formatter.getMaxUnits());
+        assertEquals("1 day, 3 hours and 32 minutes ago",
+                formatter.formatPrecise(27 * HOUR + 32 * MINUTE + 8 * SECOND));
+        assertEquals("Moments ago", formatter.formatPrecise(59 * SECOND));
+        formatter = ElapsedTimeFormatter.builder().maxUnits(1).build();
+        assertEquals("1 minute ago", formatter.formatPrecise(MINUTE + 59 * SECOND));
+    }
+
+    @Test public void formatPreciseTo_appends_to_the_buffer() throws Exception {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+        StringBuilder sb = new StringBuilder("Ran ");
+        formatter.formatPreciseTo(2 * MINUTE + 3 * SECOND, sb);
+        assertEquals("Ran 2 minutes and 3 seconds ago", sb.toString());
+
+        StringWriter writer = new StringWriter();
+        formatter.formatPreciseTo(12 * HOUR + 30 * MINUTE, ElapsedTime.Locale.FRENCH, writer);
+        assertEquals("Il y a 12 heures et 30 minutes", writer.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxUnits_lower_than_1_fails() {
+        ElapsedTimeFormatter.builder().maxUnits(0);
+    }
+
+    @Test public void formatDate_with_a_calendar_counts_the_calendar_months() {
+        Instant now = Instant.parse("2024-06-26T00:00:00Z");
+        ElapsedTimeFormatter approximate = ElapsedTimeFormatter.builder()
+                .clock(Clock.fixed(now, ZoneOffset.UTC))
+                .build();
+        ElapsedTimeFormatter calendar = approximate.toBuilder().calendar(ZoneOffset.UTC).build();
+        Instant january = Instant.parse("2024-01-01T00:00:00Z");
+        Instant seventyYearsAgo = Instant.parse("1954-06-26T00:00:00Z");
+
+        // 177 days: 5 months of 30 days + 27 days, but 5 calendar months + 25 days
+        assertEquals("6 months ago", approximate.formatDate(january));
+        assertEquals("5 months ago", calendar.formatDate(january));
+        assertEquals("71 years ago", approximate.formatDate(seventyYearsAgo));
+        assertEquals("70 years ago", calendar.formatDate(seventyYearsAgo));
+        assertEquals("3 days ago", calendar.formatDate(now.minusSeconds(3 * 24 * 3600)));
+        assertEquals(ZoneOffset.UTC, calendar.getCalendarZone());
+
+        String[] out = new String[2];
+        calendar.formatAll(new long[]{january.toEpochMilli(), seventyYearsAgo.toEpochMilli()}, now.toEpochMilli(), out);
+        assertEquals("5 months ago", out[0]);
+        assertEquals("70 years ago", out[1]);
+    }
+
+    @Test public void formatDate_with_a_calendar_matches_the_approximation_below_a_month() {
+        long now = 1718000000000L;
+        ElapsedTimeFormatter approximate = ElapsedTimeFormatter.builder().build();
+        ElapsedTimeFormatter calendar = approximate.toBuilder().calendar(ZoneId.of("Europe/Paris")).build();
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            long duration = (long) (random.nextDouble() * 26 * 24 * HOUR);
+            assertEquals(approximate.classify(duration), calendar.divide(now - duration, now));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeHistogramTest {
+    private static final long SECOND = 1000;
+    private static final long MINUTE = SECOND * 60;
+    private static final long HOUR = MINUTE * 60;
+    private static final long YEAR = ElapsedTime.TimeDivision.YEAR.getMillis();
+
+    @Test public void histogram_counts_the_timestamps_per_bucket() {
+        long now = 1000000000000L;
+        long[] timestamps = {now - 10, now - 500, now - 2 * HOUR, now - 2 * HOUR - 5 * MINUTE, now - 3 * MINUTE,
+                now - 2 * HOUR - 50 * MINUTE};
+
+        ElapsedTimeHistogram histogram = ElapsedTimeFormatter.builder().build().histogram(timestamps, now);
+
+        assertEquals(4, histogram.size());
+        assertEquals(6, histogram.getTotalCount());
+        assertTrue(histogram.isMomentsAgo(0));
+        assertEquals("Moments ago", histogram.getLabel(0));
+        assertEquals(2, histogram.getCount(0));
+        assertEquals("3 minutes ago", histogram.getLabel(1));
+        assertEquals(ElapsedTime.TimeDivision.HOUR, histogram.getDivision(2));
+        assertEquals(2, histogram.getValue(2));
+        assertEquals(2, histogram.getCount(2));
+        assertFalse(histogram.isMomentsAgo(2));
+        assertEquals("Hace 3 horas", histogram.getLabel(3, ElapsedTime.Locale.SPANISH));
+        assertEquals(1, histogram.getCount(3));
+    }
+
+    @Test public void histogram_is_ordered_and_merges_the_equal_strings() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .smallestTimeDivision(ElapsedTime.TimeDivision.MINUTE)
+                .build();
+        long[] durations = {10, 20 * SECOND, 50 * SECOND, 23 * HOUR, 60 * HOUR, 3 * MINUTE, 3 * MINUTE + 10};
+
+        Map<String, Long> map = formatter.histogramOfDurations(durations).toMap();
+
+        assertEquals("{Moments ago=2, 1 minute ago=1, 3 minutes ago=2, 1 day ago=1, 2 days ago=1}", map.toString());
+    }
+
+    @Test public void histogram_matches_the_formatter() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .parallelThreshold(1000)
+                .forkJoinPool(new ForkJoinPool(4))
+                .build();
+        Random random = new Random(42);
+        long[] durations = new long[200000];
+        for (int i = 0; i < durations.length; i++) {
+            // Log-uniform durations up to ~300 years
+            durations[i] = (long) Math.pow(10, random.nextDouble() * 13);
+        }
+
+        Map<String, Long> expected = new TreeMap<String, Long>();
+        for (long duration : durations) {
+            String str = formatter.format(duration);
+            Long count = expected.get(str);
+            expected.put(str, count == null ? 1 : count + 1);
+        }
+
+        assertEquals(expected, new TreeMap<String, Long>(formatter.histogramOfDurations(durations).toMap()));
+        assertEquals(expected, new TreeMap<String, Long>(
+                formatter.histogramOfDurations(LongStream.of(durations).parallel()).toMap()));
+        assertEquals(expected, new TreeMap<String, Long>(
+                formatter.histogramOfDurations(LongStream.of(durations)).toMap()));
+    }
+
+    @Test public void histogram_with_a_calendar_matches_the_formatter() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .calendar(ZoneId.of("Europe/Paris"))
+                .parallelThreshold(1000)
+                .forkJoinPool(new ForkJoinPool(4))
+                .build();
+        long now = 1700000000000L;
+        Random random = new Random(42);
+        long[] timestamps = new long[50000];
+        for (int i = 0; i < timestamps.length; i++) {
+            // Log-uniform ages up to ~300 years
+            timestamps[i] = now - (long) Math.pow(10, random.nextDouble() * 13);
+        }
+
+        String[] strings = new String[timestamps.length];
+        formatter.formatAll(timestamps, now, strings);
+        Map<String, Long> expected = new TreeMap<String, Long>();
+        for (String str : strings) {
+            Long count = expected.get(str);
+            expected.put(str, count == null ? 1 : count + 1);
+        }
+
+        assertEquals(expected, new TreeMap<String, Long>(formatter.histogram(timestamps, now).toMap()));
+        assertEquals(expected, new TreeMap<String, Long>(
+                formatter.histogram(LongStream.of(timestamps).parallel(), now).toMap()));
+    }
+
+    @Test public void histogram_counts_the_very_old_timestamps() {
+        long now = 1000 * YEAR;
+        long[] timestamps = {now - 3 * YEAR, now - 500 * YEAR, 0, now - 500 * YEAR};
+
+        ElapsedTimeHistogram histogram = ElapsedTime.histogram(timestamps, now);
+
+        assertEquals("{3 years ago=1, 500 years ago=2, 1000 years ago=1}", histogram.toString());
+    }
+
+    @Test public void histogram_of_a_stream_of_timestamps() {
+        long now = 1000000000000L;
+
+        ElapsedTimeHistogram histogram = ElapsedTimeFormatter.builder().build()
+                .histogram(LongStream.of(now - HOUR, now - HOUR - MINUTE), now);
+
+        assertEquals("{1 hour ago=2}", histogram.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void histogram_with_a_timestamp_in_the_future_fails() {
+        ElapsedTime.histogram(new long[]{2000}, 1000);
+    }
+}
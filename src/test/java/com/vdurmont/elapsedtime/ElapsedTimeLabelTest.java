@@ -0,0 +1,109 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeLabelTest {
+    private static final long SECOND = 1000;
+    private static final long MINUTE = SECOND * 60;
+    private static final long HOUR = MINUTE * 60;
+    private static final long DAY = HOUR * 24;
+    private static final long MONTH = DAY * 30;
+    private static final long YEAR = MONTH * 12;
+
+    @Test public void label_of_moments_ago() {
+        ElapsedTimeLabel label = ElapsedTime.getLabel(3);
+
+        assertEquals("Moments ago", label.getText());
+        assertEquals(750, label.getNextChangeMillis());
+        assertEquals(747, label.getMillisUntilChange());
+    }
+
+    @Test public void label_before_the_subdivision_threshold() {
+        ElapsedTimeLabel label = ElapsedTime.getLabel(10 * MINUTE);
+
+        assertEquals("10 minutes ago", label.getText());
+        assertEquals(10 * MINUTE + 45 * SECOND, label.getNextChangeMillis());
+    }
+
+    @Test public void label_after_the_subdivision_threshold() {
+        ElapsedTimeLabel label = ElapsedTime.getLabel(10 * MINUTE + 50 * SECOND, ElapsedTime.Locale.FRENCH);
+
+        assertEquals("Il y a 11 minutes", label.getText());
+        assertEquals(11 * MINUTE + 45 * SECOND, label.getNextChangeMillis());
+    }
+
+    @Test public void label_after_the_division_threshold() {
+        // 46 minutes is "1 hour ago" until 1 hour and 45 minutes
+        ElapsedTimeLabel label = ElapsedTime.getLabel(46 * MINUTE);
+
+        assertEquals("1 hour ago", label.getText());
+        assertEquals(HOUR + 45 * MINUTE, label.getNextChangeMillis());
+    }
+
+    @Test public void label_with_a_lot_of_years() {
+        ElapsedTimeLabel label = ElapsedTime.getLabel(900 * YEAR);
+
+        assertEquals("900 years ago", label.getText());
+        assertEquals(900 * YEAR + 11 * MONTH, label.getNextChangeMillis());
+        assertEquals(Long.MAX_VALUE, ElapsedTime.getLabel(Long.MAX_VALUE).getNextChangeMillis());
+    }
+
+    @Test public void nextChangeMillis_matches_the_strings() {
+        ElapsedTimeFormatter[] formatters = {
+                ElapsedTimeFormatter.builder().build(),
+                ElapsedTimeFormatter.builder().smallestTimeDivision(ElapsedTime.TimeDivision.MILLIS).build(),
+                ElapsedTimeFormatter.builder().smallestTimeDivision(ElapsedTime.TimeDivision.DAY).build(),
+                ElapsedTimeFormatter.builder().threshold(ElapsedTime.TimeDivision.SECOND, 60).build()
+        };
+        for (ElapsedTimeFormatter formatter : formatters) {
+            // Every millisecond of the first 2 minutes
+            checkChanges(formatter, 0, 2 * MINUTE, 1);
+            // Every second of the first 2 days
+            checkChanges(formatter, 0, 2 * DAY, SECOND);
+            // Every hour of the first 3 years
+            checkChanges(formatter, 0, 3 * YEAR, HOUR);
+        }
+    }
+
+    @Test public void nextChangeMillis_is_exact() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            long duration = (long) Math.pow(10, random.nextDouble() * 12);
+            long next = formatter.nextChangeMillis(duration);
+            String text = formatter.format(duration);
+            assertEquals(text, formatter.format(next - 1));
+            assertNotEquals(text, formatter.format(next));
+        }
+    }
+
+    /**
+     * Walks the durations with the provided step and checks that the string only changes at the predicted points.
+     */
+    private static void checkChanges(ElapsedTimeFormatter formatter, long from, long to, long step) {
+        String text = formatter.format(from);
+        long next = formatter.nextChangeMillis(from);
+        for (long duration = from + step; duration < to; duration += step) {
+            String current = formatter.format(duration);
+            if (duration < next) {
+                assertEquals("At " + duration, text, current);
+            } else {
+                assertNotEquals("At " + duration, text, formatter.format(next));
+                assertEquals("At " + next, formatter.format(next - 1), text);
+                text = formatter.format(duration);
+                next = formatter.nextChangeMillis(duration);
+            }
+        }
+    }
+}
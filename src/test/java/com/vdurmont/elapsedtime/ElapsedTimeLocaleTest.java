@@ -0,0 +1,256 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeLocaleTest {
+    private static final long SECOND = 1000;
+    private static final long MINUTE = SECOND * 60;
+    private static final long HOUR = MINUTE * 60;
+    private static final long DAY = HOUR * 24;
+
+    @Test public void forLanguageTag_loads_a_shipped_language() {
+        ElapsedTimeLocale german = ElapsedTimeLocale.forLanguageTag("de");
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        assertEquals("de", german.getLanguageTag());
+        assertEquals("Gerade eben", formatter.format(10, german));
+        assertEquals("Vor 1 Stunde", formatter.format(HOUR, german));
+        assertEquals("Vor 3 Tagen", formatter.format(3 * DAY, german));
+    }
+
+    @Test public void the_shipped_languages_match_their_properties_files() throws IOException, URISyntaxException {
+        // BundledLocales is generated from the files by the codegen module: this fails if it was not run again, or if
+        // the compilation of the templates changed since
+        List<String> tags = new ArrayList<String>();
+        Enumeration<URL> directories = getClass().getClassLoader().getResources(ResourceLocaleProvider.DEFAULT_PATH);
+        while (directories.hasMoreElements()) {
+            for (String name : new File(directories.nextElement().toURI()).list()) {
+                // The languages of the tests start with "x-"
+                if (name.endsWith(".properties") && !name.startsWith("x-")) {
+                    tags.add(name.substring(0, name.length() - ".properties".length()));
+                }
+            }
+        }
+        Collections.sort(tags);
+
+        assertEquals(tags, Arrays.asList(BundledLocales.LANGUAGE_TAGS));
+        for (String tag : tags) {
+            ElapsedTimeLocale bundled = BundledLocales.load(tag, 0);
+            ElapsedTimeLocale compiled = ElapsedTimeLocale.compile(tag, 0, new ResourceLocaleProvider().getStrings(tag));
+            for (int i = 0; i < ElapsedTimeLocale.TEMPLATES; i++) {
+                assertEquals(tag + " " + i, compiled.getString(i), bundled.getString(i));
+                assertEquals(tag + " " + i, compiled.hasNumber(i), bundled.hasNumber(i));
+                assertEquals(tag + " " + i, compiled.getPrefix(i), bundled.getPrefix(i));
+                assertEquals(tag + " " + i, compiled.getSuffix(i), bundled.getSuffix(i));
+                assertArrayEquals(tag + " " + i, compiled.getEncodedPrefix(i), bundled.getEncodedPrefix(i));
+                assertArrayEquals(tag + " " + i, compiled.getEncodedSuffix(i), bundled.getEncodedSuffix(i));
+            }
+            // Past the table, the bundled rules are parsed
+            for (long value = 0; value < 2 * PluralRules.TABLE_SIZE; value++) {
+                assertEquals(tag + " " + value, compiled.getPluralCategory(value), bundled.getPluralCategory(value));
+            }
+            assertEquals(tag, compiled.getMaxEncodedLength(), bundled.getMaxEncodedLength());
+        }
+        assertFalse(BundledLocales.contains("x-pirate"));
+    }
+
+    @Test public void the_native_image_initializes_the_tables_of_every_shipped_language() throws IOException {
+        Properties properties = new Properties();
+        InputStream in = getClass().getClassLoader()
+                .getResourceAsStream("META-INF/native-image/com.vdurmont/elapsedtime/native-image.properties");
+        try {
+            properties.load(in);
+        } finally {
+            in.close();
+        }
+        List<String> initialized = Arrays.asList(properties.getProperty("Args")
+                .substring("--initialize-at-build-time=".length()).split(","));
+
+        assertTrue(initialized.contains(BundledLocales.class.getName()));
+        assertEquals(BundledLocales.LANGUAGE_TAGS.length, BundledLocales.class.getDeclaredClasses().length);
+        for (Class<?> holder : BundledLocales.class.getDeclaredClasses()) {
+            assertTrue(holder.getName(), initialized.contains(holder.getName()));
+        }
+    }
+
+    @Test public void forLanguageTag_loads_a_language_once() {
+        assertSame(ElapsedTimeLocale.forLanguageTag("it"), ElapsedTimeLocale.forLanguageTag("IT"));
+    }
+
+    @Test public void forLanguageTag_falls_back_on_the_parent_language() {
+        assertSame(ElapsedTimeLocale.forLanguageTag("pt"), ElapsedTimeLocale.forLanguageTag("pt_BR"));
+        assertSame(ElapsedTime.Locale.FRENCH.getStrings(), ElapsedTimeLocale.forLanguageTag("fr-CA"));
+    }
+
+    @Test public void forLanguageTag_uses_the_service_providers() {
+        ElapsedTimeLocale pirate = ElapsedTimeLocale.forLanguageTag("x-pirate");
+
+        assertEquals("3 minutes ago, arr", ElapsedTimeFormatter.builder().build().format(3 * MINUTE, pirate));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forLanguageTag_with_an_unknown_language_fails() {
+        ElapsedTimeLocale.forLanguageTag("tlh");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forLanguageTag_with_missing_strings_fails() {
+        ElapsedTimeLocale.forLanguageTag("x-broken");
+    }
+
+    @Test public void the_enum_locales_are_loaded_from_the_properties_files() {
+        assertEquals("en", ElapsedTime.Locale.ENGLISH.getLanguageTag());
+        assertSame(ElapsedTimeLocale.forLanguageTag("es"), ElapsedTime.Locale.SPANISH.getStrings());
+        assertEquals("Hace 1 día", ElapsedTime.getFromDurationMillis(DAY, ElapsedTime.Locale.SPANISH));
+    }
+
+    @Test public void formatter_with_a_language() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().language("nl").build();
+
+        assertNull(formatter.getLocale());
+        assertEquals("nl", formatter.getLanguage().getLanguageTag());
+        assertEquals("5 minuten geleden", formatter.format(5 * MINUTE));
+
+        StringBuilder sb = new StringBuilder();
+        formatter.formatTo(2 * HOUR, sb);
+        assertEquals("2 uur geleden", sb.toString());
+
+        String[] out = new String[2];
+        formatter.formatAllDurations(new long[]{DAY, 2 * DAY}, out);
+        assertEquals("1 dag geleden", out[0]);
+        assertEquals("2 dagen geleden", out[1]);
+    }
+
+    @Test public void formatter_with_the_language_of_an_enum_locale() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().language("es-MX").build();
+
+        assertEquals(ElapsedTime.Locale.SPANISH, formatter.getLocale());
+        assertEquals("Hace 2 horas", formatter.format(2 * HOUR));
+    }
+
+    @Test public void formatTo_byteBuffer_with_a_language() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        ElapsedTimeFormatter.builder().build().formatTo(2 * 30 * DAY, ElapsedTimeLocale.forLanguageTag("pt"), buffer);
+
+        assertEquals("Há 2 meses", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test public void polish_uses_the_few_and_many_templates() {
+        ElapsedTimeLocale polish = ElapsedTimeLocale.forLanguageTag("pl");
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        assertEquals("1 minutę temu", formatter.format(MINUTE, polish));
+        assertEquals("2 minuty temu", formatter.format(2 * MINUTE, polish));
+        assertEquals("5 minut temu", formatter.format(5 * MINUTE, polish));
+        assertEquals("12 minut temu", formatter.format(12 * MINUTE, polish));
+        assertEquals("22 minuty temu", formatter.format(22 * MINUTE, polish));
+        assertEquals("3 godziny, 32 minuty i 8 sekund temu",
+                formatter.formatPrecise(3 * HOUR + 32 * MINUTE + 8 * SECOND, polish));
+    }
+
+    @Test public void russian_uses_the_one_template_for_21() {
+        ElapsedTimeLocale russian = ElapsedTimeLocale.forLanguageTag("ru");
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        assertEquals("1 минуту назад", formatter.format(MINUTE, russian));
+        assertEquals("21 минуту назад", formatter.format(21 * MINUTE, russian));
+        assertEquals("3 минуты назад", formatter.format(3 * MINUTE, russian));
+        assertEquals("11 минут назад", formatter.format(11 * MINUTE, russian));
+
+        StringBuilder sb = new StringBuilder();
+        formatter.formatTo(5 * HOUR, russian, sb);
+        assertEquals("5 часов назад", sb.toString());
+    }
+
+    @Test public void arabic_prints_the_dual_without_the_number() {
+        ElapsedTimeLocale arabic = ElapsedTimeLocale.forLanguageTag("ar");
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+        assertEquals("منذ ساعتين", formatter.format(2 * HOUR, arabic));
+        assertEquals("منذ 5 ساعات", formatter.format(5 * HOUR, arabic));
+        assertEquals("منذ 11 دقيقة", formatter.format(11 * MINUTE, arabic));
+        assertEquals("0 نانو ثانية", formatter.formatSpan(0, arabic));
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        formatter.formatTo(2 * DAY, arabic, buffer);
+        assertEquals("منذ يومين", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test public void getPluralCategory_uses_the_rules_of_the_language() {
+        ElapsedTimeLocale polish = ElapsedTimeLocale.forLanguageTag("pl");
+
+        assertEquals(ElapsedTime.PluralCategory.FEW, polish.getPluralCategory(24));
+        assertEquals(ElapsedTime.PluralCategory.MANY, polish.getPluralCategory(112));
+        assertEquals(ElapsedTime.PluralCategory.OTHER, ElapsedTime.Locale.ENGLISH.getStrings().getPluralCategory(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forLanguageTag_with_missing_plural_templates_fails() {
+        ElapsedTimeLocale.forLanguageTag("x-missing-plural");
+    }
+
+    @Test public void metrics_count_the_languages() {
+        ElapsedTimeMetrics metrics = new ElapsedTimeMetrics();
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().metrics(metrics).build();
+        ElapsedTimeLocale german = ElapsedTimeLocale.forLanguageTag("de");
+        formatter.format(HOUR, german);
+        formatter.format(HOUR, ElapsedTime.Locale.FRENCH);
+
+        assertEquals(1, metrics.snapshot().getCount(german));
+        assertEquals(1, metrics.snapshot().getCount(ElapsedTime.Locale.FRENCH.getStrings()));
+        assertEquals(Long.valueOf(1), metrics.getLocaleCounts().get("de"));
+    }
+
+    /**
+     * Registered in META-INF/services.
+     */
+    public static class PirateLocaleProvider implements LocaleProvider {
+        @Override public Map<String, String> getStrings(String languageTag) {
+            if (!"x-pirate".equals(languageTag)) {
+                return null;
+            }
+            Map<String, String> strings = new HashMap<String, String>();
+            for (ElapsedTime.TimeDivision division : ElapsedTime.TimeDivision.values()) {
+                String unit = division.getSingularUnitStringKey().name().toLowerCase();
+                strings.put(division.getSingularStringKey().name(), "1 " + unit + " ago, arr");
+                strings.put(division.getPluralStringKey().name(), "{num} " + unit + "s ago, arr");
+                strings.put(division.getSingularUnitStringKey().name(), "1 " + unit);
+                strings.put(division.getPluralUnitStringKey().name(), "{num} " + unit + "s");
+            }
+            strings.put(ElapsedTime.StringKey.MOMENTS_AGO.name(), "Moments ago, arr");
+            strings.put(ElapsedTime.StringKey.AGO.name(), "{list} ago, arr");
+            strings.put(ElapsedTime.StringKey.LIST_SEPARATOR.name(), ", ");
+            strings.put(ElapsedTime.StringKey.LIST_LAST_SEPARATOR.name(), " an' ");
+            return strings;
+        }
+    }
+}
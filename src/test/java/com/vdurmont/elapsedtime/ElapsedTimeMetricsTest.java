@@ -0,0 +1,121 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeMetricsTest {
+    private static final long SECOND = 1000;
+    private static final long MINUTE = SECOND * 60;
+    private static final long HOUR = MINUTE * 60;
+
+    @Test public void formatting_is_counted_per_division_and_locale() {
+        ElapsedTimeMetrics metrics = new ElapsedTimeMetrics(1);
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().metrics(metrics).build();
+
+        formatter.format(3 * MINUTE);
+        formatter.format(10, ElapsedTime.Locale.FRENCH);
+        formatter.formatTo(2 * HOUR, ElapsedTime.Locale.SPANISH, new StringBuilder());
+        formatter.formatTo(5 * MINUTE, ByteBuffer.allocate(64));
+        formatter.formatAllDurations(new long[]{HOUR, 2 * HOUR}, new String[2]);
+
+        ElapsedTimeMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(6, snapshot.getCount());
+        assertEquals(1, snapshot.getMomentsAgoCount());
+        assertEquals(2, snapshot.getCount(ElapsedTime.TimeDivision.MINUTE));
+        assertEquals(3, snapshot.getCount(ElapsedTime.TimeDivision.HOUR));
+        assertEquals(0, snapshot.getCount(ElapsedTime.TimeDivision.DAY));
+        assertEquals(4, snapshot.getCount(ElapsedTime.Locale.ENGLISH));
+        assertEquals(1, snapshot.getCount(ElapsedTime.Locale.FRENCH));
+        assertEquals(1, snapshot.getCount(ElapsedTime.Locale.SPANISH));
+
+        long calls = 0;
+        for (long bucket : snapshot.getLatencyHistogram()) {
+            calls += bucket;
+        }
+        assertEquals(6, calls);
+    }
+
+    @Test public void only_a_sample_of_the_calls_is_timed() {
+        ElapsedTimeMetrics metrics = new ElapsedTimeMetrics(1000);
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().metrics(metrics).build();
+        for (int i = 0; i < 100000; i++) {
+            formatter.format(i * SECOND);
+        }
+
+        long timed = 0;
+        for (long bucket : metrics.getLatencyHistogram()) {
+            timed += bucket;
+        }
+        assertEquals(100000, metrics.getCount());
+        // 1 out of 1024 calls
+        assertTrue(timed > 30 && timed < 200);
+    }
+
+    @Test public void the_default_formatter_has_no_metrics() {
+        ElapsedTime.getFromDurationMillis(3 * MINUTE);
+
+        assertNull(ElapsedTime.getDefaultFormatter().getMetrics());
+    }
+
+    @Test public void latency_percentiles_are_the_upper_bounds_of_the_buckets() {
+        ElapsedTimeMetrics metrics = new ElapsedTimeMetrics();
+        for (int i = 0; i < 98; i++) {
+            metrics.record(ElapsedTime.Locale.ENGLISH.getStrings(), ElapsedTime.TimeDivision.SECOND, 100);
+        }
+        metrics.record(ElapsedTime.Locale.ENGLISH.getStrings(), ElapsedTime.TimeDivision.SECOND, 1000);
+        metrics.record(ElapsedTime.Locale.ENGLISH.getStrings(), ElapsedTime.TimeDivision.SECOND, 0);
+
+        ElapsedTimeMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getLatencyHistogram()[0]);
+        assertEquals(98, snapshot.getLatencyHistogram()[7]);
+        assertEquals(1, snapshot.getLatencyHistogram()[10]);
+        assertEquals(0, snapshot.getLatencyPercentileNanos(0));
+        assertEquals(127, snapshot.getLatencyPercentileNanos(50));
+        assertEquals(127, snapshot.getLatencyPercentileNanos(99));
+        assertEquals(1023, snapshot.getLatencyPercentileNanos(100));
+        assertEquals(108, snapshot.getMeanLatencyNanos());
+    }
+
+    @Test public void reset_clears_the_counters() {
+        ElapsedTimeMetrics metrics = new ElapsedTimeMetrics();
+        ElapsedTimeFormatter.builder().metrics(metrics).build().format(3 * MINUTE);
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getCount());
+        assertEquals(0, metrics.getMeanLatencyNanos());
+        assertEquals(0, metrics.getLatencyP99Nanos());
+    }
+
+    @Test public void metrics_are_exposed_through_jmx() throws Exception {
+        ElapsedTimeMetrics metrics = new ElapsedTimeMetrics();
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().metrics(metrics).build();
+        formatter.format(3 * MINUTE);
+        formatter.format(4 * MINUTE);
+
+        ObjectName name = metrics.register("test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(2L, server.getAttribute(name, "Count"));
+            assertEquals(0L, server.getAttribute(name, "MomentsAgoCount"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "Count"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
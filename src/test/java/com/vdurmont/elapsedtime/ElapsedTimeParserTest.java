@@ -0,0 +1,147 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.Locale;
+import com.vdurmont.elapsedtime.ElapsedTime.TimeDivision;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeParserTest {
+    private static final long MINUTE = 60 * 1000;
+    private static final long HOUR = MINUTE * 60;
+    private static final long YEAR = TimeDivision.YEAR.getMillis();
+
+    private final ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+    private final ElapsedTimeParser parser =
+            ElapsedTimeParser.of(this.formatter, Locale.ENGLISH, Locale.FRENCH, Locale.SPANISH);
+
+    @Test public void parse_reads_the_division_and_the_value() {
+        assertEquals(ElapsedTime.pack(TimeDivision.HOUR, 2), this.parser.parse("2 hours ago"));
+        assertEquals(ElapsedTime.pack(TimeDivision.HOUR, 2), this.parser.parse("Il y a 2 heures"));
+        assertEquals(ElapsedTime.pack(TimeDivision.YEAR, 1234), this.parser.parse("Hace 1234 años"));
+        assertEquals(ElapsedTime.pack(TimeDivision.MICROS, 340), this.parser.parse("340 microseconds ago"));
+    }
+
+    @Test public void parse_reads_the_singular_strings() {
+        assertEquals(ElapsedTime.pack(TimeDivision.HOUR, 1), this.parser.parse("1 hour ago"));
+        assertEquals(ElapsedTime.pack(TimeDivision.MILLIS, 1), this.parser.parse("Hace un milisegundo"));
+        assertEquals(ElapsedTime.pack(TimeDivision.YEAR, 1), this.parser.parse("Il y a 1 an"));
+    }
+
+    @Test public void parse_moments_ago() {
+        long classification = this.parser.parse("Il y a quelques instants");
+
+        assertTrue(this.formatter.isMomentsAgo(classification));
+        assertEquals(classification, this.parser.parse("Moments ago"));
+    }
+
+    @Test public void parse_with_an_unknown_string_returns_NO_MATCH() {
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse(""));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("2 hours"));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("2 hours ago!"));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("2 HOURS AGO"));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("hours ago"));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("vor 2 Stunden"));
+    }
+
+    @Test public void parse_with_a_number_that_is_never_printed_returns_NO_MATCH() {
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("1 hours ago"));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("0 hours ago"));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse("99999999999999999999 hours ago"));
+    }
+
+    @Test public void parse_a_part_of_a_line() {
+        String line = "id=42;age=3 days ago;user=bob";
+
+        assertEquals(ElapsedTime.pack(TimeDivision.DAY, 3), this.parser.parse(line, 10, 20));
+    }
+
+    @Test public void parse_bytes() {
+        byte[] bytes = "xHace 3 días".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(ElapsedTime.pack(TimeDivision.DAY, 3), this.parser.parse(bytes, 1, bytes.length - 1));
+        assertEquals(ElapsedTimeParser.NO_MATCH, this.parser.parse(bytes, 1, bytes.length - 2));
+    }
+
+    @Test public void parse_the_strings_of_the_formatter() {
+        Random random = new Random(42);
+        for (Locale locale : Locale.values()) {
+            for (int i = 0; i < 10000; i++) {
+                long duration = (long) (random.nextDouble() * random.nextDouble() * 30 * YEAR);
+                String str = this.formatter.format(duration, locale);
+                byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+                long expected = this.formatter.classify(duration);
+                if (this.formatter.isMomentsAgo(expected)) {
+                    expected = this.formatter.classify(0);
+                }
+
+                assertEquals(str, expected, this.parser.parse(str));
+                assertEquals(str, expected, this.parser.parse(bytes, 0, bytes.length));
+                assertTrue(str, this.parser.parseRange(str).contains(duration));
+            }
+        }
+    }
+
+    @Test public void parse_the_nanosecond_strings() {
+        for (long nanos = 1; nanos < 100000000000L; nanos = nanos * 3 + 1) {
+            String str = this.formatter.formatNanos(nanos, Locale.SPANISH);
+            long expected = this.formatter.classifyNanos(nanos);
+            if (this.formatter.isMomentsAgo(expected)) {
+                expected = this.formatter.classify(0);
+            }
+
+            assertEquals(str, expected, this.parser.parse(str));
+        }
+    }
+
+    @Test public void parse_with_a_language_without_number_in_a_template() {
+        ElapsedTimeLocale arabic = ElapsedTimeLocale.forLanguageTag("ar");
+        ElapsedTimeParser parser = ElapsedTimeParser.of(this.formatter, arabic);
+        for (long duration = HOUR; duration < 200 * YEAR; duration += 7 * HOUR) {
+            String str = this.formatter.format(duration, arabic);
+
+            assertEquals(str, this.formatter.classify(duration), parser.parse(str));
+        }
+    }
+
+    @Test public void parseRange_honors_the_thresholds() {
+        ElapsedTimeRange range = this.parser.parseRange("Il y a 2 heures");
+
+        assertEquals(HOUR + 45 * MINUTE, range.getFromMillis());
+        assertEquals(2 * HOUR + 45 * MINUTE, range.getToMillis());
+        assertNull(this.parser.parseRange("50 minutes ago"));
+        assertNull(this.parser.parseRange("340 microseconds ago"));
+        assertNull(this.parser.parseRange("nothing"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_without_locale_fails() {
+        ElapsedTimeParser.of(this.formatter, new Locale[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_with_a_null_formatter_fails() {
+        ElapsedTimeParser.of(null, Locale.ENGLISH);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_with_a_null_text_fails() {
+        this.parser.parse(null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void parse_with_bytes_out_of_bounds_fails() {
+        this.parser.parse(new byte[4], 2, 3);
+    }
+}
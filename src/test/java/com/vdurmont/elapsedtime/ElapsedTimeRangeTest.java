@@ -0,0 +1,137 @@
+package com.vdurmont.elapsedtime;
+
+import com.vdurmont.elapsedtime.ElapsedTime.TimeDivision;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeRangeTest {
+    private static final long SECOND = 1000;
+    private static final long MINUTE = SECOND * 60;
+    private static final long HOUR = MINUTE * 60;
+    private static final long DAY = HOUR * 24;
+    private static final long YEAR = TimeDivision.YEAR.getMillis();
+
+    private final ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder().build();
+
+    @Test public void range_honors_the_thresholds() {
+        ElapsedTimeRange range = this.formatter.range(TimeDivision.HOUR, 3);
+
+        assertEquals(TimeDivision.HOUR, range.getDivision());
+        assertEquals(3, range.getValue());
+        assertFalse(range.isMomentsAgo());
+        assertEquals(2 * HOUR + 45 * MINUTE, range.getFromMillis());
+        assertEquals(3 * HOUR + 45 * MINUTE, range.getToMillis());
+        assertEquals("3 hours ago", this.formatter.format(range.getFromMillis()));
+        assertEquals("3 hours ago", this.formatter.format(range.getToMillis() - 1));
+        assertEquals("4 hours ago", this.formatter.format(range.getToMillis()));
+    }
+
+    @Test public void range_with_a_value_that_is_never_printed_returns_null() {
+        // 45 minutes are printed as 1 hour
+        assertNull(this.formatter.range(TimeDivision.MINUTE, 50));
+        assertNull(this.formatter.range(TimeDivision.MICROS, 3));
+        assertNull(this.formatter.range(TimeDivision.HOUR, Long.MAX_VALUE));
+    }
+
+    @Test public void range_of_moments_ago() {
+        ElapsedTimeFormatter formatter = ElapsedTimeFormatter.builder()
+                .smallestTimeDivision(TimeDivision.MINUTE)
+                .build();
+
+        ElapsedTimeRange range = formatter.range(TimeDivision.SECOND, 10);
+
+        assertTrue(range.isMomentsAgo());
+        assertEquals(0, range.getFromMillis());
+        assertEquals(45 * SECOND, range.getToMillis());
+        assertEquals(range, formatter.rangeOf(44 * SECOND));
+        assertEquals("1 minute ago", formatter.format(45 * SECOND));
+    }
+
+    @Test public void range_of_the_last_year_has_no_end() {
+        long value = this.formatter.classify(Long.MAX_VALUE);
+        ElapsedTimeRange range = this.formatter.rangeOf(Long.MAX_VALUE - 1);
+
+        assertEquals(value, range.getClassification());
+        assertEquals(Long.MAX_VALUE, range.getToMillis());
+        assertEquals(Long.MIN_VALUE, range.getMinEpochMillis(1000000000000L));
+    }
+
+    @Test public void rangeOf_contains_the_duration_and_matches_classify() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            long duration = (long) (random.nextDouble() * 3 * YEAR);
+            ElapsedTimeRange range = this.formatter.rangeOf(duration);
+            assertTrue(range.contains(duration));
+            assertEquals(this.formatter.classify(duration), this.formatter.classify(range.getFromMillis()));
+            assertEquals(this.formatter.classify(duration), this.formatter.classify(range.getToMillis() - 1));
+            assertTrue(this.formatter.classify(range.getToMillis()) > this.formatter.classify(duration));
+            if (range.getFromMillis() > 0) {
+                assertTrue(this.formatter.classify(range.getFromMillis() - 1) < this.formatter.classify(duration));
+            }
+        }
+    }
+
+    @Test public void ranges_are_contiguous_up_to_the_horizon() {
+        List<ElapsedTimeRange> ranges = this.formatter.ranges(2 * YEAR);
+
+        long from = 0;
+        long previous = -1;
+        for (ElapsedTimeRange range : ranges) {
+            assertEquals(from, range.getFromMillis());
+            assertTrue(range.getClassification() > previous);
+            assertEquals(range, this.formatter.range(range.getDivision(), range.getValue()));
+            from = range.getToMillis();
+            previous = range.getClassification();
+        }
+        assertTrue(from >= 2 * YEAR);
+        assertTrue(ranges.get(ranges.size() - 1).contains(2 * YEAR - 1));
+    }
+
+    @Test public void ranges_with_a_horizon_of_0_is_empty() {
+        assertTrue(this.formatter.ranges(0).isEmpty());
+    }
+
+    @Test public void epoch_bounds_are_inclusive() {
+        long now = 1000000000000L;
+        ElapsedTimeRange range = this.formatter.range(TimeDivision.DAY, 2);
+
+        assertEquals(now - range.getToMillis() + 1, range.getMinEpochMillis(now));
+        assertEquals(now - range.getFromMillis(), range.getMaxEpochMillis(now));
+        assertEquals("2 days ago", this.formatter.format(now - range.getMinEpochMillis(now)));
+        assertEquals("2 days ago", this.formatter.format(now - range.getMaxEpochMillis(now)));
+        assertTrue(range.getFromMillis() < 2 * DAY);
+    }
+
+    @Test public void static_range_uses_the_default_formatter() {
+        assertEquals(ElapsedTime.getDefaultFormatter().range(TimeDivision.MINUTE, 10),
+                ElapsedTime.range(TimeDivision.MINUTE, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void range_with_a_null_division_fails() {
+        this.formatter.range(null, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void range_with_a_negative_value_fails() {
+        this.formatter.range(TimeDivision.HOUR, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ranges_with_a_negative_horizon_fails() {
+        this.formatter.ranges(-1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class ElapsedTimeRegistryTest {
+    private static final long SECOND = 1000;
+    private static final long MINUTE = SECOND * 60;
+    private static final long HOUR = MINUTE * 60;
+    private static final long DAY = HOUR * 24;
+    private static final long YEAR = DAY * 360;
+    private static final long NOW = 1000 * YEAR;
+
+    @Test public void register_returns_the_current_text() {
+        RecordingListener listener = new RecordingListener();
+        ElapsedTimeRegistry<String> registry = newRegistry(listener, 100);
+
+        assertEquals("10 minutes ago", registry.register("a", NOW - 10 * MINUTE, ElapsedTime.Locale.ENGLISH));
+        assertEquals("Il y a 2 heures", registry.register("b", NOW - 2 * HOUR, ElapsedTime.Locale.FRENCH));
+        assertEquals(2, registry.size());
+        assertEquals("10 minutes ago", registry.getText("a"));
+        assertTrue(listener.changes.isEmpty());
+    }
+
+    @Test public void advanceTo_notifies_only_the_changes() {
+        RecordingListener listener = new RecordingListener();
+        ElapsedTimeRegistry<String> registry = newRegistry(listener, 100);
+        registry.register("a", NOW - 10 * MINUTE, ElapsedTime.Locale.ENGLISH);
+        registry.register("b", NOW - 2 * HOUR, ElapsedTime.Locale.ENGLISH);
+
+        registry.advanceTo(NOW + 44 * SECOND);
+        assertTrue(listener.changes.isEmpty());
+
+        // "10 minutes ago" becomes "11 minutes ago" at 10 minutes and 45 seconds
+        registry.advanceTo(NOW + 45 * SECOND);
+        assertEquals(1, listener.changes.size());
+        assertEquals("a=11 minutes ago", listener.changes.get(0));
+
+        registry.advanceTo(NOW + 105 * SECOND);
+        assertEquals(2, listener.changes.size());
+        assertEquals("a=12 minutes ago", listener.changes.get(1));
+    }
+
+    @Test public void unregister_stops_the_notifications() {
+        RecordingListener listener = new RecordingListener();
+        ElapsedTimeRegistry<String> registry = newRegistry(listener, 100);
+        registry.register("a", NOW - 10 * MINUTE, ElapsedTime.Locale.ENGLISH);
+
+        assertTrue(registry.unregister("a"));
+        assertFalse(registry.unregister("a"));
+        registry.advanceTo(NOW + HOUR);
+
+        assertTrue(listener.changes.isEmpty());
+        assertEquals(0, registry.size());
+        assertNull(registry.getText("a"));
+    }
+
+    @Test public void register_replaces_the_previous_entry() {
+        RecordingListener listener = new RecordingListener();
+        ElapsedTimeRegistry<String> registry = newRegistry(listener, 100);
+        registry.register("a", NOW - 10 * MINUTE, ElapsedTime.Locale.ENGLISH);
+        registry.register("a", NOW - 3 * DAY, ElapsedTime.Locale.ENGLISH);
+
+        registry.advanceTo(NOW + HOUR);
+
+        assertEquals(1, registry.size());
+        assertTrue(listener.changes.isEmpty());
+        assertEquals("3 days ago", registry.getText("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_with_a_future_timestamp_fails() {
+        newRegistry(new RecordingListener(), 100).register("a", NOW + 1, ElapsedTime.Locale.ENGLISH);
+    }
+
+    @Test public void the_texts_always_match_the_formatter() {
+        checkAgainstFormatter(100, 2 * HOUR, 10 * SECOND);
+        checkAgainstFormatter(MINUTE, 3 * YEAR, 12 * HOUR);
+    }
+
+    /**
+     * Advances a registry by random steps and checks after every step that the texts are the ones of the formatter,
+     * and that the listener received every change, and only the changes.
+     */
+    private static void checkAgainstFormatter(long tickMillis, long span, long maxStep) {
+        Random random = new Random(42);
+        ElapsedTimeFormatter formatter = ElapsedTime.getDefaultFormatter();
+        final Map<Integer, String> notified = new HashMap<Integer, String>();
+        ElapsedTimeRegistry<Integer> registry = ElapsedTimeRegistry.builder(new ElapsedTimeRegistry.Listener<Integer>() {
+            @Override public void onChange(Integer id, String label) {
+                assertNotEquals(label, notified.put(id, label));
+            }
+        }).formatter(newFormatter()).tickMillis(tickMillis).build();
+
+        long[] timestamps = new long[500];
+        ElapsedTime.Locale[] locales = ElapsedTime.Locale.values();
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = NOW - (long) (Math.pow(random.nextDouble(), 4) * 2 * YEAR);
+            notified.put(i, registry.register(i, timestamps[i], locales[i % locales.length]));
+        }
+
+        for (long now = NOW; now < NOW + span; ) {
+            now += 1 + (long) (random.nextDouble() * maxStep);
+            registry.advanceTo(now);
+            long tickNow = now / tickMillis * tickMillis;
+            for (int i = 0; i < timestamps.length; i++) {
+                String text = formatter.format(tickNow - timestamps[i], locales[i % locales.length]);
+                assertEquals(text, registry.getText(i));
+                assertEquals(text, notified.get(i));
+            }
+        }
+    }
+
+    private static <K> ElapsedTimeRegistry<K> newRegistry(ElapsedTimeRegistry.Listener<Object> listener, long tickMillis) {
+        return ElapsedTimeRegistry.<K>builder(listener).formatter(newFormatter()).tickMillis(tickMillis).build();
+    }
+
+    private static ElapsedTimeFormatter newFormatter() {
+        return ElapsedTime.getDefaultFormatter()
+                .toBuilder()
+                .clock(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC))
+                .build();
+    }
+
+    private static class RecordingListener implements ElapsedTimeRegistry.Listener<Object> {
+        private final List<String> changes = new ArrayList<String>();
+
+        @Override public void onChange(Object id, String label) {
+            this.changes.add(id + "=" + label);
+        }
+    }
+}
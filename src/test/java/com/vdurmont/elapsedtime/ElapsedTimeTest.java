@@ -1,11 +1,18 @@
 package com.vdurmont.elapsedtime;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 
 /**
  * @author Vincent DURMONT [vdurmont@gmail.com]
@@ -221,4 +228,57 @@ public class ElapsedTimeTest {
         String result = ElapsedTime.getFromDurationMillis(duration, ElapsedTime.Locale.FRENCH);
         assertEquals("Il y a 900 ans", result);
     }
+
+    @Test public void get_with_a_duration_of_0_returns_EPSILON_TEXT() {
+        String result = ElapsedTime.getFromDurationMillis(0);
+        assertEquals("Moments ago", result);
+    }
+
+    @Test public void formatTo_appends_to_the_buffer() {
+        StringBuilder sb = new StringBuilder("Posted ");
+        ElapsedTime.formatTo(3 * HOUR, ElapsedTime.Locale.ENGLISH, sb);
+        assertEquals("Posted 3 hours ago", sb.toString());
+    }
+
+    @Test public void formatTo_matches_getFromDurationMillis() throws IOException {
+        long[] durations = {0, 3, 749, 750, SECOND + 900, 44 * SECOND + 800, 46 * SECOND, 10 * MINUTE, HOUR + MINUTE * 46,
+                23 * HOUR, DAY + 2000, 27 * DAY, 10 * MONTH, 11 * MONTH, YEAR + MONTH * 11, 900 * YEAR, Long.MAX_VALUE};
+        for (ElapsedTime.Locale locale : ElapsedTime.Locale.values()) {
+            for (long duration : durations) {
+                String expected = ElapsedTime.getFromDurationMillis(duration, locale);
+
+                StringBuilder sb = new StringBuilder();
+                ElapsedTime.formatTo(duration, locale, sb);
+                assertEquals(expected, sb.toString());
+
+                StringWriter writer = new StringWriter();
+                ElapsedTime.formatTo(duration, locale, writer);
+                assertEquals(expected, writer.toString());
+            }
+        }
+    }
+
+    @Test public void formatTo_a_ByteBuffer_matches_getFromDurationMillis() {
+        long[] durations = {0, 3, SECOND, 10 * SECOND, DAY + 2000, 3 * DAY, 900 * YEAR, Long.MAX_VALUE};
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (ElapsedTime.Locale locale : ElapsedTime.Locale.values()) {
+            for (long duration : durations) {
+                buffer.clear();
+                ElapsedTime.formatTo(duration, locale, buffer);
+                buffer.flip();
+                String expected = ElapsedTime.getFromDurationMillis(duration, locale);
+                assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+            }
+        }
+    }
+
+    @Test public void formatTo_a_ByteBuffer_too_small_writes_nothing() {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        try {
+            ElapsedTime.formatTo(3 * DAY, ElapsedTime.Locale.SPANISH, buffer);
+            fail("The buffer should be too small");
+        } catch (BufferOverflowException e) {
+            assertEquals(0, buffer.position());
+        }
+    }
 }
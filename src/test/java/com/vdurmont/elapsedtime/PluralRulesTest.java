@@ -0,0 +1,112 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class PluralRulesTest {
+    private static final int ZERO = ElapsedTime.PluralCategory.ZERO.ordinal();
+    private static final int ONE = ElapsedTime.PluralCategory.ONE.ordinal();
+    private static final int TWO = ElapsedTime.PluralCategory.TWO.ordinal();
+    private static final int FEW = ElapsedTime.PluralCategory.FEW.ordinal();
+    private static final int MANY = ElapsedTime.PluralCategory.MANY.ordinal();
+    private static final int OTHER = ElapsedTime.PluralCategory.OTHER.ordinal();
+
+    @Test public void without_rules_everything_is_other() {
+        PluralRules rules = PluralRules.compile("en", new HashMap<String, String>());
+
+        assertFalse(rules.hasRule(ElapsedTime.PluralCategory.ONE));
+        assertEquals(OTHER, rules.categoryOf(0));
+        assertEquals(OTHER, rules.categoryOf(1));
+        assertEquals(OTHER, rules.categoryOf(123456));
+    }
+
+    @Test public void polish_rules() {
+        Map<String, String> strings = new HashMap<String, String>();
+        strings.put("PLURAL_ONE", "i = 1 and v = 0 @integer 1");
+        strings.put("PLURAL_FEW", "v = 0 and i % 10 = 2..4 and i % 100 != 12..14 @integer 2~4, 22~24, 32~34, ...");
+        strings.put("PLURAL_MANY", "v = 0 and i != 1 and i % 10 = 0..1 or v = 0 and i % 10 = 5..9 "
+                + "or v = 0 and i % 100 = 12..14");
+        PluralRules rules = PluralRules.compile("pl", strings);
+
+        assertTrue(rules.hasRule(ElapsedTime.PluralCategory.FEW));
+        assertEquals(MANY, rules.categoryOf(0));
+        assertEquals(ONE, rules.categoryOf(1));
+        assertEquals(FEW, rules.categoryOf(2));
+        assertEquals(MANY, rules.categoryOf(5));
+        assertEquals(MANY, rules.categoryOf(12));
+        assertEquals(FEW, rules.categoryOf(22));
+        assertEquals(MANY, rules.categoryOf(101));
+        // Above the table, the rules are evaluated
+        assertEquals(MANY, rules.categoryOf(1012));
+        assertEquals(FEW, rules.categoryOf(1022));
+        assertEquals(FEW, rules.categoryOf(1000000000004L));
+    }
+
+    @Test public void arabic_rules() {
+        Map<String, String> strings = new HashMap<String, String>();
+        strings.put("PLURAL_ZERO", "n = 0");
+        strings.put("PLURAL_ONE", "n = 1");
+        strings.put("PLURAL_TWO", "n = 2");
+        strings.put("PLURAL_FEW", "n % 100 = 3..10");
+        strings.put("PLURAL_MANY", "n % 100 = 11..99");
+        PluralRules rules = PluralRules.compile("ar", strings);
+
+        assertEquals(ZERO, rules.categoryOf(0));
+        assertEquals(TWO, rules.categoryOf(2));
+        assertEquals(FEW, rules.categoryOf(103));
+        assertEquals(MANY, rules.categoryOf(11));
+        assertEquals(OTHER, rules.categoryOf(100));
+        assertEquals(OTHER, rules.categoryOf(2002));
+    }
+
+    @Test public void precompiled_rules_use_their_table_then_parse_the_rules() {
+        byte[] table = new byte[PluralRules.TABLE_SIZE];
+        Arrays.fill(table, (byte) OTHER);
+        table[1] = (byte) ONE;
+        PluralRules rules = PluralRules.precompiled("x", new String[]{null, "i = 1", null, null, null, null}, table);
+
+        assertTrue(rules.hasRule(ElapsedTime.PluralCategory.ONE));
+        assertFalse(rules.hasRule(ElapsedTime.PluralCategory.FEW));
+        assertEquals(ONE, rules.categoryOf(1));
+        assertEquals(OTHER, rules.categoryOf(2));
+        assertEquals(OTHER, rules.categoryOf(1001));
+    }
+
+    @Test public void the_lists_mix_values_and_ranges() {
+        Map<String, String> strings = new HashMap<String, String>();
+        strings.put("PLURAL_ONE", "i = 0,1 or n = 5..6,10");
+        PluralRules rules = PluralRules.compile("x", strings);
+
+        assertEquals(ONE, rules.categoryOf(0));
+        assertEquals(ONE, rules.categoryOf(6));
+        assertEquals(ONE, rules.categoryOf(10));
+        assertEquals(OTHER, rules.categoryOf(7));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_with_an_unknown_operand_fails() {
+        Map<String, String> strings = new HashMap<String, String>();
+        strings.put("PLURAL_FEW", "x % 10 = 2");
+        PluralRules.compile("x", strings);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_with_a_rule_for_other_fails() {
+        Map<String, String> strings = new HashMap<String, String>();
+        strings.put("PLURAL_OTHER", "n = 2");
+        PluralRules.compile("x", strings);
+    }
+}
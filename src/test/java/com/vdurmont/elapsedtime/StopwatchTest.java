@@ -0,0 +1,106 @@
+package com.vdurmont.elapsedtime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vincent DURMONT [vdurmont@gmail.com]
+ */
+@RunWith(JUnit4.class)
+public class StopwatchTest {
+    @Test public void laps_measure_the_time_since_the_previous_lap() {
+        FakeTicker ticker = new FakeTicker();
+        Stopwatch stopwatch = new Stopwatch(ElapsedTimeFormatter.builder().build(), ticker).reset();
+
+        ticker.nanos += 1500;
+        assertEquals(1500, stopwatch.lap());
+        ticker.nanos += 300;
+        assertEquals(300, stopwatch.lap());
+        assertEquals(0, stopwatch.lap());
+        assertEquals(1800, stopwatch.getElapsedNanos());
+    }
+
+    @Test public void stop_freezes_the_elapsed_time() {
+        FakeTicker ticker = new FakeTicker();
+        Stopwatch stopwatch = new Stopwatch(ElapsedTimeFormatter.builder().build(), ticker).reset();
+
+        ticker.nanos += 340800;
+        assertEquals(340800, stopwatch.stop());
+        assertFalse(stopwatch.isRunning());
+        ticker.nanos += 1000000;
+        assertEquals(340800, stopwatch.getElapsedNanos());
+        assertEquals(340800, stopwatch.stop());
+        assertEquals("341 microseconds", stopwatch.toString());
+    }
+
+    @Test public void resume_does_not_count_the_stopped_time() {
+        FakeTicker ticker = new FakeTicker();
+        Stopwatch stopwatch = new Stopwatch(ElapsedTimeFormatter.builder().build(), ticker).reset();
+
+        ticker.nanos += 2000000;
+        stopwatch.stop();
+        ticker.nanos += 5000000;
+        stopwatch.resume();
+        assertTrue(stopwatch.isRunning());
+        ticker.nanos += 1000000;
+        assertEquals(3, stopwatch.getElapsedMillis());
+        assertEquals(3000000, stopwatch.lap());
+
+        stopwatch.reset();
+        assertEquals(0, stopwatch.getElapsedNanos());
+        assertEquals("0 nanoseconds", stopwatch.toString());
+    }
+
+    @Test public void formatTo_appends_the_elapsed_time() {
+        FakeTicker ticker = new FakeTicker();
+        Stopwatch stopwatch = new Stopwatch(ElapsedTimeFormatter.builder().build(), ticker).reset();
+        ticker.nanos += 3 * ElapsedTime.TimeDivision.SECOND.getNanos();
+        stopwatch.stop();
+
+        StringBuilder sb = new StringBuilder();
+        stopwatch.formatTo(sb);
+        sb.append(" / ");
+        stopwatch.formatTo(ElapsedTime.Locale.FRENCH, sb);
+        assertEquals("3 seconds / 3 secondes", sb.toString());
+    }
+
+    @Test public void start_uses_the_system_time() {
+        Stopwatch stopwatch = Stopwatch.start();
+
+        assertTrue(stopwatch.isRunning());
+        assertTrue(stopwatch.getElapsedNanos() >= 0);
+        assertEquals(ElapsedTime.getDefaultFormatter(), stopwatch.getFormatter());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void start_with_a_null_formatter_fails() {
+        Stopwatch.start(null);
+    }
+
+    @Test public void the_sub_millisecond_divisions_expose_their_thresholds_in_nanos() {
+        for (ElapsedTime.TimeDivision division = ElapsedTime.TimeDivision.SECOND; division != null;
+             division = division.getSubDivision()) {
+            assertEquals(division.getThreshold() * division.getNanos(), division.getThresholdNanos());
+        }
+        assertEquals(0, ElapsedTime.TimeDivision.MICROS.getMillis());
+        assertEquals(0, ElapsedTime.TimeDivision.MICROS.getThresholdMillis());
+        assertEquals(750000, ElapsedTime.TimeDivision.MICROS.getThresholdNanos());
+        assertEquals(750000000, ElapsedTime.TimeDivision.MILLIS.getThresholdNanos());
+        assertEquals(750, ElapsedTime.TimeDivision.MILLIS.getThresholdMillis());
+    }
+
+    private static class FakeTicker implements LongSupplier {
+        private long nanos = 123456789;
+
+        @Override public long getAsLong() {
+            return this.nanos;
+        }
+    }
+}